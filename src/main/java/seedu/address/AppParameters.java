@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isExitWhenReady;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should exit as soon as it is ready for commands, which is used to measure
+     * how long it takes to start.
+     */
+    public boolean isExitWhenReady() {
+        return isExitWhenReady;
+    }
+
+    public void setExitWhenReady(boolean isExitWhenReady) {
+        this.isExitWhenReady = isExitWhenReady;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -39,6 +52,7 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setExitWhenReady(Boolean.parseBoolean(namedParameters.get("exit-when-ready")));
 
         return appParameters;
     }
@@ -54,11 +68,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isExitWhenReady() == otherAppParameters.isExitWhenReady();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isExitWhenReady);
     }
 }
@@ -3,6 +3,8 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -46,6 +48,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private CompletableFuture<Logic> loadingLogic;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Rhrh ]===========================");
@@ -61,11 +65,17 @@ public class MainApp extends Application {
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the views are loaded in the background while the data file is read
+        UiManager.preloadViews();
 
-        logic = new LogicManager(model, storage);
+        // the window is shown as soon as the toolkit is ready, and shows the data once it has been read
+        loadingLogic = CompletableFuture.supplyAsync(() -> {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+            return logic;
+        });
 
-        ui = new UiManager(logic);
+        ui = new UiManager(userPrefs.getGuiSettings(), loadingLogic, appParameters.isExitWhenReady());
     }
 
     /**
@@ -90,7 +100,19 @@ public class MainApp extends Application {
             initialData = new Rhrh();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // the data was created for this model alone, so it is taken over instead of copied
+        return ModelManager.ofLoadedData(initialData, userPrefs, filePath -> readBranch(storage, filePath));
+    }
+
+    /**
+     * Returns the data of the branch in {@code filePath}, or an empty RHRH if the file is not found.
+     */
+    private static ReadOnlyRhrh readBranch(Storage storage, Path filePath) throws DataConversionException {
+        try {
+            return storage.readRhrh(filePath).orElseGet(Rhrh::new);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,6 +196,13 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping RHRH ] =============================");
+        try {
+            loadingLogic.join();
+        } catch (CompletionException e) {
+            logger.severe("Data was not loaded, so preferences are not saved " + StringUtil.getDetails(e));
+            return;
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -12,6 +12,8 @@ public class Messages {
             + "invalid";
     public static final String MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX =
             "The reservation index provided is invalid";
+    public static final String MESSAGE_INVALID_WAITLIST_INDEX = "The waitlist index provided is invalid";
+    public static final String MESSAGE_INVALID_TABLE_ID = "No table has the ID %1$d";
     public static final String MESSAGE_INVALID_EMPLOYEE_DISPLAYED_INDEX = "The employee index provided is invalid";
     public static final String MESSAGE_INVALID_SUPPLIER_DISPLAYED_INDEX = "The supplier index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
@@ -19,6 +21,7 @@ public class Messages {
     public static final String MESSAGE_DATETIME_PRINT_FORMAT = "%1$te %1$th %1$tY, %1$tl:%1$tM %1$tp";
     public static final String MESSAGE_EMPLOYEES_LISTED_OVERVIEW = "%1$d employees listed!";
     public static final String MESSAGE_SUPPLIERS_LISTED_OVERVIEW = "%1$d suppliers listed!";
+    public static final String MESSAGE_QUERY_PLAN = "\nPlanned and run in %1$.3f ms:\n%2$s";
     public static final String MESSAGE_RESERVATIONS_LISTED_DATETIME =
             "%1$d person(s) have reservations on %2$te %2$th %2$tY, %2$tl:%2$tM %2$tp";
     public static final String MESSAGE_RESERVATIONS_LISTED_DATE_ONLY =
@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing lines of comma-separated values.
+ * Values containing commas, quotes or line breaks are enclosed in double quotes, with any double quotes in the
+ * value escaped by doubling them.
+ */
+public class CsvUtil {
+
+    public static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Reads the next record of comma-separated values from {@code reader}, which continues onto the following lines
+     * for as long as a quoted value is left open. Line breaks inside quoted values are read as {@code '\n'}.
+     *
+     * @return the record, or null if the end of the input has been reached.
+     */
+    public static String readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder record = new StringBuilder(line);
+        // escaped quotes come in pairs, so an odd number of quotes leaves a value open
+        boolean isQuoted = countQuotes(line) % 2 == 1;
+        while (isQuoted && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            isQuoted = countQuotes(line) % 2 == 0;
+        }
+        return record.toString();
+    }
+
+    private static long countQuotes(String line) {
+        return line.chars().filter(c -> c == QUOTE).count();
+    }
+
+    /**
+     * Splits a single line, or a record read by {@link #readRecord}, of comma-separated values into its values,
+     * removing any enclosing quotes.
+     *   <br>examples:<pre>
+     *       splitLine("a,b,c") == [a, b, c]
+     *       splitLine("a,\"b,c\"") == [a, b,c]
+     *       splitLine("\"say \"\"hi\"\"\",") == [say "hi", ]
+     *       </pre>
+     * @param line cannot be null
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Returns {@code value} as it should be written in a line of comma-separated values.
+     * @param value cannot be null
+     */
+    public static String escape(String value) {
+        requireNonNull(value);
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return QUOTE + value.replace(String.valueOf(QUOTE), String.valueOf(QUOTE) + QUOTE) + QUOTE;
+    }
+
+    /**
+     * Joins {@code values} into a single line of comma-separated values, escaping them where necessary.
+     * @param values cannot be null
+     */
+    public static String joinLine(List<String> values) {
+        requireNonNull(values);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(values.get(i)));
+        }
+        return line.toString();
+    }
+}
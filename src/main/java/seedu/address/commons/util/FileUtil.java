@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +15,15 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(BufferedWriter writer) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +92,32 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes {@code file} with {@code contentWriter}, overwriting the file if it exists.
+     * The content is written to a temporary file next to {@code file}, which is only moved over {@code file} once
+     * it is complete, so {@code file} is never left partly written if the writing fails or is cut short.
+     *
+     * @throws IOException if there was an error writing the file.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        if (Files.isDirectory(file)) {
+            throw new IOException(file + " is a directory");
+        }
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile)) {
+                contentWriter.write(writer);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
 }
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Filters a list of items with keyword queries that are typed one character at a time.
+ * An item matches a query if it matches the predicate made from the query's keywords, which must only match fewer
+ * items as keywords get longer or more keywords are added. So when a query extends the previous one, only the items
+ * that matched the previous query are tested again.
+ * Not thread-safe: a filter must only be used by one thread at a time.
+ */
+public class IncrementalFilter<T> {
+
+    /** Number of items tested between checks of whether the filtering is cancelled. */
+    static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Function<List<String>, Predicate<T>> predicateFactory;
+    private List<T> items = List.of();
+
+    // the last query that was filtered to completion, and the items it matched
+    private String lastQuery;
+    private List<T> lastMatches;
+
+    /**
+     * Creates an {@code IncrementalFilter} that makes the predicate for the keywords of a query with
+     * {@code predicateFactory}.
+     */
+    public IncrementalFilter(Function<List<String>, Predicate<T>> predicateFactory) {
+        requireNonNull(predicateFactory);
+        this.predicateFactory = predicateFactory;
+    }
+
+    /**
+     * Replaces the items that are filtered. The items matched by the previous query are forgotten.
+     */
+    public void setItems(List<T> items) {
+        requireNonNull(items);
+        this.items = items;
+        lastQuery = null;
+        lastMatches = null;
+    }
+
+    /**
+     * Returns the items that match {@code query}, in their original order, or an empty {@code Optional} if
+     * {@code isCancelled} became true before filtering finished.
+     *
+     * @param query keywords separated by whitespace, which must not be blank.
+     */
+    public Optional<List<T>> filter(String query, BooleanSupplier isCancelled) {
+        requireNonNull(query);
+        requireNonNull(isCancelled);
+        String trimmedQuery = query.strip();
+        assert !trimmedQuery.isEmpty();
+
+        List<T> candidates = lastQuery != null && trimmedQuery.startsWith(lastQuery) ? lastMatches : items;
+        Predicate<T> predicate = predicateFactory.apply(Arrays.asList(trimmedQuery.split("\\s+")));
+
+        List<T> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            T candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        lastQuery = trimmedQuery;
+        lastMatches = Collections.unmodifiableList(matches);
+        return Optional.of(lastMatches);
+    }
+}
@@ -46,8 +46,14 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = rhrhParser.parseCommand(commandText);
+        String branchBeforeCommand = model.getCurrentBranch();
         commandResult = command.execute(model);
 
+        // the data of the previous branch was saved after the last command, so only the new branch needs saving
+        if (!model.getCurrentBranch().equals(branchBeforeCommand)) {
+            storage.setRhrhFilePath(model.getRhrhFilePath());
+        }
+
         try {
             storage.saveRhrh(model.getRhrh());
         } catch (IOException ioe) {
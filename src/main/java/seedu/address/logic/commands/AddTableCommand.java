@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.model.Model;
+import seedu.address.model.table.Table;
+
+/**
+ * Adds a table to RHRH, keeping the tables and reservations there are.
+ */
+public class AddTableCommand extends Command {
+    public static final String COMMAND_WORD = "addtable";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds a table of the size given, keeping the tables and reservations there are.\n"
+            + "Parameters: TABLE_SIZE (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 4";
+
+    public static final String MESSAGE_SUCCESS = "New table added: %1$s";
+
+    private final int tableSize;
+
+    /**
+     * Creates an AddTableCommand to add a table with {@code tableSize} seats.
+     */
+    public AddTableCommand(int tableSize) {
+        checkArgument(Table.checkIfValidValue(tableSize));
+        this.tableSize = tableSize;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Table table = new Table(tableSize, model.getTableManager().getNextTableId());
+        model.addTable(table);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, table));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddTableCommand // instanceof handles nulls
+                && tableSize == ((AddTableCommand) other).tableSize); // state check
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyRhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs a find or check command on every branch that is loaded, and lists what it found in each branch.
+ * The branches are searched in parallel, and the lists displayed are left unchanged.
+ */
+public class AllBranchesCommand extends Command {
+
+    public static final String COMMAND_WORD = "allbranches";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs a " + CommandUtil.formatCommandWord(FindCustomerCommand.COMMAND_WORD) + ", "
+            + CommandUtil.formatCommandWord(FindEmployeeCommand.COMMAND_WORD) + ", "
+            + CommandUtil.formatCommandWord(FindSupplierCommand.COMMAND_WORD) + " or " + CheckCommand.COMMAND_WORD
+            + " command on the current branch and every other branch used recently.\n"
+            + "Parameters: COMMAND\n"
+            + "Example: " + COMMAND_WORD + " " + CheckCommand.COMMAND_WORD + " 2021-12-25 1900";
+
+    public static final String MESSAGE_BRANCH_RESULT = "[%1$s] %2$s";
+
+    private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static final ExecutorService BRANCH_EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "all-branches");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Command command;
+
+    /**
+     * Creates an AllBranchesCommand that runs {@code command} on every loaded branch.
+     * {@code command} must only filter the displayed lists.
+     */
+    public AllBranchesCommand(Command command) {
+        requireNonNull(command);
+        this.command = command;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // each branch gets its own view, so the command can filter its lists without touching the others
+        List<CompletableFuture<String>> branchResults = new ArrayList<>();
+        for (Map.Entry<String, ReadOnlyRhrh> branch : model.getLoadedBranches().entrySet()) {
+            branchResults.add(CompletableFuture.supplyAsync(() ->
+                    searchBranch(branch.getKey(), branch.getValue()), BRANCH_EXECUTOR));
+        }
+
+        List<String> feedback = new ArrayList<>();
+        for (CompletableFuture<String> branchResult : branchResults) {
+            feedback.add(branchResult.join());
+        }
+        return new CommandResult(String.join("\n", feedback));
+    }
+
+    /**
+     * Runs the command on a view of {@code branchData}, which is filtered but not copied, and describes what was
+     * found.
+     */
+    private String searchBranch(String branchName, ReadOnlyRhrh branchData) {
+        Model branchModel = ModelManager.viewOf(branchData, new UserPrefs());
+        CommandResult result;
+        try {
+            result = command.execute(branchModel);
+        } catch (CommandException ce) {
+            return String.format(MESSAGE_BRANCH_RESULT, branchName, ce.getMessage());
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_BRANCH_RESULT, branchName,
+                result.getFeedbackToUser()));
+        List<?> found;
+        if (result.isShowCustomer()) {
+            found = getNames(branchModel.getFilteredCustomerList());
+        } else if (result.isShowEmployee()) {
+            found = getNames(branchModel.getFilteredEmployeeList());
+        } else if (result.isShowSupplier()) {
+            found = getNames(branchModel.getFilteredSupplierList());
+        } else if (result.isShowReservation()) {
+            found = branchModel.getFilteredReservationList();
+        } else {
+            found = List.of();
+        }
+        found.forEach(item -> feedback.append("\n  ").append(item));
+        return feedback.toString();
+    }
+
+    private static List<String> getNames(List<? extends Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllBranchesCommand // instanceof handles nulls
+                && command.equals(((AllBranchesCommand) other).command)); // state check
+    }
+}
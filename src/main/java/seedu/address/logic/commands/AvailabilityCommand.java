@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.reservation.CapacityHeatmap;
+
+/**
+ * Shows the tables in use and guests booked in each hour of a range of dates.
+ */
+public class AvailabilityCommand extends Command {
+    public static final String COMMAND_WORD = "availability";
+    public static final String RANGE_SEPARATOR = "..";
+    public static final int MAX_DAYS = 31;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the tables in use and guests booked in each hour of the dates from the first date given "
+            + "to the second, for at most " + MAX_DAYS + " days.\n"
+            + "Parameters: START_DATE" + RANGE_SEPARATOR + "END_DATE (format: yyyy-mm-dd)\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-24" + RANGE_SEPARATOR + "2021-12-31";
+
+    public static final String MESSAGE_NO_RESERVATIONS = "No tables are in use from %1$s to %2$s.";
+    public static final String MESSAGE_HEADER =
+            "Tables in use, of %1$d, and guests booked in each hour from %2$s to %3$s:";
+    public static final String MESSAGE_DATE_COLUMN = "%-12s";
+    public static final String MESSAGE_HOUR_COLUMN = "%-9s";
+    public static final String MESSAGE_CELL = "%1$d (%2$d)";
+    public static final String MESSAGE_EMPTY_CELL = "-";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an AvailabilityCommand for the dates from {@code startDate} to {@code endDate}, both included.
+     */
+    public AvailabilityCommand(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!endDate.isBefore(startDate) && !endDate.isAfter(startDate.plusDays(MAX_DAYS - 1)));
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        CapacityHeatmap heatmap = model.getReservationsManager().getCapacityHeatmap();
+
+        // only the hours in use on some date are shown, as most hours of the day have no reservations
+        List<Integer> hours = new ArrayList<>();
+        for (int hour = 0; hour < CapacityHeatmap.HOURS_PER_DAY; hour++) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (heatmap.getTablesUsed(date, hour) > 0) {
+                    hours.add(hour);
+                    break;
+                }
+            }
+        }
+        if (hours.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_RESERVATIONS, startDate, endDate));
+        }
+
+        StringBuilder matrix = new StringBuilder(String.format(MESSAGE_HEADER,
+                model.getTableManager().getNumberOfTables(), startDate, endDate));
+        matrix.append("\n").append(String.format(MESSAGE_DATE_COLUMN, ""));
+        hours.forEach(hour -> matrix.append(String.format(MESSAGE_HOUR_COLUMN, String.format("%02d:00", hour))));
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            matrix.append("\n").append(String.format(MESSAGE_DATE_COLUMN, date));
+            for (int hour : hours) {
+                int tablesUsed = heatmap.getTablesUsed(date, hour);
+                String cell = tablesUsed == 0
+                        ? MESSAGE_EMPTY_CELL
+                        : String.format(MESSAGE_CELL, tablesUsed, heatmap.getCovers(date, hour));
+                matrix.append(String.format(MESSAGE_HOUR_COLUMN, cell));
+            }
+        }
+        return new CommandResult(matrix.toString().stripTrailing());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AvailabilityCommand // instanceof handles nulls
+                && startDate.equals(((AvailabilityCommand) other).startDate) // state check
+                && endDate.equals(((AvailabilityCommand) other).endDate));
+    }
+}
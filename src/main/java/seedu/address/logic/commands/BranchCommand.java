@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Switches to another branch, or lists the branches if no branch is given.
+ */
+public class BranchCommand extends Command {
+
+    public static final String COMMAND_WORD = "branch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Switches to the branch with the given name, creating it if it does not exist yet. "
+            + "Lists all branches if no name is given.\n"
+            + "Parameters: [BRANCH_NAME]\n"
+            + "Example: " + COMMAND_WORD + " orchard";
+
+    public static final String MESSAGE_SWITCHED = "Switched to branch %1$s";
+    public static final String MESSAGE_ALREADY_ON_BRANCH = "Already on branch %1$s";
+    public static final String MESSAGE_LIST_BRANCHES = "Current branch: %1$s\nBranches: %2$s";
+    public static final String MESSAGE_INVALID_BRANCH_DATA = "Could not read the data of branch %1$s: %2$s";
+
+    private final Optional<String> branchName;
+
+    /**
+     * Creates a BranchCommand that switches to {@code branchName}, or lists the branches if it is empty.
+     */
+    public BranchCommand(Optional<String> branchName) {
+        requireNonNull(branchName);
+        this.branchName = branchName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (branchName.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_LIST_BRANCHES, model.getCurrentBranch(),
+                    String.join(", ", model.getBranchNames())));
+        }
+
+        String name = branchName.get();
+        if (name.equals(model.getCurrentBranch())) {
+            return new CommandResult(String.format(MESSAGE_ALREADY_ON_BRANCH, name));
+        }
+
+        try {
+            model.switchBranch(name);
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_BRANCH_DATA, name, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SWITCHED, name), false, false, true, false, false, false);
+    }
+
+    @Override
+    public boolean isAllowedInTransaction() {
+        // the branch switched to stays loaded from its file, which is not undone if a later command fails
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BranchCommand // instanceof handles nulls
+                && branchName.equals(((BranchCommand) other).branchName)); // state check
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.enums.EnumTypeOfCheck;
 import seedu.address.model.Model;
+import seedu.address.model.reservation.CapacityHeatmap;
 import seedu.address.model.reservation.CustomerContainsReservationPredicate;
 import seedu.address.model.reservation.ListContainsReservationPredicate;
 
@@ -26,6 +27,10 @@ public class CheckCommand extends Command {
             + "Parameters: Date (format: YYYY-MM-DD HHMM or YYYY-MM-DD or HHMM) \n"
             + "Example: " + COMMAND_WORD + " 2021-12-25 1900";
 
+    public static final String MESSAGE_TABLES_FREE = "\n%1$d of %2$d table(s) free, with %3$d guest(s) booked";
+    public static final String MESSAGE_TABLES_USED_BY_HOUR = "\nTables in use by hour: ";
+    public static final String MESSAGE_HOUR_TABLES_USED = "%1$02d:00 %2$d/%3$d";
+
     private final ListContainsReservationPredicate predicate;
     private final LocalDate date;
     private final LocalTime time;
@@ -48,9 +53,37 @@ public class CheckCommand extends Command {
         requireNonNull(model);
         model.updateFilteredReservationList(predicate);
         model.updateFilteredCustomerList(new CustomerContainsReservationPredicate(model.getFilteredReservationList()));
-        return new CommandResult(String.format(getDisplayMessage(typeOfCheck),
-                model.getFilteredReservationList().size(),
-                convertToLocalDateTime(date, time)), false, false, false, false, false, true);
+
+        // the counts are read from the heatmap rather than worked out from the reservations
+        CapacityHeatmap heatmap = model.getReservationsManager().getCapacityHeatmap();
+        int numberOfTables = model.getTableManager().getNumberOfTables();
+        String capacity;
+        int reservationCount;
+        if (typeOfCheck == EnumTypeOfCheck.Date) {
+            reservationCount = heatmap.getReservationCount(date);
+            capacity = describeTablesUsedByHour(heatmap, numberOfTables);
+        } else {
+            reservationCount = heatmap.getTablesUsed(date, time.getHour());
+            capacity = String.format(MESSAGE_TABLES_FREE, Math.max(0, numberOfTables - reservationCount),
+                    numberOfTables, heatmap.getCovers(date, time.getHour()));
+        }
+        return new CommandResult(String.format(getDisplayMessage(typeOfCheck), reservationCount,
+                convertToLocalDateTime(date, time)) + capacity, false, false, false, false, false, true);
+    }
+
+    /**
+     * Lists the tables in use in each hour of the date checked that has any reservations.
+     */
+    private String describeTablesUsedByHour(CapacityHeatmap heatmap, int numberOfTables) {
+        StringBuilder builder = new StringBuilder();
+        for (int hour = 0; hour < CapacityHeatmap.HOURS_PER_DAY; hour++) {
+            int tablesUsed = heatmap.getTablesUsed(date, hour);
+            if (tablesUsed > 0) {
+                builder.append(builder.length() == 0 ? MESSAGE_TABLES_USED_BY_HOUR : ", ")
+                        .append(String.format(MESSAGE_HOUR_TABLES_USED, hour, tablesUsed, numberOfTables));
+            }
+        }
+        return builder.toString();
     }
 
     private LocalDateTime convertToLocalDateTime(LocalDate date, LocalTime time) {
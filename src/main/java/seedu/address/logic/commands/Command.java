@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can be run together with other commands in a {@code CompoundCommand}, which is
+     * only the case if all of its effects are on the model, so that they are discarded if a later command fails.
+     */
+    public boolean isAllowedInTransaction() {
+        return true;
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes several commands as a single unit.
+ * The commands are run in order against a staged copy of the model, which is only applied to the model once
+ * every command has succeeded. If any command fails, none of the changes take effect.
+ */
+public class CompoundCommand extends Command {
+
+    public static final String COMMAND_WORD = "tx";
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands separated by \""
+            + COMMAND_SEPARATOR + "\" as a single unit: either all of them take effect, or none of them do.\n"
+            + "Parameters: COMMAND" + COMMAND_SEPARATOR + " COMMAND...\n"
+            + "Example: " + COMMAND_WORD + " editC 1 p/91234567" + COMMAND_SEPARATOR + " deleteR 2";
+
+    public static final String MESSAGE_NOT_ALLOWED = "%1$s cannot be run together with other commands";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of %2$d failed, no changes were made.\n%3$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a CompoundCommand that executes {@code commands} in order.
+     */
+    public CompoundCommand(List<Command> commands) {
+        requireNonNull(commands);
+        checkArgument(!commands.isEmpty());
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Model stagedModel = model.copy();
+
+        List<String> feedback = new ArrayList<>();
+        CommandResult lastResult = null;
+        boolean showHelp = false;
+        boolean exit = false;
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                lastResult = commands.get(i).execute(stagedModel);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, commands.size(),
+                        e.getMessage()), e);
+            }
+            feedback.add(lastResult.getFeedbackToUser());
+            showHelp = showHelp || lastResult.isShowHelp();
+            exit = exit || lastResult.isExit();
+        }
+
+        model.apply(stagedModel);
+
+        // the view switches to whatever the last command would have shown
+        return new CommandResult(String.join("\n", feedback), showHelp, exit,
+                lastResult.isShowCustomer(), lastResult.isShowEmployee(), lastResult.isShowSupplier(),
+                lastResult.isShowReservation());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompoundCommand // instanceof handles nulls
+                && commands.equals(((CompoundCommand) other).commands)); // state check
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.util.CommandUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.customer.Customer;
+import seedu.address.model.reservation.Reservation;
 
 /**
  * Deletes a customer identified using it's displayed index from RHRH.
@@ -24,6 +26,7 @@ public class DeleteCustomerCommand extends Command {
             + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " 1";
 
     public static final String MESSAGE_DELETE_CUSTOMER_SUCCESS = "Deleted Customer: %1$s";
+    public static final String MESSAGE_RESERVATIONS_DELETED = "\nAlso deleted %1$d reservation(s) of the customer";
 
     private final Index targetIndex;
 
@@ -41,9 +44,19 @@ public class DeleteCustomerCommand extends Command {
         }
 
         Customer customerToDelete = lastShownList.get(targetIndex.getZeroBased());
+        List<Reservation> reservations = List.copyOf(model.getReservationsOf(customerToDelete.getPhone()));
         model.deleteCustomer(customerToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_CUSTOMER_SUCCESS, customerToDelete),
-                false, false, true, false, false, false);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_DELETE_CUSTOMER_SUCCESS, customerToDelete));
+        if (!reservations.isEmpty() && model.getReservationsOf(customerToDelete.getPhone()).isEmpty()) {
+            // the freed tables may be given to parties waiting for them
+            List<Reservation> promoted = new ArrayList<>();
+            reservations.forEach(reservation -> promoted.addAll(
+                    model.promoteFromWaitlist(reservation.getDateTime(), reservation.getEndDateTime())));
+            message.append(String.format(MESSAGE_RESERVATIONS_DELETED, reservations.size()))
+                    .append(CommandUtil.formatPromotedReservations(promoted));
+        }
+        return new CommandResult(message.toString(), false, false, true, false, false, false);
     }
 
     @Override
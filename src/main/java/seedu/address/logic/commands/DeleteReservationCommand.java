@@ -47,8 +47,11 @@ public class DeleteReservationCommand extends Command {
         Reservation toDelete = lastShownList.get(targetIndex.getZeroBased());
         assert toDelete != null;
         model.deleteReservation(toDelete);
+        // the freed table may be given to a party waiting for it
+        List<Reservation> promoted = model.promoteFromWaitlist(toDelete.getDateTime(), toDelete.getEndDateTime());
         return new CommandResult(
-                String.format(MESSAGE_DELETE_RESERVATION_SUCCESS, toDelete),
+                String.format(MESSAGE_DELETE_RESERVATION_SUCCESS, toDelete)
+                        + CommandUtil.formatPromotedReservations(promoted),
                 false, false, false, false, false, true
         );
     }
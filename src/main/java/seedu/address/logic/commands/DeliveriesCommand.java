@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
+
+/**
+ * Lists the deliveries due in a period, including every delivery of the suppliers that deliver repeatedly, and points
+ * out the deliveries that arrive at the loading bay at the same time.
+ */
+public class DeliveriesCommand extends Command {
+    public static final String COMMAND_WORD = "deliveries";
+    public static final int MAX_DAYS = 366;
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the deliveries due from the first date given to the second, by the times they arrive, "
+            + "and displays the suppliers delivering in the supplier list. "
+            + "Deliveries arriving at the same time are marked as clashes.\n"
+            + "Parameters: DATE..DATE (yyyy-mm-dd, covering at most " + MAX_DAYS + " days) "
+            + "[SUPPLY_TYPE]\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-06..2021-12-12 Chicken";
+
+    public static final String MESSAGE_SUCCESS =
+            "%1$d delivery(ies) from %2$s to %3$s, with %4$d clash(es) at the loading bay:";
+    public static final String MESSAGE_DELIVERY = "\n%1$s: %2$s";
+    public static final String MESSAGE_CLASH = " (clash)";
+    public static final String MESSAGE_NO_DELIVERIES = "No deliveries are due from %1$s to %2$s";
+
+    private static final DateTimeFormatter DELIVERY_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Optional<SupplyType> supplyType;
+
+    /**
+     * Creates a DeliveriesCommand to list the deliveries due from {@code from} to {@code to}, both inclusive, of the
+     * suppliers of {@code supplyType} if it is given.
+     */
+    public DeliveriesCommand(LocalDate from, LocalDate to, Optional<SupplyType> supplyType) {
+        requireAllNonNull(from, to, supplyType);
+        checkArgument(!to.isBefore(from) && ChronoUnit.DAYS.between(from, to) < MAX_DAYS);
+        this.from = from;
+        this.to = to;
+        this.supplyType = supplyType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        NavigableMap<LocalDateTime, List<Supplier>> deliveries =
+                model.getDeliveriesBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), supplyType);
+
+        Set<Supplier> suppliersDelivering = new HashSet<>();
+        deliveries.values().forEach(suppliersDelivering::addAll);
+        model.updateFilteredSupplierList(suppliersDelivering::contains);
+
+        if (deliveries.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_DELIVERIES, from, to),
+                    false, false, false, false, true, false);
+        }
+
+        // the deliveries are grouped by the time they arrive, so each group of more than one supplier is a clash
+        int deliveryCount = 0;
+        int clashCount = 0;
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<LocalDateTime, List<Supplier>> delivery : deliveries.entrySet()) {
+            List<Supplier> suppliers = delivery.getValue();
+            String names = suppliers.stream()
+                    .map(supplier -> supplier.getName().fullName + " (" + supplier.getSupplyType() + ")")
+                    .collect(Collectors.joining(", "));
+            lines.append(String.format(MESSAGE_DELIVERY, delivery.getKey().format(DELIVERY_TIME_FORMAT), names));
+            deliveryCount += suppliers.size();
+            if (suppliers.size() > 1) {
+                lines.append(MESSAGE_CLASH);
+                clashCount++;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, deliveryCount, from, to, clashCount) + lines,
+                false, false, false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeliveriesCommand // instanceof handles nulls
+                && from.equals(((DeliveriesCommand) other).from)
+                && to.equals(((DeliveriesCommand) other).to)
+                && supplyType.equals(((DeliveriesCommand) other).supplyType)); // state check
+    }
+}
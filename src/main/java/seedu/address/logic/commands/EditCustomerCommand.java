@@ -62,6 +62,7 @@ public class EditCustomerCommand extends Command {
     public static final String MESSAGE_EDIT_CUSTOMER_SUCCESS = "Edited Customer: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_CUSTOMER = "This customer already exists in RHRH";
+    public static final String MESSAGE_RESERVATIONS_MOVED = "\nMoved %1$d reservation(s) to the new phone number";
 
     private final Index index;
     private final EditCustomerDescriptor editCustomerDescriptor;
@@ -96,10 +97,15 @@ public class EditCustomerCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CUSTOMER);
         }
 
+        int reservationCount = model.getReservationsOf(customerToEdit.getPhone()).size();
         model.setCustomer(customerToEdit, editedCustomer);
         model.updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
-        return new CommandResult(String.format(MESSAGE_EDIT_CUSTOMER_SUCCESS, editedCustomer),
-                false, false, true, false, false, false);
+
+        String message = String.format(MESSAGE_EDIT_CUSTOMER_SUCCESS, editedCustomer);
+        if (reservationCount > 0 && model.getReservationsOf(customerToEdit.getPhone()).isEmpty()) {
+            message += String.format(MESSAGE_RESERVATIONS_MOVED, reservationCount);
+        }
+        return new CommandResult(message, false, false, true, false, false, false);
     }
 
     /**
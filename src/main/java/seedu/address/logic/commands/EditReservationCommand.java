@@ -94,7 +94,7 @@ public class EditReservationCommand extends Command {
 
         return new Reservation(
                 reservationToEdit.getPhone(), reservationToEdit.getNumberOfPeople(),
-                reservationToEdit.getDateTime(), reservationToEdit.getTable(),
+                reservationToEdit.getDateTime(), reservationToEdit.getDuration(), reservationToEdit.getTable(),
                 updatedRemark, updatedTags
         );
     }
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.model.Model;
+import seedu.address.storage.ListExporter;
+
+/**
+ * Exports the currently displayed customers, employees, suppliers or reservations to a CSV or JSON-lines file.
+ * The file is written before the command finishes, so its result can be told to the user, and only replaces an
+ * existing file once it is complete, so an export cut short by the app closing never leaves a partly written file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the displayed customers, employees, suppliers or reservations to a file. "
+            + "Files ending in .csv are written as comma-separated values "
+            + "and files ending in .jsonl are written as one JSON object per line.\n"
+            + "Parameters: customers|employees|suppliers|reservations FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " employees data/employees.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s(s) to %3$s";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d %3$s(s) to %4$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final EnumTypeOfList typeOfList;
+    private final Path filePath;
+    private final ListExporter.Format format;
+
+    /**
+     * Creates an ExportCommand to export the displayed {@code typeOfList} to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(EnumTypeOfList typeOfList, Path filePath, ListExporter.Format format) {
+        requireNonNull(typeOfList);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.typeOfList = typeOfList;
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        switch (typeOfList) {
+        case Customer:
+            return exportList(ListExporter.forCustomers(), model.getFilteredCustomerList());
+        case Employee:
+            return exportList(ListExporter.forEmployees(), model.getFilteredEmployeeList());
+        case Supplier:
+            return exportList(ListExporter.forSuppliers(), model.getFilteredSupplierList());
+        case Reservation:
+            return exportList(ListExporter.forReservations(), model.getFilteredReservationList());
+        default:
+            throw new AssertionError("Unknown type of list: " + typeOfList);
+        }
+    }
+
+    @Override
+    public boolean isAllowedInTransaction() {
+        // the file is written as soon as the command runs, and is not removed if a later command fails
+        return false;
+    }
+
+    /**
+     * Writes the records in {@code displayedList} with {@code exporter}.
+     * The progress of long exports is logged as they are written.
+     */
+    private <T> CommandResult exportList(ListExporter<T> exporter, List<T> displayedList) throws CommandException {
+        String typeName = typeOfList.name().toLowerCase();
+        try {
+            exporter.export(displayedList, filePath, format, (exportedCount, totalCount) ->
+                    logger.info(String.format(MESSAGE_PROGRESS, exportedCount, totalCount, typeName, filePath)));
+        } catch (IOException | SecurityException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, displayedList.size(), typeName, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && typeOfList == ((ExportCommand) other).typeOfList
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format); // state check
+    }
+}
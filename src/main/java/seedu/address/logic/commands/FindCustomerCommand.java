@@ -5,10 +5,15 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.util.CommandUtil;
 import seedu.address.model.Model;
+import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryNode;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all customerss in RHRH whose name contains any of the argument keywords.
+ * Finds and lists all customers in RHRH that match a query, which is either keywords that each customer must contain in
+ * any of its details, or a query comparing fields of the customers.
  * Keyword matching is case insensitive.
  */
 public class FindCustomerCommand extends Command {
@@ -17,30 +22,52 @@ public class FindCustomerCommand extends Command {
 
     public static final String MESSAGE_USAGE = CommandUtil.formatCommandWord(COMMAND_WORD)
             + ": Finds all customers that contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " alice 97381281 charlie";
+            + "the specified keywords (case-insensitive), or that match a query of fields, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or [EXPLAIN] QUERY\n"
+            + "A QUERY joins keywords and fields such as n/NAME, AND, OR, NOT and brackets, "
+            + "and compares numbers with <, <=, >, >= or FIELD/MIN..MAX.\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " alice 97381281 charlie\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " n/tan lp>1000 t/vip alg/peanut";
 
-    private final CustomerClassContainsKeywordsPredicate predicate;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final Query<Customer> query;
 
+    /**
+     * Creates a FindCustomerCommand to find the customers matching {@code predicate}.
+     */
     public FindCustomerCommand(CustomerClassContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new Query<>(QueryNode.scan(predicate, "keywords in any field"), false));
+    }
+
+    /**
+     * Creates a FindCustomerCommand to find the customers matching {@code query}.
+     */
+    public FindCustomerCommand(Query<Customer> query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredCustomerList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW,
-                        model.getFilteredCustomerList().size()),
-                false, false, true, false, false, false);
+        long start = System.nanoTime();
+        QueryPlan<Customer> plan = query.plan(model.getCustomerQueryIndex());
+        model.updateFilteredCustomerList(plan.getFilter());
+        long elapsed = System.nanoTime() - start;
+
+        String feedback = String.format(Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW,
+                model.getFilteredCustomerList().size());
+        if (query.isExplained()) {
+            feedback += String.format(Messages.MESSAGE_QUERY_PLAN, elapsed / NANOS_PER_MILLI, plan.describe());
+        }
+        return new CommandResult(feedback, false, false, true, false, false, false);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCustomerCommand // instanceof handles nulls
-                && predicate.equals(((FindCustomerCommand) other).predicate)); // state check
+                && query.equals(((FindCustomerCommand) other).query)); // state check
     }
 }
@@ -5,10 +5,15 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.util.CommandUtil;
 import seedu.address.model.Model;
+import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.employee.EmployeeClassContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryNode;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all employees in RHRH whose name contains any of the argument keywords.
+ * Finds and lists all employees in RHRH that match a query, which is either keywords that each employee must contain in
+ * any of its details, or a query comparing fields of the employees.
  * Keyword matching is case insensitive.
  */
 public class FindEmployeeCommand extends Command {
@@ -16,31 +21,53 @@ public class FindEmployeeCommand extends Command {
     public static final String COMMAND_WORD = "finde";
 
     public static final String MESSAGE_USAGE = CommandUtil.formatCommandWord(COMMAND_WORD)
-            + ": Finds all employees that contain "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " 2021-12-08 0800";
+            + ": Finds all employees that contain any of "
+            + "the specified keywords (case-insensitive), or that match a query of fields, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or [EXPLAIN] QUERY\n"
+            + "A QUERY joins keywords and fields such as n/NAME, AND, OR, NOT and brackets, "
+            + "and compares numbers with <, <=, >, >= or FIELD/MIN..MAX.\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " 2021-12-08 0800\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " jt/chef sal>=3000 NOT t/parttime";
 
-    private final EmployeeClassContainsKeywordsPredicate predicate;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final Query<Employee> query;
 
+    /**
+     * Creates a FindEmployeeCommand to find the employees matching {@code predicate}.
+     */
     public FindEmployeeCommand(EmployeeClassContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new Query<>(QueryNode.scan(predicate, "keywords in any field"), false));
+    }
+
+    /**
+     * Creates a FindEmployeeCommand to find the employees matching {@code query}.
+     */
+    public FindEmployeeCommand(Query<Employee> query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEmployeeList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW,
-                        model.getFilteredEmployeeList().size()), false, false, false,
-                true, false, false);
+        long start = System.nanoTime();
+        QueryPlan<Employee> plan = query.plan(model.getEmployeeQueryIndex());
+        model.updateFilteredEmployeeList(plan.getFilter());
+        long elapsed = System.nanoTime() - start;
+
+        String feedback = String.format(Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW,
+                model.getFilteredEmployeeList().size());
+        if (query.isExplained()) {
+            feedback += String.format(Messages.MESSAGE_QUERY_PLAN, elapsed / NANOS_PER_MILLI, plan.describe());
+        }
+        return new CommandResult(feedback, false, false, false, true, false, false);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindEmployeeCommand // instanceof handles nulls
-                && predicate.equals(((FindEmployeeCommand) other).predicate)); // state check
+                && query.equals(((FindEmployeeCommand) other).query)); // state check
     }
 }
@@ -5,10 +5,15 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.util.CommandUtil;
 import seedu.address.model.Model;
+import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.person.supplier.SupplierClassContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryNode;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all suppliers in RHRH whose name contains any of the argument keywords.
+ * Finds and lists all suppliers in RHRH that match a query, which is either keywords that each supplier must contain in
+ * any of its details, or a query comparing fields of the suppliers.
  * Keyword matching is case insensitive.
  */
 public class FindSupplierCommand extends Command {
@@ -17,30 +22,52 @@ public class FindSupplierCommand extends Command {
 
     public static final String MESSAGE_USAGE = CommandUtil.formatCommandWord(COMMAND_WORD)
             + ": Finds all suppliers that contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " alice chicken November";
+            + "the specified keywords (case-insensitive), or that match a query of fields, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or [EXPLAIN] QUERY\n"
+            + "A QUERY joins keywords and fields such as n/NAME, AND, OR, NOT and brackets, "
+            + "and compares numbers with <, <=, >, >= or FIELD/MIN..MAX.\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " alice chicken November\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " (st/chicken OR st/beef) NOT t/late";
 
-    private final SupplierClassContainsKeywordsPredicate predicate;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final Query<Supplier> query;
 
+    /**
+     * Creates a FindSupplierCommand to find the suppliers matching {@code predicate}.
+     */
     public FindSupplierCommand(SupplierClassContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new Query<>(QueryNode.scan(predicate, "keywords in any field"), false));
+    }
+
+    /**
+     * Creates a FindSupplierCommand to find the suppliers matching {@code query}.
+     */
+    public FindSupplierCommand(Query<Supplier> query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSupplierList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_SUPPLIERS_LISTED_OVERVIEW,
-                        model.getFilteredSupplierList().size()), false, false, false,
-                false, true, false);
+        long start = System.nanoTime();
+        QueryPlan<Supplier> plan = query.plan(model.getSupplierQueryIndex());
+        model.updateFilteredSupplierList(plan.getFilter());
+        long elapsed = System.nanoTime() - start;
+
+        String feedback = String.format(Messages.MESSAGE_SUPPLIERS_LISTED_OVERVIEW,
+                model.getFilteredSupplierList().size());
+        if (query.isExplained()) {
+            feedback += String.format(Messages.MESSAGE_QUERY_PLAN, elapsed / NANOS_PER_MILLI, plan.describe());
+        }
+        return new CommandResult(feedback, false, false, false, false, true, false);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindSupplierCommand // instanceof handles nulls
-                && predicate.equals(((FindSupplierCommand) other).predicate)); // state check
+                && query.equals(((FindSupplierCommand) other).query)); // state check
     }
 }
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_DATETIME_PRINT_FORMAT;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.employee.RosterGenerator;
+import seedu.address.model.person.employee.RosterGenerator.Roster;
+import seedu.address.model.person.employee.RosterGenerator.Slot;
+import seedu.address.model.person.employee.Shift;
+
+/**
+ * Gives the employees shifts for a week, with enough of them on shift for the guests booked in each hour.
+ */
+public class GenerateRosterCommand extends Command {
+    public static final String COMMAND_WORD = "genroster";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Gives the employees shifts of " + RosterGenerator.SHIFT_HOURS + " hours for the 7 days from the date "
+            + "given, with an employee on shift for every COVERS_PER_EMPLOYEE guests booked in each hour. "
+            + "The shifts the employees had in those days are replaced.\n"
+            + "Parameters: DATE (yyyy-mm-dd) [COVERS_PER_EMPLOYEE] (must be a positive integer, "
+            + RosterGenerator.DEFAULT_COVERS_PER_EMPLOYEE + " by default)\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-06 8";
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    public static final String MESSAGE_SUCCESS =
+            "Gave %1$d employee(s) %2$d shift(s) in the week from %3$s, replacing the shifts they had then";
+    public static final String MESSAGE_NO_GUESTS =
+            "No guests are booked in the week from %1$s, so no shifts were given";
+    public static final String MESSAGE_SHORTFALL = "\nThe shift at %1$s needs %2$d more employee(s)";
+    public static final String MESSAGE_OUT_OF_TIME =
+            "\nThe time budget ran out before the shifts could be spread out as evenly as possible";
+
+    private final LocalDate weekStart;
+    private final int coversPerEmployee;
+
+    /**
+     * Creates a GenerateRosterCommand to give the employees shifts for the week from {@code weekStart}, with an
+     * employee on shift for every {@code coversPerEmployee} guests.
+     */
+    public GenerateRosterCommand(LocalDate weekStart, int coversPerEmployee) {
+        requireNonNull(weekStart);
+        checkArgument(coversPerEmployee > 0);
+        this.weekStart = weekStart;
+        this.coversPerEmployee = coversPerEmployee;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        RosterGenerator generator = new RosterGenerator(coversPerEmployee, RosterGenerator.DEFAULT_TIME_BUDGET);
+        List<Slot> slots = generator.findSlots(model.getReservationsManager().getCapacityHeatmap(), weekStart,
+                DAYS_PER_WEEK);
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_GUESTS, weekStart));
+        }
+
+        List<Employee> employees = model.getRhrh().getEmployeeList();
+        Roster roster = generator.generate(employees, slots);
+
+        // the employees are edited on a copy, so the new roster replaces the old one in a single update
+        Model stagedModel = model.copy();
+        Set<Employee> rostered = new HashSet<>();
+        for (Employee employee : employees) {
+            Employee rosteredEmployee = employee.withShifts(
+                    getShifts(employee, roster.getShifts().getOrDefault(employee, List.of())));
+            if (!rosteredEmployee.equals(employee)) {
+                stagedModel.setEmployee(employee, rosteredEmployee);
+            }
+            if (roster.getShifts().containsKey(employee)) {
+                rostered.add(rosteredEmployee);
+            }
+        }
+        model.apply(stagedModel);
+        model.updateFilteredEmployeeList(rostered::contains);
+
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, rostered.size(), roster.getShiftCount(), weekStart));
+        for (Map.Entry<Slot, Integer> shortfall : roster.getShortfalls().entrySet()) {
+            builder.append(String.format(MESSAGE_SHORTFALL,
+                    String.format(MESSAGE_DATETIME_PRINT_FORMAT, shortfall.getKey().getStart()), shortfall.getValue()));
+        }
+        if (!roster.isComplete()) {
+            builder.append(MESSAGE_OUT_OF_TIME);
+        }
+        return new CommandResult(builder.toString(), false, false, false, true, false, false);
+    }
+
+    /**
+     * Returns the shifts {@code employee} has outside the week, together with the shifts starting at
+     * {@code rosteredStarts}.
+     */
+    private Set<Shift> getShifts(Employee employee, List<LocalDateTime> rosteredStarts) {
+        LocalDateTime weekEnd = weekStart.plusDays(DAYS_PER_WEEK).atStartOfDay();
+        Set<Shift> shifts = new HashSet<>();
+        for (Shift shift : employee.getShifts()) {
+            if (shift.workingShift.isBefore(weekStart.atStartOfDay()) || !shift.workingShift.isBefore(weekEnd)) {
+                shifts.add(shift);
+            }
+        }
+        rosteredStarts.forEach(start -> shifts.add(Shift.startingAt(start)));
+        return shifts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GenerateRosterCommand // instanceof handles nulls
+                && weekStart.equals(((GenerateRosterCommand) other).weekStart) // state check
+                && coversPerEmployee == ((GenerateRosterCommand) other).coversPerEmployee);
+    }
+}
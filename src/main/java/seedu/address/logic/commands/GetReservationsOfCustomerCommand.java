@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Lists the reservations made by a customer
+ */
+public class GetReservationsOfCustomerCommand extends Command {
+    public static final String COMMAND_WORD = "getr";
+
+    public static final String MESSAGE_USAGE = CommandUtil.formatCommandWord(COMMAND_WORD)
+            + ": Lists the reservations made by the customer "
+            + "specified by the index number used in the displayed customer list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + CommandUtil.formatCommandWord(COMMAND_WORD) + " 1";
+
+    public static final String MESSAGE_RESERVATIONS_LISTED = "Listed %1$d reservation(s) made by %2$s";
+
+    private final Index targetIndex;
+
+    public GetReservationsOfCustomerCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Customer> lastShownList = model.getFilteredCustomerList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX);
+        }
+
+        Customer customer = lastShownList.get(targetIndex.getZeroBased());
+        assert customer != null;
+
+        // the reservations are looked up by phone, so the list only has to check each reservation against a set
+        Set<Reservation> reservations = new HashSet<>(model.getReservationsOf(customer.getPhone()));
+        model.updateFilteredReservationList(reservations::contains);
+        return new CommandResult(
+                String.format(MESSAGE_RESERVATIONS_LISTED, reservations.size(), customer.getName()),
+                false, false, false, false, false, true
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GetReservationsOfCustomerCommand // instanceof handles nulls
+                && targetIndex.equals(((GetReservationsOfCustomerCommand) other).targetIndex)); // state check
+    }
+}
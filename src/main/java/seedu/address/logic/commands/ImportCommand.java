@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvImportResult;
+import seedu.address.storage.CsvImporter;
+
+/**
+ * Imports customers, employees or suppliers from a CSV file into RHRH.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports customers, employees or suppliers from a CSV file. "
+            + "The first row of the file must name the columns, "
+            + "and multiple allergies, special requests, shifts or tags are separated by \""
+            + CsvImporter.VALUE_SEPARATOR + "\".\n"
+            + "Parameters: customers|employees|suppliers FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " customers data/customers.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s(s)";
+    public static final String MESSAGE_ROWS_REJECTED = "%1$d row(s) could not be imported, see %2$s";
+    public static final String MESSAGE_INVALID_FILE = "Could not import %1$s: %2$s";
+    public static final String ERROR_FILE_SUFFIX = ".errors.csv";
+
+    private final EnumTypeOfPerson typeOfPerson;
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import {@code typeOfPerson} from {@code filePath}.
+     */
+    public ImportCommand(EnumTypeOfPerson typeOfPerson, Path filePath) {
+        requireNonNull(typeOfPerson);
+        requireNonNull(filePath);
+        this.typeOfPerson = typeOfPerson;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        switch (typeOfPerson) {
+        case Customer:
+            return importPersons(CsvImporter.forCustomers(), model.getRhrh().getCustomerList(),
+                    model::addCustomers);
+        case Employee:
+            return importPersons(CsvImporter.forEmployees(), model.getRhrh().getEmployeeList(),
+                    model::addEmployees);
+        case Supplier:
+            return importPersons(CsvImporter.forSuppliers(), model.getRhrh().getSupplierList(),
+                    model::addSuppliers);
+        default:
+            throw new AssertionError("Unknown type of person: " + typeOfPerson);
+        }
+    }
+
+    @Override
+    public boolean isAllowedInTransaction() {
+        // the rejected rows are written to a file as soon as the command runs, even if a later command fails
+        return false;
+    }
+
+    /**
+     * Reads the file with {@code importer} and adds the imported persons with {@code adder}.
+     */
+    private <T extends Person> CommandResult importPersons(CsvImporter<T> importer, List<T> existingPersons,
+            Consumer<List<T>> adder) throws CommandException {
+        CsvImportResult<T> result;
+        try {
+            result = importer.read(filePath, existingPersons);
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getMessage()), e);
+        }
+
+        List<T> imported = result.getImported();
+        String feedback = String.format(MESSAGE_SUCCESS, imported.size(), typeOfPerson.name().toLowerCase());
+        if (!result.getRejectedRows().isEmpty()) {
+            Path errorFilePath = getErrorFilePath();
+            try {
+                result.writeRejectedRows(errorFilePath);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_INVALID_FILE, errorFilePath, ioe.getMessage()),
+                        ioe);
+            }
+            feedback += "\n" + String.format(MESSAGE_ROWS_REJECTED, result.getRejectedRows().size(), errorFilePath);
+        }
+
+        adder.accept(imported);
+
+        return new CommandResult(feedback, false, false, typeOfPerson == EnumTypeOfPerson.Customer,
+                typeOfPerson == EnumTypeOfPerson.Employee, typeOfPerson == EnumTypeOfPerson.Supplier, false);
+    }
+
+    /**
+     * Returns the path of the file that rows which could not be imported are written to,
+     * which sits next to the imported file.
+     */
+    private Path getErrorFilePath() {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.toLowerCase().endsWith(".csv")
+                ? fileName.substring(0, fileName.length() - ".csv".length())
+                : fileName;
+        return filePath.resolveSibling(baseName + ERROR_FILE_SUFFIX);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && typeOfPerson == ((ImportCommand) other).typeOfPerson
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.reservation.WaitlistEntry;
+
+/**
+ * Lists the parties waiting for a table, either all of them or those waiting for a table on a date.
+ */
+public class ListWaitlistCommand extends Command {
+
+    public static final String COMMAND_WORD = "waitlist";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the parties waiting for a table, in the order they will be seated in. "
+            + "Only lists the parties waiting for a table on the date given, if one is given.\n"
+            + "Parameters: [DATE (format: yyyy-mm-dd)]\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-24";
+
+    public static final String MESSAGE_SUCCESS = "%1$d party(s) waiting for a table:";
+    public static final String MESSAGE_SUCCESS_ON_DATE = "%1$d party(s) waiting for a table on %2$s:";
+
+    private final Optional<LocalDate> date;
+
+    /**
+     * Creates a ListWaitlistCommand that lists the parties waiting for a table on {@code date}, or all of them if
+     * it is empty.
+     */
+    public ListWaitlistCommand(Optional<LocalDate> date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<WaitlistEntry> waitlist = model.getWaitlist();
+        StringBuilder entries = new StringBuilder();
+        int count = 0;
+        for (int i = 0; i < waitlist.size(); i++) {
+            WaitlistEntry entry = waitlist.get(i);
+            if (date.isEmpty() || entry.getDateTime().toLocalDate().equals(date.get())) {
+                // numbered by the place in the whole waitlist, which is the index the remove command takes
+                entries.append("\n").append(i + 1).append(". ").append(entry);
+                count++;
+            }
+        }
+
+        String header = date.isEmpty()
+                ? String.format(MESSAGE_SUCCESS, count)
+                : String.format(MESSAGE_SUCCESS_ON_DATE, count, date.get());
+        return new CommandResult(header + entries);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListWaitlistCommand // instanceof handles nulls
+                && date.equals(((ListWaitlistCommand) other).date)); // state check
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_DATETIME_PRINT_FORMAT;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Finds the earliest times from a date time at which a party can be given a table.
+ */
+public class NextSlotCommand extends Command {
+    public static final String COMMAND_WORD = "next";
+    public static final int DEFAULT_COUNT = 3;
+    public static final int MAX_COUNT = 10;
+    public static final int SEARCH_DAYS = 31;
+
+    public static final String MESSAGE_USAGE = String.format(
+            "%1$s: Finds the earliest times, from the date time given and within the next %5$d days, at which a "
+            + "table that fits the party is free.\n"
+            + "Parameters: NUMBER_OF_PEOPLE (must be a positive integer) "
+            + "%2$sDATE_TIME (has to be on the hour, i.e. hh00) "
+            + "[%3$sDURATION_IN_MINUTES (a multiple of 15, 60 by default)] "
+            + "[%4$sCOUNT (at most %6$d, %7$d by default)]\n"
+            + "Example: %1$s 4 %2$s2021-12-24 1900 %3$s120 %4$s5",
+            COMMAND_WORD, PREFIX_TIME, PREFIX_DURATION, PREFIX_COUNT,
+            SEARCH_DAYS, MAX_COUNT, DEFAULT_COUNT
+    );
+    public static final String MESSAGE_SUCCESS = "Earliest times a table for %1$d person(s) is free from %2$s:";
+    public static final String MESSAGE_SLOT = "\n%1$d. %2$s";
+    public static final String MESSAGE_NO_SLOTS =
+            "No table for %1$d person(s) is free for %2$d minutes within %3$d days from %4$s";
+    public static final String MESSAGE_NO_TABLE_FITS = "No table can accommodate %1$d person(s)";
+
+    private final int numberOfPeople;
+    private final LocalDateTime dateTime;
+    private final Duration duration;
+    private final int count;
+
+    /**
+     * Creates a NextSlotCommand to find the earliest {@code count} times, from {@code dateTime}, at which a table
+     * for {@code numberOfPeople} is free for {@code duration}.
+     */
+    public NextSlotCommand(int numberOfPeople, LocalDateTime dateTime, Duration duration, int count) {
+        requireAllNonNull(dateTime, duration);
+        checkArgument(count > 0 && count <= MAX_COUNT);
+        this.numberOfPeople = numberOfPeople;
+        this.dateTime = dateTime;
+        this.duration = duration;
+        this.count = count;
+    }
+
+    /**
+     * Creates a NextSlotCommand to find the earliest {@link #DEFAULT_COUNT} times, from {@code dateTime}, at which a
+     * table for {@code numberOfPeople} is free for {@link Reservation#DEFAULT_DURATION}.
+     */
+    public NextSlotCommand(int numberOfPeople, LocalDateTime dateTime) {
+        this(numberOfPeople, dateTime, Reservation.DEFAULT_DURATION, DEFAULT_COUNT);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.getTableManager().hasTableThatCanFit(numberOfPeople)) {
+            throw new CommandException(String.format(MESSAGE_NO_TABLE_FITS, numberOfPeople));
+        }
+
+        BitSet tablesThatFit = model.getTableManager().getTablesThatCanFit(numberOfPeople);
+        List<LocalDateTime> freeSlots = model.getReservationsManager().findFreeSlots(tablesThatFit,
+                dateTime, duration, dateTime.plusDays(SEARCH_DAYS), count);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SLOTS, numberOfPeople, duration.toMinutes(),
+                    SEARCH_DAYS, String.format(MESSAGE_DATETIME_PRINT_FORMAT, dateTime)));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, numberOfPeople,
+                String.format(MESSAGE_DATETIME_PRINT_FORMAT, dateTime)));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            message.append(String.format(MESSAGE_SLOT, i + 1,
+                    String.format(MESSAGE_DATETIME_PRINT_FORMAT, freeSlots.get(i))));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof NextSlotCommand)) {
+            return false;
+        }
+
+        NextSlotCommand that = (NextSlotCommand) other;
+        return numberOfPeople == that.numberOfPeople
+                && dateTime.equals(that.dateTime)
+                && duration.equals(that.duration)
+                && count == that.count;
+    }
+}
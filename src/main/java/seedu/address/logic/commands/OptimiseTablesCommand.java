@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.model.table.TableAssignmentOptimiser;
+import seedu.address.model.table.TableAssignmentOptimiser.Assignment;
+
+/**
+ * Reassigns the tables of all reservations on a date, so that as many guests as possible are seated.
+ */
+public class OptimiseTablesCommand extends Command {
+    public static final String COMMAND_WORD = "optimise";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reassigns the tables of the reservations on the date given, to seat as many guests as possible "
+            + "and leave the larger tables free.\n"
+            + "Parameters: DATE (format: yyyy-mm-dd)\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-24";
+
+    public static final String MESSAGE_SUCCESS =
+            "Reassigned %1$d reservation(s) on %2$s. %3$d of %4$d guests are seated, at tables with %5$d seats.";
+    public static final String MESSAGE_NOT_IMPROVED =
+            "The tables of the reservations on %1$s cannot be improved. %2$d of %3$d guests are seated.";
+    public static final String MESSAGE_SEARCH_INCOMPLETE = "\nThe search stopped after %1$d seconds, "
+            + "so a better assignment might still exist.";
+
+    private final LocalDate date;
+    private final Duration timeBudget;
+
+    /**
+     * Creates an OptimiseTablesCommand that reassigns the tables of the reservations on {@code date}
+     */
+    public OptimiseTablesCommand(LocalDate date) {
+        this(date, TableAssignmentOptimiser.DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * Creates an OptimiseTablesCommand that reassigns the tables of the reservations on {@code date}, taking at
+     * most {@code timeBudget} to search for the best assignment
+     */
+    public OptimiseTablesCommand(LocalDate date, Duration timeBudget) {
+        requireAllNonNull(date, timeBudget);
+        this.date = date;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime startOfDay = date.atStartOfDay();
+        List<Reservation> reservations = new ArrayList<>();
+        LocalDateTime latestEnd = startOfDay.plusDays(1);
+        for (Reservation reservation : model.getRhrh().getReservationList()) {
+            if (reservation.getDateTime().toLocalDate().equals(date)) {
+                reservations.add(reservation);
+                if (reservation.getEndDateTime().isAfter(latestEnd)) {
+                    latestEnd = reservation.getEndDateTime();
+                }
+            }
+        }
+        // reservations of other days keep their tables, both those from the day before that run past midnight and
+        // those of the next day that start before the date's last reservation ends
+        List<Reservation> fixedReservations = new ArrayList<>();
+        for (Reservation reservation : model.getRhrh().getReservationList()) {
+            if (!reservation.getDateTime().toLocalDate().equals(date)
+                    && reservation.overlaps(startOfDay, latestEnd)) {
+                fixedReservations.add(reservation);
+            }
+        }
+        int totalCovers = reservations.stream().mapToInt(Reservation::getNumberOfPeople).sum();
+
+        TableAssignmentOptimiser optimiser =
+                new TableAssignmentOptimiser(model.getTableManager().getUnmodifiableObservableList(), timeBudget);
+        Assignment current = optimiser.evaluate(reservations, fixedReservations);
+        Assignment optimised = optimiser.optimise(reservations, fixedReservations);
+        String searchNote = optimised.isComplete() ? "" : String.format(MESSAGE_SEARCH_INCOMPLETE,
+                timeBudget.toSeconds());
+
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        if (!optimised.isBetterThan(current)) {
+            return new CommandResult(String.format(MESSAGE_NOT_IMPROVED, date, current.getSeatedCovers(),
+                    totalCovers) + searchNote, false, false, false, false, false, true);
+        }
+
+        // the reservations left without a table give up theirs before the others are moved, so no table is ever
+        // given to two parties at once
+        List<Reservation> waitlisted = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (optimised.getTable(reservation).isEmpty()) {
+                model.moveToWaitlist(reservation);
+                waitlisted.add(reservation);
+            }
+        }
+        int reassignedCount = 0;
+        for (Map.Entry<Reservation, Table> seated : optimised.getSeated().entrySet()) {
+            Reservation reservation = seated.getKey();
+            Table table = seated.getValue();
+            if (reservation.getTableId() != table.getTableId()) {
+                model.setReservation(reservation, reservation.withTable(table));
+                reassignedCount++;
+            }
+        }
+        // the tables freed up may be given to parties waiting for them
+        List<Reservation> promoted = model.promoteFromWaitlist(startOfDay, latestEnd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, reassignedCount, date, optimised.getSeatedCovers(),
+                totalCovers, optimised.getSeatsUsed()) + searchNote
+                + CommandUtil.formatWaitlistedReservations(waitlisted)
+                + CommandUtil.formatPromotedReservations(promoted),
+                false, false, false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OptimiseTablesCommand // instanceof handles nulls
+                && date.equals(((OptimiseTablesCommand) other).date) // state check
+                && timeBudget.equals(((OptimiseTablesCommand) other).timeBudget));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.OptionalLong;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.employee.Payroll;
+import seedu.address.storage.PayrollExporter;
+
+/**
+ * Works out the labour cost of all employees for a month and writes the cost of each employee to a CSV file.
+ * Like the files of {@link ExportCommand}, the file is written before the command finishes and never left partly
+ * written.
+ */
+public class PayrollCommand extends Command {
+
+    public static final String COMMAND_WORD = "payroll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Works out the salaries, shifts and leaves of all employees for a month, with the labour cost "
+            + "for each guest booked in that month, and writes the cost of each employee to a CSV file.\n"
+            + "Parameters: MONTH (yyyy-mm) FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " 2021-12 data/payroll-2021-12.csv";
+
+    public static final String MESSAGE_SUCCESS = "Payroll for %1$s: $%2$s in salaries for %3$d employee(s) "
+            + "working %4$d shift(s), with $%5$s of leaves left\n"
+            + "%6$d guest(s) are booked in %7$d reservation(s), %8$s\n"
+            + "Wrote the payroll to %9$s";
+    public static final String MESSAGE_COST_PER_GUEST = "costing $%1$s in salaries per guest";
+    public static final String MESSAGE_NO_GUESTS = "so there is no cost per guest";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not write the payroll to %1$s: %2$s";
+
+    private final YearMonth month;
+    private final Path filePath;
+
+    /**
+     * Creates a PayrollCommand to write the payroll for {@code month} to {@code filePath}.
+     */
+    public PayrollCommand(YearMonth month, Path filePath) {
+        requireNonNull(month);
+        requireNonNull(filePath);
+        this.month = month;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Payroll payroll = Payroll.of(model.getRhrh().getEmployeeList(), month,
+                model.getReservationsManager().getCapacityHeatmap());
+
+        try {
+            PayrollExporter.export(payroll, filePath);
+        } catch (IOException | SecurityException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        OptionalLong costPerGuest = payroll.getCostPerGuest();
+        String costPerGuestMessage = costPerGuest.isPresent()
+                ? String.format(MESSAGE_COST_PER_GUEST, Payroll.formatCents(costPerGuest.getAsLong()))
+                : MESSAGE_NO_GUESTS;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, month, Payroll.formatCents(payroll.getTotalCost()),
+                payroll.size(), payroll.getTotalShiftCount(), Payroll.formatCents(payroll.getTotalLeaveValue()),
+                payroll.getGuestCount(), payroll.getReservationCount(), costPerGuestMessage, filePath));
+    }
+
+    @Override
+    public boolean isAllowedInTransaction() {
+        // the payroll is written to its file as soon as the command runs, and is not removed if a later command fails
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PayrollCommand // instanceof handles nulls
+                && month.equals(((PayrollCommand) other).month)
+                && filePath.equals(((PayrollCommand) other).filePath)); // state check
+    }
+}
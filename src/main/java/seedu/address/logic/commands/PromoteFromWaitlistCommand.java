@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Gives the free tables on a date to the parties waiting for them, such as after more tables have been set.
+ */
+public class PromoteFromWaitlistCommand extends Command {
+
+    public static final String COMMAND_WORD = ListWaitlistCommand.COMMAND_WORD;
+    public static final String SUBCOMMAND_WORD = "promote";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND_WORD
+            + ": Gives the tables that are free on the date given to the parties waiting for them.\n"
+            + "Parameters: DATE (format: yyyy-mm-dd)\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND_WORD + " 2021-12-24";
+
+    public static final String MESSAGE_NONE_SEATED = "No waiting party on %1$s could be given a table.";
+
+    private final LocalDate date;
+
+    /**
+     * Creates a PromoteFromWaitlistCommand that seats the parties waiting for a table on {@code date}.
+     */
+    public PromoteFromWaitlistCommand(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime startOfDay = date.atStartOfDay();
+        List<Reservation> promoted = model.promoteFromWaitlist(startOfDay, startOfDay.plusDays(1));
+        if (promoted.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_SEATED, date));
+        }
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        return new CommandResult(CommandUtil.formatPromotedReservations(promoted).trim(),
+                false, false, false, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PromoteFromWaitlistCommand // instanceof handles nulls
+                && date.equals(((PromoteFromWaitlistCommand) other).date)); // state check
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.WaitlistEntry;
+
+/**
+ * Removes a party, identified by its index in the waitlist, from the waitlist.
+ */
+public class RemoveFromWaitlistCommand extends Command {
+
+    public static final String COMMAND_WORD = ListWaitlistCommand.COMMAND_WORD;
+    public static final String SUBCOMMAND_WORD = "remove";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND_WORD
+            + ": Removes the party identified by the index number shown by "
+            + COMMAND_WORD + " from the waitlist.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " " + SUBCOMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Removed from the waitlist: %1$s";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a RemoveFromWaitlistCommand that removes the party at {@code targetIndex} of the waitlist.
+     */
+    public RemoveFromWaitlistCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<WaitlistEntry> waitlist = model.getWaitlist();
+        if (targetIndex.getZeroBased() >= waitlist.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_WAITLIST_INDEX);
+        }
+
+        WaitlistEntry toRemove = waitlist.get(targetIndex.getZeroBased());
+        model.removeFromWaitlist(toRemove);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toRemove));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RemoveFromWaitlistCommand // instanceof handles nulls
+                && targetIndex.equals(((RemoveFromWaitlistCommand) other).targetIndex)); // state check
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+
+/**
+ * Removes a table from RHRH, moving its reservations to other tables.
+ */
+public class RemoveTableCommand extends Command {
+    public static final String COMMAND_WORD = "removetable";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes the table with the ID given, moving its reservations to other free tables that fit them.\n"
+            + "Parameters: TABLE_ID (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Removed table: %1$s";
+
+    private final int tableId;
+
+    public RemoveTableCommand(int tableId) {
+        this.tableId = tableId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Table table = model.getTableManager().getTable(tableId)
+                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_INVALID_TABLE_ID, tableId)));
+
+        int affectedCount = model.getReservationsManager().getReservationsOfTable(tableId).size();
+        List<Reservation> unseated = model.removeTable(table);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, table)
+                + CommandUtil.formatReseatedReservations(affectedCount - unseated.size(), unseated),
+                false, false, false, false, false, affectedCount > 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RemoveTableCommand // instanceof handles nulls
+                && tableId == ((RemoveTableCommand) other).tableId); // state check
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_DATETIME_PRINT_FORMAT;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,6 +21,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.reservation.Remark;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.reservation.ReservationsManager;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.reservation.exception.ReservationException;
 import seedu.address.model.table.Table;
 import seedu.address.model.tag.Tag;
@@ -28,35 +32,51 @@ import seedu.address.model.tag.Tag;
 public class ReserveCommand extends Command {
     public static final String COMMAND_WORD = "addr";
     public static final String MESSAGE_USAGE = String.format(
-            "%1$s: Adds a new reservation with customer's phone number, number of people, time and remark and tags.\n"
+            "%1$s: Adds a new reservation with customer's phone number, number of people, time, duration and remark "
+            + "and tags.\n"
             + "Parameters: NUMBER_OF_PEOPLE (must be a positive integer) %2$sPHONE "
             + "%3$sDATE_TIME (has to be on the hour, i.e. hh00) "
+            + "[%6$sDURATION_IN_MINUTES (a multiple of 15, 60 by default)] "
             + "[%4$sREMARK] "
             + "[%5$sTAG] ...\n"
-            + "Example: %1$s 2 %2$s98765432 %3$s2021-12-24 1900 %4$sbirthday party %5$s10PercentOff",
+            + "Example: %1$s 2 %2$s98765432 %3$s2021-12-24 1900 %6$s120 %4$sbirthday party %5$s10PercentOff",
             CommandUtil.formatCommandWord(COMMAND_WORD),
-            PREFIX_PHONE, PREFIX_TIME, PREFIX_REMARK, PREFIX_TAG
+            PREFIX_PHONE, PREFIX_TIME, PREFIX_REMARK, PREFIX_TAG, PREFIX_DURATION
     );
     public static final String MESSAGE_SUCCESS = "New reservation added: %1$s";
     public static final String MESSAGE_RESERVATION_EXISTS = "Reservation already exist: %1$s";
     public static final String MESSAGE_CUSTOMER_MISSING =
             "No customer with phone number %1$s exist.\nUnable to create reservation.";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
+    public static final String MESSAGE_WAITLISTED =
+            "No table for %1$d person(s) is free on %2$s. Added to the waitlist at position %3$d: %4$s";
+    public static final String MESSAGE_ALREADY_WAITLISTED =
+            "Customer with phone number %1$s is already on the waitlist for %2$s";
 
     private Phone phone;
     private int numberOfPeople;
     private LocalDateTime dateTime;
+    private Duration duration;
     private Remark remark;
     private Set<Tag> tags = new HashSet<>();
 
     /**
-     * Creates a command to add a reservation
+     * Creates a command to add a reservation that lasts for {@link Reservation#DEFAULT_DURATION}
      */
     public ReserveCommand(Phone phone, int numberOfPeople, LocalDateTime dateTime, Remark remark, Set<Tag> tags) {
-        requireAllNonNull(phone, dateTime, tags);
+        this(phone, numberOfPeople, dateTime, Reservation.DEFAULT_DURATION, remark, tags);
+    }
+
+    /**
+     * Creates a command to add a reservation that lasts for {@code duration}
+     */
+    public ReserveCommand(Phone phone, int numberOfPeople, LocalDateTime dateTime, Duration duration, Remark remark,
+            Set<Tag> tags) {
+        requireAllNonNull(phone, dateTime, duration, tags);
         this.phone = phone;
         this.numberOfPeople = numberOfPeople;
         this.dateTime = dateTime;
+        this.duration = duration;
         this.remark = remark;
         this.tags.addAll(tags);
     }
@@ -72,8 +92,10 @@ public class ReserveCommand extends Command {
         }
         ReservationsManager reservationsManager = model.getReservationsManager();
         try {
-            Table tableToBeAssigned = reservationsManager.getAvailableTable(model, numberOfPeople, dateTime);
-            Reservation reservation = new Reservation(phone, numberOfPeople, dateTime, tableToBeAssigned, remark, tags);
+            Table tableToBeAssigned =
+                    reservationsManager.getAvailableTable(model, numberOfPeople, dateTime, duration);
+            Reservation reservation =
+                    new Reservation(phone, numberOfPeople, dateTime, duration, tableToBeAssigned, remark, tags);
             if (model.hasReservation(reservation)) {
                 throw new CommandException(String.format(MESSAGE_RESERVATION_EXISTS, reservation));
             }
@@ -81,8 +103,27 @@ public class ReserveCommand extends Command {
             return new CommandResult(String.format(MESSAGE_SUCCESS, reservation), false, false, false, false,
                     false, true);
         } catch (ReservationException e) {
-            throw new CommandException(String.format(e.getMessage(), dateTime));
+            // the party is only waitlisted if a table that fits it could be freed
+            if (!model.getTableManager().hasTableThatCanFit(numberOfPeople)) {
+                throw new CommandException(String.format(e.getMessage(), dateTime));
+            }
+            return addToWaitlist(model);
+        }
+    }
+
+    /**
+     * Adds the party to the waitlist for its date time, to be given a table once one that fits it is freed.
+     */
+    private CommandResult addToWaitlist(Model model) throws CommandException {
+        if (model.isOnWaitlist(phone, dateTime)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_WAITLISTED, phone,
+                    String.format(MESSAGE_DATETIME_PRINT_FORMAT, dateTime)));
         }
+        WaitlistEntry entry = new WaitlistEntry(phone, numberOfPeople, dateTime, duration, remark, tags,
+                LocalDateTime.now(), model.getLoyaltyPoints(phone));
+        model.addToWaitlist(entry);
+        return new CommandResult(String.format(MESSAGE_WAITLISTED, numberOfPeople,
+                String.format(MESSAGE_DATETIME_PRINT_FORMAT, dateTime), model.getWaitlistPosition(entry), entry));
     }
 
     /**
@@ -101,6 +142,7 @@ public class ReserveCommand extends Command {
         return phone.equals(that.phone)
                 && numberOfPeople == that.numberOfPeople
                 && dateTime.equals(that.dateTime)
+                && duration.equals(that.duration)
                 && tags.equals(that.tags);
     }
 }
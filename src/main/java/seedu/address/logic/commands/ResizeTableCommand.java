@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+
+/**
+ * Changes the size of a table in RHRH, moving the reservations that no longer fit it to other tables.
+ */
+public class ResizeTableCommand extends Command {
+    public static final String COMMAND_WORD = "resizetable";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Changes the number of seats of the table with the ID given, moving the reservations that no longer "
+            + "fit it to other free tables that fit them.\n"
+            + "Parameters: TABLE_ID (must be a positive integer) TABLE_SIZE (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3 6";
+
+    public static final String MESSAGE_SUCCESS = "Resized table: %1$s";
+
+    private final int tableId;
+    private final int tableSize;
+
+    /**
+     * Creates a ResizeTableCommand to give the table with {@code tableId} {@code tableSize} seats.
+     */
+    public ResizeTableCommand(int tableId, int tableSize) {
+        checkArgument(Table.checkIfValidValue(tableSize));
+        this.tableId = tableId;
+        this.tableSize = tableSize;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Table table = model.getTableManager().getTable(tableId)
+                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_INVALID_TABLE_ID, tableId)));
+        Table resizedTable = new Table(tableSize, tableId);
+
+        int affectedCount = (int) model.getReservationsManager().getReservationsOfTable(tableId).stream()
+                .filter(reservation -> !resizedTable.canFit(reservation.getNumberOfPeople()))
+                .count();
+        List<Reservation> unseated = model.setTable(table, resizedTable);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, resizedTable)
+                + CommandUtil.formatReseatedReservations(affectedCount - unseated.size(), unseated),
+                false, false, false, false, false, affectedCount > 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ResizeTableCommand // instanceof handles nulls
+                && tableId == ((ResizeTableCommand) other).tableId // state check
+                && tableSize == ((ResizeTableCommand) other).tableSize);
+    }
+}
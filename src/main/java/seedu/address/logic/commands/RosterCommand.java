@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.employee.Employee;
+
+/**
+ * Lists the employees on shift on a date, by the times their shifts start.
+ */
+public class RosterCommand extends Command {
+    public static final String COMMAND_WORD = "roster";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the employees on shift on the date given, by the times their shifts start, "
+            + "and displays them in the employee list.\n"
+            + "Parameters: DATE (yyyy-mm-dd)\n"
+            + "Example: " + COMMAND_WORD + " 2021-12-08";
+
+    public static final String MESSAGE_SUCCESS = "Roster for %1$s, %2$d employee(s) on shift:";
+    public static final String MESSAGE_SHIFT = "\n%1$s: %2$s";
+    public static final String MESSAGE_NO_SHIFTS = "No employees are on shift on %1$s";
+
+    private static final DateTimeFormatter SHIFT_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    private final LocalDate date;
+
+    /**
+     * Creates a RosterCommand to list the employees on shift on {@code date}.
+     */
+    public RosterCommand(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        NavigableMap<LocalDateTime, List<Employee>> shifts =
+                model.getShiftsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        // the employees on shift are known from the index, so the list only has to check each employee against a set
+        Set<Employee> employeesOnShift = new HashSet<>();
+        shifts.values().forEach(employeesOnShift::addAll);
+        model.updateFilteredEmployeeList(employeesOnShift::contains);
+
+        if (shifts.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SHIFTS, date),
+                    false, false, false, true, false, false);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, date, employeesOnShift.size()));
+        for (Map.Entry<LocalDateTime, List<Employee>> shift : shifts.entrySet()) {
+            String names = shift.getValue().stream()
+                    .map(employee -> employee.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            builder.append(String.format(MESSAGE_SHIFT, shift.getKey().format(SHIFT_TIME_FORMAT), names));
+        }
+        return new CommandResult(builder.toString(), false, false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RosterCommand // instanceof handles nulls
+                && date.equals(((RosterCommand) other).date)); // state check
+    }
+}
@@ -36,11 +36,11 @@ public class SetTablesCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.resetTableCount();
         model.resetReservations();
+        // every table is replaced, so the new tables are numbered from 1 in the order given
         List<Table> newTableList = new ArrayList<>();
         for (int tableSize : tableSizes) {
-            newTableList.add(new Table(tableSize));
+            newTableList.add(new Table(tableSize, newTableList.size() + 1));
         }
         model.setTableList(newTableList);
 
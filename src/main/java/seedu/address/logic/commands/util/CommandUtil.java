@@ -1,5 +1,9 @@
 package seedu.address.logic.commands.util;
 
+import java.util.List;
+
+import seedu.address.model.reservation.Reservation;
+
 /**
  * Represents a utility class for the Command package
  */
@@ -14,4 +18,49 @@ public class CommandUtil {
         String lastLetter = commandWord.substring(commandWord.length() - 1).toUpperCase();
         return commandWord.substring(0, commandWord.length() - 1) + lastLetter;
     }
+
+    /**
+     * Lists the reservations made for parties taken off the waitlist, to be added to the result of a command.
+     * @param promoted The reservations made for the parties.
+     * @return A string listing the reservations on separate lines, or an empty string if there are none.
+     */
+    public static String formatPromotedReservations(List<Reservation> promoted) {
+        StringBuilder builder = new StringBuilder();
+        if (!promoted.isEmpty()) {
+            builder.append(String.format("\nSeated %1$d party(s) from the waitlist:", promoted.size()));
+            promoted.forEach(reservation -> builder.append("\n").append(reservation));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Lists the reservations whose parties were put on the waitlist as no table was left for them, to be added to
+     * the result of a command.
+     * @param waitlisted The reservations that were taken off their tables.
+     * @return A string listing the reservations on separate lines, or an empty string if there are none.
+     */
+    public static String formatWaitlistedReservations(List<Reservation> waitlisted) {
+        StringBuilder builder = new StringBuilder();
+        if (!waitlisted.isEmpty()) {
+            builder.append(String.format("\nNo table is left for %1$d reservation(s), whose parties have been put "
+                    + "on the waitlist:", waitlisted.size()));
+            waitlisted.forEach(reservation -> builder.append("\n").append(reservation));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Describes the reservations moved off a table that was removed or made smaller, to be added to the result of a
+     * command.
+     * @param movedCount The number of reservations moved to other tables.
+     * @param unseated The reservations that no free table fits, whose parties have been put on the waitlist.
+     * @return A string describing the moves on separate lines, or an empty string if nothing was moved.
+     */
+    public static String formatReseatedReservations(int movedCount, List<Reservation> unseated) {
+        StringBuilder builder = new StringBuilder();
+        if (movedCount > 0) {
+            builder.append(String.format("\nMoved %1$d reservation(s) to other tables", movedCount));
+        }
+        return builder.append(formatWaitlistedReservations(unseated)).toString();
+    }
 }
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.AddTableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AddTableCommand object
+ */
+public class AddTableCommandParser implements Parser<AddTableCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddTableCommand
+     * and returns an AddTableCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AddTableCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddTableCommand.MESSAGE_USAGE));
+        }
+        return new AddTableCommand(ParserUtil.parseTableSize(args));
+    }
+}
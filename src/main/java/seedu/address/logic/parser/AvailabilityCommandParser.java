@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.AvailabilityCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AvailabilityCommand object
+ */
+public class AvailabilityCommandParser implements Parser<AvailabilityCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The end date must not be before the start date, "
+            + "and the range must be at most " + AvailabilityCommand.MAX_DAYS + " days long.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AvailabilityCommand
+     * and returns an AvailabilityCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AvailabilityCommand parse(String args) throws ParseException {
+        String[] dates = args.trim().split(Pattern.quote(AvailabilityCommand.RANGE_SEPARATOR), -1);
+        if (dates.length != 2 || dates[0].isBlank() || dates[1].isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(dates[0]);
+        LocalDate endDate = ParserUtil.parseDate(dates[1]);
+        if (endDate.isBefore(startDate) || endDate.isAfter(startDate.plusDays(AvailabilityCommand.MAX_DAYS - 1))) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new AvailabilityCommand(startDate, endDate);
+    }
+}
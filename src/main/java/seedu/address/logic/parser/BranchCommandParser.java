@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.BranchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BranchCommand object
+ */
+public class BranchCommandParser implements Parser<BranchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BranchCommand
+     * and returns a BranchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BranchCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new BranchCommand(Optional.empty());
+        }
+        return new BranchCommand(Optional.of(ParserUtil.parseBranchName(args)));
+    }
+}
@@ -21,6 +21,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_SUPPLY_TYPE = new Prefix("st/");
     public static final Prefix PREFIX_DELIVERY_DETAILS = new Prefix("dd/");
     public static final Prefix PREFIX_TIME = new Prefix("at/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_COUNT = new Prefix("c/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
     public static final Prefix PREFIX_SORT_BY = new Prefix("by/");
     public static final Prefix PREFIX_SORT_ORDER = new Prefix("o/");
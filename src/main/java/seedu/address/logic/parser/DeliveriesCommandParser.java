@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import seedu.address.logic.commands.DeliveriesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.supplier.SupplyType;
+
+/**
+ * Parses input arguments and creates a new DeliveriesCommand object
+ */
+public class DeliveriesCommandParser implements Parser<DeliveriesCommand> {
+    public static final String PERIOD_SEPARATOR = "..";
+    public static final String MESSAGE_INVALID_PERIOD = "The second date should not be before the first, "
+            + "and the dates should cover at most " + DeliveriesCommand.MAX_DAYS + " days.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeliveriesCommand
+     * and returns a DeliveriesCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public DeliveriesCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        String[] dates = splitArgs[0].split("\\.\\.", -1);
+        if (dates.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeliveriesCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = ParserUtil.parseDate(dates[0]);
+        LocalDate to = ParserUtil.parseDate(dates[1]);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= DeliveriesCommand.MAX_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD);
+        }
+
+        Optional<SupplyType> supplyType = Optional.empty();
+        if (splitArgs.length == 2) {
+            supplyType = Optional.of(ParserUtil.parseSupplyType(splitArgs[1]));
+        }
+        return new DeliveriesCommand(from, to, supplyType);
+    }
+}
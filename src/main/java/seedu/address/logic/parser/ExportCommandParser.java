@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ListExporter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_EXTENSION = "File path should end in .csv or .jsonl";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        EnumTypeOfList typeOfList = ParserUtil.parseTypeOfList(splitArgs[0]);
+        Path filePath = ParserUtil.parseFilePath(splitArgs[1]);
+        return new ExportCommand(typeOfList, filePath, parseFormat(filePath));
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, going by its extension.
+     * @throws ParseException if the extension is neither .csv nor .jsonl
+     */
+    private static ListExporter.Format parseFormat(Path filePath) throws ParseException {
+        String fileName = filePath.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            return ListExporter.Format.Csv;
+        } else if (fileName.endsWith(".jsonl")) {
+            return ListExporter.Format.JsonLines;
+        } else {
+            throw new ParseException(MESSAGE_INVALID_FILE_EXTENSION);
+        }
+    }
+}
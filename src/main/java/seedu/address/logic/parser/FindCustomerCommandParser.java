@@ -6,10 +6,14 @@ import java.util.Arrays;
 
 import seedu.address.logic.commands.FindCustomerCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.person.customer.CustomerQueryFields;
 
 /**
- * Parses input arguments and creates a new FindCustomerCommand object
+ * Parses input arguments and creates a new FindCustomerCommand object.
+ * Arguments using any of the query syntax, such as fields or {@code AND}, are parsed as a query, and other
+ * arguments as keywords.
  */
 public class FindCustomerCommandParser implements Parser<FindCustomerCommand> {
 
@@ -25,6 +29,11 @@ public class FindCustomerCommandParser implements Parser<FindCustomerCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCustomerCommand.MESSAGE_USAGE));
         }
 
+        QueryParser<Customer> queryParser = new QueryParser<>(CustomerQueryFields.FIELDS, CustomerQueryFields::keyword);
+        if (queryParser.isQuery(trimmedArgs)) {
+            return new FindCustomerCommand(queryParser.parse(trimmedArgs));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCustomerCommand(new CustomerClassContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
@@ -6,10 +6,14 @@ import java.util.Arrays;
 
 import seedu.address.logic.commands.FindEmployeeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.employee.EmployeeClassContainsKeywordsPredicate;
+import seedu.address.model.person.employee.EmployeeQueryFields;
 
 /**
- * Parses input arguments and creates a new FindEmployeeCommand object
+ * Parses input arguments and creates a new FindEmployeeCommand object.
+ * Arguments using any of the query syntax, such as fields or {@code AND}, are parsed as a query, and other
+ * arguments as keywords.
  */
 public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
 
@@ -25,6 +29,11 @@ public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEmployeeCommand.MESSAGE_USAGE));
         }
 
+        QueryParser<Employee> queryParser = new QueryParser<>(EmployeeQueryFields.FIELDS, EmployeeQueryFields::keyword);
+        if (queryParser.isQuery(trimmedArgs)) {
+            return new FindEmployeeCommand(queryParser.parse(trimmedArgs));
+        }
+
         return new FindEmployeeCommand(new EmployeeClassContainsKeywordsPredicate(Arrays.asList(trimmedArgs)));
     }
 
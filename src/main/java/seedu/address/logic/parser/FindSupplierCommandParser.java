@@ -6,10 +6,14 @@ import java.util.Arrays;
 
 import seedu.address.logic.commands.FindSupplierCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.person.supplier.SupplierClassContainsKeywordsPredicate;
+import seedu.address.model.person.supplier.SupplierQueryFields;
 
 /**
- * Parses input arguments and creates a new FindSupplierCommand object
+ * Parses input arguments and creates a new FindSupplierCommand object.
+ * Arguments using any of the query syntax, such as fields or {@code AND}, are parsed as a query, and other
+ * arguments as keywords.
  */
 public class FindSupplierCommandParser implements Parser<FindSupplierCommand> {
 
@@ -25,6 +29,11 @@ public class FindSupplierCommandParser implements Parser<FindSupplierCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSupplierCommand.MESSAGE_USAGE));
         }
 
+        QueryParser<Supplier> queryParser = new QueryParser<>(SupplierQueryFields.FIELDS, SupplierQueryFields::keyword);
+        if (queryParser.isQuery(trimmedArgs)) {
+            return new FindSupplierCommand(queryParser.parse(trimmedArgs));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindSupplierCommand(new SupplierClassContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.GenerateRosterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.employee.RosterGenerator;
+
+/**
+ * Parses input arguments and creates a new GenerateRosterCommand object
+ */
+public class GenerateRosterCommandParser implements Parser<GenerateRosterCommand> {
+    public static final String MESSAGE_INVALID_COVERS_PER_EMPLOYEE =
+            "Covers per employee is not a non-zero unsigned integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateRosterCommand
+     * and returns a GenerateRosterCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public GenerateRosterCommand parse(String args) throws ParseException {
+        String[] values = args.trim().split("\\s+");
+        if (args.isBlank() || values.length > 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateRosterCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate weekStart = ParserUtil.parseDate(values[0]);
+        int coversPerEmployee = RosterGenerator.DEFAULT_COVERS_PER_EMPLOYEE;
+        if (values.length == 2) {
+            try {
+                coversPerEmployee = Integer.parseInt(values[1]);
+            } catch (NumberFormatException e) {
+                throw new ParseException(MESSAGE_INVALID_COVERS_PER_EMPLOYEE);
+            }
+            if (coversPerEmployee <= 0) {
+                throw new ParseException(MESSAGE_INVALID_COVERS_PER_EMPLOYEE);
+            }
+        }
+        return new GenerateRosterCommand(weekStart, coversPerEmployee);
+    }
+}
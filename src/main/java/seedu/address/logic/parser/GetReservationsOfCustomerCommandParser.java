@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.GetReservationsOfCustomerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new GetReservationsOfCustomerCommand object
+ */
+public class GetReservationsOfCustomerCommandParser implements Parser<GetReservationsOfCustomerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GetReservationsOfCustomerCommand
+     * and returns a GetReservationsOfCustomerCommand object for execution.
+     *
+     * @throws ParseException if {@code userInput} does not conform the expected format
+     */
+    @Override
+    public GetReservationsOfCustomerCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new GetReservationsOfCustomerCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, GetReservationsOfCustomerCommand.MESSAGE_USAGE),
+                    pe
+            );
+        }
+    }
+}
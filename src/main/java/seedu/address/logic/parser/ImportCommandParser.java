@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        EnumTypeOfPerson typeOfPerson = ParserUtil.parseTypeOfPerson(splitArgs[0]);
+        Path filePath = ParserUtil.parseFilePath(splitArgs[1]);
+        return new ImportCommand(typeOfPerson, filePath);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_RESERVATION_MINUTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.NextSlotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Parses input arguments and creates a new NextSlotCommand object
+ */
+public class NextSlotCommandParser implements Parser<NextSlotCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT =
+            "Count should be a positive integer, and at most " + NextSlotCommand.MAX_COUNT;
+
+    @Override
+    public NextSlotCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TIME, PREFIX_DURATION, PREFIX_COUNT);
+
+        if (argMultimap.getValue(PREFIX_TIME).isEmpty() || argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextSlotCommand.MESSAGE_USAGE));
+        }
+
+        int numberOfPeople = ParserUtil.parseNumberOfPeople(argMultimap.getPreamble());
+        LocalDateTime dateTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TIME).get());
+        if (dateTime.getMinute() != 0) {
+            throw new ParseException(MESSAGE_INVALID_RESERVATION_MINUTES);
+        }
+
+        Duration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : Reservation.DEFAULT_DURATION;
+        int count = parseCount(argMultimap.getValue(PREFIX_COUNT));
+
+        return new NextSlotCommand(numberOfPeople, dateTime, duration, count);
+    }
+
+    private static int parseCount(Optional<String> count) throws ParseException {
+        if (count.isEmpty()) {
+            return NextSlotCommand.DEFAULT_COUNT;
+        }
+        try {
+            int parsedCount = Integer.parseInt(count.get().trim());
+            if (parsedCount > 0 && parsedCount <= NextSlotCommand.MAX_COUNT) {
+                return parsedCount;
+            }
+        } catch (NumberFormatException e) {
+            // handled below, along with counts out of range
+        }
+        throw new ParseException(MESSAGE_INVALID_COUNT);
+    }
+}
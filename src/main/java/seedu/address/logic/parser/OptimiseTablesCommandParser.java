@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.OptimiseTablesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OptimiseTablesCommand object
+ */
+public class OptimiseTablesCommandParser implements Parser<OptimiseTablesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OptimiseTablesCommand
+     * and returns an OptimiseTablesCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public OptimiseTablesCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseTablesCommand.MESSAGE_USAGE));
+        }
+        return new OptimiseTablesCommand(ParserUtil.parseDate(args));
+    }
+}
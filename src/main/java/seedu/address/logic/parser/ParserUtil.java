@@ -2,16 +2,24 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -31,6 +39,7 @@ import seedu.address.model.person.supplier.DeliveryDetails;
 import seedu.address.model.person.supplier.SortBySupplier;
 import seedu.address.model.person.supplier.SupplyType;
 import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -52,8 +61,20 @@ public class ParserUtil {
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_TYPE_OF_PERSON =
+            "Type of contact should be one of customers, employees or suppliers";
+    public static final String MESSAGE_INVALID_TYPE_OF_LIST =
+            "Type of list should be one of customers, employees, suppliers or reservations";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is invalid";
+    public static final String MESSAGE_INVALID_BRANCH_NAME =
+            "Branch names should only contain alphanumeric characters, hyphens and underscores";
+    public static final String BRANCH_NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]+";
     public static final String MESSAGE_INVALID_NUMBER_OF_PEOPLE =
             "Number of people is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_TABLE_ID = "Table ID is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_TABLE_SIZE = "Table size is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE_FORMAT =
+            "Date is wrongly formatted. It should be in yyyy-mm-dd format";
     public static final String MESSAGE_INVALID_DATE_TIME_FORMAT =
             "Date time is wrongly formatted. You need to input a date in yyyy-mm-dd or dd-mm-yyyy "
             + "format and a time in HH:mm or HHmm (24hr clock) format (eg: 1800 or 18:00 for 6 pm). "
@@ -80,16 +101,38 @@ public class ParserUtil {
      * @throws ParseException if the specified number of people is invalid (not non-zero unsigned integer).
      */
     public static int parseNumberOfPeople(String numOfPeople) throws ParseException {
+        return parsePositiveInteger(numOfPeople, MESSAGE_INVALID_NUMBER_OF_PEOPLE);
+    }
+
+    /**
+     * Parses {@code tableId} into a non-zero unsigned integer and returns it.
+     * Leading and trailing whitespaces will be trimmed
+     * @throws ParseException if the specified table ID is invalid (not non-zero unsigned integer).
+     */
+    public static int parseTableId(String tableId) throws ParseException {
+        return parsePositiveInteger(tableId, MESSAGE_INVALID_TABLE_ID);
+    }
+
+    /**
+     * Parses {@code tableSize} into a non-zero unsigned integer and returns it.
+     * Leading and trailing whitespaces will be trimmed
+     * @throws ParseException if the specified table size is invalid (not non-zero unsigned integer).
+     */
+    public static int parseTableSize(String tableSize) throws ParseException {
+        return parsePositiveInteger(tableSize, MESSAGE_INVALID_TABLE_SIZE);
+    }
+
+    private static int parsePositiveInteger(String value, String errorMessage) throws ParseException {
         int result;
 
         try {
-            result = Integer.parseInt(numOfPeople.trim());
+            result = Integer.parseInt(value.trim());
         } catch (NumberFormatException nfe) {
-            throw new ParseException(MESSAGE_INVALID_NUMBER_OF_PEOPLE);
+            throw new ParseException(errorMessage);
         }
 
         if (result <= 0) {
-            throw new ParseException(MESSAGE_INVALID_NUMBER_OF_PEOPLE);
+            throw new ParseException(errorMessage);
         }
         return result;
     }
@@ -418,19 +461,63 @@ public class ParserUtil {
      */
     public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
         requireNonNull(dateTime);
-        String trimmedDateTime = dateTime.trim();
+        return toDateTime(dateTime.trim())
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_DATE_TIME_FORMAT));
+    }
 
+    /**
+     * Returns the date time in {@code dateTime} if it is in any of {@code DATE_TIME_FORMATTERS}.
+     * No state is kept between calls, so date times in different formats can be parsed on several threads at once.
+     */
+    public static Optional<LocalDateTime> toDateTime(String dateTime) {
+        requireNonNull(dateTime);
         for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
             try {
-                LocalDateTime result = LocalDateTime.parse(trimmedDateTime, formatter);
-                return result;
+                return Optional.of(LocalDateTime.parse(dateTime, formatter));
             } catch (DateTimeParseException dtpe) {
                 // continue parsing with another format
             }
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Parses {@code date} in {@link #DATE_FORMATTER}'s format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if {@code date} is wrongly formatted.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
+    /**
+     * Parses {@code minutes} into the {@code Duration} of a reservation.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if {@code minutes} is not a valid number of minutes for a reservation.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        long minuteCount;
+        try {
+            minuteCount = Long.parseLong(minutes.trim());
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        }
 
-        // cannot parse using the formatters
-        throw new ParseException(MESSAGE_INVALID_DATE_TIME_FORMAT);
+        // checked before making the duration, which overflows for numbers of minutes that are too large or small
+        if (minuteCount <= 0 || minuteCount > Reservation.MAX_DURATION.toMinutes()) {
+            throw new ParseException(Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        Duration duration = Duration.ofMinutes(minuteCount);
+        if (!Reservation.isValidDuration(duration)) {
+            throw new ParseException(Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        return duration;
     }
 
     /**
@@ -450,4 +537,72 @@ public class ParserUtil {
         }
         return new Remark(trimmedRemark);
     }
+
+    /**
+     * Parses {@code typeOfPerson} into an {@code EnumTypeOfPerson}.
+     * Leading and trailing whitespaces will be trimmed, and the case is ignored.
+     * @throws ParseException if {@code typeOfPerson} is not one of customers, employees or suppliers.
+     */
+    public static EnumTypeOfPerson parseTypeOfPerson(String typeOfPerson) throws ParseException {
+        requireNonNull(typeOfPerson);
+        switch (typeOfPerson.trim().toLowerCase()) {
+        case "customers":
+            return EnumTypeOfPerson.Customer;
+        case "employees":
+            return EnumTypeOfPerson.Employee;
+        case "suppliers":
+            return EnumTypeOfPerson.Supplier;
+        default:
+            throw new ParseException(MESSAGE_INVALID_TYPE_OF_PERSON);
+        }
+    }
+
+    /**
+     * Parses {@code typeOfList} into an {@code EnumTypeOfList}.
+     * Leading and trailing whitespaces will be trimmed, and the case is ignored.
+     * @throws ParseException if {@code typeOfList} is not one of customers, employees, suppliers or reservations.
+     */
+    public static EnumTypeOfList parseTypeOfList(String typeOfList) throws ParseException {
+        requireNonNull(typeOfList);
+        switch (typeOfList.trim().toLowerCase()) {
+        case "customers":
+            return EnumTypeOfList.Customer;
+        case "employees":
+            return EnumTypeOfList.Employee;
+        case "suppliers":
+            return EnumTypeOfList.Supplier;
+        case "reservations":
+            return EnumTypeOfList.Reservation;
+        default:
+            throw new ParseException(MESSAGE_INVALID_TYPE_OF_LIST);
+        }
+    }
+
+    /**
+     * Parses {@code branchName} into a branch name, which is the file name of the branch's data file.
+     * Leading and trailing whitespaces will be trimmed, and the name is converted to lower case.
+     * @throws ParseException if {@code branchName} is not a valid branch name.
+     */
+    public static String parseBranchName(String branchName) throws ParseException {
+        requireNonNull(branchName);
+        String trimmedBranchName = branchName.trim();
+        if (!trimmedBranchName.matches(BRANCH_NAME_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_BRANCH_NAME);
+        }
+        return trimmedBranchName.toLowerCase();
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if {@code filePath} is not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
 }
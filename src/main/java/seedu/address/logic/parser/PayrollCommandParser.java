@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.logic.commands.PayrollCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PayrollCommand object
+ */
+public class PayrollCommandParser implements Parser<PayrollCommand> {
+
+    public static final String MESSAGE_INVALID_MONTH = "Month should be in the format yyyy-mm, e.g. 2021-12";
+    public static final String MESSAGE_INVALID_FILE_EXTENSION = "File path should end in .csv";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PayrollCommand
+     * and returns a PayrollCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PayrollCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+        }
+
+        YearMonth month;
+        try {
+            month = YearMonth.parse(splitArgs[0]);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH, e);
+        }
+        Path filePath = ParserUtil.parseFilePath(splitArgs[1]);
+        if (!filePath.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            throw new ParseException(MESSAGE_INVALID_FILE_EXTENSION);
+        }
+        return new PayrollCommand(month, filePath);
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryNode;
+
+/**
+ * Parses the arguments of a find command into a {@code Query} for items of type {@code T}.
+ *
+ * A query is made of terms, each either a field compared with a value, as in {@code n/tan}, {@code t/vip} or
+ * {@code lp>1000}, or a keyword matching any field. Terms are joined by {@code AND}, {@code OR} and {@code NOT},
+ * where {@code NOT} binds tightest and {@code OR} loosest, and terms next to each other are joined by {@code AND}.
+ * Terms can be grouped with brackets. A query starting with {@code EXPLAIN} asks for the plan answering it.
+ */
+public class QueryParser<T> {
+
+    public static final String EXPLAIN = "EXPLAIN";
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_EMPTY_VALUE = "%1$s should be followed by a value to search for.";
+    public static final String MESSAGE_INVALID_OPERATOR = "%1$s can only be searched with %1$s/VALUE.";
+    public static final String MESSAGE_INVALID_NUMBER = "%1$s should be compared with whole numbers, "
+            + "e.g. %1$s>100, %1$s<=500 or %1$s/100..500.";
+    public static final String MESSAGE_MISSING_TERM = "%1$s should be followed by a search term.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "%1$s is not expected here.";
+    public static final String MESSAGE_UNCLOSED_BRACKET = "A bracket in the query is not closed.";
+
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final Pattern FIELD_TERM_FORMAT =
+            Pattern.compile("(?<key>[a-z]+)(?<operator>/|>=|<=|>|<|=)(?<value>.*)");
+
+    private final Map<String, QueryField<T>> fieldsByKey = new HashMap<>();
+    private final Function<String, QueryNode<T>> keywordNode;
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a parser of queries comparing {@code fields}, where a keyword matching any field is matched by
+     * {@code keywordNode}.
+     */
+    public QueryParser(List<QueryField<T>> fields, Function<String, QueryNode<T>> keywordNode) {
+        requireAllNonNull(fields, keywordNode);
+        fields.forEach(field -> fieldsByKey.put(field.getKey(), field));
+        this.keywordNode = keywordNode;
+    }
+
+    /**
+     * Returns true if {@code args} uses any of the query syntax, that is an operator, a bracket or a field,
+     * rather than only keywords.
+     */
+    public boolean isQuery(String args) {
+        requireNonNull(args);
+        for (String token : tokenize(args)) {
+            if (isOperator(token) || token.equals(EXPLAIN) || token.equals(OPEN_BRACKET)
+                    || token.equals(CLOSE_BRACKET) || getField(token) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}.
+     *
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    public Query<T> parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        position = 0;
+        boolean isExplained = peek(EXPLAIN);
+        if (isExplained) {
+            position++;
+        }
+        if (position == tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, isExplained ? EXPLAIN : "The query"));
+        }
+
+        QueryNode<T> root = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position)));
+        }
+        return new Query<>(root, isExplained);
+    }
+
+    private QueryNode<T> parseOr() throws ParseException {
+        List<QueryNode<T>> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (peek(OR)) {
+            position++;
+            children.add(parseAnd());
+        }
+        return QueryNode.or(children);
+    }
+
+    private QueryNode<T> parseAnd() throws ParseException {
+        List<QueryNode<T>> children = new ArrayList<>();
+        children.add(parseUnary());
+        while (position < tokens.size() && !peek(OR) && !peek(CLOSE_BRACKET)) {
+            if (peek(AND)) {
+                position++;
+            }
+            children.add(parseUnary());
+        }
+        return QueryNode.and(children);
+    }
+
+    private QueryNode<T> parseUnary() throws ParseException {
+        if (position == tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, tokens.get(position - 1)));
+        }
+
+        String token = tokens.get(position++);
+        if (token.equals(NOT)) {
+            return QueryNode.not(parseUnary());
+        }
+        if (token.equals(OPEN_BRACKET)) {
+            QueryNode<T> group = parseOr();
+            if (!peek(CLOSE_BRACKET)) {
+                throw new ParseException(MESSAGE_UNCLOSED_BRACKET);
+            }
+            position++;
+            return group;
+        }
+        if (isOperator(token) || token.equals(CLOSE_BRACKET) || token.equals(EXPLAIN)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(token);
+    }
+
+    private QueryNode<T> parseTerm(String token) throws ParseException {
+        QueryField<T> field = getField(token);
+        if (field == null) {
+            return keywordNode.apply(token);
+        }
+
+        Matcher matcher = FIELD_TERM_FORMAT.matcher(token);
+        matcher.matches();
+        String operator = matcher.group("operator");
+        String value = matcher.group("value");
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, field.getKey() + operator));
+        }
+        if (field.getKind() != QueryField.Kind.NUMBER) {
+            if (!operator.equals("/")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR, field.getKey()));
+            }
+            return QueryNode.match(field, value);
+        }
+
+        try {
+            return parseRange(field, operator, value);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_NUMBER, field.getKey()), e);
+        }
+    }
+
+    private QueryNode<T> parseRange(QueryField<T> field, String operator, String value) {
+        switch (operator) {
+        case ">":
+            return QueryNode.between(field, Math.addExact(Long.parseLong(value), 1), Long.MAX_VALUE);
+        case ">=":
+            return QueryNode.between(field, Long.parseLong(value), Long.MAX_VALUE);
+        case "<":
+            return QueryNode.between(field, Long.MIN_VALUE, Math.subtractExact(Long.parseLong(value), 1));
+        case "<=":
+            return QueryNode.between(field, Long.MIN_VALUE, Long.parseLong(value));
+        default:
+            break;
+        }
+
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        if (separator == -1) {
+            long number = Long.parseLong(value);
+            return QueryNode.between(field, number, number);
+        }
+        String min = value.substring(0, separator);
+        String max = value.substring(separator + RANGE_SEPARATOR.length());
+        return QueryNode.between(field, min.isEmpty() ? Long.MIN_VALUE : Long.parseLong(min),
+                max.isEmpty() ? Long.MAX_VALUE : Long.parseLong(max));
+    }
+
+    /**
+     * Returns the field that {@code token} compares, or null if {@code token} is not a field term.
+     */
+    private QueryField<T> getField(String token) {
+        Matcher matcher = FIELD_TERM_FORMAT.matcher(token);
+        return matcher.matches() ? fieldsByKey.get(matcher.group("key")) : null;
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT);
+    }
+
+    /**
+     * Splits {@code args} on whitespace, with the brackets at the start and end of each word split off.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : args.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int start = 0;
+            int end = word.length();
+            while (start < end && word.startsWith(OPEN_BRACKET, start)) {
+                tokens.add(OPEN_BRACKET);
+                start++;
+            }
+            int closeBrackets = 0;
+            while (end > start && word.startsWith(CLOSE_BRACKET, end - 1)) {
+                closeBrackets++;
+                end--;
+            }
+            if (start < end) {
+                tokens.add(word.substring(start, end));
+            }
+            for (int i = 0; i < closeBrackets; i++) {
+                tokens.add(CLOSE_BRACKET);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RemoveTableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RemoveTableCommand object
+ */
+public class RemoveTableCommandParser implements Parser<RemoveTableCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RemoveTableCommand
+     * and returns a RemoveTableCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public RemoveTableCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveTableCommand.MESSAGE_USAGE));
+        }
+        return new RemoveTableCommand(ParserUtil.parseTableId(args));
+    }
+}
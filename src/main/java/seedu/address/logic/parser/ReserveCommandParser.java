@@ -3,11 +3,13 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_RESERVATION_MINUTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -15,6 +17,7 @@ import seedu.address.logic.commands.ReserveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Phone;
 import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -26,7 +29,7 @@ public class ReserveCommandParser implements Parser<ReserveCommand> {
     public ReserveCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_PHONE, PREFIX_TIME, PREFIX_REMARK, PREFIX_TAG
+                args, PREFIX_PHONE, PREFIX_TIME, PREFIX_DURATION, PREFIX_REMARK, PREFIX_TAG
         );
 
         if (argMultimap.getValue(PREFIX_PHONE).isEmpty()
@@ -43,12 +46,16 @@ public class ReserveCommandParser implements Parser<ReserveCommand> {
             throw new ParseException(MESSAGE_INVALID_RESERVATION_MINUTES);
         }
 
+        Duration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : Reservation.DEFAULT_DURATION;
+
         assert numberOfPeople > 0;
         assert phone.value.length() > 0;
 
         Remark remark = ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).orElse(""));
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
-        return new ReserveCommand(phone, numberOfPeople, time, remark, tagList);
+        return new ReserveCommand(phone, numberOfPeople, time, duration, remark, tagList);
     }
 }
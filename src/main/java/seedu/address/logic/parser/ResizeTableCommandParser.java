@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ResizeTableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ResizeTableCommand object
+ */
+public class ResizeTableCommandParser implements Parser<ResizeTableCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ResizeTableCommand
+     * and returns a ResizeTableCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ResizeTableCommand parse(String args) throws ParseException {
+        String[] values = args.trim().split("\\s+");
+        if (values.length != 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ResizeTableCommand.MESSAGE_USAGE));
+        }
+        return new ResizeTableCommand(ParserUtil.parseTableId(values[0]), ParserUtil.parseTableSize(values[1]));
+    }
+}
@@ -3,37 +3,56 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCustomerCommand;
 import seedu.address.logic.commands.AddEmployeeCommand;
 import seedu.address.logic.commands.AddSupplierCommand;
+import seedu.address.logic.commands.AddTableCommand;
+import seedu.address.logic.commands.AllBranchesCommand;
+import seedu.address.logic.commands.AvailabilityCommand;
+import seedu.address.logic.commands.BranchCommand;
 import seedu.address.logic.commands.CheckCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CompoundCommand;
 import seedu.address.logic.commands.DeleteCustomerCommand;
 import seedu.address.logic.commands.DeleteEmployeeCommand;
 import seedu.address.logic.commands.DeleteReservationCommand;
 import seedu.address.logic.commands.DeleteSupplierCommand;
+import seedu.address.logic.commands.DeliveriesCommand;
 import seedu.address.logic.commands.EditCustomerCommand;
 import seedu.address.logic.commands.EditEmployeeCommand;
 import seedu.address.logic.commands.EditReservationCommand;
 import seedu.address.logic.commands.EditSupplierCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCustomerCommand;
 import seedu.address.logic.commands.FindEmployeeCommand;
 import seedu.address.logic.commands.FindSupplierCommand;
+import seedu.address.logic.commands.GenerateRosterCommand;
 import seedu.address.logic.commands.GetCustomerReservingCommand;
+import seedu.address.logic.commands.GetReservationsOfCustomerCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCustomerCommand;
 import seedu.address.logic.commands.ListEmployeeCommand;
 import seedu.address.logic.commands.ListReservationCommand;
 import seedu.address.logic.commands.ListSupplierCommand;
+import seedu.address.logic.commands.ListWaitlistCommand;
+import seedu.address.logic.commands.NextSlotCommand;
+import seedu.address.logic.commands.OptimiseTablesCommand;
+import seedu.address.logic.commands.PayrollCommand;
+import seedu.address.logic.commands.RemoveTableCommand;
 import seedu.address.logic.commands.ReserveCommand;
 import seedu.address.logic.commands.ResetCustomerSortCommand;
 import seedu.address.logic.commands.ResetEmployeeSortCommand;
 import seedu.address.logic.commands.ResetSupplierSortCommand;
+import seedu.address.logic.commands.ResizeTableCommand;
+import seedu.address.logic.commands.RosterCommand;
 import seedu.address.logic.commands.SetTablesCommand;
 import seedu.address.logic.commands.SortCustomerCommand;
 import seedu.address.logic.commands.SortEmployeeCommand;
@@ -58,6 +77,57 @@ public class RhrhParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (matcher.matches() && matcher.group("commandWord").equalsIgnoreCase(CompoundCommand.COMMAND_WORD)) {
+            return parseCompoundCommand(matcher.group("arguments"));
+        }
+        return parseSingleCommand(userInput);
+    }
+
+    /**
+     * Parses the arguments of a {@code CompoundCommand}, which are several commands separated by
+     * {@code CompoundCommand#COMMAND_SEPARATOR}.
+     * Commands with effects outside the model, which cannot be undone if a later command fails, are not allowed.
+     *
+     * @throws ParseException if any of the commands does not conform the expected format or is not allowed
+     */
+    private CompoundCommand parseCompoundCommand(String arguments) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : arguments.split(CompoundCommand.COMMAND_SEPARATOR, -1)) {
+            if (commandText.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CompoundCommand.MESSAGE_USAGE));
+            }
+            Command command = parseSingleCommand(commandText);
+            if (!command.isAllowedInTransaction()) {
+                throw new ParseException(String.format(CompoundCommand.MESSAGE_NOT_ALLOWED,
+                        commandText.strip().split("\\s+")[0]));
+            }
+            commands.add(command);
+        }
+        return new CompoundCommand(commands);
+    }
+
+    /**
+     * Parses the arguments of an {@code AllBranchesCommand}, which must be a find or check command.
+     *
+     * @throws ParseException if the arguments are not a find or check command in the expected format
+     */
+    private AllBranchesCommand parseAllBranchesCommand(String arguments) throws ParseException {
+        if (arguments.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AllBranchesCommand.MESSAGE_USAGE));
+        }
+        Command command = parseSingleCommand(arguments);
+        if (!(command instanceof FindCustomerCommand || command instanceof FindEmployeeCommand
+                || command instanceof FindSupplierCommand || command instanceof CheckCommand)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AllBranchesCommand.MESSAGE_USAGE));
+        }
+        return new AllBranchesCommand(command);
+    }
+
+    /**
+     * Parses a single command in the user input.
+     */
+    private Command parseSingleCommand(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -118,6 +188,9 @@ public class RhrhParser {
         case GetCustomerReservingCommand.COMMAND_WORD:
             return new GetCustomerReservingCommandParser().parse(arguments);
 
+        case GetReservationsOfCustomerCommand.COMMAND_WORD:
+            return new GetReservationsOfCustomerCommandParser().parse(arguments);
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
@@ -142,6 +215,39 @@ public class RhrhParser {
         case CheckCommand.COMMAND_WORD:
             return new CheckCommandParser().parse(arguments);
 
+        case AddTableCommand.COMMAND_WORD:
+            return new AddTableCommandParser().parse(arguments);
+
+        case RemoveTableCommand.COMMAND_WORD:
+            return new RemoveTableCommandParser().parse(arguments);
+
+        case ResizeTableCommand.COMMAND_WORD:
+            return new ResizeTableCommandParser().parse(arguments);
+
+        case GenerateRosterCommand.COMMAND_WORD:
+            return new GenerateRosterCommandParser().parse(arguments);
+
+        case RosterCommand.COMMAND_WORD:
+            return new RosterCommandParser().parse(arguments);
+
+        case DeliveriesCommand.COMMAND_WORD:
+            return new DeliveriesCommandParser().parse(arguments);
+
+        case PayrollCommand.COMMAND_WORD:
+            return new PayrollCommandParser().parse(arguments);
+
+        case OptimiseTablesCommand.COMMAND_WORD:
+            return new OptimiseTablesCommandParser().parse(arguments);
+
+        case AvailabilityCommand.COMMAND_WORD:
+            return new AvailabilityCommandParser().parse(arguments);
+
+        case NextSlotCommand.COMMAND_WORD:
+            return new NextSlotCommandParser().parse(arguments);
+
+        case ListWaitlistCommand.COMMAND_WORD:
+            return new WaitlistCommandParser().parse(arguments);
+
         case SortEmployeeCommand.COMMAND_WORD:
             return new SortEmployeeCommandParser().parse(arguments);
 
@@ -160,6 +266,18 @@ public class RhrhParser {
         case ResetSupplierSortCommand.COMMAND_WORD:
             return new ResetSupplierSortCommand();
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case BranchCommand.COMMAND_WORD:
+            return new BranchCommandParser().parse(arguments);
+
+        case AllBranchesCommand.COMMAND_WORD:
+            return parseAllBranchesCommand(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RosterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RosterCommand object
+ */
+public class RosterCommandParser implements Parser<RosterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RosterCommand
+     * and returns a RosterCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public RosterCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RosterCommand.MESSAGE_USAGE));
+        }
+        return new RosterCommand(ParserUtil.parseDate(args));
+    }
+}
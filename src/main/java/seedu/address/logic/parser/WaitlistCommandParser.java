@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListWaitlistCommand;
+import seedu.address.logic.commands.PromoteFromWaitlistCommand;
+import seedu.address.logic.commands.RemoveFromWaitlistCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListWaitlistCommand, RemoveFromWaitlistCommand or
+ * PromoteFromWaitlistCommand object, depending on the subcommand given.
+ */
+public class WaitlistCommandParser implements Parser<Command> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the waitlist commands
+     * and returns the command for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public Command parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ListWaitlistCommand(Optional.empty());
+        }
+
+        String[] subcommandAndArgs = trimmedArgs.split("\\s+", 2);
+        String subcommandArgs = subcommandAndArgs.length > 1 ? subcommandAndArgs[1] : "";
+        switch (subcommandAndArgs[0].toLowerCase()) {
+        case RemoveFromWaitlistCommand.SUBCOMMAND_WORD:
+            try {
+                return new RemoveFromWaitlistCommand(ParserUtil.parseIndex(subcommandArgs));
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveFromWaitlistCommand.MESSAGE_USAGE), pe);
+            }
+
+        case PromoteFromWaitlistCommand.SUBCOMMAND_WORD:
+            if (subcommandArgs.isBlank()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, PromoteFromWaitlistCommand.MESSAGE_USAGE));
+            }
+            return new PromoteFromWaitlistCommand(ParserUtil.parseDate(subcommandArgs));
+
+        default:
+            try {
+                return new ListWaitlistCommand(Optional.of(ParserUtil.parseDate(trimmedArgs)));
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListWaitlistCommand.MESSAGE_USAGE), pe);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package seedu.address.logic.parser.enums;
+
+public enum EnumTypeOfList {
+    Customer,
+    Employee,
+    Supplier,
+    Reservation
+}
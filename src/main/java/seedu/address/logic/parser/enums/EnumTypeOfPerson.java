@@ -0,0 +1,7 @@
+package seedu.address.logic.parser.enums;
+
+public enum EnumTypeOfPerson {
+    Customer,
+    Employee,
+    Supplier
+}
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the data of the most recently used branches in memory, so that switching back to a branch does not read
+ * its data file again. Once more than {@code capacity} branches are kept, the least recently used is dropped.
+ */
+public class BranchCache {
+
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private final Map<String, ReadOnlyRhrh> branches;
+
+    /**
+     * Creates a {@code BranchCache} that keeps at most {@code capacity} branches.
+     */
+    public BranchCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        branches = new LinkedHashMap<>(capacity + 1, 1, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ReadOnlyRhrh> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public BranchCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Keeps {@code data} as the data of {@code branchName}, marking the branch as the most recently used.
+     * {@code data} must not be modified afterwards.
+     */
+    public void put(String branchName, ReadOnlyRhrh data) {
+        requireAllNonNull(branchName, data);
+        branches.put(branchName, data);
+    }
+
+    /**
+     * Removes and returns the data kept for {@code branchName}, or null if it is not kept.
+     */
+    public ReadOnlyRhrh remove(String branchName) {
+        return branches.remove(branchName);
+    }
+
+    /**
+     * Returns the data of the kept branches, from the least to the most recently used.
+     */
+    public Map<String, ReadOnlyRhrh> asMap() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(branches));
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the data of a branch from its data file.
+ */
+@FunctionalInterface
+public interface BranchReader {
+
+    /**
+     * Returns the data in {@code filePath}, or an empty {@code ReadOnlyRhrh} if the file does not exist.
+     *
+     * @throws DataConversionException if the file could not be read or is not in the correct format.
+     */
+    ReadOnlyRhrh read(Path filePath) throws DataConversionException;
+}
@@ -1,18 +1,27 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.reservation.ReservationsManager;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.TableManager;
 
@@ -71,6 +80,59 @@ public interface Model {
     /** Returns the Rhrh */
     ReadOnlyRhrh getRhrh();
 
+    /**
+     * Returns a detached copy of this model, including the current sort order and filters of its lists.
+     * Changes made to the copy do not affect this model until they are applied with {@link #apply(Model)}.
+     */
+    Model copy();
+
+    /**
+     * Replaces the data, sort order and filters of this model with those of {@code stagedModel}.
+     * Each list is updated with a single change.
+     * {@code stagedModel} must have been obtained from {@link #copy()}.
+     */
+    void apply(Model stagedModel);
+
+    /**
+     * Returns the name of the branch whose data is in this model.
+     */
+    String getCurrentBranch();
+
+    /**
+     * Returns the names of all branches, in alphabetical order.
+     */
+    Set<String> getBranchNames();
+
+    /**
+     * Replaces the data in this model with that of the branch {@code branchName}, which becomes the current branch.
+     * The data of the previous branch is kept in memory, in case it is switched back to.
+     *
+     * @throws DataConversionException if the data file of the branch could not be read.
+     */
+    void switchBranch(String branchName) throws DataConversionException;
+
+    /**
+     * Returns the data of the current branch and of the other branches kept in memory, keyed by branch name,
+     * with the current branch first.
+     */
+    Map<String, ReadOnlyRhrh> getLoadedBranches();
+
+    /**
+     * Registers {@code listener} to be told of every customer, employee, supplier, reservation and table change
+     * made to this model from now on. Sorting and filtering the lists are not changes.
+     */
+    void addChangeListener(ModelChangeListener listener);
+
+    /**
+     * Stops telling {@code listener} of the changes made to this model.
+     */
+    void removeChangeListener(ModelChangeListener listener);
+
+    /**
+     * Returns the sequence number of the last change passed to the listeners, or 0 if there has been none.
+     */
+    long getLastChangeSequenceNumber();
+
     /**
      * Returns true if a customer with the same identity as {@code customer} exists in RHRH.
      */
@@ -81,6 +143,12 @@ public interface Model {
      */
     boolean hasCustomerWithPhone(Phone phone);
 
+    /**
+     * Returns the loyalty points of a customer with the same phone as {@code phone}, or 0 if there is no such
+     * customer in RHRH.
+     */
+    int getLoyaltyPoints(Phone phone);
+
     /**
      * Returns true if an employee with the same identity as {@code employee} exists in RHRH.
      */
@@ -89,6 +157,7 @@ public interface Model {
     /**
      * Deletes the given customer.
      * The customer must exist in RHRH.
+     * Unless another customer has the same phone, the customer's reservations and waitlist entries are deleted too.
      */
     void deleteCustomer(Customer target);
     /**
@@ -102,20 +171,39 @@ public interface Model {
      * {@code customer} must not already exist in RHRH.
      */
     void addCustomer(Customer customer);
+
+    /**
+     * Adds all of the given customers.
+     * None of {@code customers} may already exist in RHRH, and {@code customers} must not contain duplicates.
+     */
+    void addCustomers(List<Customer> customers);
     /**
      * Adds the given employee.
      * {@code employee} must not already exist in RHRH.
      */
     void addEmployee(Employee employee);
 
+    /**
+     * Adds all of the given employees.
+     * None of {@code employees} may already exist in RHRH, and {@code employees} must not contain duplicates.
+     */
+    void addEmployees(List<Employee> employees);
+
     /**
      * Replaces the given customer {@code target} with {@code editedPerson}.
      * {@code target} must exist in RHRH.
      * The customer identity of {@code editedCustomer} must not be the same as another existing customer in
      * RHRH.
+     * If the phone is changed and no other customer has the old phone, the customer's reservations and waitlist
+     * entries are moved to the new phone.
      */
     void setCustomer(Customer target, Customer editedCustomer);
 
+    /**
+     * Returns the index of the customers in RHRH for queries.
+     */
+    QueryIndex<Customer> getCustomerQueryIndex();
+
     /** Sets the comparator for the customer list */
     void setCustomerComparator(Comparator<Customer> customerComparator);
 
@@ -133,6 +221,17 @@ public interface Model {
      */
     void setEmployee(Employee target, Employee editedEmployee);
 
+    /**
+     * Returns the employees with shifts starting from {@code from} until before {@code until}, by the date times the
+     * shifts start at. The employees of each shift are sorted by name.
+     */
+    NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until);
+
+    /**
+     * Returns the index of the employees in RHRH for queries.
+     */
+    QueryIndex<Employee> getEmployeeQueryIndex();
+
     /** Sets the comparator for the employee list */
     void setEmployeeComparator(Comparator<Employee> employeeComparator);
 
@@ -162,20 +261,79 @@ public interface Model {
      */
     void resetReservations();
 
+    /**
+     * Returns the reservations made by the customer with {@code phone}.
+     */
+    List<Reservation> getReservationsOf(Phone phone);
+
     /**
      * Adds the given table list.
      */
     void setTableList(List<Table> tableList);
 
+    /**
+     * Adds the given table, keeping the tables and reservations there are.
+     */
+    void addTable(Table table);
+
+    /**
+     * Removes the given table, which must exist, and moves its reservations to other free tables that fit them.
+     * The reservations that no free table fits are returned, and their parties are put on the waitlist.
+     */
+    List<Reservation> removeTable(Table target);
+
+    /**
+     * Replaces the given table {@code target}, which must exist, with {@code editedTable} of the same ID, and moves
+     * the reservations that no longer fit it to other free tables that fit them.
+     * The reservations that no free table fits are returned, and their parties are put on the waitlist.
+     */
+    List<Reservation> setTable(Table target, Table editedTable);
+
     /**
      * Returns true if tableList with the same identity as {@code tableList} exists in RHRH.
      */
     boolean hasTable(Table table);
 
     /**
-     * Resets the count of tables to zero
+     * Returns an unmodifiable view of the parties waiting for a table, sorted by the date time they asked for and
+     * then by the order they will be seated in.
+     */
+    ObservableList<WaitlistEntry> getWaitlist();
+
+    /**
+     * Returns true if the customer with {@code phone} is waiting for a table at {@code dateTime}.
+     */
+    boolean isOnWaitlist(Phone phone, LocalDateTime dateTime);
+
+    /**
+     * Adds the given party to the waitlist.
      */
-    void resetTableCount();
+    void addToWaitlist(WaitlistEntry entry);
+
+    /**
+     * Removes the given party from the waitlist.
+     * The party must be on the waitlist.
+     */
+    void removeFromWaitlist(WaitlistEntry entry);
+
+    /**
+     * Takes the given reservation off its table and puts its party on the waitlist for the same date time, unless
+     * the party is already waiting for it.
+     * The reservation must exist in the reservation list.
+     */
+    void moveToWaitlist(Reservation reservation);
+
+    /**
+     * Returns the place of the given party among the parties waiting for the same date time, starting from 1.
+     * The party must be on the waitlist.
+     */
+    int getWaitlistPosition(WaitlistEntry entry);
+
+    /**
+     * Gives a table to each waiting party that would need one at some time from {@code start} until {@code end},
+     * for as long as a table that fits the next party is free, and returns the reservations made for them.
+     */
+    List<Reservation> promoteFromWaitlist(LocalDateTime start, LocalDateTime end);
 
 
     /** Returns an unmodifiable view of the filtered customer list */
@@ -229,6 +387,12 @@ public interface Model {
      */
     void addSupplier(Supplier supplier);
 
+    /**
+     * Adds all of the given suppliers.
+     * None of {@code suppliers} may already exist in RHRH, and {@code suppliers} must not contain duplicates.
+     */
+    void addSuppliers(List<Supplier> suppliers);
+
     /**
      * Replaces the given person {@code target} with {@code editedSupplier}.
      * {@code target} must exist in RHRH.
@@ -237,6 +401,19 @@ public interface Model {
      */
     void setSupplier(Supplier target, Supplier editedSupplier);
 
+    /**
+     * Returns the suppliers with deliveries from {@code from} until before {@code until}, by the date times the
+     * deliveries arrive at, keeping only the suppliers of {@code supplyType} if it is given. The suppliers of each
+     * delivery are sorted by name.
+     */
+    NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType);
+
+    /**
+     * Returns the index of the suppliers in RHRH for queries.
+     */
+    QueryIndex<Supplier> getSupplierQueryIndex();
+
     /** Sets the comparator for the supplier list */
     void setSupplierComparator(Comparator<Supplier> supplierComparator);
 
@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a single change to the entities of type {@code T} in a {@code Model}.
+ * Guarantees: immutable; changes published by a model have strictly increasing sequence numbers.
+ */
+public final class ModelChange<T> {
+
+    /**
+     * The kinds of change that can be made to a model.
+     */
+    public enum Type {
+        /** An entity was added. The new values hold the entity. */
+        Added,
+        /** An entity was edited. The old and new values hold the entity before and after the edit. */
+        Updated,
+        /** An entity was removed. The old values hold the entity. */
+        Removed,
+        /** Every entity of the type was replaced at once, e.g. the table set or the data of another branch. */
+        Replaced
+    }
+
+    private final long sequenceNumber;
+    private final Type type;
+    private final Class<T> entityClass;
+    private final List<T> oldValues;
+    private final List<T> newValues;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ModelChange(long sequenceNumber, Type type, Class<T> entityClass, List<T> oldValues, List<T> newValues) {
+        requireAllNonNull(type, entityClass, oldValues, newValues);
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.entityClass = entityClass;
+        this.oldValues = Collections.unmodifiableList(oldValues);
+        this.newValues = Collections.unmodifiableList(newValues);
+    }
+
+    /**
+     * Returns a copy of this change with the sequence number {@code sequenceNumber}.
+     */
+    public ModelChange<T> withSequenceNumber(long sequenceNumber) {
+        return new ModelChange<>(sequenceNumber, type, entityClass, oldValues, newValues);
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Returns the entities before the change. This is empty for an {@code Added} change.
+     */
+    public List<T> getOldValues() {
+        return oldValues;
+    }
+
+    /**
+     * Returns the entities after the change. This is empty for a {@code Removed} change.
+     */
+    public List<T> getNewValues() {
+        return newValues;
+    }
+
+    /**
+     * Returns the entity before an {@code Updated} or {@code Removed} change.
+     */
+    public T getOldValue() {
+        assert type == Type.Updated || type == Type.Removed;
+        return oldValues.get(0);
+    }
+
+    /**
+     * Returns the entity after an {@code Added} or {@code Updated} change.
+     */
+    public T getNewValue() {
+        assert type == Type.Added || type == Type.Updated;
+        return newValues.get(0);
+    }
+
+    /**
+     * Returns this change if it is a change to entities of {@code entityClass}, so that listeners interested in one
+     * type of entity can work with typed values.
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Optional<ModelChange<U>> asChangeOf(Class<U> entityClass) {
+        return this.entityClass.equals(entityClass)
+                ? Optional.of((ModelChange<U>) this)
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+
+        // state check
+        ModelChange<?> otherChange = (ModelChange<?>) other;
+        return sequenceNumber == otherChange.sequenceNumber
+                && type == otherChange.type
+                && entityClass.equals(otherChange.entityClass)
+                && oldValues.equals(otherChange.oldValues)
+                && newValues.equals(otherChange.newValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequenceNumber, type, entityClass, oldValues, newValues);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequenceNumber + " " + type + " " + entityClass.getSimpleName()
+                + ": " + oldValues + " -> " + newValues;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Numbers the changes made to a model and passes them to its listeners.
+ * Changes are only built when there is a listener, so a model nobody listens to pays nothing for the feed.
+ */
+class ModelChangeFeed {
+
+    private final List<ModelChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastSequenceNumber = new AtomicLong();
+
+    void addListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    void removeListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Returns the sequence number of the last change published, or 0 if no change has been published.
+     */
+    long getLastSequenceNumber() {
+        return lastSequenceNumber.get();
+    }
+
+    <T> void publishAdded(Class<T> entityClass, T entity) {
+        if (hasListeners()) {
+            publish(ModelChange.Type.Added, entityClass, List.of(), List.of(entity));
+        }
+    }
+
+    <T> void publishUpdated(Class<T> entityClass, T oldEntity, T newEntity) {
+        if (hasListeners()) {
+            publish(ModelChange.Type.Updated, entityClass, List.of(oldEntity), List.of(newEntity));
+        }
+    }
+
+    <T> void publishRemoved(Class<T> entityClass, T entity) {
+        if (hasListeners()) {
+            publish(ModelChange.Type.Removed, entityClass, List.of(entity), List.of());
+        }
+    }
+
+    /**
+     * Publishes the replacement of every entity of {@code entityClass}.
+     * Both lists are copied, so they may be live views of the model.
+     */
+    <T> void publishReplaced(Class<T> entityClass, List<? extends T> oldEntities, List<? extends T> newEntities) {
+        if (hasListeners()) {
+            publish(ModelChange.Type.Replaced, entityClass, List.copyOf(oldEntities), List.copyOf(newEntities));
+        }
+    }
+
+    /**
+     * Publishes {@code change} again under the next sequence number of this feed.
+     */
+    void republish(ModelChange<?> change) {
+        if (hasListeners()) {
+            notifyListeners(change.withSequenceNumber(lastSequenceNumber.incrementAndGet()));
+        }
+    }
+
+    private <T> void publish(ModelChange.Type type, Class<T> entityClass, List<T> oldValues, List<T> newValues) {
+        notifyListeners(new ModelChange<>(lastSequenceNumber.incrementAndGet(), type, entityClass,
+                oldValues, newValues));
+    }
+
+    private void notifyListeners(ModelChange<?> change) {
+        for (ModelChangeListener listener : listeners) {
+            listener.onChange(change);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model;
+
+/**
+ * Listens for the changes made to a {@code Model}.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+
+    /**
+     * Called after {@code change} is made, on the thread that made it.
+     * Changes are passed in the order they are made, which is also the order of their sequence numbers.
+     */
+    void onChange(ModelChange<?> change);
+}
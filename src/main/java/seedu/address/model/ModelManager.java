@@ -1,11 +1,20 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,12 +22,17 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.reservation.ReservationsManager;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.reservation.exception.ReservationException;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.TableManager;
 
@@ -27,6 +41,7 @@ import seedu.address.model.table.TableManager;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final String MESSAGE_UNKNOWN_STAGED_MODEL = "Staged model must be a copy of a ModelManager";
 
     private final Rhrh rhrh;
     private final UserPrefs userPrefs;
@@ -39,17 +54,39 @@ public class ModelManager implements Model {
     private final FilteredList<Reservation> filteredReservations;
     private final ReservationsManager reservationsManager;
     private final TableManager tableManager;
+    private final BranchReader branchReader;
+    private final BranchCache branchCache;
+    private final ModelChangeFeed changeFeed = new ModelChangeFeed();
+
+    // the changes made to this model, if it is a copy staging changes for another model
+    private List<ModelChange<?>> stagedChanges;
+
+    /**
+     * Initializes a ModelManager with the given rhrh and userPrefs, reading the data of other branches with
+     * {@code branchReader}.
+     */
+    public ModelManager(ReadOnlyRhrh rhrh, ReadOnlyUserPrefs userPrefs, BranchReader branchReader) {
+        this(copyOf(rhrh), userPrefs, branchReader, new BranchCache());
+    }
 
     /**
-     * Initializes a ModelManager with the given rhrh and userPrefs.
+     * Initializes a ModelManager with the given rhrh and userPrefs, in which other branches start out empty.
      */
     public ModelManager(ReadOnlyRhrh rhrh, ReadOnlyUserPrefs userPrefs) {
+        this(rhrh, userPrefs, unused -> new Rhrh());
+    }
+
+    /**
+     * Initializes a ModelManager that uses {@code rhrh} itself rather than a copy of it.
+     */
+    private ModelManager(Rhrh rhrh, ReadOnlyUserPrefs userPrefs, BranchReader branchReader,
+            BranchCache branchCache) {
         super();
-        requireAllNonNull(rhrh, userPrefs);
+        requireAllNonNull(rhrh, userPrefs, branchReader, branchCache);
 
         logger.fine("Initializing with RHRH: " + rhrh + " and user prefs " + userPrefs);
 
-        this.rhrh = new Rhrh(rhrh);
+        this.rhrh = rhrh;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredCustomers = new FilteredList<>(this.rhrh.getCustomerList());
         sortableCustomers = this.rhrh.getSortableCustomerList();
@@ -60,12 +97,40 @@ public class ModelManager implements Model {
         filteredReservations = new FilteredList<>(this.rhrh.getReservationList());
         reservationsManager = this.rhrh.getReservationsManager();
         tableManager = this.rhrh.getTableManager();
+        this.branchReader = branchReader;
+        this.branchCache = branchCache;
     }
 
     public ModelManager() {
         this(new Rhrh(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager that takes over {@code loadedData}, such as the data just read from a file, instead of
+     * copying it. If {@code loadedData} is a {@code Rhrh}, the caller must not use it after this.
+     */
+    public static ModelManager ofLoadedData(ReadOnlyRhrh loadedData, ReadOnlyUserPrefs userPrefs,
+            BranchReader branchReader) {
+        requireNonNull(loadedData);
+        Rhrh rhrh = loadedData instanceof Rhrh ? (Rhrh) loadedData : new Rhrh(loadedData);
+        return new ModelManager(rhrh, userPrefs, branchReader, new BranchCache());
+    }
+
+    /**
+     * Returns a ModelManager over {@code data} itself rather than a copy of it, for commands that only filter the
+     * displayed lists. The returned model must not be used to change the data, which is still shared.
+     */
+    public static ModelManager viewOf(ReadOnlyRhrh data, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(data);
+        Rhrh rhrh = data instanceof Rhrh ? (Rhrh) data : new Rhrh(data);
+        return new ModelManager(rhrh, userPrefs, unused -> new Rhrh(), new BranchCache());
+    }
+
+    private static Rhrh copyOf(ReadOnlyRhrh rhrh) {
+        requireNonNull(rhrh);
+        return new Rhrh(rhrh);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -105,7 +170,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setRhrh(ReadOnlyRhrh rhrh) {
+        ReadOnlyRhrh oldData = snapshotForListeners();
         this.rhrh.resetData(rhrh);
+        publishDataReplaced(oldData);
     }
 
     @Override
@@ -113,6 +180,87 @@ public class ModelManager implements Model {
         return rhrh;
     }
 
+    @Override
+    public Model copy() {
+        ModelManager copy = new ModelManager(new Rhrh(), userPrefs, branchReader, branchCache);
+        copy.copyStateFrom(this);
+        copy.stagedChanges = new ArrayList<>();
+        copy.changeFeed.addListener(copy.stagedChanges::add);
+        return copy;
+    }
+
+    @Override
+    public void apply(Model stagedModel) {
+        requireNonNull(stagedModel);
+        checkArgument(stagedModel instanceof ModelManager, MESSAGE_UNKNOWN_STAGED_MODEL);
+        ModelManager staged = (ModelManager) stagedModel;
+        if (staged.stagedChanges == null) {
+            ReadOnlyRhrh oldData = snapshotForListeners();
+            copyStateFrom(staged);
+            publishDataReplaced(oldData);
+            return;
+        }
+
+        copyStateFrom(staged);
+        // the changes made to the copy describe the new data exactly, so listeners are told of those instead
+        staged.stagedChanges.forEach(changeFeed::republish);
+    }
+
+    //=========== Branches ===========================================================================
+
+    @Override
+    public String getCurrentBranch() {
+        return userPrefs.getCurrentBranch();
+    }
+
+    @Override
+    public Set<String> getBranchNames() {
+        return Collections.unmodifiableSet(userPrefs.getBranchFilePaths().keySet());
+    }
+
+    @Override
+    public void switchBranch(String branchName) throws DataConversionException {
+        requireNonNull(branchName);
+        String currentBranch = userPrefs.getCurrentBranch();
+        if (branchName.equals(currentBranch)) {
+            return;
+        }
+
+        ReadOnlyRhrh branchData = branchCache.remove(branchName);
+        if (branchData == null) {
+            branchData = branchReader.read(userPrefs.getBranchFilePath(branchName));
+        }
+        Rhrh previousData = new Rhrh(rhrh);
+        branchCache.put(currentBranch, previousData);
+        userPrefs.switchBranch(branchName);
+        rhrh.resetData(branchData);
+        publishDataReplaced(previousData);
+        updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
+        updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
+        updateFilteredSupplierList(PREDICATE_SHOW_ALL_SUPPLIERS);
+        updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        logger.info("Switched from branch " + currentBranch + " to " + branchName);
+    }
+
+    @Override
+    public Map<String, ReadOnlyRhrh> getLoadedBranches() {
+        Map<String, ReadOnlyRhrh> loadedBranches = new LinkedHashMap<>();
+        loadedBranches.put(userPrefs.getCurrentBranch(), rhrh);
+        loadedBranches.putAll(branchCache.asMap());
+        return loadedBranches;
+    }
+
+    /**
+     * Replaces the data, sort order and filters of this model with those of {@code source}.
+     */
+    private void copyStateFrom(ModelManager source) {
+        rhrh.resetDataWithSortState(source.rhrh);
+        filteredCustomers.setPredicate(source.filteredCustomers.getPredicate());
+        filteredEmployees.setPredicate(source.filteredEmployees.getPredicate());
+        filteredSuppliers.setPredicate(source.filteredSuppliers.getPredicate());
+        filteredReservations.setPredicate(source.filteredReservations.getPredicate());
+    }
+
     @Override
     public boolean hasCustomer(Customer customer) {
         requireNonNull(customer);
@@ -125,6 +273,12 @@ public class ModelManager implements Model {
         return rhrh.hasCustomerWithPhone(phone);
     }
 
+    @Override
+    public int getLoyaltyPoints(Phone phone) {
+        requireNonNull(phone);
+        return rhrh.getLoyaltyPoints(phone);
+    }
+
     @Override
     public boolean hasEmployee(Employee employee) {
         requireNonNull(employee);
@@ -140,20 +294,37 @@ public class ModelManager implements Model {
     @Override
     public void deleteCustomer(Customer target) {
         rhrh.removeCustomer(target);
+        changeFeed.publishRemoved(Customer.class, target);
+        // the reservations and waiting parties would otherwise be left with no customer to refer to
+        if (!rhrh.hasCustomerWithPhone(target.getPhone())) {
+            List.copyOf(rhrh.getReservationsOf(target.getPhone())).forEach(this::deleteReservation);
+            rhrh.getWaitlistEntriesOf(target.getPhone()).forEach(this::removeFromWaitlist);
+        }
     }
     @Override
     public void deleteEmployee(Employee employee) {
         rhrh.removeEmployee(employee);
+        changeFeed.publishRemoved(Employee.class, employee);
     }
 
     @Override
     public void deleteSupplier(Supplier target) {
         rhrh.removeSupplier(target);
+        changeFeed.publishRemoved(Supplier.class, target);
     }
 
     @Override
     public void addCustomer(Customer customer) {
         rhrh.addCustomer(customer);
+        changeFeed.publishAdded(Customer.class, customer);
+        updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
+    }
+
+    @Override
+    public void addCustomers(List<Customer> customers) {
+        requireNonNull(customers);
+        rhrh.addCustomers(customers);
+        customers.forEach(customer -> changeFeed.publishAdded(Customer.class, customer));
         updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
     }
 
@@ -165,25 +336,62 @@ public class ModelManager implements Model {
     @Override
     public void addEmployee(Employee employee) {
         rhrh.addEmployee(employee);
+        changeFeed.publishAdded(Employee.class, employee);
+        updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
+    }
+
+    @Override
+    public void addEmployees(List<Employee> employees) {
+        requireNonNull(employees);
+        rhrh.addEmployees(employees);
+        employees.forEach(employee -> changeFeed.publishAdded(Employee.class, employee));
         updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
     }
 
     @Override
     public void addSupplier(Supplier supplier) {
         rhrh.addSupplier(supplier);
+        changeFeed.publishAdded(Supplier.class, supplier);
+        updateFilteredSupplierList(PREDICATE_SHOW_ALL_SUPPLIERS);
+    }
+
+    @Override
+    public void addSuppliers(List<Supplier> suppliers) {
+        requireNonNull(suppliers);
+        rhrh.addSuppliers(suppliers);
+        suppliers.forEach(supplier -> changeFeed.publishAdded(Supplier.class, supplier));
         updateFilteredSupplierList(PREDICATE_SHOW_ALL_SUPPLIERS);
     }
 
+    @Override
+    public QueryIndex<Customer> getCustomerQueryIndex() {
+        return rhrh.getCustomerQueryIndex();
+    }
+
     @Override
     public void setCustomer(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
         rhrh.setCustomer(target, editedCustomer);
+        changeFeed.publishUpdated(Customer.class, target, editedCustomer);
+        Phone oldPhone = target.getPhone();
+        Phone newPhone = editedCustomer.getPhone();
+        if (!oldPhone.equals(newPhone) && !rhrh.hasCustomerWithPhone(oldPhone)) {
+            List.copyOf(rhrh.getReservationsOf(oldPhone))
+                    .forEach(reservation -> setReservation(reservation, reservation.withPhone(newPhone)));
+            for (WaitlistEntry entry : rhrh.getWaitlistEntriesOf(oldPhone)) {
+                removeFromWaitlist(entry);
+                if (!rhrh.isOnWaitlist(newPhone, entry.getDateTime())) {
+                    addToWaitlist(entry.withPhone(newPhone));
+                }
+            }
+        }
     }
     @Override
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
         rhrh.setEmployee(target, editedEmployee);
+        changeFeed.publishUpdated(Employee.class, target, editedEmployee);
     }
 
     @Override
@@ -195,6 +403,19 @@ public class ModelManager implements Model {
     public void setSupplier(Supplier target, Supplier editedSupplier) {
         requireAllNonNull(target, editedSupplier);
         rhrh.setSupplier(target, editedSupplier);
+        changeFeed.publishUpdated(Supplier.class, target, editedSupplier);
+    }
+
+    @Override
+    public NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType) {
+        requireAllNonNull(from, until, supplyType);
+        return rhrh.getDeliveriesBetween(from, until, supplyType);
+    }
+
+    @Override
+    public QueryIndex<Supplier> getSupplierQueryIndex() {
+        return rhrh.getSupplierQueryIndex();
     }
 
     @Override
@@ -211,11 +432,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteReservation(Reservation target) {
         rhrh.removeReservation(target);
+        changeFeed.publishRemoved(Reservation.class, target);
     }
 
     @Override
     public void addReservation(Reservation reservation) {
         rhrh.addReservation(reservation);
+        changeFeed.publishAdded(Reservation.class, reservation);
         updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
     }
 
@@ -223,22 +446,178 @@ public class ModelManager implements Model {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
         rhrh.setReservation(target, editedReservation);
+        changeFeed.publishUpdated(Reservation.class, target, editedReservation);
     }
 
     @Override
     public void setTableList(List<Table> tableList) {
         requireNonNull(tableList);
+        List<Table> oldTables = changeFeed.hasListeners() ? List.copyOf(rhrh.getTableList()) : List.of();
         rhrh.setTables(tableList);
+        changeFeed.publishReplaced(Table.class, oldTables, rhrh.getTableList());
+    }
+
+    @Override
+    public void addTable(Table table) {
+        requireNonNull(table);
+        rhrh.addTable(table);
+        changeFeed.publishAdded(Table.class, table);
+    }
+
+    @Override
+    public List<Reservation> removeTable(Table target) {
+        requireNonNull(target);
+        List<Reservation> affected = List.copyOf(reservationsManager.getReservationsOfTable(target.getTableId()));
+        rhrh.removeTable(target);
+        changeFeed.publishRemoved(Table.class, target);
+        return reseat(affected);
+    }
+
+    @Override
+    public List<Reservation> setTable(Table target, Table editedTable) {
+        requireAllNonNull(target, editedTable);
+        checkArgument(target.getTableId() == editedTable.getTableId());
+        rhrh.setTable(target, editedTable);
+        changeFeed.publishUpdated(Table.class, target, editedTable);
+
+        List<Reservation> affected = new ArrayList<>();
+        for (Reservation reservation : List.copyOf(reservationsManager.getReservationsOfTable(target.getTableId()))) {
+            if (editedTable.canFit(reservation.getNumberOfPeople())) {
+                setReservation(reservation, reservation.withTable(editedTable));
+            } else {
+                affected.add(reservation);
+            }
+        }
+        return reseat(affected);
+    }
+
+    /**
+     * Moves each of {@code reservations} to the smallest free table that fits it, in the order they start, and
+     * puts the parties of those that no free table fits on the waitlist, returning those reservations.
+     */
+    private List<Reservation> reseat(List<Reservation> reservations) {
+        // every reservation is taken off its table first, so that they can take each other's places
+        reservations.forEach(rhrh::removeReservation);
+        List<Reservation> unseated = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            try {
+                Table table = reservationsManager.getAvailableTable(this, reservation.getNumberOfPeople(),
+                        reservation.getDateTime(), reservation.getDuration());
+                Reservation reseated = reservation.withTable(table);
+                rhrh.addReservation(reseated);
+                changeFeed.publishUpdated(Reservation.class, reservation, reseated);
+            } catch (ReservationException e) {
+                changeFeed.publishRemoved(Reservation.class, reservation);
+                addPartyToWaitlist(reservation);
+                unseated.add(reservation);
+            }
+        }
+        return unseated;
     }
 
     @Override
     public void resetReservations() {
+        List<Reservation> oldReservations = changeFeed.hasListeners()
+                ? List.copyOf(rhrh.getReservationList())
+                : List.of();
         rhrh.resetReservations();
+        changeFeed.publishReplaced(Reservation.class, oldReservations, rhrh.getReservationList());
+    }
+
+    @Override
+    public ObservableList<WaitlistEntry> getWaitlist() {
+        return rhrh.getWaitlist();
+    }
+
+    @Override
+    public NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        return rhrh.getShiftsBetween(from, until);
+    }
+
+    @Override
+    public QueryIndex<Employee> getEmployeeQueryIndex() {
+        return rhrh.getEmployeeQueryIndex();
+    }
+
+    @Override
+    public List<Reservation> getReservationsOf(Phone phone) {
+        requireNonNull(phone);
+        return rhrh.getReservationsOf(phone);
+    }
+
+    @Override
+    public boolean isOnWaitlist(Phone phone, LocalDateTime dateTime) {
+        requireAllNonNull(phone, dateTime);
+        return rhrh.isOnWaitlist(phone, dateTime);
+    }
+
+    @Override
+    public void addToWaitlist(WaitlistEntry entry) {
+        requireNonNull(entry);
+        rhrh.addToWaitlist(entry);
+        changeFeed.publishAdded(WaitlistEntry.class, entry);
+    }
+
+    @Override
+    public void removeFromWaitlist(WaitlistEntry entry) {
+        requireNonNull(entry);
+        rhrh.removeFromWaitlist(entry);
+        changeFeed.publishRemoved(WaitlistEntry.class, entry);
     }
 
     @Override
-    public void resetTableCount() {
-        rhrh.resetTableCount();
+    public void moveToWaitlist(Reservation reservation) {
+        requireNonNull(reservation);
+        deleteReservation(reservation);
+        addPartyToWaitlist(reservation);
+    }
+
+    /**
+     * Puts the party of {@code reservation}, which has been taken off its table, on the waitlist for the same date
+     * time, unless the party is already waiting for it.
+     */
+    private void addPartyToWaitlist(Reservation reservation) {
+        if (!isOnWaitlist(reservation.getPhone(), reservation.getDateTime())) {
+            addToWaitlist(new WaitlistEntry(reservation.getPhone(), reservation.getNumberOfPeople(),
+                    reservation.getDateTime(), reservation.getDuration(), reservation.getRemark(),
+                    reservation.getTags(), LocalDateTime.now(), getLoyaltyPoints(reservation.getPhone())));
+        }
+    }
+
+    @Override
+    public int getWaitlistPosition(WaitlistEntry entry) {
+        requireNonNull(entry);
+        return rhrh.getWaitlistPosition(entry);
+    }
+
+    @Override
+    public List<Reservation> promoteFromWaitlist(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Reservation> promoted = new ArrayList<>();
+        Predicate<WaitlistEntry> canBeSeated = entry -> findFreeTable(entry).isPresent();
+        Optional<WaitlistEntry> next = rhrh.pollFromWaitlist(start, end, canBeSeated);
+        while (next.isPresent()) {
+            WaitlistEntry entry = next.get();
+            changeFeed.publishRemoved(WaitlistEntry.class, entry);
+            Reservation reservation = entry.toReservation(findFreeTable(entry).get());
+            addReservation(reservation);
+            promoted.add(reservation);
+            next = rhrh.pollFromWaitlist(start, end, canBeSeated);
+        }
+        return promoted;
+    }
+
+    /**
+     * Returns the smallest table that fits the party of {@code entry} and is free for the whole of its stay.
+     */
+    private Optional<Table> findFreeTable(WaitlistEntry entry) {
+        try {
+            return Optional.of(reservationsManager.getAvailableTable(this, entry.getNumberOfPeople(),
+                    entry.getDateTime(), entry.getDuration()));
+        } catch (ReservationException e) {
+            return Optional.empty();
+        }
     }
 
     @Override
@@ -247,6 +626,42 @@ public class ModelManager implements Model {
         return rhrh.hasTable(table);
     }
 
+    //=========== Change feed ========================================================================
+
+    @Override
+    public void addChangeListener(ModelChangeListener listener) {
+        changeFeed.addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(ModelChangeListener listener) {
+        changeFeed.removeListener(listener);
+    }
+
+    @Override
+    public long getLastChangeSequenceNumber() {
+        return changeFeed.getLastSequenceNumber();
+    }
+
+    /**
+     * Returns a copy of the current data if there is anyone to tell about its replacement.
+     */
+    private ReadOnlyRhrh snapshotForListeners() {
+        return changeFeed.hasListeners() ? new Rhrh(rhrh) : new Rhrh();
+    }
+
+    /**
+     * Tells the listeners that every entity in {@code oldData} was replaced by the current data.
+     */
+    private void publishDataReplaced(ReadOnlyRhrh oldData) {
+        changeFeed.publishReplaced(Customer.class, oldData.getCustomerList(), rhrh.getCustomerList());
+        changeFeed.publishReplaced(Employee.class, oldData.getEmployeeList(), rhrh.getEmployeeList());
+        changeFeed.publishReplaced(Supplier.class, oldData.getSupplierList(), rhrh.getSupplierList());
+        changeFeed.publishReplaced(Reservation.class, oldData.getReservationList(), rhrh.getReservationList());
+        changeFeed.publishReplaced(Table.class, oldData.getTableList(), rhrh.getTableList());
+        changeFeed.publishReplaced(WaitlistEntry.class, oldData.getWaitlist(), rhrh.getWaitlist());
+    }
+
     //=========== Filtered Employee List Accessors =============================================================
 
     /**
@@ -5,6 +5,7 @@ import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 
 /**
@@ -16,6 +17,12 @@ public interface ReadOnlyRhrh {
 
     ObservableList<Reservation> getReservationList();
 
+    /**
+     * Returns an unmodifiable view of the parties waiting for a table, sorted by the date time they asked for and
+     * then by the order they will be seated in.
+     */
+    ObservableList<WaitlistEntry> getWaitlist();
+
     /**
      * Returns an unmodifiable view of the customers list.
      * This list will not contain any duplicate customers.
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getRhrhFilePath();
 
+    String getCurrentBranch();
+
+    /**
+     * Returns the data file of each branch, including the current branch, keyed by branch name.
+     */
+    Map<String, Path> getBranchFilePaths();
+
 }
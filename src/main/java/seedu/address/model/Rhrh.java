@@ -2,9 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Phone;
@@ -13,9 +17,13 @@ import seedu.address.model.person.customer.UniqueCustomerList;
 import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.employee.UniqueEmployeeList;
 import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
 import seedu.address.model.person.supplier.UniqueSupplierList;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.reservation.ReservationsManager;
+import seedu.address.model.reservation.Waitlist;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.TableManager;
 
@@ -30,6 +38,7 @@ public class Rhrh implements ReadOnlyRhrh {
     private final UniqueSupplierList suppliers;
     private final ReservationsManager reservationsManager;
     private final TableManager tableManager;
+    private final Waitlist waitlist;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,6 +53,7 @@ public class Rhrh implements ReadOnlyRhrh {
         suppliers = new UniqueSupplierList();
         reservationsManager = new ReservationsManager();
         tableManager = new TableManager();
+        waitlist = new Waitlist();
     }
 
     public Rhrh() {}
@@ -66,6 +76,10 @@ public class Rhrh implements ReadOnlyRhrh {
         this.tableManager.setTables(tables);
     }
 
+    public void setWaitlist(List<WaitlistEntry> entries) {
+        this.waitlist.setEntries(entries);
+    }
+
     /**
      * Replaces the contents of the supplier list with {@code suppliers}.
      * {@code persons} must not contain duplicate suppliers.
@@ -108,6 +122,19 @@ public class Rhrh implements ReadOnlyRhrh {
         setSuppliers(newData.getSupplierList());
         setReservations(newData.getReservationList());
         setTables(newData.getTableList());
+        setWaitlist(newData.getWaitlist());
+    }
+
+    /**
+     * Resets the existing data of this {@code Rhrh} with {@code newData}, keeping the order that the customer,
+     * employee and supplier lists of {@code newData} are currently sorted in.
+     */
+    public void resetDataWithSortState(Rhrh newData) {
+        requireNonNull(newData);
+        customers.setComparator(newData.customers.getComparator());
+        employees.setComparator(newData.employees.getComparator());
+        suppliers.setComparator(newData.suppliers.getComparator());
+        resetData(newData);
     }
 
     //// customer-level operations
@@ -128,6 +155,17 @@ public class Rhrh implements ReadOnlyRhrh {
         return customers.containsCustomerWithPhone(phone);
     }
 
+    /**
+     * Returns the loyalty points of a customer with the same phone as {@code phone}, or 0 if there is no such
+     * customer in RHRH.
+     */
+    public int getLoyaltyPoints(Phone phone) {
+        requireNonNull(phone);
+        return customers.getCustomerWithPhone(phone)
+                .map(customer -> Integer.parseInt(customer.getLoyaltyPoints().value))
+                .orElse(0);
+    }
+
     /**
      * Adds a customer to RHRH.
      * The customer must not already exist in RHRH.
@@ -136,6 +174,14 @@ public class Rhrh implements ReadOnlyRhrh {
         customers.add(c);
     }
 
+    /**
+     * Adds all of {@code customersToAdd} to RHRH.
+     * None of the customers may already exist in RHRH, and {@code customersToAdd} must not contain duplicates.
+     */
+    public void addCustomers(List<Customer> customersToAdd) {
+        customers.addAll(customersToAdd);
+    }
+
     /**
      * Replaces the given customer {@code target} in the list with {@code editedCustomer}.
      * {@code target} must exist in RHRH.
@@ -148,6 +194,13 @@ public class Rhrh implements ReadOnlyRhrh {
         customers.setCustomer(target, editedCustomer);
     }
 
+    /**
+     * Returns the index of the customers in RHRH for queries.
+     */
+    public QueryIndex<Customer> getCustomerQueryIndex() {
+        return customers.getQueryIndex();
+    }
+
     public void removeCustomer(Customer key) {
         customers.remove(key);
     }
@@ -191,6 +244,14 @@ public class Rhrh implements ReadOnlyRhrh {
         suppliers.add(s);
     }
 
+    /**
+     * Adds all of {@code suppliersToAdd} to RHRH.
+     * None of the suppliers may already exist in RHRH, and {@code suppliersToAdd} must not contain duplicates.
+     */
+    public void addSuppliers(List<Supplier> suppliersToAdd) {
+        suppliers.addAll(suppliersToAdd);
+    }
+
     /**
      * Replaces the given supplier {@code target} in the list with {@code editedSupplier}.
      * {@code target} must exist in RHRH.
@@ -203,6 +264,22 @@ public class Rhrh implements ReadOnlyRhrh {
         suppliers.setSupplier(target, editedSupplier);
     }
 
+    /**
+     * Returns the suppliers with deliveries from {@code from} until before {@code until}, by the date times the
+     * deliveries arrive at, keeping only the suppliers of {@code supplyType} if it is given.
+     */
+    public NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType) {
+        return suppliers.getDeliveriesBetween(from, until, supplyType);
+    }
+
+    /**
+     * Returns the index of the suppliers in RHRH for queries.
+     */
+    public QueryIndex<Supplier> getSupplierQueryIndex() {
+        return suppliers.getQueryIndex();
+    }
+
     /**
      * Sets the supplier comparator to sort the supplier list.
      * @param supplierComparator The comparator to sort the supplier list.
@@ -280,6 +357,60 @@ public class Rhrh implements ReadOnlyRhrh {
         reservationsManager.removeReservation(key);
     }
 
+    /**
+     * Returns the reservations made by the customer with {@code phone}.
+     */
+    public List<Reservation> getReservationsOf(Phone phone) {
+        return reservationsManager.getReservationsOf(phone);
+    }
+
+    //// waitlist-level operations
+
+    /**
+     * Returns true if the customer with {@code phone} is waiting for a table at {@code dateTime}.
+     */
+    public boolean isOnWaitlist(Phone phone, LocalDateTime dateTime) {
+        return waitlist.isWaiting(phone, dateTime);
+    }
+
+    /**
+     * Adds {@code entry} to the waitlist.
+     */
+    public void addToWaitlist(WaitlistEntry entry) {
+        waitlist.add(entry);
+    }
+
+    /**
+     * Removes {@code entry} from the waitlist.
+     */
+    public void removeFromWaitlist(WaitlistEntry entry) {
+        waitlist.remove(entry);
+    }
+
+    /**
+     * Returns the waitlist entries of the customer with {@code phone}.
+     */
+    public List<WaitlistEntry> getWaitlistEntriesOf(Phone phone) {
+        return waitlist.getEntriesOf(phone);
+    }
+
+    /**
+     * Returns the place of {@code entry} among the parties waiting for the same date time, starting from 1.
+     * {@code entry} must be in the waitlist.
+     */
+    public int getWaitlistPosition(WaitlistEntry entry) {
+        return waitlist.getPosition(entry);
+    }
+
+    /**
+     * Removes and returns the waiting party to seat first among those that would need a table at some time from
+     * {@code start} until {@code end} and that {@code canBeSeated} accepts, if there is one.
+     */
+    public Optional<WaitlistEntry> pollFromWaitlist(LocalDateTime start, LocalDateTime end,
+            Predicate<WaitlistEntry> canBeSeated) {
+        return waitlist.pollFirstSeatable(start, end, canBeSeated);
+    }
+
     //// table-level operations
 
     /**
@@ -322,13 +453,6 @@ public class Rhrh implements ReadOnlyRhrh {
         reservationsManager.resetReservations();
     }
 
-    /**
-     * Resets the table list to an empty list
-     */
-    public void resetTableCount() {
-        tableManager.resetTableCount();
-    }
-
     //// util methods
 
     @Override
@@ -362,6 +486,11 @@ public class Rhrh implements ReadOnlyRhrh {
         return tableManager.getUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<WaitlistEntry> getWaitlist() {
+        return waitlist.asUnmodifiableObservableList();
+    }
+
     public ReservationsManager getReservationsManager() {
         return reservationsManager;
     }
@@ -377,7 +506,8 @@ public class Rhrh implements ReadOnlyRhrh {
                 && customers.equals(((Rhrh) other).customers)
                 && employees.equals(((Rhrh) other).employees)
                 && suppliers.equals(((Rhrh) other).suppliers)
-                && reservationsManager.equals(((Rhrh) other).reservationsManager));
+                && reservationsManager.equals(((Rhrh) other).reservationsManager)
+                && waitlist.equals(((Rhrh) other).waitlist));
     }
 
     @Override
@@ -405,6 +535,29 @@ public class Rhrh implements ReadOnlyRhrh {
         employees.add(employee);
     }
 
+    /**
+     * Adds all of {@code employeesToAdd} to RHRH.
+     * None of the employees may already exist in RHRH, and {@code employeesToAdd} must not contain duplicates.
+     */
+    public void addEmployees(List<Employee> employeesToAdd) {
+        employees.addAll(employeesToAdd);
+    }
+
+    /**
+     * Returns the employees with shifts starting from {@code from} until before {@code until}, by the date times the
+     * shifts start at.
+     */
+    public NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until) {
+        return employees.getShiftsBetween(from, until);
+    }
+
+    /**
+     * Returns the index of the employees in RHRH for queries.
+     */
+    public QueryIndex<Employee> getEmployeeQueryIndex() {
+        return employees.getQueryIndex();
+    }
+
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireNonNull(editedEmployee);
         employees.setEmployee(target, editedEmployee);
@@ -412,6 +565,6 @@ public class Rhrh implements ReadOnlyRhrh {
 
     @Override
     public int hashCode() {
-        return Objects.hash(customers, employees, suppliers, reservationsManager);
+        return Objects.hash(customers, employees, suppliers, reservationsManager, waitlist);
     }
 }
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,8 +15,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String DEFAULT_BRANCH = "main";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path rhrhFilePath = Paths.get("data" , "rhrh.json");
+    private String currentBranch = DEFAULT_BRANCH;
+    private Map<String, Path> otherBranchFilePaths = new TreeMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRhrhFilePath(newUserPrefs.getRhrhFilePath());
+        currentBranch = newUserPrefs.getCurrentBranch();
+        otherBranchFilePaths = new TreeMap<>(newUserPrefs.getBranchFilePaths());
+        otherBranchFilePaths.remove(currentBranch);
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,44 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.rhrhFilePath = rhrhFilePath;
     }
 
+    public String getCurrentBranch() {
+        return currentBranch;
+    }
+
+    public Map<String, Path> getBranchFilePaths() {
+        Map<String, Path> branchFilePaths = new TreeMap<>(otherBranchFilePaths);
+        branchFilePaths.put(currentBranch, rhrhFilePath);
+        return branchFilePaths;
+    }
+
+    /**
+     * Returns the data file of {@code branchName}.
+     * A branch that has not been used before is given a data file next to the current data file.
+     */
+    public Path getBranchFilePath(String branchName) {
+        requireNonNull(branchName);
+        if (branchName.equals(currentBranch)) {
+            return rhrhFilePath;
+        }
+        return otherBranchFilePaths.getOrDefault(branchName, rhrhFilePath.resolveSibling(branchName + ".json"));
+    }
+
+    /**
+     * Makes {@code branchName} the current branch, so that {@link #getRhrhFilePath()} returns its data file.
+     */
+    public void switchBranch(String branchName) {
+        requireNonNull(branchName);
+        if (branchName.equals(currentBranch)) {
+            return;
+        }
+
+        Path branchFilePath = getBranchFilePath(branchName);
+        otherBranchFilePaths.remove(branchName);
+        otherBranchFilePaths.put(currentBranch, rhrhFilePath);
+        currentBranch = branchName;
+        rhrhFilePath = branchFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +115,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && rhrhFilePath.equals(o.rhrhFilePath);
+                && rhrhFilePath.equals(o.rhrhFilePath)
+                && currentBranch.equals(o.currentBranch)
+                && otherBranchFilePaths.equals(o.otherBranchFilePaths);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, rhrhFilePath);
+        return Objects.hash(guiSettings, rhrhFilePath, currentBranch, otherBranchFilePaths);
     }
 
     @Override
@@ -81,6 +130,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + rhrhFilePath);
+        sb.append("\nCurrent branch : " + currentBranch);
         return sb.toString();
     }
 
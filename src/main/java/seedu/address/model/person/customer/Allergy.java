@@ -3,6 +3,8 @@ package seedu.address.model.person.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Allergy in RHRH.
  * Guarantees: immutable; name is valid as declared in {@link #isValidAllergyName(String)}
@@ -11,6 +13,7 @@ public class Allergy {
 
     public static final String MESSAGE_CONSTRAINTS = "Allergies names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String allergyName;
 
@@ -29,7 +32,7 @@ public class Allergy {
      * Returns true if a given string is a valid allergy name.
      */
     public static boolean isValidAllergyName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,46 @@
+package seedu.address.model.person.customer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryNode;
+
+/**
+ * The fields of a {@code Customer} that a query can compare against, keyed by the prefixes they are added with.
+ */
+public class CustomerQueryFields {
+
+    public static final QueryField<Customer> NAME = QueryField.text("n",
+            customer -> customer.getName().fullName, true);
+    public static final QueryField<Customer> PHONE = QueryField.text("p",
+            customer -> customer.getPhone().value, false);
+    public static final QueryField<Customer> EMAIL = QueryField.text("e",
+            customer -> customer.getEmail().value, false);
+    public static final QueryField<Customer> ADDRESS = QueryField.text("a",
+            customer -> customer.getAddress().value, false);
+    public static final QueryField<Customer> LOYALTY_POINTS = QueryField.number("lp",
+            customer -> Long.parseLong(customer.getLoyaltyPoints().value));
+    public static final QueryField<Customer> ALLERGIES = QueryField.keywords("alg",
+            customer -> customer.getAllergies().stream().map(allergy -> allergy.allergyName)
+                    .collect(Collectors.toList()));
+    public static final QueryField<Customer> SPECIAL_REQUESTS = QueryField.keywords("sr",
+            customer -> customer.getSpecialRequests().stream().map(request -> request.specialRequestName)
+                    .collect(Collectors.toList()));
+    public static final QueryField<Customer> TAGS = QueryField.keywords("t",
+            customer -> customer.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+    public static final List<QueryField<Customer>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            NAME, PHONE, EMAIL, ADDRESS, LOYALTY_POINTS, ALLERGIES, SPECIAL_REQUESTS, TAGS));
+
+    /**
+     * Returns a node matching the customers with {@code keyword} in any of their details, like {@code findc}
+     * without fields.
+     */
+    public static QueryNode<Customer> keyword(String keyword) {
+        return QueryNode.scan(new CustomerClassContainsKeywordsPredicate(Collections.singletonList(keyword)),
+                keyword);
+    }
+}
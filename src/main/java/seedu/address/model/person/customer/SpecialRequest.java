@@ -4,6 +4,8 @@ package seedu.address.model.person.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a SpecialRequest in RHRH.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSpecialRequestName(String)}
@@ -12,6 +14,7 @@ public class SpecialRequest {
 
     public static final String MESSAGE_CONSTRAINTS = "SpecialRequests names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String specialRequestName;
 
@@ -30,7 +33,7 @@ public class SpecialRequest {
      * Returns true if a given string is a valid specialRequest name.
      */
     public static boolean isValidSpecialRequestName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,15 +3,23 @@ package seedu.address.model.person.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.CustomerNotFoundException;
 import seedu.address.model.person.exceptions.DuplicateCustomerException;
+import seedu.address.model.query.QueryIndex;
 
 /**
  * A list of customers that enforces uniqueness between its elements and does not allow nulls.
@@ -30,6 +38,9 @@ public class UniqueCustomerList implements Iterable<Customer> {
     private final ObservableList<Customer> internalList = FXCollections.observableArrayList();
     private final ObservableList<Customer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final QueryIndex<Customer> queryIndex = new QueryIndex<>(CustomerQueryFields.FIELDS);
+    // the customers with each phone number, which is not unique between customers
+    private final Map<Phone, List<Customer>> customersByPhone = new HashMap<>();
     private Comparator<Customer> customerComparator = CustomerComparator.getDefaultComparator();
 
     /**
@@ -45,7 +56,15 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public boolean containsCustomerWithPhone(Phone phone) {
         requireNonNull(phone);
-        return internalList.stream().anyMatch(customer -> customer.getPhone().equals(phone));
+        return customersByPhone.containsKey(phone);
+    }
+
+    /**
+     * Returns a customer with an equivalent phone number as the given argument, if there is one.
+     */
+    public Optional<Customer> getCustomerWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(customersByPhone.get(phone)).map(customers -> customers.get(0));
     }
 
     /**
@@ -59,6 +78,34 @@ public class UniqueCustomerList implements Iterable<Customer> {
         }
         internalList.add(toAdd);
         internalList.sort(customerComparator);
+        queryIndex.add(toAdd);
+        countPhone(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, sorting the list once.
+     * None of the customers may already exist in the list, and {@code toAdd} must not contain duplicate
+     * customers.
+     */
+    public void addAll(List<Customer> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Customer customer : internalList) {
+            names.add(customer.getName());
+        }
+        for (Customer customer : toAdd) {
+            if (!names.add(customer.getName())) {
+                throw new DuplicateCustomerException();
+            }
+        }
+
+        List<Customer> combined = new ArrayList<>(internalList.size() + toAdd.size());
+        combined.addAll(internalList);
+        combined.addAll(toAdd);
+        combined.sort(customerComparator);
+        internalList.setAll(combined);
+        toAdd.forEach(queryIndex::add);
+        toAdd.forEach(this::countPhone);
     }
 
     /**
@@ -81,6 +128,10 @@ public class UniqueCustomerList implements Iterable<Customer> {
 
         internalList.set(index, editedCustomer);
         internalList.sort(customerComparator);
+        queryIndex.remove(target);
+        queryIndex.add(editedCustomer);
+        uncountPhone(target);
+        countPhone(editedCustomer);
     }
 
     /**
@@ -93,12 +144,16 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new CustomerNotFoundException();
         }
         internalList.sort(customerComparator);
+        queryIndex.remove(toRemove);
+        uncountPhone(toRemove);
     }
 
     public void setCustomers(UniqueCustomerList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
         internalList.sort(customerComparator);
+        queryIndex.setAll(internalList);
+        recountPhones();
     }
 
     /**
@@ -113,6 +168,15 @@ public class UniqueCustomerList implements Iterable<Customer> {
 
         internalList.setAll(customers);
         internalList.sort(customerComparator);
+        queryIndex.setAll(internalList);
+        recountPhones();
+    }
+
+    /**
+     * Returns the index of the customers in the list for queries.
+     */
+    public QueryIndex<Customer> getQueryIndex() {
+        return queryIndex;
     }
 
     /**
@@ -134,6 +198,10 @@ public class UniqueCustomerList implements Iterable<Customer> {
         customerComparator = comparator;
     }
 
+    public Comparator<Customer> getComparator() {
+        return customerComparator;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -158,6 +226,22 @@ public class UniqueCustomerList implements Iterable<Customer> {
         return internalList.hashCode();
     }
 
+    private void countPhone(Customer customer) {
+        customersByPhone.computeIfAbsent(customer.getPhone(), phone -> new ArrayList<>()).add(customer);
+    }
+
+    private void uncountPhone(Customer customer) {
+        customersByPhone.computeIfPresent(customer.getPhone(), (phone, customers) -> {
+            customers.remove(customer);
+            return customers.isEmpty() ? null : customers;
+        });
+    }
+
+    private void recountPhones() {
+        customersByPhone.clear();
+        internalList.forEach(this::countPhone);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
@@ -64,6 +64,14 @@ public class Employee extends Person {
         return shifts;
     }
 
+    /**
+     * Returns a copy of this employee with {@code shifts} instead of the shifts the employee has.
+     */
+    public Employee withShifts(Set<Shift> shifts) {
+        return new Employee(getName(), getPhone(), getEmail(), getAddress(), getTags(), leaves, salary, jobTitle,
+                shifts);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
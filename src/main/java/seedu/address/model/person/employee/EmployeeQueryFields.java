@@ -0,0 +1,44 @@
+package seedu.address.model.person.employee;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryNode;
+
+/**
+ * The fields of a {@code Employee} that a query can compare against, keyed by the prefixes they are added with.
+ */
+public class EmployeeQueryFields {
+
+    public static final QueryField<Employee> NAME = QueryField.text("n",
+            employee -> employee.getName().fullName, true);
+    public static final QueryField<Employee> PHONE = QueryField.text("p",
+            employee -> employee.getPhone().value, false);
+    public static final QueryField<Employee> EMAIL = QueryField.text("e",
+            employee -> employee.getEmail().value, false);
+    public static final QueryField<Employee> ADDRESS = QueryField.text("a",
+            employee -> employee.getAddress().value, false);
+    public static final QueryField<Employee> JOB_TITLE = QueryField.text("jt",
+            employee -> employee.getJobTitle().jobTitle, true);
+    public static final QueryField<Employee> SALARY = QueryField.number("sal",
+            employee -> Long.parseLong(employee.getSalary().currentSalary));
+    public static final QueryField<Employee> LEAVES = QueryField.number("l",
+            employee -> Long.parseLong(employee.getLeaves().currentLeaves));
+    public static final QueryField<Employee> TAGS = QueryField.keywords("t",
+            employee -> employee.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+    public static final List<QueryField<Employee>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            NAME, PHONE, EMAIL, ADDRESS, JOB_TITLE, SALARY, LEAVES, TAGS));
+
+    /**
+     * Returns a node matching the employees with {@code keyword} in any of their details, like {@code finde}
+     * without fields.
+     */
+    public static QueryNode<Employee> keyword(String keyword) {
+        return QueryNode.scan(new EmployeeClassContainsKeywordsPredicate(Collections.singletonList(keyword)),
+                keyword);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person.employee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Employee's job title in RHRH.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobTitle(String)}
@@ -16,6 +18,7 @@ public class JobTitle {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String jobTitle;
 
@@ -34,7 +37,7 @@ public class JobTitle {
      * Returns true if a given string is a valid leaves input.
      */
     public static boolean isValidJobTitle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -0,0 +1,176 @@
+package seedu.address.model.person.employee;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+
+import seedu.address.model.reservation.CapacityHeatmap;
+
+/**
+ * The labour cost of the employees for a month, together with the guests booked in that month.
+ *
+ * The salary of an employee is taken to be paid monthly. Besides the salary, each employee's cost per shift in the
+ * month and the value of the leaves they have left, at {@link #WORKING_DAYS_PER_MONTH} working days a month, are
+ * worked out. The employees are held column by column in arrays of primitives, and the columns are filled and
+ * summed with parallel streams once there are enough employees for the work to be worth splitting.
+ */
+public class Payroll {
+
+    public static final int WORKING_DAYS_PER_MONTH = 22;
+    public static final List<String> COLUMNS = Arrays.asList("name", "jobTitle", "salary", "shifts",
+            "costPerShift", "leaves", "leaveValue");
+
+    // below this number of employees, splitting the work between threads costs more than it saves
+    static final int PARALLEL_THRESHOLD = 10000;
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    private final YearMonth month;
+    private final int size;
+    private final String[] names;
+    private final String[] jobTitles;
+    private final int[] salaries;
+    private final int[] shiftCounts;
+    private final int[] leaves;
+    // amounts worked out from the columns above, in cents
+    private final long[] costsPerShift;
+    private final long[] leaveValues;
+    private final int reservationCount;
+    private final int guestCount;
+
+    private Payroll(YearMonth month, List<Employee> employees, int reservationCount, int guestCount) {
+        this.month = month;
+        this.size = employees.size();
+        this.names = new String[size];
+        this.jobTitles = new String[size];
+        this.salaries = new int[size];
+        this.shiftCounts = new int[size];
+        this.leaves = new int[size];
+        this.costsPerShift = new long[size];
+        this.leaveValues = new long[size];
+        this.reservationCount = reservationCount;
+        this.guestCount = guestCount;
+
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+        // every index is written by one thread only, so the arrays can be filled in parallel
+        indices().forEach(i -> load(i, employees.get(i), monthStart, monthEnd));
+        indices().forEach(this::compute);
+    }
+
+    /**
+     * Returns the payroll of {@code employees} for {@code month}, with the guests booked in that month read from
+     * {@code heatmap}.
+     */
+    public static Payroll of(List<Employee> employees, YearMonth month, CapacityHeatmap heatmap) {
+        requireAllNonNull(employees, month, heatmap);
+        int reservationCount = 0;
+        int guestCount = 0;
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            reservationCount += heatmap.getReservationCount(date);
+            guestCount += heatmap.getGuestCount(date);
+        }
+        return new Payroll(month, new ArrayList<>(employees), reservationCount, guestCount);
+    }
+
+    private IntStream indices() {
+        IntStream indices = IntStream.range(0, size);
+        return size >= PARALLEL_THRESHOLD ? indices.parallel() : indices;
+    }
+
+    private void load(int i, Employee employee, LocalDateTime monthStart, LocalDateTime monthEnd) {
+        names[i] = employee.getName().fullName;
+        jobTitles[i] = employee.getJobTitle().jobTitle;
+        salaries[i] = Integer.parseInt(employee.getSalary().currentSalary);
+        leaves[i] = Integer.parseInt(employee.getLeaves().currentLeaves);
+        int shiftCount = 0;
+        for (Shift shift : employee.getShifts()) {
+            if (!shift.workingShift.isBefore(monthStart) && shift.workingShift.isBefore(monthEnd)) {
+                shiftCount++;
+            }
+        }
+        shiftCounts[i] = shiftCount;
+    }
+
+    private void compute(int i) {
+        long salaryInCents = (long) salaries[i] * CENTS_PER_DOLLAR;
+        costsPerShift[i] = shiftCounts[i] == 0 ? 0 : divideRounded(salaryInCents, shiftCounts[i]);
+        leaveValues[i] = divideRounded(salaryInCents * leaves[i], WORKING_DAYS_PER_MONTH);
+    }
+
+    private static long divideRounded(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the number of employees in the payroll.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getReservationCount() {
+        return reservationCount;
+    }
+
+    public int getGuestCount() {
+        return guestCount;
+    }
+
+    /**
+     * Returns the total salary of the employees for the month, in cents.
+     */
+    public long getTotalCost() {
+        return indices().mapToLong(i -> salaries[i]).sum() * CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Returns the total number of shifts the employees have in the month.
+     */
+    public long getTotalShiftCount() {
+        return indices().mapToLong(i -> shiftCounts[i]).sum();
+    }
+
+    /**
+     * Returns the total value of the leaves the employees have left, in cents.
+     */
+    public long getTotalLeaveValue() {
+        return indices().mapToLong(i -> leaveValues[i]).sum();
+    }
+
+    /**
+     * Returns the total salary of the employees for each guest booked in the month, in cents, or an empty
+     * {@code OptionalLong} if no guests are booked.
+     */
+    public OptionalLong getCostPerGuest() {
+        return guestCount == 0 ? OptionalLong.empty() : OptionalLong.of(divideRounded(getTotalCost(), guestCount));
+    }
+
+    /**
+     * Returns the values of the employee at {@code index}, in the order of {@link #COLUMNS}.
+     * The cost per shift is left blank if the employee has no shifts in the month.
+     */
+    public List<String> getRow(int index) {
+        return Arrays.asList(names[index], jobTitles[index], String.valueOf(salaries[index]),
+                String.valueOf(shiftCounts[index]),
+                shiftCounts[index] == 0 ? "" : formatCents(costsPerShift[index]),
+                String.valueOf(leaves[index]), formatCents(leaveValues[index]));
+    }
+
+    /**
+     * Returns {@code cents} as an amount of dollars with two decimal places.
+     */
+    public static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / CENTS_PER_DOLLAR, cents % CENTS_PER_DOLLAR);
+    }
+}
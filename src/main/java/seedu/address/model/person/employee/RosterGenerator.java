@@ -0,0 +1,317 @@
+package seedu.address.model.person.employee;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+import seedu.address.model.reservation.CapacityHeatmap;
+
+/**
+ * Gives employees shifts so that enough of them are on shift for the guests booked, spreading the shifts among the
+ * employees as evenly as possible.
+ *
+ * The hours that need employees are grouped into slots of {@link #SHIFT_HOURS} hours, each needing one employee for
+ * every {@code coversPerEmployee} guests in its busiest hour. The slots are first filled in order of time, each time
+ * by the employees with the fewest shifts so far. As an employee works at most one shift a day, this can leave some
+ * employees with more shifts than others, so shifts are then moved from the employees with the most shifts to those
+ * with at least two fewer that are free on the day, until no such move is left or the time budget runs out.
+ * The search runs on the calling thread, as each move only updates the shift counts of two employees.
+ */
+public class RosterGenerator {
+
+    public static final int SHIFT_HOURS = 4;
+    public static final int DEFAULT_COVERS_PER_EMPLOYEE = 10;
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(1);
+
+    // number of moves tried between checks of whether the time budget ran out
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+    // employees are unique by name, so ordering them by name gives every employee a fixed place
+    private static final Comparator<Employee> NAME_ORDER = EmployeeComparator.getDefaultComparator()
+            .thenComparing(employee -> employee.getName().fullName);
+
+    private final int coversPerEmployee;
+    private final Duration timeBudget;
+
+    /**
+     * Creates a {@code RosterGenerator} that puts an employee on shift for every {@code coversPerEmployee} guests,
+     * and stops spreading the shifts out once {@code timeBudget} has passed.
+     */
+    public RosterGenerator(int coversPerEmployee, Duration timeBudget) {
+        requireNonNull(timeBudget);
+        checkArgument(coversPerEmployee > 0);
+        this.coversPerEmployee = coversPerEmployee;
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Returns the slots that need employees in the {@code days} days from {@code from}, in order of time, going by
+     * the guests counted in {@code heatmap}.
+     */
+    public List<Slot> findSlots(CapacityHeatmap heatmap, LocalDate from, int days) {
+        requireAllNonNull(heatmap, from);
+        List<Slot> slots = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(from.plusDays(days)); date = date.plusDays(1)) {
+            int slotEnd = 0;
+            for (int hour = 0; hour < CapacityHeatmap.HOURS_PER_DAY; hour++) {
+                if (hour < slotEnd || getHeadcount(heatmap, date, hour) == 0) {
+                    continue;
+                }
+                slotEnd = Math.min(hour + SHIFT_HOURS, CapacityHeatmap.HOURS_PER_DAY);
+                int headcount = 0;
+                for (int slotHour = hour; slotHour < slotEnd; slotHour++) {
+                    headcount = Math.max(headcount, getHeadcount(heatmap, date, slotHour));
+                }
+                slots.add(new Slot(date.atTime(hour, 0), headcount));
+            }
+        }
+        return slots;
+    }
+
+    private int getHeadcount(CapacityHeatmap heatmap, LocalDate date, int hour) {
+        return (heatmap.getCovers(date, hour) + coversPerEmployee - 1) / coversPerEmployee;
+    }
+
+    /**
+     * Returns the shifts given to {@code employees} to fill {@code slots}.
+     */
+    public Roster generate(List<Employee> employees, List<Slot> slots) {
+        requireAllNonNull(employees, slots);
+        Search search = new Search(employees, slots);
+        search.fillSlots();
+        search.spreadShifts();
+        return search.toRoster();
+    }
+
+    /**
+     * The shifts given out so far, with the employees and slots referred to by their positions.
+     */
+    private class Search {
+        private final List<Employee> employees;
+        private final List<Slot> slots;
+        private final int[] shiftCounts;
+        private final List<List<Integer>> slotsByEmployee = new ArrayList<>();
+        // the employees on shift on each date, as a bitset indexed by employee position
+        private final Map<LocalDate, BitSet> employeesOnShiftByDate = new HashMap<>();
+        private final int[] shortfalls;
+        private final long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        private long triedCount;
+        private boolean isOutOfTime;
+
+        Search(List<Employee> employees, List<Slot> slots) {
+            this.employees = new ArrayList<>(employees);
+            this.employees.sort(NAME_ORDER);
+            this.slots = new ArrayList<>(slots);
+            this.slots.sort(Comparator.comparing(Slot::getStart));
+            shiftCounts = new int[employees.size()];
+            shortfalls = new int[slots.size()];
+            for (int i = 0; i < employees.size(); i++) {
+                slotsByEmployee.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Fills the slots in order of time, each by the free employees with the fewest shifts so far.
+         */
+        void fillSlots() {
+            PriorityQueue<Integer> byShiftCount = new PriorityQueue<>(Comparator
+                    .<Integer>comparingInt(employee -> shiftCounts[employee]).thenComparingInt(employee -> employee));
+            for (int employee = 0; employee < employees.size(); employee++) {
+                byShiftCount.add(employee);
+            }
+
+            List<Integer> polled = new ArrayList<>();
+            for (int slot = 0; slot < slots.size(); slot++) {
+                BitSet onShift = getEmployeesOnShift(slots.get(slot).getStart().toLocalDate());
+                int needed = slots.get(slot).getHeadcount();
+                while (needed > 0 && !byShiftCount.isEmpty()) {
+                    int employee = byShiftCount.poll();
+                    polled.add(employee);
+                    if (!onShift.get(employee)) {
+                        assign(employee, slot);
+                        needed--;
+                    }
+                }
+                shortfalls[slot] = needed;
+                // the shift counts of the polled employees may have changed, so they are put back only now
+                byShiftCount.addAll(polled);
+                polled.clear();
+            }
+        }
+
+        /**
+         * Moves shifts from the employees with the most shifts to those with at least two fewer, which makes the
+         * shifts more even with every move, until no such move is left or the time budget runs out.
+         */
+        void spreadShifts() {
+            List<Integer> byShiftCount = new ArrayList<>();
+            for (int employee = 0; employee < employees.size(); employee++) {
+                byShiftCount.add(employee);
+            }
+            boolean hasMoved = true;
+            while (hasMoved && !isOutOfTime) {
+                byShiftCount.sort(Comparator.comparingInt(employee -> shiftCounts[employee]));
+                hasMoved = moveOneShift(byShiftCount);
+            }
+        }
+
+        private boolean moveOneShift(List<Integer> byShiftCount) {
+            for (int from = byShiftCount.size() - 1; from > 0; from--) {
+                int busyEmployee = byShiftCount.get(from);
+                for (int slot : slotsByEmployee.get(busyEmployee)) {
+                    BitSet onShift = getEmployeesOnShift(slots.get(slot).getStart().toLocalDate());
+                    for (int to = 0; shiftCounts[byShiftCount.get(to)] <= shiftCounts[busyEmployee] - 2; to++) {
+                        if (++triedCount % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                            isOutOfTime = true;
+                            return false;
+                        }
+                        int freeEmployee = byShiftCount.get(to);
+                        if (!onShift.get(freeEmployee)) {
+                            unassign(busyEmployee, slot);
+                            assign(freeEmployee, slot);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private BitSet getEmployeesOnShift(LocalDate date) {
+            return employeesOnShiftByDate.computeIfAbsent(date, unused -> new BitSet(employees.size()));
+        }
+
+        private void assign(int employee, int slot) {
+            shiftCounts[employee]++;
+            slotsByEmployee.get(employee).add(slot);
+            getEmployeesOnShift(slots.get(slot).getStart().toLocalDate()).set(employee);
+        }
+
+        private void unassign(int employee, int slot) {
+            shiftCounts[employee]--;
+            slotsByEmployee.get(employee).remove(Integer.valueOf(slot));
+            getEmployeesOnShift(slots.get(slot).getStart().toLocalDate()).clear(employee);
+        }
+
+        Roster toRoster() {
+            Map<Employee, List<LocalDateTime>> shifts = new LinkedHashMap<>();
+            for (int employee = 0; employee < employees.size(); employee++) {
+                List<Integer> employeeSlots = slotsByEmployee.get(employee);
+                if (employeeSlots.isEmpty()) {
+                    continue;
+                }
+                List<LocalDateTime> starts = new ArrayList<>();
+                employeeSlots.forEach(slot -> starts.add(slots.get(slot).getStart()));
+                Collections.sort(starts);
+                shifts.put(employees.get(employee), starts);
+            }
+
+            Map<Slot, Integer> unfilled = new LinkedHashMap<>();
+            for (int slot = 0; slot < slots.size(); slot++) {
+                if (shortfalls[slot] > 0) {
+                    unfilled.put(slots.get(slot), shortfalls[slot]);
+                }
+            }
+            return new Roster(shifts, unfilled, !isOutOfTime);
+        }
+    }
+
+    /**
+     * A period of {@link #SHIFT_HOURS} hours that needs a number of employees on shift.
+     */
+    public static class Slot {
+        private final LocalDateTime start;
+        private final int headcount;
+
+        /**
+         * Creates a {@code Slot} starting at {@code start} that needs {@code headcount} employees.
+         */
+        public Slot(LocalDateTime start, int headcount) {
+            requireNonNull(start);
+            checkArgument(headcount > 0);
+            this.start = start;
+            this.headcount = headcount;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public int getHeadcount() {
+            return headcount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Slot // instanceof handles nulls
+                    && start.equals(((Slot) other).start)
+                    && headcount == ((Slot) other).headcount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, headcount);
+        }
+
+        @Override
+        public String toString() {
+            return start + " x" + headcount;
+        }
+    }
+
+    /**
+     * The shifts given to the employees, and the slots that could not be filled.
+     */
+    public static class Roster {
+        private final Map<Employee, List<LocalDateTime>> shifts;
+        private final Map<Slot, Integer> shortfalls;
+        private final boolean isComplete;
+
+        /**
+         * Creates a {@code Roster} giving the employees in {@code shifts} shifts starting at the date times given.
+         *
+         * @param shortfalls the number of employees still needed by each slot that could not be filled
+         * @param isComplete whether the shifts were spread out as evenly as they could be within the time budget
+         */
+        Roster(Map<Employee, List<LocalDateTime>> shifts, Map<Slot, Integer> shortfalls, boolean isComplete) {
+            requireAllNonNull(shifts, shortfalls);
+            this.shifts = Collections.unmodifiableMap(shifts);
+            this.shortfalls = Collections.unmodifiableMap(shortfalls);
+            this.isComplete = isComplete;
+        }
+
+        /**
+         * Returns the start times of the shifts given to each employee that was given any, in order of time.
+         */
+        public Map<Employee, List<LocalDateTime>> getShifts() {
+            return shifts;
+        }
+
+        public int getShiftCount() {
+            return shifts.values().stream().mapToInt(List::size).sum();
+        }
+
+        public Map<Slot, Integer> getShortfalls() {
+            return shortfalls;
+        }
+
+        public boolean isComplete() {
+            return isComplete;
+        }
+    }
+}
@@ -2,9 +2,8 @@ package seedu.address.model.person.employee;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.logic.parser.ParserUtil.DATE_TIME_FORMATTERS;
+import static seedu.address.logic.parser.ParserUtil.toDateTime;
 
-import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -17,7 +16,6 @@ public class Shift {
             + "format and a time in HH:mm or HHmm (24hr clock) format (eg: 1800 or 18:00 for 6 pm). "
             + "You can choose to entire enter a date first or time first in any of the formats mentioned";
 
-    private static DateTimeFormatter chosenFormat = null;
     public final LocalDateTime workingShift;
     public final String shiftString;
 
@@ -29,24 +27,23 @@ public class Shift {
     public Shift(String shift) {
         requireNonNull(shift);
         checkArgument(isValidShift(shift), MESSAGE_CONSTRAINTS);
-        workingShift = LocalDateTime.parse(shift, chosenFormat);
+        workingShift = toDateTime(shift).get();
         shiftString = this.workingShift.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
     }
 
+    /**
+     * Returns a {@code Shift} starting at {@code workingShift}.
+     */
+    public static Shift startingAt(LocalDateTime workingShift) {
+        requireNonNull(workingShift);
+        return new Shift(workingShift.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm")));
+    }
+
     /**
      * Returns true if a given string is a valid shift.
      */
     public static boolean isValidShift(String test) {
-        LocalDateTime temp = null;
-        for (DateTimeFormatter dateTimeFormatter : DATE_TIME_FORMATTERS) {
-            try {
-                temp = LocalDateTime.parse(test, dateTimeFormatter);
-                chosenFormat = dateTimeFormatter;
-            } catch (DateTimeException e) {
-                //do nothing
-            }
-        }
-        return temp != null;
+        return toDateTime(test).isPresent();
     }
 
     @Override
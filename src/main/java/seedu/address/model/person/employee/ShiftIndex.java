@@ -0,0 +1,76 @@
+package seedu.address.model.person.employee;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes employees by the date times their shifts start at, so that the employees on shift in a period are found
+ * without going through every employee's shifts.
+ *
+ * The shifts are kept in a {@code TreeMap}, so the shifts starting in a period are found in O(log n + k) for n
+ * different shift start times and k shifts in the period.
+ */
+class ShiftIndex {
+    // employees are unique by name, so ordering them by name never treats two different employees as the same
+    private static final Comparator<Employee> NAME_ORDER = EmployeeComparator.getDefaultComparator()
+            .thenComparing(employee -> employee.getName().fullName);
+
+    private final NavigableMap<LocalDateTime, NavigableSet<Employee>> employeesByShift = new TreeMap<>();
+
+    /**
+     * Indexes the shifts of {@code employee}.
+     */
+    void add(Employee employee) {
+        requireNonNull(employee);
+        for (Shift shift : employee.getShifts()) {
+            employeesByShift.computeIfAbsent(shift.workingShift, unused -> new TreeSet<>(NAME_ORDER)).add(employee);
+        }
+    }
+
+    /**
+     * Stops indexing the shifts of {@code employee}.
+     */
+    void remove(Employee employee) {
+        requireNonNull(employee);
+        for (Shift shift : employee.getShifts()) {
+            NavigableSet<Employee> employees = employeesByShift.get(shift.workingShift);
+            if (employees == null) {
+                continue;
+            }
+            employees.remove(employee);
+            if (employees.isEmpty()) {
+                employeesByShift.remove(shift.workingShift);
+            }
+        }
+    }
+
+    /**
+     * Replaces the index with one of the shifts of {@code employees}.
+     */
+    void setAll(Iterable<Employee> employees) {
+        employeesByShift.clear();
+        employees.forEach(this::add);
+    }
+
+    /**
+     * Returns the employees with shifts starting from {@code from} until before {@code until}, by the date times the
+     * shifts start at. The employees of each shift are sorted by name.
+     */
+    NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        NavigableMap<LocalDateTime, List<Employee>> shifts = new TreeMap<>();
+        if (from.isBefore(until)) {
+            employeesByShift.subMap(from, true, until, false)
+                    .forEach((start, employees) -> shifts.put(start, List.copyOf(employees)));
+        }
+        return shifts;
+    }
+}
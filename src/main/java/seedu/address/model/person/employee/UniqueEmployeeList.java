@@ -3,14 +3,21 @@ package seedu.address.model.person.employee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.exceptions.DuplicateEmployeeException;
 import seedu.address.model.person.exceptions.EmployeeNotFoundException;
+import seedu.address.model.query.QueryIndex;
 
 /**
  * A list of employees that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +27,7 @@ import seedu.address.model.person.exceptions.EmployeeNotFoundException;
  * However, the removal of an employee uses Employee#equals(Object) so as to ensure that the employee with exactly
  * the same fields will be removed.
  * Supports a minimal set of list operations.
+ * The employees are also indexed by their shifts, which is kept up to date by every operation that changes the list.
  *
  * @see Employee#isSameEmployee(Employee)
  */
@@ -28,6 +36,8 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     private final ObservableList<Employee> internalList = FXCollections.observableArrayList();
     private final ObservableList<Employee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ShiftIndex shiftIndex = new ShiftIndex();
+    private final QueryIndex<Employee> queryIndex = new QueryIndex<>(EmployeeQueryFields.FIELDS);
     private Comparator<Employee> employeeComparator = EmployeeComparator.getDefaultComparator();
 
     /**
@@ -48,6 +58,34 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new DuplicateEmployeeException();
         }
         internalList.add(toAdd);
+        shiftIndex.add(toAdd);
+        queryIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, sorting the list once.
+     * None of the employees may already exist in the list, and {@code toAdd} must not contain duplicate
+     * employees.
+     */
+    public void addAll(List<Employee> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Employee employee : internalList) {
+            names.add(employee.getName());
+        }
+        for (Employee employee : toAdd) {
+            if (!names.add(employee.getName())) {
+                throw new DuplicateEmployeeException();
+            }
+        }
+
+        List<Employee> combined = new ArrayList<>(internalList.size() + toAdd.size());
+        combined.addAll(internalList);
+        combined.addAll(toAdd);
+        combined.sort(employeeComparator);
+        internalList.setAll(combined);
+        toAdd.forEach(shiftIndex::add);
+        toAdd.forEach(queryIndex::add);
     }
 
     /**
@@ -69,6 +107,10 @@ public class UniqueEmployeeList implements Iterable<Employee> {
 
         internalList.set(index, editedEmployee);
         internalList.sort(employeeComparator);
+        shiftIndex.remove(target);
+        queryIndex.remove(target);
+        shiftIndex.add(editedEmployee);
+        queryIndex.add(editedEmployee);
     }
 
     /**
@@ -81,12 +123,16 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new EmployeeNotFoundException();
         }
         internalList.sort(employeeComparator);
+        shiftIndex.remove(toRemove);
+        queryIndex.remove(toRemove);
     }
 
     public void setEmployees(UniqueEmployeeList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
         internalList.sort(employeeComparator);
+        shiftIndex.setAll(internalList);
+        queryIndex.setAll(internalList);
     }
 
     /**
@@ -101,6 +147,23 @@ public class UniqueEmployeeList implements Iterable<Employee> {
 
         internalList.setAll(employees);
         internalList.sort(employeeComparator);
+        shiftIndex.setAll(internalList);
+        queryIndex.setAll(internalList);
+    }
+
+    /**
+     * Returns the employees with shifts starting from {@code from} until before {@code until}, by the date times the
+     * shifts start at. The employees of each shift are sorted by name.
+     */
+    public NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until) {
+        return shiftIndex.getShiftsBetween(from, until);
+    }
+
+    /**
+     * Returns the index of the employees in the list for queries.
+     */
+    public QueryIndex<Employee> getQueryIndex() {
+        return queryIndex;
     }
 
     /**
@@ -2,14 +2,17 @@ package seedu.address.model.person.supplier;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.logic.parser.ParserUtil.DATE_TIME_FORMATTERS;
+import static seedu.address.logic.parser.ParserUtil.toDateTime;
 
-import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
- * Represents a Supplier's delivery details in RHRH.
+ * Represents a Supplier's delivery details in RHRH: the date time of a delivery, which may repeat every day, week
+ * or fortnight from then on.
  * Guarantees: immutable; is valid as declared in {@link #isValidDeliveryDetail(String)}
  */
 public class DeliveryDetails {
@@ -17,12 +20,54 @@ public class DeliveryDetails {
     public static final String MESSAGE_CONSTRAINTS =
             "Delivery details is wrongly formatted. You need to input a date in yyyy-mm-dd or dd-mm-yyyy "
                     + "format and a time in HH:mm or HHmm (24hr clock) format (eg: 1800 or 18:00 for 6 pm). "
-                    + "You can choose to entire enter a date first or time first in any of the formats mentioned";
+                    + "You can choose to entire enter a date first or time first in any of the formats mentioned. "
+                    + "For deliveries that repeat, add daily, weekly or fortnightly after the date and time";
 
-    private static DateTimeFormatter chosenFormat = null;
+    /**
+     * How often a delivery repeats.
+     */
+    public enum Recurrence {
+        ONCE("", 0),
+        DAILY("daily", 1),
+        WEEKLY("weekly", 7),
+        FORTNIGHTLY("fortnightly", 14);
+
+        private final String keyword;
+        private final int intervalDays;
+
+        Recurrence(String keyword, int intervalDays) {
+            this.keyword = keyword;
+            this.intervalDays = intervalDays;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the number of days between deliveries, or 0 if the delivery does not repeat.
+         */
+        public int getIntervalDays() {
+            return intervalDays;
+        }
+
+        /**
+         * Returns the {@code Recurrence} that {@code word} names, or {@link #ONCE} if it names none.
+         */
+        private static Recurrence fromKeyword(String word) {
+            for (Recurrence recurrence : values()) {
+                if (recurrence != ONCE && recurrence.keyword.equalsIgnoreCase(word)) {
+                    return recurrence;
+                }
+            }
+            return ONCE;
+        }
+    }
 
     public final LocalDateTime deliveryDetails;
+    public final Recurrence recurrence;
     private final String deliveryDetailsString;
+    private final String unformattedDateTimeString;
 
     /**
      * Constructs a {@code Name}.
@@ -32,31 +77,78 @@ public class DeliveryDetails {
     public DeliveryDetails(String deliveryDetails) {
         requireNonNull(deliveryDetails);
         checkArgument(isValidDeliveryDetail(deliveryDetails), MESSAGE_CONSTRAINTS);
-        this.deliveryDetails = LocalDateTime.parse(deliveryDetails, chosenFormat);
-        this.deliveryDetailsString = this.deliveryDetails.format(DateTimeFormatter.ofPattern("d MMMM yyyy, h:mm a"));
+        this.recurrence = parseRecurrence(deliveryDetails);
+        this.unformattedDateTimeString = removeRecurrence(deliveryDetails, recurrence);
+        this.deliveryDetails = toDateTime(unformattedDateTimeString).get();
+        String dateTimeString = this.deliveryDetails.format(DateTimeFormatter.ofPattern("d MMMM yyyy, h:mm a"));
+        this.deliveryDetailsString = recurrence == Recurrence.ONCE
+                ? dateTimeString
+                : dateTimeString + ", " + recurrence.getKeyword();
+    }
+
+    /**
+     * Returns the {@code Recurrence} named by the last word of {@code deliveryDetails}.
+     */
+    private static Recurrence parseRecurrence(String deliveryDetails) {
+        String[] words = deliveryDetails.trim().split("\\s+");
+        return Recurrence.fromKeyword(words[words.length - 1]);
+    }
+
+    /**
+     * Returns {@code deliveryDetails} without the word naming {@code recurrence}.
+     */
+    private static String removeRecurrence(String deliveryDetails, Recurrence recurrence) {
+        String trimmed = deliveryDetails.trim();
+        return recurrence == Recurrence.ONCE
+                ? trimmed
+                : trimmed.substring(0, trimmed.length() - recurrence.getKeyword().length()).trim();
     }
 
     /**
      * Returns true if a given string is a valid delivery detail.
      */
     public static boolean isValidDeliveryDetail(String test) {
-        LocalDateTime temp = null;
-        for (DateTimeFormatter dateTimeFormatter : DATE_TIME_FORMATTERS) {
-            try {
-                temp = LocalDateTime.parse(test, dateTimeFormatter);
-                chosenFormat = dateTimeFormatter;
-            } catch (DateTimeException e) {
-                //do nothing
+        return toDateTime(removeRecurrence(test, parseRecurrence(test))).isPresent();
+    }
+
+    /**
+     * Returns the date times of the deliveries from {@code from} until before {@code until}, in order.
+     * The date times are worked out as the stream is read, so a repeating delivery is never expanded beyond what is
+     * read, and the deliveries before {@code from} are skipped over without being worked out.
+     */
+    public Stream<LocalDateTime> getDeliveriesBetween(LocalDateTime from, LocalDateTime until) {
+        requireNonNull(from);
+        requireNonNull(until);
+        if (recurrence == Recurrence.ONCE) {
+            return !deliveryDetails.isBefore(from) && deliveryDetails.isBefore(until)
+                    ? Stream.of(deliveryDetails)
+                    : Stream.empty();
+        }
+
+        int intervalDays = recurrence.getIntervalDays();
+        LocalDateTime first = deliveryDetails;
+        if (first.isBefore(from)) {
+            long intervalMinutes = ChronoUnit.DAYS.getDuration().toMinutes() * intervalDays;
+            long minutesToFrom = ChronoUnit.MINUTES.between(first, from);
+            // the number of whole intervals needed to reach from, rounded up
+            long intervalsToSkip = (minutesToFrom + intervalMinutes - 1) / intervalMinutes;
+            first = first.plusDays(intervalsToSkip * intervalDays);
+            if (first.isBefore(from)) {
+                // from has seconds past the minute the delivery would be at
+                first = first.plusDays(intervalDays);
             }
         }
-        return temp != null;
+        return Stream.iterate(first, dateTime -> dateTime.isBefore(until), dateTime -> dateTime.plusDays(intervalDays));
     }
 
     /**
-     * Returns the original date time string entered into the app by the user.
+     * Returns the original date time string entered into the app by the user, followed by how often the delivery
+     * repeats, if it does.
      */
     public String getUnformattedDeliveryDetailsString() {
-        return this.deliveryDetails.format(chosenFormat);
+        return recurrence == Recurrence.ONCE
+                ? unformattedDateTimeString
+                : unformattedDateTimeString + " " + recurrence.getKeyword();
     }
 
     @Override
@@ -68,11 +160,12 @@ public class DeliveryDetails {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeliveryDetails // instanceof handles nulls
-                && this.deliveryDetails.equals(((DeliveryDetails) other).deliveryDetails)); // state check
+                && this.deliveryDetails.equals(((DeliveryDetails) other).deliveryDetails)
+                && this.recurrence == ((DeliveryDetails) other).recurrence); // state check
     }
 
     @Override
     public int hashCode() {
-        return this.deliveryDetails.hashCode();
+        return Objects.hash(deliveryDetails, recurrence);
     }
 }
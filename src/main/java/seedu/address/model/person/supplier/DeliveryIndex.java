@@ -0,0 +1,208 @@
+package seedu.address.model.person.supplier;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.person.supplier.DeliveryDetails.Recurrence;
+
+/**
+ * Indexes suppliers by when their deliveries arrive, for all suppliers and for each supply type, so that the
+ * deliveries in a period are found without going through every supplier.
+ *
+ * Deliveries that do not repeat are kept in a {@code TreeMap} by their date time. Deliveries that repeat are kept in
+ * a {@code TreeMap} for each {@link Recurrence}, by the minute of its cycle they arrive at, which is the same for
+ * every delivery of a supplier. The suppliers with deliveries in a period shorter than a cycle are those whose
+ * minutes lie between the minutes of the start and end of the period, so the suppliers with deliveries in a period
+ * are found in O(log n + k) for n suppliers and k deliveries in the period. Repeating deliveries are only worked out
+ * for the period asked for.
+ */
+class DeliveryIndex {
+    // suppliers are unique by name, so ordering them by name never treats two different suppliers as the same
+    private static final Comparator<Supplier> NAME_ORDER = SupplierComparator.getDefaultComparator()
+            .thenComparing(supplier -> supplier.getName().fullName);
+    // the minute that the cycles of repeating deliveries are counted from
+    private static final LocalDateTime CYCLE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long MINUTES_PER_DAY = ChronoUnit.DAYS.getDuration().toMinutes();
+
+    private final Schedule allSuppliers = new Schedule();
+    private final Map<SupplyType, Schedule> schedulesBySupplyType = new HashMap<>();
+
+    /**
+     * Indexes the deliveries of {@code supplier}.
+     */
+    void add(Supplier supplier) {
+        requireNonNull(supplier);
+        allSuppliers.add(supplier);
+        schedulesBySupplyType.computeIfAbsent(supplier.getSupplyType(), unused -> new Schedule()).add(supplier);
+    }
+
+    /**
+     * Stops indexing the deliveries of {@code supplier}.
+     */
+    void remove(Supplier supplier) {
+        requireNonNull(supplier);
+        allSuppliers.remove(supplier);
+        Schedule schedule = schedulesBySupplyType.get(supplier.getSupplyType());
+        if (schedule == null) {
+            return;
+        }
+        schedule.remove(supplier);
+        if (schedule.isEmpty()) {
+            schedulesBySupplyType.remove(supplier.getSupplyType());
+        }
+    }
+
+    /**
+     * Replaces the index with one of the deliveries of {@code suppliers}.
+     */
+    void setAll(Iterable<Supplier> suppliers) {
+        allSuppliers.clear();
+        schedulesBySupplyType.clear();
+        suppliers.forEach(this::add);
+    }
+
+    /**
+     * Returns the suppliers with deliveries from {@code from} until before {@code until}, by the date times the
+     * deliveries arrive at, keeping only the suppliers of {@code supplyType} if it is given. The suppliers of each
+     * delivery are sorted by name.
+     */
+    NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType) {
+        requireAllNonNull(from, until, supplyType);
+        NavigableMap<LocalDateTime, List<Supplier>> deliveries = new TreeMap<>();
+        if (!from.isBefore(until)) {
+            return deliveries;
+        }
+
+        Schedule schedule = supplyType.isPresent() ? schedulesBySupplyType.get(supplyType.get()) : allSuppliers;
+        if (schedule != null) {
+            schedule.collectDeliveriesBetween(from, until, deliveries);
+        }
+        deliveries.values().forEach(suppliers -> suppliers.sort(NAME_ORDER));
+        return deliveries;
+    }
+
+    /**
+     * Returns the minute of the cycle of {@code recurrence} that {@code dateTime} falls on.
+     */
+    private static long getMinuteOfCycle(LocalDateTime dateTime, Recurrence recurrence) {
+        return Math.floorMod(ChronoUnit.MINUTES.between(CYCLE_START, dateTime),
+                recurrence.getIntervalDays() * MINUTES_PER_DAY);
+    }
+
+    /**
+     * The deliveries of a set of suppliers.
+     */
+    private static class Schedule {
+        private final NavigableMap<LocalDateTime, NavigableSet<Supplier>> oneOffDeliveries = new TreeMap<>();
+        private final Map<Recurrence, NavigableMap<Long, NavigableSet<Supplier>>> repeatingDeliveries =
+                new EnumMap<>(Recurrence.class);
+
+        void add(Supplier supplier) {
+            DeliveryDetails deliveryDetails = supplier.getDeliveryDetails();
+            if (deliveryDetails.recurrence == Recurrence.ONCE) {
+                addTo(oneOffDeliveries, deliveryDetails.deliveryDetails, supplier);
+            } else {
+                addTo(repeatingDeliveries.computeIfAbsent(deliveryDetails.recurrence, unused -> new TreeMap<>()),
+                        getMinuteOfCycle(deliveryDetails.deliveryDetails, deliveryDetails.recurrence), supplier);
+            }
+        }
+
+        void remove(Supplier supplier) {
+            DeliveryDetails deliveryDetails = supplier.getDeliveryDetails();
+            if (deliveryDetails.recurrence == Recurrence.ONCE) {
+                removeFrom(oneOffDeliveries, deliveryDetails.deliveryDetails, supplier);
+                return;
+            }
+            NavigableMap<Long, NavigableSet<Supplier>> slots = repeatingDeliveries.get(deliveryDetails.recurrence);
+            if (slots == null) {
+                return;
+            }
+            removeFrom(slots, getMinuteOfCycle(deliveryDetails.deliveryDetails, deliveryDetails.recurrence), supplier);
+            if (slots.isEmpty()) {
+                repeatingDeliveries.remove(deliveryDetails.recurrence);
+            }
+        }
+
+        void clear() {
+            oneOffDeliveries.clear();
+            repeatingDeliveries.clear();
+        }
+
+        boolean isEmpty() {
+            return oneOffDeliveries.isEmpty() && repeatingDeliveries.isEmpty();
+        }
+
+        private static <K> void addTo(NavigableMap<K, NavigableSet<Supplier>> slots, K key, Supplier supplier) {
+            slots.computeIfAbsent(key, unused -> new TreeSet<>(NAME_ORDER)).add(supplier);
+        }
+
+        private static <K> void removeFrom(NavigableMap<K, NavigableSet<Supplier>> slots, K key, Supplier supplier) {
+            NavigableSet<Supplier> suppliers = slots.get(key);
+            if (suppliers == null) {
+                return;
+            }
+            suppliers.remove(supplier);
+            if (suppliers.isEmpty()) {
+                slots.remove(key);
+            }
+        }
+
+        /**
+         * Adds the suppliers with deliveries from {@code from} until before {@code until} to {@code deliveries}.
+         */
+        void collectDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+                NavigableMap<LocalDateTime, List<Supplier>> deliveries) {
+            oneOffDeliveries.subMap(from, true, until, false).forEach((dateTime, suppliers) ->
+                    deliveries.computeIfAbsent(dateTime, unused -> new ArrayList<>()).addAll(suppliers));
+
+            repeatingDeliveries.forEach((recurrence, slots) -> {
+                for (NavigableSet<Supplier> suppliers : getSlotsBetween(slots, recurrence, from, until)) {
+                    for (Supplier supplier : suppliers) {
+                        supplier.getDeliveryDetails().getDeliveriesBetween(from, until).forEach(dateTime ->
+                                deliveries.computeIfAbsent(dateTime, unused -> new ArrayList<>()).add(supplier));
+                    }
+                }
+            });
+        }
+
+        /**
+         * Returns the suppliers in {@code slots} whose deliveries fall on a minute of the cycle of
+         * {@code recurrence} that is passed from {@code from} until before {@code until}.
+         */
+        private static List<NavigableSet<Supplier>> getSlotsBetween(NavigableMap<Long, NavigableSet<Supplier>> slots,
+                Recurrence recurrence, LocalDateTime from, LocalDateTime until) {
+            long cycleMinutes = recurrence.getIntervalDays() * MINUTES_PER_DAY;
+            if (ChronoUnit.MINUTES.between(from, until) >= cycleMinutes) {
+                return new ArrayList<>(slots.values());
+            }
+
+            long fromMinute = getMinuteOfCycle(from, recurrence);
+            // the minute until falls on is included, as until may be some seconds past a delivery on that minute
+            long untilMinute = getMinuteOfCycle(until, recurrence);
+            List<NavigableSet<Supplier>> slotsBetween = new ArrayList<>();
+            if (fromMinute < untilMinute) {
+                slotsBetween.addAll(slots.subMap(fromMinute, true, untilMinute, true).values());
+            } else {
+                // the period runs into the next cycle
+                slotsBetween.addAll(slots.tailMap(fromMinute, true).values());
+                slotsBetween.addAll(slots.headMap(untilMinute, true).values());
+            }
+            return slotsBetween;
+        }
+    }
+}
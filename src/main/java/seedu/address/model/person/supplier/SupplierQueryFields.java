@@ -0,0 +1,40 @@
+package seedu.address.model.person.supplier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryNode;
+
+/**
+ * The fields of a {@code Supplier} that a query can compare against, keyed by the prefixes they are added with.
+ */
+public class SupplierQueryFields {
+
+    public static final QueryField<Supplier> NAME = QueryField.text("n",
+            supplier -> supplier.getName().fullName, true);
+    public static final QueryField<Supplier> PHONE = QueryField.text("p",
+            supplier -> supplier.getPhone().value, false);
+    public static final QueryField<Supplier> EMAIL = QueryField.text("e",
+            supplier -> supplier.getEmail().value, false);
+    public static final QueryField<Supplier> ADDRESS = QueryField.text("a",
+            supplier -> supplier.getAddress().value, false);
+    public static final QueryField<Supplier> SUPPLY_TYPE = QueryField.text("st",
+            supplier -> supplier.getSupplyType().supplyType, true);
+    public static final QueryField<Supplier> TAGS = QueryField.keywords("t",
+            supplier -> supplier.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+    public static final List<QueryField<Supplier>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            NAME, PHONE, EMAIL, ADDRESS, SUPPLY_TYPE, TAGS));
+
+    /**
+     * Returns a node matching the suppliers with {@code keyword} in any of their details, like {@code finds}
+     * without fields.
+     */
+    public static QueryNode<Supplier> keyword(String keyword) {
+        return QueryNode.scan(new SupplierClassContainsKeywordsPredicate(Collections.singletonList(keyword)),
+                keyword);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person.supplier;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Supplier's delivery details in RHRH.
  * Guarantees: immutable; is valid as declared in {@link #isValidSupplyType(String)}
@@ -17,6 +19,7 @@ public class SupplyType {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String supplyType;
 
@@ -35,7 +38,7 @@ public class SupplyType {
      * Returns true if a given string is a valid supply type.
      */
     public static boolean isValidSupplyType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
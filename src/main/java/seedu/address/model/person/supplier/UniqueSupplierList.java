@@ -3,14 +3,22 @@ package seedu.address.model.person.supplier;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.exceptions.DuplicateSupplierException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.QueryIndex;
 
 /**
  * A list of suppliers that enforces uniqueness between its elements and does not allow nulls.
@@ -28,6 +36,8 @@ public class UniqueSupplierList implements Iterable<Supplier> {
     private final ObservableList<Supplier> internalList = FXCollections.observableArrayList();
     private final ObservableList<Supplier> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final DeliveryIndex deliveryIndex = new DeliveryIndex();
+    private final QueryIndex<Supplier> queryIndex = new QueryIndex<>(SupplierQueryFields.FIELDS);
     private Comparator<Supplier> supplierComparator = SupplierComparator.getDefaultComparator();
 
     /**
@@ -49,6 +59,34 @@ public class UniqueSupplierList implements Iterable<Supplier> {
         }
         internalList.add(toAdd);
         internalList.sort(supplierComparator);
+        deliveryIndex.add(toAdd);
+        queryIndex.add(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, sorting the list once.
+     * None of the suppliers may already exist in the list, and {@code toAdd} must not contain duplicate
+     * suppliers.
+     */
+    public void addAll(List<Supplier> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Supplier supplier : internalList) {
+            names.add(supplier.getName());
+        }
+        for (Supplier supplier : toAdd) {
+            if (!names.add(supplier.getName())) {
+                throw new DuplicateSupplierException();
+            }
+        }
+
+        List<Supplier> combined = new ArrayList<>(internalList.size() + toAdd.size());
+        combined.addAll(internalList);
+        combined.addAll(toAdd);
+        combined.sort(supplierComparator);
+        internalList.setAll(combined);
+        toAdd.forEach(deliveryIndex::add);
+        toAdd.forEach(queryIndex::add);
     }
 
     /**
@@ -70,6 +108,10 @@ public class UniqueSupplierList implements Iterable<Supplier> {
 
         internalList.set(index, editedSupplier);
         internalList.sort(supplierComparator);
+        deliveryIndex.remove(target);
+        queryIndex.remove(target);
+        deliveryIndex.add(editedSupplier);
+        queryIndex.add(editedSupplier);
     }
 
     /**
@@ -82,12 +124,16 @@ public class UniqueSupplierList implements Iterable<Supplier> {
             throw new PersonNotFoundException();
         }
         internalList.sort(supplierComparator);
+        deliveryIndex.remove(toRemove);
+        queryIndex.remove(toRemove);
     }
 
     public void setSuppliers(seedu.address.model.person.supplier.UniqueSupplierList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
         internalList.sort(supplierComparator);
+        deliveryIndex.setAll(internalList);
+        queryIndex.setAll(internalList);
     }
 
     /**
@@ -102,6 +148,25 @@ public class UniqueSupplierList implements Iterable<Supplier> {
 
         internalList.setAll(suppliers);
         internalList.sort(supplierComparator);
+        deliveryIndex.setAll(internalList);
+        queryIndex.setAll(internalList);
+    }
+
+    /**
+     * Returns the suppliers with deliveries from {@code from} until before {@code until}, by the date times the
+     * deliveries arrive at, keeping only the suppliers of {@code supplyType} if it is given. The suppliers of each
+     * delivery are sorted by name.
+     */
+    public NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType) {
+        return deliveryIndex.getDeliveriesBetween(from, until, supplyType);
+    }
+
+    /**
+     * Returns the index of the suppliers in the list for queries.
+     */
+    public QueryIndex<Supplier> getQueryIndex() {
+        return queryIndex;
     }
 
     /**
@@ -130,6 +195,10 @@ public class UniqueSupplierList implements Iterable<Supplier> {
         supplierComparator = comparator;
     }
 
+    public Comparator<Supplier> getComparator() {
+        return supplierComparator;
+    }
+
     @Override
     public Iterator<Supplier> iterator() {
         return internalList.iterator();
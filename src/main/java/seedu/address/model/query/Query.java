@@ -0,0 +1,59 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A query for items of type {@code T}, made of a tree of {@link QueryNode}s, which may ask for the plan that
+ * answers it to be explained.
+ */
+public class Query<T> {
+
+    private final QueryNode<T> root;
+    private final boolean isExplained;
+
+    /**
+     * Creates a query matching the items that match {@code root}.
+     */
+    public Query(QueryNode<T> root, boolean isExplained) {
+        requireNonNull(root);
+        this.root = root;
+        this.isExplained = isExplained;
+    }
+
+    public QueryNode<T> getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns true if the plan answering this query should be shown to the user.
+     */
+    public boolean isExplained() {
+        return isExplained;
+    }
+
+    /**
+     * Returns the plan answering this query against {@code index}.
+     */
+    public QueryPlan<T> plan(QueryIndex<T> index) {
+        requireNonNull(index);
+        return new QueryPlan<>(root.plan(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Query // instanceof handles nulls
+                && root.equals(((Query<?>) other).root)
+                && isExplained == ((Query<?>) other).isExplained); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return root.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
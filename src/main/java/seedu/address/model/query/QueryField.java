@@ -0,0 +1,130 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A field of an item of type {@code T} that a {@link Query} can compare against, such as the name of a customer.
+ * The field is named in a query by its key, as in {@code n/tan} for a field with the key {@code n}.
+ */
+public class QueryField<T> {
+
+    /**
+     * How the values of a field are compared and indexed.
+     */
+    public enum Kind {
+        /** Free text, matched by the substrings it contains. */
+        TEXT("n-gram index"),
+        /** A set of keywords, such as tags, matched by the whole words in them. */
+        KEYWORD("hash index"),
+        /** A whole number, matched by the range it falls in. */
+        NUMBER("range index");
+
+        private final String indexName;
+
+        Kind(String indexName) {
+            this.indexName = indexName;
+        }
+
+        public String getIndexName() {
+            return indexName;
+        }
+    }
+
+    private final String key;
+    private final Kind kind;
+    private final boolean isIndexed;
+    private final Function<T, Collection<String>> textValues;
+    private final ToLongFunction<T> numberValue;
+
+    private QueryField(String key, Kind kind, boolean isIndexed, Function<T, Collection<String>> textValues,
+            ToLongFunction<T> numberValue) {
+        this.key = key;
+        this.kind = kind;
+        this.isIndexed = isIndexed;
+        this.textValues = textValues;
+        this.numberValue = numberValue;
+    }
+
+    /**
+     * Returns a field of free text read by {@code text}, which is indexed by its n-grams if {@code isIndexed}.
+     */
+    public static <T> QueryField<T> text(String key, Function<T, String> text, boolean isIndexed) {
+        requireAllNonNull(key, text);
+        return new QueryField<>(key, Kind.TEXT, isIndexed, item -> Collections.singletonList(text.apply(item)), null);
+    }
+
+    /**
+     * Returns a field of keywords read by {@code keywords}, which is indexed by a hash of each word in them.
+     */
+    public static <T> QueryField<T> keywords(String key, Function<T, Collection<String>> keywords) {
+        requireAllNonNull(key, keywords);
+        return new QueryField<>(key, Kind.KEYWORD, true, keywords, null);
+    }
+
+    /**
+     * Returns a field of a whole number read by {@code number}, which is indexed by the range it falls in.
+     */
+    public static <T> QueryField<T> number(String key, ToLongFunction<T> number) {
+        requireAllNonNull(key, number);
+        return new QueryField<>(key, Kind.NUMBER, true, null, number);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isIndexed() {
+        return isIndexed;
+    }
+
+    /**
+     * Returns the text or keywords of {@code item} in this field.
+     * This field must not be a {@link Kind#NUMBER} field.
+     */
+    public Collection<String> getTextValues(T item) {
+        assert kind != Kind.NUMBER;
+        return textValues.apply(item);
+    }
+
+    /**
+     * Returns the words in the keywords of {@code item} in this field, in lower case.
+     * This field must be a {@link Kind#KEYWORD} field.
+     */
+    public Set<String> getWords(T item) {
+        assert kind == Kind.KEYWORD;
+        Set<String> words = new HashSet<>();
+        for (String keyword : textValues.apply(item)) {
+            for (String word : keyword.toLowerCase().split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of {@code item} in this field.
+     * This field must be a {@link Kind#NUMBER} field.
+     */
+    public long getNumberValue(T item) {
+        assert kind == Kind.NUMBER;
+        return numberValue.applyAsLong(item);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
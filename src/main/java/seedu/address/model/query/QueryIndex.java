@@ -0,0 +1,206 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes items of type {@code T} by the indexed {@link QueryField}s of a type, so that a {@link Query} can find
+ * the items matching a field without going through every item.
+ *
+ * {@link QueryField.Kind#KEYWORD} fields are kept in a hash index from each word of their keywords to its items, and
+ * {@link QueryField.Kind#NUMBER} fields in a {@code TreeMap} from each number to its items. Indexed
+ * {@link QueryField.Kind#TEXT} fields are kept in an index from each run of {@link #NGRAM_LENGTH} characters to the
+ * items whose text contains it, so the items containing a text are among those containing all of its n-grams.
+ */
+public class QueryIndex<T> {
+
+    public static final int NGRAM_LENGTH = 3;
+
+    private final List<QueryField<T>> fields;
+    private final Set<T> items = new HashSet<>();
+    private final Map<QueryField<T>, Map<String, Set<T>>> hashIndexes = new HashMap<>();
+    private final Map<QueryField<T>, Map<String, Set<T>>> ngramIndexes = new HashMap<>();
+    private final Map<QueryField<T>, NavigableMap<Long, Set<T>>> rangeIndexes = new HashMap<>();
+
+    /**
+     * Creates an empty index of the indexed fields among {@code fields}.
+     */
+    public QueryIndex(List<QueryField<T>> fields) {
+        requireNonNull(fields);
+        this.fields = fields;
+        for (QueryField<T> field : fields) {
+            if (!field.isIndexed()) {
+                continue;
+            }
+            switch (field.getKind()) {
+            case KEYWORD:
+                hashIndexes.put(field, new HashMap<>());
+                break;
+            case TEXT:
+                ngramIndexes.put(field, new HashMap<>());
+                break;
+            case NUMBER:
+                rangeIndexes.put(field, new TreeMap<>());
+                break;
+            default:
+                assert false : field.getKind();
+            }
+        }
+    }
+
+    public List<QueryField<T>> getFields() {
+        return fields;
+    }
+
+    /**
+     * Indexes {@code item}.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (!items.add(item)) {
+            return;
+        }
+        hashIndexes.forEach((field, index) -> field.getWords(item).forEach(word ->
+                index.computeIfAbsent(word, unused -> new HashSet<>()).add(item)));
+        ngramIndexes.forEach((field, index) -> getNgrams(field, item).forEach(ngram ->
+                index.computeIfAbsent(ngram, unused -> new HashSet<>()).add(item)));
+        rangeIndexes.forEach((field, index) ->
+                index.computeIfAbsent(field.getNumberValue(item), unused -> new HashSet<>()).add(item));
+    }
+
+    /**
+     * Stops indexing {@code item}.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        if (!items.remove(item)) {
+            return;
+        }
+        hashIndexes.forEach((field, index) -> field.getWords(item).forEach(word ->
+                removeFrom(index, word, item)));
+        ngramIndexes.forEach((field, index) -> getNgrams(field, item).forEach(ngram ->
+                removeFrom(index, ngram, item)));
+        rangeIndexes.forEach((field, index) -> removeFrom(index, field.getNumberValue(item), item));
+    }
+
+    /**
+     * Replaces the index with one of {@code items}.
+     */
+    public void setAll(Iterable<T> items) {
+        requireNonNull(items);
+        this.items.clear();
+        hashIndexes.values().forEach(Map::clear);
+        ngramIndexes.values().forEach(Map::clear);
+        rangeIndexes.values().forEach(Map::clear);
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of items indexed.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns all the items indexed.
+     */
+    public Set<T> getAll() {
+        return Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Returns the items with the word {@code word} in the keyword field {@code field}, ignoring case, or an empty
+     * {@code Optional} if the field is not indexed.
+     */
+    public Optional<Set<T>> lookUpWord(QueryField<T> field, String word) {
+        requireAllNonNull(field, word);
+        Map<String, Set<T>> index = hashIndexes.get(field);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new HashSet<>(index.getOrDefault(word.toLowerCase(), Collections.emptySet())));
+    }
+
+    /**
+     * Returns the items whose text in the text field {@code field} contains {@code text}, ignoring case, or an
+     * empty {@code Optional} if the field is not indexed or {@code text} is shorter than an n-gram.
+     */
+    public Optional<Set<T>> lookUpText(QueryField<T> field, String text) {
+        requireAllNonNull(field, text);
+        Map<String, Set<T>> index = ngramIndexes.get(field);
+        String lowerCaseText = text.toLowerCase();
+        if (index == null || lowerCaseText.length() < NGRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        // starts from the rarest n-gram, as the candidates can only shrink from there
+        Set<T> rarest = null;
+        for (int i = 0; i + NGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            Set<T> candidates = index.getOrDefault(lowerCaseText.substring(i, i + NGRAM_LENGTH),
+                    Collections.emptySet());
+            if (rarest == null || candidates.size() < rarest.size()) {
+                rarest = candidates;
+            }
+        }
+
+        // the n-grams of a text may all appear in an item without the text itself, so the candidates are checked
+        Set<T> matches = new HashSet<>();
+        for (T candidate : rarest) {
+            if (field.getTextValues(candidate).stream()
+                    .anyMatch(value -> value.toLowerCase().contains(lowerCaseText))) {
+                matches.add(candidate);
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the items whose number in the number field {@code field} is from {@code min} to {@code max}, or an
+     * empty {@code Optional} if the field is not indexed.
+     */
+    public Optional<Set<T>> lookUpRange(QueryField<T> field, long min, long max) {
+        requireNonNull(field);
+        NavigableMap<Long, Set<T>> index = rangeIndexes.get(field);
+        if (index == null) {
+            return Optional.empty();
+        }
+        Set<T> matches = new HashSet<>();
+        if (min <= max) {
+            index.subMap(min, true, max, true).values().forEach(matches::addAll);
+        }
+        return Optional.of(matches);
+    }
+
+    private Set<String> getNgrams(QueryField<T> field, T item) {
+        Set<String> ngrams = new HashSet<>();
+        for (String value : field.getTextValues(item)) {
+            String lowerCaseValue = value.toLowerCase();
+            for (int i = 0; i + NGRAM_LENGTH <= lowerCaseValue.length(); i++) {
+                ngrams.add(lowerCaseValue.substring(i, i + NGRAM_LENGTH));
+            }
+        }
+        return ngrams;
+    }
+
+    private static <K, T> void removeFrom(Map<K, Set<T>> index, K key, T item) {
+        Set<T> items = index.get(key);
+        if (items == null) {
+            return;
+        }
+        items.remove(item);
+        if (items.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
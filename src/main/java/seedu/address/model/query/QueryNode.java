@@ -0,0 +1,380 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.query.QueryPlan.Step;
+
+/**
+ * A node of the predicate tree of a {@link Query}, which an item of type {@code T} either matches or not.
+ * Each node plans how it is answered against a {@link QueryIndex}, looking its items up in the index where it can
+ * and testing every item where it cannot.
+ */
+public abstract class QueryNode<T> implements Predicate<T> {
+
+    // the share of items that a node answered by a scan is taken to match, as scans keep no counts
+    static final double SCAN_SELECTIVITY = 0.1;
+    private static final String ACCESS_SCAN = "scan";
+
+    /**
+     * Returns a node matching the items whose text in {@code field} contains {@code text}, or whose keywords in
+     * {@code field} have the word {@code text}, ignoring case.
+     */
+    public static <T> QueryNode<T> match(QueryField<T> field, String text) {
+        return new Match<>(field, text, 0, 0);
+    }
+
+    /**
+     * Returns a node matching the items whose number in {@code field} is from {@code min} to {@code max}.
+     */
+    public static <T> QueryNode<T> between(QueryField<T> field, long min, long max) {
+        return new Match<>(field, null, min, max);
+    }
+
+    /**
+     * Returns a node matching the items that pass {@code predicate}, which is described by {@code description}.
+     * The node is always answered by a scan.
+     */
+    public static <T> QueryNode<T> scan(Predicate<T> predicate, String description) {
+        return new Scan<>(predicate, description);
+    }
+
+    /**
+     * Returns a node matching the items that match all of {@code children}.
+     */
+    public static <T> QueryNode<T> and(List<QueryNode<T>> children) {
+        return children.size() == 1 ? children.get(0) : new And<>(children);
+    }
+
+    /**
+     * Returns a node matching the items that match any of {@code children}.
+     */
+    public static <T> QueryNode<T> or(List<QueryNode<T>> children) {
+        return children.size() == 1 ? children.get(0) : new Or<>(children);
+    }
+
+    /**
+     * Returns a node matching the items that do not match {@code child}.
+     */
+    public static <T> QueryNode<T> not(QueryNode<T> child) {
+        return new Not<>(child);
+    }
+
+    /**
+     * Returns the step answering this node against {@code index}.
+     */
+    public abstract Step<T> plan(QueryIndex<T> index);
+
+    private static <T> List<Step<T>> planAll(List<QueryNode<T>> nodes, QueryIndex<T> index) {
+        return nodes.stream().map(node -> node.plan(index)).collect(Collectors.toList());
+    }
+
+    /**
+     * Compares a field of an item with a text or a range of numbers.
+     */
+    private static class Match<T> extends QueryNode<T> {
+        private final QueryField<T> field;
+        private final String text;
+        private final long min;
+        private final long max;
+
+        Match(QueryField<T> field, String text, long min, long max) {
+            requireNonNull(field);
+            assert (field.getKind() == QueryField.Kind.NUMBER) == (text == null);
+            this.field = field;
+            this.text = text == null ? null : text.toLowerCase();
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(T item) {
+            switch (field.getKind()) {
+            case TEXT:
+                return field.getTextValues(item).stream().anyMatch(value -> value.toLowerCase().contains(text));
+            case KEYWORD:
+                return field.getWords(item).contains(text);
+            case NUMBER:
+                long number = field.getNumberValue(item);
+                return min <= number && number <= max;
+            default:
+                throw new AssertionError(field.getKind());
+            }
+        }
+
+        @Override
+        public Step<T> plan(QueryIndex<T> index) {
+            Optional<Set<T>> rows;
+            switch (field.getKind()) {
+            case TEXT:
+                rows = index.lookUpText(field, text);
+                break;
+            case KEYWORD:
+                rows = index.lookUpWord(field, text);
+                break;
+            case NUMBER:
+                rows = index.lookUpRange(field, min, max);
+                break;
+            default:
+                throw new AssertionError(field.getKind());
+            }
+            return rows.map(found -> Step.indexed(toString(), field.getKind().getIndexName(), found,
+                            Collections.<Step<T>>emptyList()))
+                    .orElseGet(() -> Step.scan(toString(), ACCESS_SCAN, index.size() * SCAN_SELECTIVITY, this,
+                            Collections.emptyList()));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Match)) {
+                return false;
+            }
+            Match<?> otherMatch = (Match<?>) other;
+            return field.equals(otherMatch.field)
+                    && Objects.equals(text, otherMatch.text)
+                    && min == otherMatch.min
+                    && max == otherMatch.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, text, min, max);
+        }
+
+        @Override
+        public String toString() {
+            if (text != null) {
+                return field.getKey() + "/" + text;
+            } else if (min == max) {
+                return field.getKey() + "/" + min;
+            } else if (min == Long.MIN_VALUE) {
+                return field.getKey() + "<=" + max;
+            } else if (max == Long.MAX_VALUE) {
+                return field.getKey() + ">=" + min;
+            }
+            return field.getKey() + "/" + min + ".." + max;
+        }
+    }
+
+    /**
+     * Tests items with a predicate that no index can answer, such as a keyword matching any field.
+     */
+    private static class Scan<T> extends QueryNode<T> {
+        private final Predicate<T> predicate;
+        private final String description;
+
+        Scan(Predicate<T> predicate, String description) {
+            requireAllNonNull(predicate, description);
+            this.predicate = predicate;
+            this.description = description;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return predicate.test(item);
+        }
+
+        @Override
+        public Step<T> plan(QueryIndex<T> index) {
+            return Step.scan(description, ACCESS_SCAN, index.size() * SCAN_SELECTIVITY, predicate,
+                    Collections.emptyList());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Scan // instanceof handles nulls
+                    && predicate.equals(((Scan<?>) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Matches the items that match all of its children.
+     * The children are answered from the one matching the fewest items, so that each child after it only tests
+     * the items that are left.
+     */
+    private static class And<T> extends QueryNode<T> {
+        private final List<QueryNode<T>> children;
+
+        And(List<QueryNode<T>> children) {
+            requireAllNonNull(children);
+            this.children = new ArrayList<>(children);
+        }
+
+        @Override
+        public boolean test(T item) {
+            return children.stream().allMatch(child -> child.test(item));
+        }
+
+        @Override
+        public Step<T> plan(QueryIndex<T> index) {
+            List<Step<T>> steps = planAll(children, index);
+            steps.sort(Comparator.comparingDouble(Step::getEstimatedRows));
+            Optional<Step<T>> driver = steps.stream().filter(Step::isIndexed).findFirst();
+            if (!driver.isPresent()) {
+                List<Predicate<T>> predicates = steps.stream().map(Step::getPredicate).collect(Collectors.toList());
+                double estimatedRows = index.size();
+                for (Step<T> step : steps) {
+                    estimatedRows *= index.size() == 0 ? 0 : step.getEstimatedRows() / index.size();
+                }
+                return Step.scan(toString(), "scan, testing the most selective term first", estimatedRows,
+                        item -> predicates.stream().allMatch(predicate -> predicate.test(item)), steps);
+            }
+
+            // the other terms only test the items of the most selective index lookup
+            List<Predicate<T>> predicates = steps.stream().filter(step -> step != driver.get())
+                    .map(Step::getPredicate).collect(Collectors.toList());
+            Set<T> rows = new HashSet<>();
+            for (T item : driver.get().getRows()) {
+                if (predicates.stream().allMatch(predicate -> predicate.test(item))) {
+                    rows.add(item);
+                }
+            }
+            boolean isAllIndexed = steps.stream().allMatch(Step::isIndexed);
+            String access = isAllIndexed ? "index intersection"
+                    : "filter the rows of " + driver.get().getDescription();
+            return Step.indexed(toString(), access, rows, steps);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof And // instanceof handles nulls
+                    && children.equals(((And<?>) other).children)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "AND";
+        }
+    }
+
+    /**
+     * Matches the items that match any of its children.
+     * If every child is found through indexes, their items are joined; otherwise every item is tested against the
+     * children, from the one matching the most items, so that most items stop at the first child.
+     */
+    private static class Or<T> extends QueryNode<T> {
+        private final List<QueryNode<T>> children;
+
+        Or(List<QueryNode<T>> children) {
+            requireAllNonNull(children);
+            this.children = new ArrayList<>(children);
+        }
+
+        @Override
+        public boolean test(T item) {
+            return children.stream().anyMatch(child -> child.test(item));
+        }
+
+        @Override
+        public Step<T> plan(QueryIndex<T> index) {
+            List<Step<T>> steps = planAll(children, index);
+            steps.sort(Comparator.comparingDouble((Step<T> step) -> step.getEstimatedRows()).reversed());
+            if (steps.stream().allMatch(Step::isIndexed)) {
+                Set<T> rows = new HashSet<>();
+                steps.forEach(step -> rows.addAll(step.getRows()));
+                return Step.indexed(toString(), "index union", rows, steps);
+            }
+
+            List<Predicate<T>> predicates = steps.stream().map(Step::getPredicate).collect(Collectors.toList());
+            double estimatedRows = Math.min(index.size(),
+                    steps.stream().mapToDouble(Step::getEstimatedRows).sum());
+            return Step.scan(toString(), "scan, testing the least selective term first", estimatedRows,
+                    item -> predicates.stream().anyMatch(predicate -> predicate.test(item)), steps);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Or // instanceof handles nulls
+                    && children.equals(((Or<?>) other).children)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return children.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "OR";
+        }
+    }
+
+    /**
+     * Matches the items that do not match its child.
+     */
+    private static class Not<T> extends QueryNode<T> {
+        private final QueryNode<T> child;
+
+        Not(QueryNode<T> child) {
+            requireNonNull(child);
+            this.child = child;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return !child.test(item);
+        }
+
+        @Override
+        public Step<T> plan(QueryIndex<T> index) {
+            Step<T> step = child.plan(index);
+            if (step.isIndexed()) {
+                Set<T> rows = new HashSet<>(index.getAll());
+                rows.removeAll(step.getRows());
+                return Step.indexed(toString(), "index complement", rows, Collections.singletonList(step));
+            }
+            Predicate<T> predicate = step.getPredicate();
+            return Step.scan(toString(), ACCESS_SCAN, index.size() - step.getEstimatedRows(),
+                    predicate.negate(), Collections.singletonList(step));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && child.equals(((Not<?>) other).child)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return child.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * How a {@link Query} is answered: a tree of steps, one for each node of the query, each either looking up its
+ * items in a {@link QueryIndex} or testing every item with a predicate.
+ */
+public class QueryPlan<T> {
+
+    private final Step<T> root;
+
+    public QueryPlan(Step<T> root) {
+        requireNonNull(root);
+        this.root = root;
+    }
+
+    public Step<T> getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the predicate that the items matching the query pass.
+     * If the items were found through indexes, the predicate only looks them up.
+     */
+    public Predicate<T> getFilter() {
+        if (root.isIndexed()) {
+            Set<T> rows = root.rows;
+            return rows::contains;
+        }
+        return root.predicate;
+    }
+
+    /**
+     * Returns the steps of the plan, one per line, with the steps under each step indented below it.
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder();
+        describe(root, 0, builder);
+        return builder.toString();
+    }
+
+    private static <T> void describe(Step<T> step, int depth, StringBuilder builder) {
+        if (depth > 0) {
+            builder.append('\n');
+        }
+        builder.append(String.join("", Collections.nCopies(depth, "  ")))
+                .append(step.description).append(": ").append(step.access);
+        if (step.isIndexed()) {
+            builder.append(", ").append(step.rows.size()).append(" row(s)");
+        } else {
+            builder.append(", about ").append(Math.round(step.estimatedRows)).append(" row(s)");
+        }
+        step.children.forEach(child -> describe(child, depth + 1, builder));
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    /**
+     * A step of a plan, which answers one node of a query.
+     * A step found through indexes knows its items exactly, while a step answered by a scan only knows the number
+     * of items it is estimated to match.
+     */
+    public static class Step<T> {
+        private final String description;
+        private final String access;
+        private final Set<T> rows;
+        private final double estimatedRows;
+        private final Predicate<T> predicate;
+        private final List<Step<T>> children;
+
+        private Step(String description, String access, Set<T> rows, double estimatedRows,
+                Predicate<T> predicate, List<Step<T>> children) {
+            this.description = description;
+            this.access = access;
+            this.rows = rows;
+            this.estimatedRows = estimatedRows;
+            this.predicate = predicate;
+            this.children = children;
+        }
+
+        /**
+         * Returns a step whose items {@code rows} were found through indexes by {@code access}.
+         */
+        public static <T> Step<T> indexed(String description, String access, Set<T> rows,
+                List<Step<T>> children) {
+            requireAllNonNull(description, access, rows, children);
+            return new Step<>(description, access, rows, rows.size(), rows::contains, children);
+        }
+
+        /**
+         * Returns a step that tests every item with {@code predicate}, which is estimated to match
+         * {@code estimatedRows} items.
+         */
+        public static <T> Step<T> scan(String description, String access, double estimatedRows,
+                Predicate<T> predicate, List<Step<T>> children) {
+            requireAllNonNull(description, access, predicate, children);
+            return new Step<>(description, access, null, estimatedRows, predicate, children);
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getAccess() {
+            return access;
+        }
+
+        /**
+         * Returns true if the items of this step were found through indexes.
+         */
+        public boolean isIndexed() {
+            return rows != null;
+        }
+
+        /**
+         * Returns the items of this step. This step must have been found through indexes.
+         */
+        public Set<T> getRows() {
+            assert isIndexed();
+            return Collections.unmodifiableSet(rows);
+        }
+
+        /**
+         * Returns the number of items this step matches, or is estimated to match if it is answered by a scan.
+         */
+        public double getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public Predicate<T> getPredicate() {
+            return predicate;
+        }
+
+        public List<Step<T>> getChildren() {
+            return children;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts, for each hour of each date, the guests booked and the tables in use, so that how busy a date is can be
+ * read without going through the reservations.
+ *
+ * The counters are updated as reservations are added and removed. A reservation counts towards every hour it
+ * occupies its table in. As reservations start on the hour, the reservations counted in an hour are exactly those
+ * occupying their tables at the start of that hour, and no table is counted twice in the same hour.
+ */
+public class CapacityHeatmap {
+    public static final int HOURS_PER_DAY = 24;
+
+    private final Map<LocalDate, DayCounters> countersByDate = new HashMap<>();
+
+    /**
+     * Counts {@code reservation} in the hours it occupies its table in.
+     */
+    void add(Reservation reservation) {
+        requireNonNull(reservation);
+        update(reservation, 1);
+    }
+
+    /**
+     * Stops counting {@code reservation}, which must have been counted before.
+     */
+    void remove(Reservation reservation) {
+        requireNonNull(reservation);
+        update(reservation, -1);
+    }
+
+    /**
+     * Replaces the counters with those of {@code reservations}.
+     */
+    void setAll(Iterable<Reservation> reservations) {
+        countersByDate.clear();
+        reservations.forEach(this::add);
+    }
+
+    private void update(Reservation reservation, int change) {
+        LocalDateTime hourStart = reservation.getDateTime().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = reservation.getEndDateTime();
+        DayCounters startCounters = getOrCreateCounters(reservation.getDateTime().toLocalDate());
+        startCounters.reservationCount += change;
+        startCounters.guestCount += change * reservation.getNumberOfPeople();
+        while (hourStart.isBefore(end)) {
+            DayCounters counters = getOrCreateCounters(hourStart.toLocalDate());
+            counters.covers[hourStart.getHour()] += change * reservation.getNumberOfPeople();
+            counters.tablesUsed[hourStart.getHour()] += change;
+            hourStart = hourStart.plusHours(1);
+        }
+        if (change < 0) {
+            removeIfEmpty(reservation.getDateTime().toLocalDate());
+            removeIfEmpty(end.minusNanos(1).toLocalDate());
+        }
+    }
+
+    private DayCounters getOrCreateCounters(LocalDate date) {
+        return countersByDate.computeIfAbsent(date, unused -> new DayCounters());
+    }
+
+    private void removeIfEmpty(LocalDate date) {
+        DayCounters counters = countersByDate.get(date);
+        if (counters != null && counters.isEmpty()) {
+            countersByDate.remove(date);
+        }
+    }
+
+    /**
+     * Returns the number of reservations starting on {@code date}.
+     */
+    public int getReservationCount(LocalDate date) {
+        requireNonNull(date);
+        DayCounters counters = countersByDate.get(date);
+        return counters == null ? 0 : counters.reservationCount;
+    }
+
+    /**
+     * Returns the number of guests in the reservations starting on {@code date}.
+     */
+    public int getGuestCount(LocalDate date) {
+        requireNonNull(date);
+        DayCounters counters = countersByDate.get(date);
+        return counters == null ? 0 : counters.guestCount;
+    }
+
+    /**
+     * Returns the number of guests whose tables are reserved for them during {@code hour} of {@code date}.
+     */
+    public int getCovers(LocalDate date, int hour) {
+        requireNonNull(date);
+        checkArgument(hour >= 0 && hour < HOURS_PER_DAY);
+        DayCounters counters = countersByDate.get(date);
+        return counters == null ? 0 : counters.covers[hour];
+    }
+
+    /**
+     * Returns the number of tables in use during {@code hour} of {@code date}.
+     */
+    public int getTablesUsed(LocalDate date, int hour) {
+        requireNonNull(date);
+        checkArgument(hour >= 0 && hour < HOURS_PER_DAY);
+        DayCounters counters = countersByDate.get(date);
+        return counters == null ? 0 : counters.tablesUsed[hour];
+    }
+
+    /**
+     * The counters of a single date.
+     */
+    private static class DayCounters {
+        private final int[] covers = new int[HOURS_PER_DAY];
+        private final int[] tablesUsed = new int[HOURS_PER_DAY];
+        private int reservationCount;
+        private int guestCount;
+
+        boolean isEmpty() {
+            if (reservationCount != 0) {
+                return false;
+            }
+            for (int tables : tablesUsed) {
+                if (tables != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
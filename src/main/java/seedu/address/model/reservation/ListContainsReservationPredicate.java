@@ -1,13 +1,14 @@
 package seedu.address.model.reservation;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.function.Predicate;
 
 import seedu.address.logic.parser.enums.EnumTypeOfCheck;
 
 /**
- * Tests that a {@code Reservation}'s {@code DateTime} matches the user input DateTime given.
+ * Tests that a {@code Reservation} is on the user input date, or occupies its table at the user input time.
  */
 public class ListContainsReservationPredicate implements Predicate<Reservation> {
     private final LocalDate date;
@@ -16,7 +17,7 @@ public class ListContainsReservationPredicate implements Predicate<Reservation>
 
     /**
      * Constructs a new ListContainsReservationPredicate
-     * @param date date parsed from user's input
+     * @param date date parsed from user's input, or the current date when checking only a time
      * @param time time parsed from user's input
      * @param typeOfCheck enum specifying if user is checking for date, time or both
      */
@@ -30,17 +31,15 @@ public class ListContainsReservationPredicate implements Predicate<Reservation>
     @Override
     public boolean test(Reservation reservation) {
         LocalDate reservationDate = reservation.getDateTime().toLocalDate();
-        LocalTime reservationTime = reservation.getDateTime().toLocalTime();
         boolean result = false;
         switch (typeOfCheck) {
         case Date:
             result = reservationDate.isEqual(date);
             break;
+        // the date of a time-only check is the date it was made on, so both checks test the same date time
         case Time:
-            result = reservationDate.isEqual(LocalDate.now()) && reservationTime.equals(time);
-            break;
         case DateTime:
-            result = reservationDate.isEqual(date) && reservationTime.equals(time);
+            result = reservation.covers(LocalDateTime.of(date, time));
             break;
         default:
             assert false;
@@ -2,6 +2,8 @@ package seedu.address.model.reservation;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Reservation's remark.
  * Guarantees: immutable; is always valid
@@ -15,6 +17,7 @@ public class Remark {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -27,7 +30,7 @@ public class Remark {
     }
 
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,7 +1,9 @@
 package seedu.address.model.reservation;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -14,30 +16,52 @@ import seedu.address.model.table.Table;
 import seedu.address.model.tag.Tag;
 
 /**
- * Represents a reservation
+ * Represents a reservation, which occupies its table from its date time until its duration has passed.
  */
 public class Reservation {
+    /** The duration of a reservation made without one, which is the length of the hourly slots reservations use. */
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+    /** Durations must be whole multiples of this. */
+    public static final Duration DURATION_STEP = Duration.ofMinutes(15);
+    public static final Duration MAX_DURATION = Duration.ofHours(12);
+    public static final String MESSAGE_DURATION_CONSTRAINTS = String.format(
+            "Duration should be a number of minutes that is a multiple of %1$d, and at most %2$d",
+            DURATION_STEP.toMinutes(), MAX_DURATION.toMinutes());
+
     private static final DateTimeFormatter DATE_TIME_PRINTING_FORMAT =
             DateTimeFormatter.ofPattern("d MMMM yyyy, h:mm a");
 
     private final Phone phone;
     private final int numberOfPeople;
     private final LocalDateTime dateTime;
+    private final Duration duration;
     private final Table table;
     private final Remark remark;
     private final Set<Tag> tags = new HashSet<>();
 
     /**
-     * Creates a reservation with remark and tags
+     * Creates a reservation with remark and tags, which lasts for {@link #DEFAULT_DURATION}
      */
     public Reservation(
             Phone phone, int numberOfPeople, LocalDateTime dateTime,
             Table table, Remark remark, Set<Tag> tags
     ) {
-        requireAllNonNull(phone, numberOfPeople, dateTime, tags, remark);
+        this(phone, numberOfPeople, dateTime, DEFAULT_DURATION, table, remark, tags);
+    }
+
+    /**
+     * Creates a reservation with remark and tags, which lasts for {@code duration}
+     */
+    public Reservation(
+            Phone phone, int numberOfPeople, LocalDateTime dateTime, Duration duration,
+            Table table, Remark remark, Set<Tag> tags
+    ) {
+        requireAllNonNull(phone, numberOfPeople, dateTime, duration, tags, remark);
+        checkArgument(isValidDuration(duration), MESSAGE_DURATION_CONSTRAINTS);
         this.phone = phone;
         this.numberOfPeople = numberOfPeople;
         this.dateTime = dateTime;
+        this.duration = duration;
         this.table = table;
         this.remark = remark;
         this.tags.addAll(tags);
@@ -55,6 +79,41 @@ public class Reservation {
         return dateTime;
     }
 
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the date time at which the table is free again.
+     */
+    public LocalDateTime getEndDateTime() {
+        return dateTime.plus(duration);
+    }
+
+    /**
+     * Returns true if this reservation occupies its table at any time from {@code start} until {@code end}.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return dateTime.isBefore(end) && start.isBefore(getEndDateTime());
+    }
+
+    /**
+     * Returns true if this reservation occupies its table at {@code time}.
+     */
+    public boolean covers(LocalDateTime time) {
+        return !time.isBefore(dateTime) && time.isBefore(getEndDateTime());
+    }
+
+    /**
+     * Returns true if {@code duration} is a valid duration for a reservation.
+     */
+    public static boolean isValidDuration(Duration duration) {
+        return !duration.isNegative() && !duration.isZero()
+                && duration.compareTo(MAX_DURATION) <= 0
+                && duration.toMinutes() % DURATION_STEP.toMinutes() == 0
+                && duration.equals(Duration.ofMinutes(duration.toMinutes()));
+    }
+
     public int getTableId() {
         return table.getTableId();
     }
@@ -71,6 +130,20 @@ public class Reservation {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns a copy of this reservation made by the customer with {@code phone}.
+     */
+    public Reservation withPhone(Phone phone) {
+        return new Reservation(phone, numberOfPeople, dateTime, duration, table, remark, tags);
+    }
+
+    /**
+     * Returns a copy of this reservation seated at {@code table}.
+     */
+    public Reservation withTable(Table table) {
+        return new Reservation(phone, numberOfPeople, dateTime, duration, table, remark, tags);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,6 +160,7 @@ public class Reservation {
         return numberOfPeople == that.numberOfPeople
                 && phone.equals(that.phone)
                 && dateTime.equals(that.dateTime)
+                && duration.equals(that.duration)
                 && table.equals(that.table)
                 && remark.equals(that.remark)
                 && tags.equals(that.tags);
@@ -97,7 +171,7 @@ public class Reservation {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(phone, numberOfPeople, dateTime, table, tags);
+        return Objects.hash(phone, numberOfPeople, dateTime, duration, table, tags);
     }
 
     /**
@@ -111,6 +185,9 @@ public class Reservation {
                 .append(numberOfPeople)
                 .append("; Time: ")
                 .append(dateTime.format(DATE_TIME_PRINTING_FORMAT))
+                .append("; Duration: ")
+                .append(duration.toMinutes())
+                .append(" minutes")
                 .append("; Table: ")
                 .append(table);
 
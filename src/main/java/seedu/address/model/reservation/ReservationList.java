@@ -12,7 +12,9 @@ import javafx.collections.ObservableList;
 import seedu.address.model.reservation.exception.ReservationNotFoundException;
 
 /**
- * Represents a list of reservation.
+ * Represents a list of reservation, kept sorted by date time with the latest first.
+ * Reservations are found and inserted by a binary search on their date time, so only the reservations at the same
+ * date time are compared one by one.
  * Supports a minimal set of list operations.
  */
 public class ReservationList implements Iterable<Reservation> {
@@ -28,7 +30,7 @@ public class ReservationList implements Iterable<Reservation> {
      */
     public boolean contains(Reservation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return indexOf(toCheck) >= 0;
     }
 
     /**
@@ -36,8 +38,7 @@ public class ReservationList implements Iterable<Reservation> {
      */
     public void add(Reservation toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
-        internalList.sort(DATE_TIME_ASCENDING);
+        internalList.add(insertionIndex(toAdd), toAdd);
     }
 
     /**
@@ -46,12 +47,16 @@ public class ReservationList implements Iterable<Reservation> {
      */
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index < 0) {
             throw new ReservationNotFoundException();
         }
-        internalList.set(index, editedReservation);
-        internalList.sort(DATE_TIME_ASCENDING);
+        if (target.getDateTime().equals(editedReservation.getDateTime())) {
+            internalList.set(index, editedReservation);
+            return;
+        }
+        internalList.remove(index);
+        internalList.add(insertionIndex(editedReservation), editedReservation);
     }
 
     /**
@@ -60,9 +65,11 @@ public class ReservationList implements Iterable<Reservation> {
      */
     public void remove(Reservation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index < 0) {
             throw new ReservationNotFoundException();
         }
+        internalList.remove(index);
     }
 
     public void setReservations(ReservationList replacement) {
@@ -94,6 +101,54 @@ public class ReservationList implements Iterable<Reservation> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the index of the reservation equal to {@code reservation}, or -1 if there is none.
+     */
+    private int indexOf(Reservation reservation) {
+        for (int i = firstIndexNotBefore(reservation); i < internalList.size()
+                && DATE_TIME_ASCENDING.compare(internalList.get(i), reservation) == 0; i++) {
+            if (internalList.get(i).equals(reservation)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first reservation that is not ordered before {@code reservation}.
+     */
+    private int firstIndexNotBefore(Reservation reservation) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (DATE_TIME_ASCENDING.compare(internalList.get(middle), reservation) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index to insert {@code reservation} at, after the reservations at the same date time, as sorting
+     * the list with it added at the end would.
+     */
+    private int insertionIndex(Reservation reservation) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (DATE_TIME_ASCENDING.compare(internalList.get(middle), reservation) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     @Override
     public Iterator<Reservation> iterator() {
         return internalList.iterator();
@@ -0,0 +1,139 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Indexes reservations by table and start time, so that the reservations overlapping a period can be found without
+ * going through every reservation.
+ *
+ * The reservations of each table are kept sorted by start time. A reservation overlapping a period must start before
+ * the period ends, and no earlier than the longest reservation of its table before the period starts, so only the
+ * reservations starting within that window are looked at. This takes O(log n) for the n reservations of a table, as
+ * the reservations of a table rarely overlap each other.
+ */
+class ReservationSchedule {
+    private final Map<Integer, TableSchedule> tableSchedules = new HashMap<>();
+
+    /**
+     * Adds {@code reservation} to the schedule of its table.
+     */
+    void add(Reservation reservation) {
+        requireNonNull(reservation);
+        tableSchedules.computeIfAbsent(reservation.getTableId(), unused -> new TableSchedule()).add(reservation);
+    }
+
+    /**
+     * Removes {@code reservation} from the schedule of its table, if it is there.
+     */
+    void remove(Reservation reservation) {
+        requireNonNull(reservation);
+        TableSchedule tableSchedule = tableSchedules.get(reservation.getTableId());
+        if (tableSchedule != null && tableSchedule.remove(reservation) && tableSchedule.isEmpty()) {
+            tableSchedules.remove(reservation.getTableId());
+        }
+    }
+
+    /**
+     * Replaces the schedule with {@code reservations}.
+     */
+    void setAll(Iterable<Reservation> reservations) {
+        tableSchedules.clear();
+        reservations.forEach(this::add);
+    }
+
+    /**
+     * Returns a reservation of the table with {@code tableId} that overlaps the period from {@code start} until
+     * {@code end}, if there is one.
+     */
+    Optional<Reservation> findOverlapping(int tableId, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        TableSchedule tableSchedule = tableSchedules.get(tableId);
+        return tableSchedule == null ? Optional.empty() : tableSchedule.findOverlapping(start, end);
+    }
+
+    /**
+     * Returns the reservations of the table with {@code tableId}, sorted by start time.
+     */
+    List<Reservation> getReservations(int tableId) {
+        TableSchedule tableSchedule = tableSchedules.get(tableId);
+        return tableSchedule == null ? List.of() : tableSchedule.getReservations();
+    }
+
+    /**
+     * Returns one reservation for each table that is occupied at some time from {@code start} until {@code end}.
+     */
+    List<Reservation> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Reservation> overlapping = new ArrayList<>();
+        tableSchedules.values().forEach(tableSchedule ->
+                tableSchedule.findOverlapping(start, end).ifPresent(overlapping::add));
+        return overlapping;
+    }
+
+    /**
+     * The reservations of a single table.
+     */
+    private static class TableSchedule {
+        private final NavigableMap<LocalDateTime, List<Reservation>> reservationsByStart = new TreeMap<>();
+        // the number of reservations of each duration, so that the longest is still known after it is removed
+        private final NavigableMap<Duration, Integer> durationCounts = new TreeMap<>();
+
+        void add(Reservation reservation) {
+            reservationsByStart.computeIfAbsent(reservation.getDateTime(), unused -> new ArrayList<>(1))
+                    .add(reservation);
+            durationCounts.merge(reservation.getDuration(), 1, Integer::sum);
+        }
+
+        boolean remove(Reservation reservation) {
+            List<Reservation> sameStart = reservationsByStart.get(reservation.getDateTime());
+            if (sameStart == null || !sameStart.remove(reservation)) {
+                return false;
+            }
+            if (sameStart.isEmpty()) {
+                reservationsByStart.remove(reservation.getDateTime());
+            }
+            durationCounts.computeIfPresent(reservation.getDuration(), (unused, count) ->
+                    count == 1 ? null : count - 1);
+            return true;
+        }
+
+        boolean isEmpty() {
+            return reservationsByStart.isEmpty();
+        }
+
+        List<Reservation> getReservations() {
+            List<Reservation> reservations = new ArrayList<>();
+            reservationsByStart.values().forEach(reservations::addAll);
+            return reservations;
+        }
+
+        Optional<Reservation> findOverlapping(LocalDateTime start, LocalDateTime end) {
+            Duration longestDuration = durationCounts.isEmpty() ? Duration.ZERO : durationCounts.lastKey();
+            LocalDateTime earliestStart = start.minus(longestDuration);
+            if (!earliestStart.isBefore(end)) {
+                return Optional.empty();
+            }
+            // the latest reservations are the likeliest to overlap, so they are looked at first
+            for (List<Reservation> sameStart
+                    : reservationsByStart.subMap(earliestStart, false, end, false).descendingMap().values()) {
+                for (Reservation reservation : sameStart) {
+                    if (reservation.overlaps(start, end)) {
+                        return Optional.of(reservation);
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -2,12 +2,18 @@ package seedu.address.model.reservation;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.Model;
+import seedu.address.model.person.Phone;
 import seedu.address.model.reservation.exception.ReservationException;
 import seedu.address.model.table.Table;
 
@@ -16,34 +22,98 @@ import seedu.address.model.table.Table;
  */
 public class ReservationsManager {
     private final ReservationList reservations;
+    private final ReservationSchedule schedule = new ReservationSchedule();
+    private final TableOccupancy occupancy = new TableOccupancy(schedule);
+    private final CapacityHeatmap capacityHeatmap = new CapacityHeatmap();
+    // the reservations made by each customer, so they can be found without going through every reservation
+    private final Map<Phone, List<Reservation>> reservationsByPhone = new HashMap<>();
 
     public ReservationsManager() {
         this.reservations = new ReservationList();
     }
 
+    /**
+     * Constructs a ReservationsManager that manages {@code reservations}
+     */
     public ReservationsManager(ReservationList reservations) {
         this.reservations = reservations;
+        schedule.setAll(reservations);
+        occupancy.setAll(reservations);
+        capacityHeatmap.setAll(reservations);
+        indexByPhone(reservations);
     }
 
     public Table getAvailableTable(Model model, int numberOfPeople, LocalDateTime dateTime)
             throws ReservationException {
-        return model.getTableManager().getAvailableTable(numberOfPeople, filterReservationsOnDateTime(dateTime));
+        return getAvailableTable(model, numberOfPeople, dateTime, Reservation.DEFAULT_DURATION);
+    }
+
+    /**
+     * Returns the smallest table that fits {@code numberOfPeople} and is free from {@code dateTime} until
+     * {@code duration} has passed.
+     *
+     * @throws ReservationException if there is no such table.
+     */
+    public Table getAvailableTable(Model model, int numberOfPeople, LocalDateTime dateTime, Duration duration)
+            throws ReservationException {
+        return model.getTableManager().getAvailableTable(numberOfPeople,
+                getOverlappingReservations(dateTime, dateTime.plus(duration)));
+    }
+
+    /**
+     * Returns one reservation for each table that is occupied at some time from {@code start} until {@code end}.
+     */
+    public List<Reservation> getOverlappingReservations(LocalDateTime start, LocalDateTime end) {
+        return schedule.findOverlapping(start, end);
     }
 
-    private List<Reservation> filterReservationsOnDateTime(LocalDateTime dateTime) {
-        return reservations
-                .asUnmodifiableObservableList()
-                .stream()
-                .filter(reservation -> dateTime.equals(reservation.getDateTime()))
-                .collect(Collectors.toList());
+    /**
+     * Returns true if the table with {@code tableId} is free from {@code start} until {@code end}.
+     */
+    public boolean isTableFree(int tableId, LocalDateTime start, LocalDateTime end) {
+        return schedule.findOverlapping(tableId, start, end).isEmpty();
+    }
+
+    /**
+     * Returns the earliest {@code limit} start times, from {@code from} and before {@code until}, at which some table
+     * in {@code candidateTables} is free for {@code duration}.
+     *
+     * @param candidateTables the IDs of the tables that may be used, such as those that fit the party.
+     */
+    public List<LocalDateTime> findFreeSlots(BitSet candidateTables, LocalDateTime from, Duration duration,
+            LocalDateTime until, int limit) {
+        requireNonNull(candidateTables);
+        return occupancy.findFreeSlots(candidateTables, from, duration, until, limit);
+    }
+
+    /**
+     * Returns the reservations of the table with {@code tableId}, sorted by start time.
+     */
+    public List<Reservation> getReservationsOfTable(int tableId) {
+        return schedule.getReservations(tableId);
+    }
+
+    /**
+     * Returns the guests booked and tables in use in each hour, which is kept up to date as reservations change.
+     */
+    public CapacityHeatmap getCapacityHeatmap() {
+        return capacityHeatmap;
     }
 
     public void setReservations(List<Reservation> reservations) {
         this.reservations.setReservations(reservations);
+        schedule.setAll(reservations);
+        occupancy.setAll(reservations);
+        capacityHeatmap.setAll(reservations);
+        indexByPhone(reservations);
     }
 
     public void resetReservations() {
         reservations.resetReservations();
+        schedule.setAll(List.of());
+        occupancy.setAll(List.of());
+        capacityHeatmap.setAll(List.of());
+        reservationsByPhone.clear();
     }
 
     /**
@@ -52,6 +122,14 @@ public class ReservationsManager {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireNonNull(editedReservation);
         reservations.setReservation(target, editedReservation);
+        schedule.remove(target);
+        schedule.add(editedReservation);
+        occupancy.remove(target);
+        occupancy.add(editedReservation);
+        capacityHeatmap.remove(target);
+        capacityHeatmap.add(editedReservation);
+        unindexByPhone(target);
+        indexByPhone(editedReservation);
     }
 
     /**
@@ -67,6 +145,10 @@ public class ReservationsManager {
      */
     public void addReservation(Reservation reservation) {
         reservations.add(reservation);
+        schedule.add(reservation);
+        occupancy.add(reservation);
+        capacityHeatmap.add(reservation);
+        indexByPhone(reservation);
     }
 
     /**
@@ -75,6 +157,34 @@ public class ReservationsManager {
      */
     public void removeReservation(Reservation key) {
         reservations.remove(key);
+        schedule.remove(key);
+        occupancy.remove(key);
+        capacityHeatmap.remove(key);
+        unindexByPhone(key);
+    }
+
+    /**
+     * Returns the reservations made by the customer with {@code phone}, in the order they were added.
+     */
+    public List<Reservation> getReservationsOf(Phone phone) {
+        requireNonNull(phone);
+        return Collections.unmodifiableList(reservationsByPhone.getOrDefault(phone, List.of()));
+    }
+
+    private void indexByPhone(Iterable<Reservation> reservations) {
+        reservationsByPhone.clear();
+        reservations.forEach(this::indexByPhone);
+    }
+
+    private void indexByPhone(Reservation reservation) {
+        reservationsByPhone.computeIfAbsent(reservation.getPhone(), unused -> new ArrayList<>()).add(reservation);
+    }
+
+    private void unindexByPhone(Reservation reservation) {
+        List<Reservation> reservationsOfPhone = reservationsByPhone.get(reservation.getPhone());
+        if (reservationsOfPhone != null && reservationsOfPhone.remove(reservation) && reservationsOfPhone.isEmpty()) {
+            reservationsByPhone.remove(reservation.getPhone());
+        }
     }
 
     /**
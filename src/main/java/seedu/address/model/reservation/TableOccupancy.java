@@ -0,0 +1,109 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps, for each hour, the set of tables that are in use at some time during that hour, as a bitset indexed by
+ * table ID.
+ *
+ * As reservations start on the hour, a table is free for a reservation starting at an hour exactly when its bit is
+ * clear in every hour the reservation would occupy. Finding the tables free for a slot then takes a few word-wide
+ * {@code andNot}s instead of going through the reservations, so slots can be scanned hour by hour far ahead.
+ */
+class TableOccupancy {
+    private static final long MINUTES_PER_HOUR = Duration.ofHours(1).toMinutes();
+
+    private final Map<LocalDateTime, BitSet> tablesInUseByHour = new HashMap<>();
+    private final ReservationSchedule schedule;
+
+    /**
+     * Creates an empty occupancy that looks up {@code schedule} to tell whether a table is still in use when a
+     * reservation is removed.
+     */
+    TableOccupancy(ReservationSchedule schedule) {
+        requireNonNull(schedule);
+        this.schedule = schedule;
+    }
+
+    /**
+     * Marks the table of {@code reservation} as in use in every hour the reservation occupies it in.
+     */
+    void add(Reservation reservation) {
+        requireNonNull(reservation);
+        for (LocalDateTime hour = getFirstHour(reservation); hour.isBefore(reservation.getEndDateTime());
+                hour = hour.plusHours(1)) {
+            tablesInUseByHour.computeIfAbsent(hour, unused -> new BitSet()).set(reservation.getTableId());
+        }
+    }
+
+    /**
+     * Marks the table of {@code reservation} as free in the hours it occupied, unless another reservation of the
+     * table in the schedule still occupies it then. {@code reservation} must already be removed from the schedule.
+     */
+    void remove(Reservation reservation) {
+        requireNonNull(reservation);
+        int tableId = reservation.getTableId();
+        for (LocalDateTime hour = getFirstHour(reservation); hour.isBefore(reservation.getEndDateTime());
+                hour = hour.plusHours(1)) {
+            BitSet tablesInUse = tablesInUseByHour.get(hour);
+            if (tablesInUse == null || schedule.findOverlapping(tableId, hour, hour.plusHours(1)).isPresent()) {
+                continue;
+            }
+            tablesInUse.clear(tableId);
+            if (tablesInUse.isEmpty()) {
+                tablesInUseByHour.remove(hour);
+            }
+        }
+    }
+
+    /**
+     * Replaces the occupancy with that of {@code reservations}.
+     */
+    void setAll(Iterable<Reservation> reservations) {
+        tablesInUseByHour.clear();
+        reservations.forEach(this::add);
+    }
+
+    /**
+     * Returns the start times, from the hour of {@code from} and before {@code until}, at which some table in
+     * {@code candidateTables} is free for {@code duration}, up to the earliest {@code limit} of them.
+     *
+     * @param candidateTables the IDs of the tables that may be used, which is not changed.
+     */
+    List<LocalDateTime> findFreeSlots(BitSet candidateTables, LocalDateTime from, Duration duration,
+            LocalDateTime until, int limit) {
+        requireAllNonNull(candidateTables, from, duration, until);
+        long hoursNeeded = (duration.toMinutes() + MINUTES_PER_HOUR - 1) / MINUTES_PER_HOUR;
+        List<LocalDateTime> freeSlots = new ArrayList<>();
+        BitSet freeTables = new BitSet();
+        for (LocalDateTime slot = from.truncatedTo(ChronoUnit.HOURS);
+                slot.isBefore(until) && freeSlots.size() < limit; slot = slot.plusHours(1)) {
+            freeTables.clear();
+            freeTables.or(candidateTables);
+            for (int i = 0; i < hoursNeeded && !freeTables.isEmpty(); i++) {
+                BitSet tablesInUse = tablesInUseByHour.get(slot.plusHours(i));
+                if (tablesInUse != null) {
+                    freeTables.andNot(tablesInUse);
+                }
+            }
+            if (!freeTables.isEmpty()) {
+                freeSlots.add(slot);
+            }
+        }
+        return freeSlots;
+    }
+
+    private static LocalDateTime getFirstHour(Reservation reservation) {
+        return reservation.getDateTime().truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Phone;
+
+/**
+ * Holds the parties waiting for a table, in a queue for each date time that parties asked for.
+ *
+ * Each queue is a sorted set ordered by {@link WaitlistEntry#PRIORITY_ORDER}, so the party to seat first is at the
+ * head of its queue, and a party is added or removed in O(log n) for the n parties waiting for that date time. When
+ * a table is freed, only the queues of the date times whose parties would need a table during the freed period are
+ * looked at. The entries of each customer are kept by phone number, so a customer's k entries are found in O(k).
+ * A customer waits at most once for each date time.
+ */
+public class Waitlist {
+    // a total order, as a customer waits at most once for each date time
+    private static final Comparator<WaitlistEntry> QUEUE_ORDER =
+            WaitlistEntry.PRIORITY_ORDER.thenComparing(entry -> entry.getPhone().value);
+    private static final Comparator<WaitlistEntry> LIST_ORDER =
+            Comparator.comparing(WaitlistEntry::getDateTime).thenComparing(QUEUE_ORDER);
+
+    private final NavigableMap<LocalDateTime, NavigableSet<WaitlistEntry>> queuesByDateTime = new TreeMap<>();
+    private final Map<Phone, Map<LocalDateTime, WaitlistEntry>> entriesByPhone = new HashMap<>();
+    // every entry, sorted by date time and then by priority, which is the order the waitlist is shown in
+    private final ObservableList<WaitlistEntry> internalList = FXCollections.observableArrayList();
+    private final ObservableList<WaitlistEntry> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    // never shortened when entries are removed, which only widens the date times that are looked at
+    private Duration longestDuration = Duration.ZERO;
+
+    /**
+     * Adds {@code entry} to the queue of its date time.
+     * The customer of {@code entry} must not already be waiting for its date time.
+     */
+    public void add(WaitlistEntry entry) {
+        requireNonNull(entry);
+        assert !isWaiting(entry.getPhone(), entry.getDateTime());
+        addToIndexes(entry);
+        int index = Collections.binarySearch(internalList, entry, LIST_ORDER);
+        internalList.add(-index - 1, entry);
+    }
+
+    /**
+     * Removes {@code entry} from the waitlist, if it is there.
+     */
+    public void remove(WaitlistEntry entry) {
+        requireNonNull(entry);
+        if (!entry.equals(getEntry(entry.getPhone(), entry.getDateTime()))) {
+            return;
+        }
+        NavigableSet<WaitlistEntry> queue = queuesByDateTime.get(entry.getDateTime());
+        queue.remove(entry);
+        if (queue.isEmpty()) {
+            queuesByDateTime.remove(entry.getDateTime());
+        }
+        removeFromListAndPhones(entry);
+    }
+
+    /**
+     * Replaces the contents of the waitlist with {@code entries}.
+     * No customer may wait more than once for the same date time among {@code entries}.
+     */
+    public void setEntries(List<WaitlistEntry> entries) {
+        requireNonNull(entries);
+        queuesByDateTime.clear();
+        entriesByPhone.clear();
+        longestDuration = Duration.ZERO;
+        List<WaitlistEntry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(LIST_ORDER);
+        sortedEntries.forEach(this::addToIndexes);
+        internalList.setAll(sortedEntries);
+    }
+
+    private void addToIndexes(WaitlistEntry entry) {
+        queuesByDateTime.computeIfAbsent(entry.getDateTime(), unused -> new TreeSet<>(QUEUE_ORDER)).add(entry);
+        entriesByPhone.computeIfAbsent(entry.getPhone(), unused -> new HashMap<>()).put(entry.getDateTime(), entry);
+        if (entry.getDuration().compareTo(longestDuration) > 0) {
+            longestDuration = entry.getDuration();
+        }
+    }
+
+    /**
+     * Removes {@code entry}, which has been taken out of its queue, from the list and the entries of its customer.
+     */
+    private void removeFromListAndPhones(WaitlistEntry entry) {
+        int index = Collections.binarySearch(internalList, entry, LIST_ORDER);
+        assert index >= 0;
+        internalList.remove(index);
+        Map<LocalDateTime, WaitlistEntry> entriesOfPhone = entriesByPhone.get(entry.getPhone());
+        entriesOfPhone.remove(entry.getDateTime());
+        if (entriesOfPhone.isEmpty()) {
+            entriesByPhone.remove(entry.getPhone());
+        }
+    }
+
+    private WaitlistEntry getEntry(Phone phone, LocalDateTime dateTime) {
+        return entriesByPhone.getOrDefault(phone, Collections.emptyMap()).get(dateTime);
+    }
+
+    /**
+     * Returns true if the customer with {@code phone} is waiting for a table at {@code dateTime}.
+     */
+    public boolean isWaiting(Phone phone, LocalDateTime dateTime) {
+        requireAllNonNull(phone, dateTime);
+        return getEntry(phone, dateTime) != null;
+    }
+
+    /**
+     * Returns the entries of the customer with {@code phone}, in the order the waitlist is shown in.
+     */
+    public List<WaitlistEntry> getEntriesOf(Phone phone) {
+        requireNonNull(phone);
+        List<WaitlistEntry> entries =
+                new ArrayList<>(entriesByPhone.getOrDefault(phone, Collections.emptyMap()).values());
+        entries.sort(LIST_ORDER);
+        return entries;
+    }
+
+    /**
+     * Returns the place of {@code entry} in the queue of its date time, starting from 1.
+     * {@code entry} must be in the waitlist.
+     */
+    public int getPosition(WaitlistEntry entry) {
+        requireNonNull(entry);
+        int index = Collections.binarySearch(internalList, entry, LIST_ORDER);
+        assert index >= 0;
+        return index - firstIndexOf(entry.getDateTime()) + 1;
+    }
+
+    /**
+     * Returns the index of the first entry in the list for {@code dateTime} or a later date time.
+     */
+    private int firstIndexOf(LocalDateTime dateTime) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (internalList.get(middle).getDateTime().isBefore(dateTime)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Removes and returns the party to seat first among those that would need a table at some time from
+     * {@code start} until {@code end} and that {@code canBeSeated} accepts, if there is one.
+     *
+     * Parties asking for earlier date times are seated first. Within the queue of a date time, the parties are looked
+     * at from its head, so a party that cannot be seated does not keep a smaller party behind it waiting.
+     */
+    public Optional<WaitlistEntry> pollFirstSeatable(LocalDateTime start, LocalDateTime end,
+            Predicate<WaitlistEntry> canBeSeated) {
+        requireAllNonNull(start, end, canBeSeated);
+        LocalDateTime earliestDateTime = start.minus(longestDuration);
+        if (!earliestDateTime.isBefore(end)) {
+            return Optional.empty();
+        }
+
+        Iterator<NavigableSet<WaitlistEntry>> queues =
+                queuesByDateTime.subMap(earliestDateTime, false, end, false).values().iterator();
+        while (queues.hasNext()) {
+            NavigableSet<WaitlistEntry> queue = queues.next();
+            Iterator<WaitlistEntry> entries = queue.iterator();
+            while (entries.hasNext()) {
+                WaitlistEntry entry = entries.next();
+                if (entry.overlaps(start, end) && canBeSeated.test(entry)) {
+                    entries.remove();
+                    if (queue.isEmpty()) {
+                        queues.remove();
+                    }
+                    removeFromListAndPhones(entry);
+                    return Optional.of(entry);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the entries as an unmodifiable {@code ObservableList}, sorted by date time and then by the order the
+     * parties will be seated in.
+     */
+    public ObservableList<WaitlistEntry> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Waitlist // instanceof handles nulls
+                && internalList.equals(((Waitlist) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.model.reservation;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.person.Phone;
+import seedu.address.model.table.Table;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents a party waiting for a table at a date time when no table that fits it was free.
+ */
+public class WaitlistEntry {
+    /**
+     * The length of the windows that request times are grouped into. Parties that asked in the same window are
+     * taken to have asked at the same time, so that a few minutes between them do not outweigh loyalty points.
+     */
+    public static final Duration REQUEST_WINDOW = Duration.ofMinutes(30);
+
+    /**
+     * Orders the parties waiting for the same date time from the one to seat first: the party that asked in an
+     * earlier {@link #REQUEST_WINDOW}, then the party with more loyalty points, then the larger party, and lastly the
+     * party that asked first.
+     */
+    public static final Comparator<WaitlistEntry> PRIORITY_ORDER =
+            Comparator.comparingLong(WaitlistEntry::getRequestWindow)
+                    .thenComparing(Comparator.comparingInt(WaitlistEntry::getLoyaltyPoints).reversed())
+                    .thenComparing(Comparator.comparingInt(WaitlistEntry::getNumberOfPeople).reversed())
+                    .thenComparing(WaitlistEntry::getRequestTime);
+
+    private static final DateTimeFormatter DATE_TIME_PRINTING_FORMAT =
+            DateTimeFormatter.ofPattern("d MMMM yyyy, h:mm a");
+
+    private final Phone phone;
+    private final int numberOfPeople;
+    private final LocalDateTime dateTime;
+    private final Duration duration;
+    private final Remark remark;
+    private final Set<Tag> tags = new HashSet<>();
+    private final LocalDateTime requestTime;
+    private final int loyaltyPoints;
+
+    /**
+     * Creates an entry for a party that asked for a table at {@code requestTime}.
+     *
+     * @param loyaltyPoints the loyalty points of the customer when they asked, which decide between parties that
+     *                      asked in the same {@link #REQUEST_WINDOW}
+     */
+    public WaitlistEntry(Phone phone, int numberOfPeople, LocalDateTime dateTime, Duration duration, Remark remark,
+            Set<Tag> tags, LocalDateTime requestTime, int loyaltyPoints) {
+        requireAllNonNull(phone, dateTime, duration, remark, tags, requestTime);
+        checkArgument(Reservation.isValidDuration(duration), Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        this.phone = phone;
+        this.numberOfPeople = numberOfPeople;
+        this.dateTime = dateTime;
+        this.duration = duration;
+        this.remark = remark;
+        this.tags.addAll(tags);
+        this.requestTime = requestTime;
+        this.loyaltyPoints = loyaltyPoints;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public int getNumberOfPeople() {
+        return numberOfPeople;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return dateTime.plus(duration);
+    }
+
+    public Remark getRemark() {
+        return remark;
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    public LocalDateTime getRequestTime() {
+        return requestTime;
+    }
+
+    public int getLoyaltyPoints() {
+        return loyaltyPoints;
+    }
+
+    /**
+     * Returns the number of the {@link #REQUEST_WINDOW} the party asked in, counted from the epoch.
+     */
+    private long getRequestWindow() {
+        return requestTime.toEpochSecond(ZoneOffset.UTC) / REQUEST_WINDOW.getSeconds();
+    }
+
+    /**
+     * Returns true if the party would need a table at any time from {@code start} until {@code end}.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return dateTime.isBefore(end) && start.isBefore(getEndDateTime());
+    }
+
+    /**
+     * Returns a copy of this entry for the customer with {@code phone}.
+     */
+    public WaitlistEntry withPhone(Phone phone) {
+        return new WaitlistEntry(phone, numberOfPeople, dateTime, duration, remark, tags, requestTime, loyaltyPoints);
+    }
+
+    /**
+     * Returns the reservation that seats this party at {@code table}.
+     */
+    public Reservation toReservation(Table table) {
+        return new Reservation(phone, numberOfPeople, dateTime, duration, table, remark, tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof WaitlistEntry)) {
+            return false;
+        }
+
+        WaitlistEntry that = (WaitlistEntry) other;
+        return numberOfPeople == that.numberOfPeople
+                && loyaltyPoints == that.loyaltyPoints
+                && phone.equals(that.phone)
+                && dateTime.equals(that.dateTime)
+                && duration.equals(that.duration)
+                && remark.equals(that.remark)
+                && tags.equals(that.tags)
+                && requestTime.equals(that.requestTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phone, numberOfPeople, dateTime, duration, requestTime);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Phone: ");
+        builder.append(phone)
+                .append("; Number Of People: ")
+                .append(numberOfPeople)
+                .append("; Time: ")
+                .append(dateTime.format(DATE_TIME_PRINTING_FORMAT))
+                .append("; Duration: ")
+                .append(duration.toMinutes())
+                .append(" minutes")
+                .append("; Loyalty Points: ")
+                .append(loyaltyPoints)
+                .append("; Waiting Since: ")
+                .append(requestTime.format(DATE_TIME_PRINTING_FORMAT));
+
+        if (!remark.value.isEmpty()) {
+            builder.append("; Remark: ")
+                    .append(remark);
+        }
+        if (!tags.isEmpty()) {
+            builder.append("; Tags: ");
+            tags.forEach(builder::append);
+        }
+
+        return builder.toString();
+    }
+}
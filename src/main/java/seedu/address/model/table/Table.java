@@ -7,22 +7,9 @@ import static seedu.address.logic.parser.SetTablesCommandParser.MESSAGE_INVALID_
  * Represents a table in the restaurant.
  */
 public class Table {
-    private static int numberOfTables = 0;
-
     private final int tableId;
     private final int numOfSeats;
 
-    /**
-     * Constructs a new Table object with unique ID and specified number of seats
-     * @param numOfSeats number of seats the table has
-     */
-    public Table(int numOfSeats) {
-        checkArgument(checkIfValidValue(numOfSeats), MESSAGE_INVALID_SIZE_OR_COUNT);
-        this.numOfSeats = numOfSeats;
-        numberOfTables++;
-        tableId = numberOfTables;
-    }
-
     /**
      * Constructs a new Table object with specified ID and specified number of seats
      * @param numOfSeats number of seats the table has
@@ -62,10 +49,6 @@ public class Table {
                 : tableId - other.tableId;
     }
 
-    public static void resetTableCount() {
-        numberOfTables = 0;
-    }
-
     public static boolean checkIfValidValue(int value) {
         return value >= 1;
     }
@@ -0,0 +1,259 @@
+package seedu.address.model.table;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Finds the assignment of reservations to tables that seats the most guests, to undo the tables given out one
+ * booking at a time, such as an early party of 2 holding the only table for 8.
+ *
+ * The search goes through the reservations from the largest party to the smallest, trying the tables that fit each
+ * party from the smallest up, so the first assignment it finds is already a good one. It then keeps looking for a
+ * better one, skipping the assignments that cannot beat the best found so far, until it has tried them all or its
+ * time budget runs out.
+ */
+public class TableAssignmentOptimiser {
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+
+    // number of assignments tried between checks of whether the time budget ran out
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final List<Table> tables;
+    private final Duration timeBudget;
+
+    /**
+     * Creates a {@code TableAssignmentOptimiser} that assigns reservations to {@code tables}, and stops searching
+     * once {@code timeBudget} has passed.
+     */
+    public TableAssignmentOptimiser(List<Table> tables, Duration timeBudget) {
+        requireAllNonNull(tables, timeBudget);
+        this.tables = new ArrayList<>(tables);
+        this.tables.sort(Table::compareTableSize);
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Returns how well the tables the reservations already have seat them. Reservations are seated in order of
+     * their date time, and a reservation is not seated if its table no longer exists, is too small or is taken.
+     *
+     * @param reservations the reservations that could be moved to other tables
+     * @param fixedReservations the reservations that keep their tables, which are never moved
+     */
+    public Assignment evaluate(List<Reservation> reservations, List<Reservation> fixedReservations) {
+        requireAllNonNull(reservations, fixedReservations);
+        Map<Integer, Table> tablesById = new HashMap<>();
+        tables.forEach(table -> tablesById.put(table.getTableId(), table));
+        TableOccupancy occupancy = new TableOccupancy(fixedReservations);
+
+        Map<Reservation, Table> seated = new LinkedHashMap<>();
+        List<Reservation> byDateTime = new ArrayList<>(reservations);
+        byDateTime.sort(Comparator.comparing(Reservation::getDateTime));
+        for (Reservation reservation : byDateTime) {
+            Table table = tablesById.get(reservation.getTableId());
+            if (table != null && table.canFit(reservation.getNumberOfPeople())
+                    && occupancy.isFree(table, reservation)) {
+                occupancy.add(table, reservation);
+                seated.put(reservation, table);
+            }
+        }
+        return new Assignment(seated, true);
+    }
+
+    /**
+     * Returns the best assignment of {@code reservations} to tables found within the time budget.
+     *
+     * @param reservations the reservations to assign to tables
+     * @param fixedReservations the reservations that keep their tables, which are never moved
+     */
+    public Assignment optimise(List<Reservation> reservations, List<Reservation> fixedReservations) {
+        requireAllNonNull(reservations, fixedReservations);
+        Search search = new Search(reservations, new TableOccupancy(fixedReservations));
+        search.run(0, 0, 0);
+        return new Assignment(search.bestSeated, !search.isOutOfTime);
+    }
+
+    /**
+     * The search for the best assignment, which tries the tables of one reservation at a time.
+     */
+    private class Search {
+        private final List<Reservation> order;
+        private final TableOccupancy occupancy;
+        private final Table[] chosenTables;
+        // the most guests, and the fewest seats they need, among the reservations from each position onwards
+        private final int[] remainingCovers;
+        private final int[] remainingMinSeats;
+        private final long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        private Map<Reservation, Table> bestSeated = Collections.emptyMap();
+        private int bestCovers = -1;
+        private int bestSeats;
+        private long triedCount;
+        private boolean isOutOfTime;
+
+        Search(List<Reservation> reservations, TableOccupancy occupancy) {
+            order = new ArrayList<>(reservations);
+            order.sort(Comparator.comparing(Reservation::getNumberOfPeople).reversed()
+                    .thenComparing(Reservation::getDateTime));
+            this.occupancy = occupancy;
+            chosenTables = new Table[order.size()];
+            remainingCovers = new int[order.size() + 1];
+            remainingMinSeats = new int[order.size() + 1];
+            for (int i = order.size() - 1; i >= 0; i--) {
+                Reservation reservation = order.get(i);
+                Optional<Table> smallestTable = tables.stream()
+                        .filter(table -> table.canFit(reservation.getNumberOfPeople()))
+                        .findFirst();
+                remainingCovers[i] = remainingCovers[i + 1]
+                        + (smallestTable.isPresent() ? reservation.getNumberOfPeople() : 0);
+                remainingMinSeats[i] = remainingMinSeats[i + 1]
+                        + smallestTable.map(Table::getNumOfSeats).orElse(0);
+            }
+        }
+
+        /**
+         * Tries the tables of the reservations from position {@code index} onwards, given that the reservations
+         * before it seat {@code covers} guests at tables with {@code seats} seats.
+         */
+        void run(int index, int covers, int seats) {
+            if (isOutOfTime || !canBeatBest(index, covers, seats)) {
+                return;
+            }
+            if (++triedCount % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                isOutOfTime = true;
+                return;
+            }
+            if (index == order.size()) {
+                recordBest(covers, seats);
+                return;
+            }
+
+            Reservation reservation = order.get(index);
+            for (Table table : tables) {
+                if (!table.canFit(reservation.getNumberOfPeople()) || !occupancy.isFree(table, reservation)) {
+                    continue;
+                }
+                occupancy.add(table, reservation);
+                chosenTables[index] = table;
+                run(index + 1, covers + reservation.getNumberOfPeople(), seats + table.getNumOfSeats());
+                chosenTables[index] = null;
+                occupancy.removeLatest(table);
+            }
+            // the reservation might only be left without a table to seat larger parties
+            run(index + 1, covers, seats);
+        }
+
+        private boolean canBeatBest(int index, int covers, int seats) {
+            int mostCovers = covers + remainingCovers[index];
+            return mostCovers > bestCovers
+                    || (mostCovers == bestCovers && seats + remainingMinSeats[index] < bestSeats);
+        }
+
+        private void recordBest(int covers, int seats) {
+            bestCovers = covers;
+            bestSeats = seats;
+            bestSeated = new LinkedHashMap<>();
+            for (int i = 0; i < order.size(); i++) {
+                if (chosenTables[i] != null) {
+                    bestSeated.put(order.get(i), chosenTables[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The reservations that each table has been given.
+     */
+    private static class TableOccupancy {
+        private final Map<Integer, List<Reservation>> reservationsByTableId = new HashMap<>();
+
+        TableOccupancy(List<Reservation> fixedReservations) {
+            fixedReservations.forEach(reservation -> reservationsByTableId
+                    .computeIfAbsent(reservation.getTableId(), unused -> new ArrayList<>()).add(reservation));
+        }
+
+        boolean isFree(Table table, Reservation reservation) {
+            return reservationsByTableId.getOrDefault(table.getTableId(), List.of()).stream()
+                    .noneMatch(other -> other.overlaps(reservation.getDateTime(), reservation.getEndDateTime()));
+        }
+
+        void add(Table table, Reservation reservation) {
+            reservationsByTableId.computeIfAbsent(table.getTableId(), unused -> new ArrayList<>()).add(reservation);
+        }
+
+        /**
+         * Removes the reservation given to {@code table} last.
+         */
+        void removeLatest(Table table) {
+            List<Reservation> tableReservations = reservationsByTableId.get(table.getTableId());
+            tableReservations.remove(tableReservations.size() - 1);
+        }
+    }
+
+    /**
+     * The tables given to the reservations that are seated.
+     */
+    public static class Assignment {
+        private final Map<Reservation, Table> seated;
+        private final boolean isComplete;
+        private final int seatedCovers;
+        private final int seatsUsed;
+
+        /**
+         * Creates an {@code Assignment} that seats the reservations in {@code seated} at their tables.
+         *
+         * @param isComplete whether the search that found it tried every assignment
+         */
+        Assignment(Map<Reservation, Table> seated, boolean isComplete) {
+            requireNonNull(seated);
+            this.seated = Collections.unmodifiableMap(seated);
+            this.isComplete = isComplete;
+            seatedCovers = seated.keySet().stream().mapToInt(Reservation::getNumberOfPeople).sum();
+            seatsUsed = seated.values().stream().mapToInt(Table::getNumOfSeats).sum();
+        }
+
+        /**
+         * Returns the table given to {@code reservation}, if it is seated.
+         */
+        public Optional<Table> getTable(Reservation reservation) {
+            return Optional.ofNullable(seated.get(reservation));
+        }
+
+        public Map<Reservation, Table> getSeated() {
+            return seated;
+        }
+
+        public int getSeatedCovers() {
+            return seatedCovers;
+        }
+
+        public int getSeatsUsed() {
+            return seatsUsed;
+        }
+
+        public boolean isComplete() {
+            return isComplete;
+        }
+
+        /**
+         * Returns true if this assignment seats more guests than {@code other}, or as many guests at tables with
+         * fewer seats, which leaves larger tables free for parties that book later.
+         */
+        public boolean isBetterThan(Assignment other) {
+            return seatedCovers > other.seatedCovers
+                    || (seatedCovers == other.seatedCovers && seatsUsed < other.seatsUsed);
+        }
+    }
+}
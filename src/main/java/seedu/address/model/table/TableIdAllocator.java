@@ -0,0 +1,55 @@
+package seedu.address.model.table;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+
+/**
+ * Keeps track of the table IDs in use by the tables of one {@link TableManager}, so that a new table can be given an
+ * ID that no other table of the same manager has.
+ *
+ * The IDs in use are kept as a bitset indexed by ID. Table IDs start from 1 and stay small, so the bitset takes a few
+ * words and the smallest free ID is found by scanning it for the first clear bit.
+ */
+class TableIdAllocator {
+    private static final int FIRST_ID = 1;
+
+    private final BitSet usedIds = new BitSet();
+
+    /**
+     * Returns the smallest ID that no table has.
+     */
+    int getNextFreeId() {
+        return usedIds.nextClearBit(FIRST_ID);
+    }
+
+    /**
+     * Returns true if a table has {@code tableId}.
+     */
+    boolean isUsed(int tableId) {
+        return tableId >= FIRST_ID && usedIds.get(tableId);
+    }
+
+    /**
+     * Records that a table has {@code tableId}.
+     */
+    void markUsed(int tableId) {
+        checkArgument(tableId >= FIRST_ID);
+        usedIds.set(tableId);
+    }
+
+    /**
+     * Records that no table has {@code tableId} any more.
+     */
+    void release(int tableId) {
+        checkArgument(tableId >= FIRST_ID);
+        usedIds.clear(tableId);
+    }
+
+    /**
+     * Releases every ID.
+     */
+    void clear() {
+        usedIds.clear();
+    }
+}
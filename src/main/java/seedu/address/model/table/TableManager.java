@@ -3,8 +3,13 @@ package seedu.address.model.table;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_DATETIME_PRINT_FORMAT;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
@@ -21,6 +26,10 @@ public class TableManager {
             "No tables exist. Set tables first before making reservations";
 
     private final TableList tables;
+    // the IDs of the tables of each size, so the tables that fit a party are a union of a few bitsets
+    private final NavigableMap<Integer, BitSet> tableIdsBySeats = new TreeMap<>();
+    // the IDs the tables of this manager have, so that IDs are never shared with the tables of another manager
+    private final TableIdAllocator tableIds = new TableIdAllocator();
 
     /**
      * Constructs a new TableManager
@@ -35,6 +44,7 @@ public class TableManager {
     public TableManager(TableList tables) {
         requireNonNull(tables);
         this.tables = tables;
+        indexTables();
     }
 
     public int getNumberOfTables() {
@@ -45,7 +55,7 @@ public class TableManager {
      * Returns the smallest-sized table that can fit specified number of people.
      *
      * @param numberOfPeople       number of people in the reservation
-     * @param filteredReservations list of reservations on the same date time as the reservation being made
+     * @param filteredReservations list of reservations that overlap the time of the reservation being made
      * @return smallest table that fits the number of people
      * @throws ReservationException when no tables have been added, when no tables are free and when all free tables
      *                              are too small to accommodate the number of people.
@@ -55,11 +65,15 @@ public class TableManager {
         // Check if tables have been added to table list
         checkIfTableListExist();
 
-        // If the number of reservations is already more than number of tables, throw exception
-        checkAnymoreTablesVacant(filteredReservations);
+        Set<Integer> reservedTableIds = filteredReservations.stream()
+                .map(Reservation::getTableId)
+                .collect(Collectors.toSet());
+
+        // If the number of reserved tables is already more than number of tables, throw exception
+        checkAnymoreTablesVacant(reservedTableIds);
 
         // Filter away tables with reservations already
-        List<Table> availableTables = filterTablesWithReservationsAlready(filteredReservations);
+        List<Table> availableTables = filterTablesWithReservationsAlready(reservedTableIds);
 
         // Filter away available tables that cannot fit the required number of
         availableTables = removeTablesThatAreTooSmall(availableTables, numberOfPeople);
@@ -71,14 +85,75 @@ public class TableManager {
         return Collections.min(availableTables, Table::compareTableSize);
     }
 
+    /**
+     * Returns the table with {@code tableId}, if there is one.
+     */
+    public Optional<Table> getTable(int tableId) {
+        if (!tableIds.isUsed(tableId)) {
+            return Optional.empty();
+        }
+        return tables.asUnmodifiableObservableList().stream()
+                .filter(table -> table.getTableId() == tableId)
+                .findFirst();
+    }
+
+    /**
+     * Returns the smallest ID that no table has, which the next table added should have.
+     */
+    public int getNextTableId() {
+        return tableIds.getNextFreeId();
+    }
+
+    /**
+     * Returns true if some table can fit {@code numberOfPeople}, whether or not it is free.
+     */
+    public boolean hasTableThatCanFit(int numberOfPeople) {
+        return !getTablesThatCanFit(numberOfPeople).isEmpty();
+    }
+
+    /**
+     * Returns the IDs of the tables that can fit {@code numberOfPeople}, whether or not they are free, as a bitset
+     * indexed by table ID.
+     */
+    public BitSet getTablesThatCanFit(int numberOfPeople) {
+        BitSet tableIds = new BitSet();
+        if (numberOfPeople > 0) {
+            tableIdsBySeats.tailMap(numberOfPeople, true).values().forEach(tableIds::or);
+        }
+        return tableIds;
+    }
+
+    private void indexTables() {
+        tableIdsBySeats.clear();
+        tableIds.clear();
+        tables.forEach(this::indexTable);
+    }
+
+    private void indexTable(Table table) {
+        tableIdsBySeats.computeIfAbsent(table.getNumOfSeats(), unused -> new BitSet()).set(table.getTableId());
+        tableIds.markUsed(table.getTableId());
+    }
+
+    private void unindexTable(Table table) {
+        tableIds.release(table.getTableId());
+        BitSet idsOfSize = tableIdsBySeats.get(table.getNumOfSeats());
+        if (idsOfSize == null) {
+            return;
+        }
+        idsOfSize.clear(table.getTableId());
+        if (idsOfSize.isEmpty()) {
+            tableIdsBySeats.remove(table.getNumOfSeats());
+        }
+    }
+
     private void checkIfTableListExist() throws ReservationException {
         if (tables.isEmpty()) {
             throw new ReservationException(MESSAGE_NO_TABLES_ADDED);
         }
     }
 
-    private void checkAnymoreTablesVacant(List<Reservation> filteredReservations) throws ReservationException {
-        if (filteredReservations.size() >= getNumberOfTables()) {
+    private void checkAnymoreTablesVacant(Set<Integer> reservedTableIds) throws ReservationException {
+        if (reservedTableIds.size() >= getNumberOfTables()) {
             throw new ReservationException(MESSAGE_RESTAURANT_FULL);
         }
     }
@@ -96,13 +171,11 @@ public class TableManager {
         return availableTables;
     }
 
-    private List<Table> filterTablesWithReservationsAlready(List<Reservation> filteredReservations) {
+    private List<Table> filterTablesWithReservationsAlready(Set<Integer> reservedTableIds) {
         return tables
                 .asUnmodifiableObservableList()
                 .stream()
-                .filter(table -> filteredReservations
-                        .stream()
-                        .noneMatch(reservation -> table.getTableId() == reservation.getTableId()))
+                .filter(table -> !reservedTableIds.contains(table.getTableId()))
                 .collect(Collectors.toList());
     }
 
@@ -113,6 +186,7 @@ public class TableManager {
      */
     public void setTables(List<Table> tables) {
         this.tables.setTables(tables);
+        indexTables();
     }
 
     /**
@@ -121,6 +195,8 @@ public class TableManager {
     public void setTable(Table target, Table editedTable) {
         requireNonNull(editedTable);
         tables.setTable(target, editedTable);
+        unindexTable(target);
+        indexTable(editedTable);
     }
 
     /**
@@ -136,6 +212,7 @@ public class TableManager {
      */
     public void addTable(Table table) {
         tables.add(table);
+        indexTable(table);
     }
 
     /**
@@ -144,13 +221,7 @@ public class TableManager {
      */
     public void removeTable(Table key) {
         tables.remove(key);
-    }
-
-    /**
-     * Resets the table count to 0 when a settables command is called
-     */
-    public void resetTableCount() {
-        Table.resetTableCount();
+        unindexTable(key);
     }
 
     /**
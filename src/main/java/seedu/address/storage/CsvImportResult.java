@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * The rows read by a {@link CsvImporter}, split into those that were imported and those that were rejected.
+ */
+public class CsvImportResult<T extends Person> {
+
+    public static final String ERROR_COLUMN = "error";
+
+    private final String header;
+    private final List<ImportedRow<T>> importedRows = new ArrayList<>();
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+
+    CsvImportResult(String header) {
+        this.header = header;
+    }
+
+    void addImported(ImportedRow<T> row) {
+        importedRows.add(row);
+    }
+
+    void addRejected(RejectedRow row) {
+        rejectedRows.add(row);
+    }
+
+    /**
+     * Returns the imported persons, in the order they appear in the file.
+     */
+    public List<T> getImported() {
+        return importedRows.stream().map(ImportedRow::getPerson).collect(Collectors.toList());
+    }
+
+    List<ImportedRow<T>> getImportedRows() {
+        return Collections.unmodifiableList(importedRows);
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return Collections.unmodifiableList(rejectedRows);
+    }
+
+    /**
+     * Writes the rejected rows to {@code file}, each preceded by the reason it was rejected.
+     * The written file can be imported again once the rows have been corrected.
+     */
+    public void writeRejectedRows(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createIfMissing(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(ERROR_COLUMN + CsvUtil.SEPARATOR + header);
+            writer.newLine();
+            for (RejectedRow row : rejectedRows) {
+                writer.write(CsvUtil.escape(row.getReason()) + CsvUtil.SEPARATOR + row.getLine());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * A row of the file that was converted into a person.
+     */
+    static class ImportedRow<T> {
+        private final int lineNumber;
+        private final String line;
+        private final T person;
+
+        ImportedRow(int lineNumber, String line, T person) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.person = person;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        String getLine() {
+            return line;
+        }
+
+        T getPerson() {
+            return person;
+        }
+    }
+
+    /**
+     * A row of the file that could not be imported.
+     */
+    public static class RejectedRow {
+        private final int lineNumber;
+        private final String line;
+        private final String reason;
+
+        RejectedRow(int lineNumber, String line, String reason) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.supplier.Supplier;
+
+/**
+ * Reads customers, employees or suppliers from a file of comma-separated values.
+ * The first line of the file names the columns, which may be given in any order, and columns that are not
+ * recognised are ignored. Columns that can hold several values separate them with {@link #VALUE_SEPARATOR}.
+ *
+ * The file is read in chunks of {@link #CHUNK_SIZE} rows, and up to one chunk per processor is validated in parallel
+ * against the same constraints as the data file. A quoted value may span several lines.
+ */
+public class CsvImporter<T extends Person> {
+
+    public static final String VALUE_SEPARATOR = ";";
+    public static final int CHUNK_SIZE = 4096;
+
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty";
+    public static final String MESSAGE_MISSING_COLUMN = "The file has no %1$s column";
+    public static final String MESSAGE_DUPLICATE_NAME = "Name %1$s is already in use";
+
+    private static final Logger logger = LogsCenter.getLogger(CsvImporter.class);
+    // the most chunks that are validated at the same time
+    private static final int MAX_CHUNKS_IN_FLIGHT = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private final List<String> requiredColumns;
+    private final RowConverter<T> converter;
+
+    private CsvImporter(List<String> requiredColumns, RowConverter<T> converter) {
+        this.requiredColumns = requiredColumns;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns a {@code CsvImporter} for customers.
+     * Allergies, special requests and tags are optional.
+     */
+    public static CsvImporter<Customer> forCustomers() {
+        return new CsvImporter<>(Arrays.asList("name", "phone", "email", "address", "loyaltyPoints"),
+            row -> new JsonAdaptedCustomer(row.get("name"), row.get("phone"), row.get("email"), row.get("address"),
+                    row.get("loyaltyPoints"),
+                    row.getAll("allergies").stream().map(JsonAdaptedAllergy::new).collect(Collectors.toList()),
+                    row.getAll("specialRequests").stream().map(JsonAdaptedSpecialRequest::new)
+                            .collect(Collectors.toList()),
+                    row.getAll("tags").stream().map(JsonAdaptedTag::new).collect(Collectors.toList()))
+                    .toModelType());
+    }
+
+    /**
+     * Returns a {@code CsvImporter} for employees.
+     * Shifts and tags are optional.
+     */
+    public static CsvImporter<Employee> forEmployees() {
+        return new CsvImporter<>(Arrays.asList("name", "phone", "email", "address", "leaves", "salary", "jobTitle"),
+            row -> new JsonAdaptedEmployee(row.get("name"), row.get("phone"), row.get("email"), row.get("address"),
+                    row.getAll("tags").stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                    row.get("leaves"), row.get("salary"), row.get("jobTitle"),
+                    row.getAll("shifts").stream().map(JsonAdaptedShift::new).collect(Collectors.toList()))
+                    .toModelType());
+    }
+
+    /**
+     * Returns a {@code CsvImporter} for suppliers.
+     * Tags are optional.
+     */
+    public static CsvImporter<Supplier> forSuppliers() {
+        return new CsvImporter<>(Arrays.asList("name", "phone", "email", "address", "supplyType", "deliveryDetails"),
+            row -> new JsonAdaptedSupplier(row.get("name"), row.get("phone"), row.get("email"), row.get("address"),
+                    row.getAll("tags").stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                    row.get("supplyType"), row.get("deliveryDetails"))
+                    .toModelType());
+    }
+
+    /**
+     * Reads the rows of {@code file}.
+     * Rows that violate any constraints, or whose name is already used by one of {@code existingPersons} or an
+     * earlier row, are rejected.
+     *
+     * @throws IOException if there was an error reading the file.
+     * @throws IllegalValueException if the file is empty or is missing any required column.
+     */
+    public CsvImportResult<T> read(Path file, List<? extends Person> existingPersons)
+            throws IOException, IllegalValueException {
+        requireNonNull(file);
+        requireNonNull(existingPersons);
+
+        // names are checked in file order so that the first of any rows sharing a name is the one kept
+        Set<Name> usedNames = existingPersons.stream()
+                .map(Person::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+        CsvImportResult<T> result;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String header = CsvUtil.readRecord(reader);
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            Map<String, Integer> columnIndexes = indexColumns(header);
+            result = new CsvImportResult<>(header);
+
+            // only a few chunks are read ahead of the one being merged, so a large file is not held in memory
+            Deque<CompletableFuture<CsvImportResult<T>>> chunkResults = new ArrayDeque<>();
+            int lineNumber = 1 + countLineBreaks(header);
+            List<String> records = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> lineNumbers = new ArrayList<>(CHUNK_SIZE);
+            String record;
+            while ((record = CsvUtil.readRecord(reader)) != null) {
+                lineNumber++;
+                records.add(record);
+                lineNumbers.add(lineNumber);
+                lineNumber += countLineBreaks(record);
+                if (records.size() == CHUNK_SIZE) {
+                    if (chunkResults.size() == MAX_CHUNKS_IN_FLIGHT) {
+                        mergeChunk(result, chunkResults.remove().join(), usedNames);
+                    }
+                    chunkResults.add(validateChunkAsync(header, columnIndexes, records, lineNumbers));
+                    records = new ArrayList<>(CHUNK_SIZE);
+                    lineNumbers = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            chunkResults.add(validateChunkAsync(header, columnIndexes, records, lineNumbers));
+            while (!chunkResults.isEmpty()) {
+                mergeChunk(result, chunkResults.remove().join(), usedNames);
+            }
+        }
+
+        logger.info(String.format("Read %d rows from %s, rejected %d", result.getImportedRows().size()
+                + result.getRejectedRows().size(), file, result.getRejectedRows().size()));
+        return result;
+    }
+
+    /**
+     * Maps each column named in {@code header} to its position.
+     *
+     * @throws IllegalValueException if any required column is missing.
+     */
+    private Map<String, Integer> indexColumns(String header) throws IllegalValueException {
+        List<String> columns = CsvUtil.splitLine(header);
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndexes.putIfAbsent(columns.get(i).trim(), i);
+        }
+        for (String requiredColumn : requiredColumns) {
+            if (!columnIndexes.containsKey(requiredColumn)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, requiredColumn));
+            }
+        }
+        return columnIndexes;
+    }
+
+    /**
+     * Adds the rows of {@code validatedChunk} to {@code result} in file order, rejecting the rows whose name is in
+     * {@code usedNames}, and adds the names of the rows kept to {@code usedNames}.
+     */
+    private void mergeChunk(CsvImportResult<T> result, CsvImportResult<T> validatedChunk, Set<Name> usedNames) {
+        int rejectedIndex = 0;
+        List<CsvImportResult.RejectedRow> rejectedRows = validatedChunk.getRejectedRows();
+        for (CsvImportResult.ImportedRow<T> importedRow : validatedChunk.getImportedRows()) {
+            while (rejectedIndex < rejectedRows.size()
+                    && rejectedRows.get(rejectedIndex).getLineNumber() < importedRow.getLineNumber()) {
+                result.addRejected(rejectedRows.get(rejectedIndex++));
+            }
+            T person = importedRow.getPerson();
+            if (usedNames.add(person.getName())) {
+                result.addImported(importedRow);
+            } else {
+                result.addRejected(new CsvImportResult.RejectedRow(importedRow.getLineNumber(),
+                        importedRow.getLine(), String.format(MESSAGE_DUPLICATE_NAME, person.getName())));
+            }
+        }
+        while (rejectedIndex < rejectedRows.size()) {
+            result.addRejected(rejectedRows.get(rejectedIndex++));
+        }
+    }
+
+    private static int countLineBreaks(String record) {
+        return (int) record.chars().filter(c -> c == '\n').count();
+    }
+
+    private CompletableFuture<CsvImportResult<T>> validateChunkAsync(String header,
+            Map<String, Integer> columnIndexes, List<String> records, List<Integer> lineNumbers) {
+        return CompletableFuture.supplyAsync(() -> validateChunk(header, columnIndexes, records, lineNumbers));
+    }
+
+    /**
+     * Converts each of {@code records}, which start at the matching {@code lineNumbers}, into a person, skipping
+     * blank records.
+     */
+    private CsvImportResult<T> validateChunk(String header, Map<String, Integer> columnIndexes,
+            List<String> records, List<Integer> lineNumbers) {
+        CsvImportResult<T> result = new CsvImportResult<>(header);
+        for (int i = 0; i < records.size(); i++) {
+            String line = records.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            int lineNumber = lineNumbers.get(i);
+            try {
+                T person = converter.convert(new Row(columnIndexes, CsvUtil.splitLine(line)));
+                result.addImported(new CsvImportResult.ImportedRow<>(lineNumber, line, person));
+            } catch (IllegalValueException ive) {
+                result.addRejected(new CsvImportResult.RejectedRow(lineNumber, line, ive.getMessage()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a row of the file into a person.
+     */
+    @FunctionalInterface
+    private interface RowConverter<T> {
+        T convert(Row row) throws IllegalValueException;
+    }
+
+    /**
+     * The values in a row of the file, looked up by column name.
+     */
+    private static class Row {
+        private final Map<String, Integer> columnIndexes;
+        private final List<String> values;
+
+        Row(Map<String, Integer> columnIndexes, List<String> values) {
+            this.columnIndexes = columnIndexes;
+            this.values = values;
+        }
+
+        /**
+         * Returns the trimmed value in {@code column}, or null if the value is blank or the column is absent.
+         */
+        String get(String column) {
+            Integer index = columnIndexes.get(column);
+            if (index == null || index >= values.size() || values.get(index).isBlank()) {
+                return null;
+            }
+            return values.get(index).trim();
+        }
+
+        /**
+         * Returns the trimmed values in {@code column}.
+         */
+        List<String> getAll(String column) {
+            String value = get(column);
+            if (value == null) {
+                return Collections.emptyList();
+            }
+            return Arrays.stream(value.split(VALUE_SEPARATOR))
+                    .map(String::trim)
+                    .filter(v -> !v.isEmpty())
+                    .collect(Collectors.toList());
+        }
+    }
+}
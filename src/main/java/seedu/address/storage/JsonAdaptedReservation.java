@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -31,22 +32,36 @@ public class JsonAdaptedReservation {
     private final String phone;
     private final Integer numberOfPeople;
     private final String time;
+    private final Integer durationMinutes;
     private final Integer tableId;
     private final String remark;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
-     * Constructs {@code JsonAdaptedReservation with the given values}
+     * Constructs {@code JsonAdaptedReservation with the given values}, for a reservation of the default duration
+     */
+    public JsonAdaptedReservation(
+            String phone, int numberOfPeople, String time, int tableId, String remark, List<JsonAdaptedTag> tagged
+    ) {
+        this(phone, numberOfPeople, time, null, tableId, remark, tagged);
+    }
+
+    /**
+     * Constructs {@code JsonAdaptedReservation with the given values}.
+     * A missing {@code durationMinutes}, as in data files saved before reservations had durations, stands for
+     * the default duration.
      */
     @JsonCreator
     public JsonAdaptedReservation(
             @JsonProperty("phone") String phone, @JsonProperty("numberOfPeople") int numberOfPeople,
-            @JsonProperty("time") String time, @JsonProperty("tableId") int tableId,
+            @JsonProperty("time") String time, @JsonProperty("durationMinutes") Integer durationMinutes,
+            @JsonProperty("tableId") int tableId,
             @JsonProperty("remark") String remark, @JsonProperty("tagged") List<JsonAdaptedTag> tagged
     ) {
         this.phone = phone;
         this.numberOfPeople = numberOfPeople;
         this.time = time;
+        this.durationMinutes = durationMinutes;
         this.tableId = tableId;
         this.remark = remark;
         if (tagged != null) {
@@ -61,6 +76,7 @@ public class JsonAdaptedReservation {
         phone = source.getPhone().value;
         numberOfPeople = source.getNumberOfPeople();
         time = source.getDateTime().toString();
+        durationMinutes = (int) source.getDuration().toMinutes();
         tableId = source.getTableId();
         remark = source.getRemark().value;
         tagged.addAll(source.getTags().stream()
@@ -114,6 +130,13 @@ public class JsonAdaptedReservation {
             throw new IllegalValueException(TIME_ON_THE_HOUR_CONSTRAINT);
         }
 
+        final Duration modelDuration = durationMinutes == null
+                ? Reservation.DEFAULT_DURATION
+                : Duration.ofMinutes(durationMinutes);
+        if (!Reservation.isValidDuration(modelDuration)) {
+            throw new IllegalValueException(Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        }
+
         if (tableId == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, "table")
@@ -131,6 +154,7 @@ public class JsonAdaptedReservation {
 
         final Set<Tag> modelTags = new HashSet<>(reservationTags);
 
-        return new Reservation(modelPhone, numberOfPeople, modelTime, modelTable, modelRemark, modelTags);
+        return new Reservation(modelPhone, numberOfPeople, modelTime, modelDuration, modelTable, modelRemark,
+                modelTags);
     }
 }
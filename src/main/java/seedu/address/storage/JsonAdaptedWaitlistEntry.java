@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of {@link WaitlistEntry}.
+ */
+class JsonAdaptedWaitlistEntry {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Waitlist entry's %s field is missing";
+    public static final String LOYALTY_POINTS_CONSTRAINT = "Loyalty points should not be negative";
+
+    private final String phone;
+    private final Integer numberOfPeople;
+    private final String time;
+    private final Integer durationMinutes;
+    private final String requestTime;
+    private final Integer loyaltyPoints;
+    private final String remark;
+    private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedWaitlistEntry} with the given values.
+     */
+    @JsonCreator
+    public JsonAdaptedWaitlistEntry(
+            @JsonProperty("phone") String phone, @JsonProperty("numberOfPeople") Integer numberOfPeople,
+            @JsonProperty("time") String time, @JsonProperty("durationMinutes") Integer durationMinutes,
+            @JsonProperty("requestTime") String requestTime, @JsonProperty("loyaltyPoints") Integer loyaltyPoints,
+            @JsonProperty("remark") String remark, @JsonProperty("tagged") List<JsonAdaptedTag> tagged
+    ) {
+        this.phone = phone;
+        this.numberOfPeople = numberOfPeople;
+        this.time = time;
+        this.durationMinutes = durationMinutes;
+        this.requestTime = requestTime;
+        this.loyaltyPoints = loyaltyPoints;
+        this.remark = remark;
+        if (tagged != null) {
+            this.tagged.addAll(tagged);
+        }
+    }
+
+    /**
+     * Converts a given {@code WaitlistEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedWaitlistEntry(WaitlistEntry source) {
+        phone = source.getPhone().value;
+        numberOfPeople = source.getNumberOfPeople();
+        time = source.getDateTime().toString();
+        durationMinutes = (int) source.getDuration().toMinutes();
+        requestTime = source.getRequestTime().toString();
+        loyaltyPoints = source.getLoyaltyPoints();
+        remark = source.getRemark().value;
+        tagged.addAll(source.getTags().stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted waitlist entry into the model's {@code WaitlistEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted waitlist entry.
+     */
+    public WaitlistEntry toModelType() throws IllegalValueException {
+        final List<Tag> entryTags = new ArrayList<>();
+        for (JsonAdaptedTag tag : tagged) {
+            entryTags.add(tag.toModelType());
+        }
+
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        final Phone modelPhone = new Phone(phone);
+
+        if (numberOfPeople == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "number of people"));
+        }
+        if (numberOfPeople <= 0) {
+            throw new IllegalValueException(JsonAdaptedReservation.NUMBER_OF_PEOPLE_CONSTRAINT);
+        }
+
+        final LocalDateTime modelTime = parseDateTime(time, "date time");
+        if (modelTime.getMinute() != 0) {
+            throw new IllegalValueException(JsonAdaptedReservation.TIME_ON_THE_HOUR_CONSTRAINT);
+        }
+
+        if (durationMinutes == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "duration"));
+        }
+        final Duration modelDuration = Duration.ofMinutes(durationMinutes);
+        if (!Reservation.isValidDuration(modelDuration)) {
+            throw new IllegalValueException(Reservation.MESSAGE_DURATION_CONSTRAINTS);
+        }
+
+        final LocalDateTime modelRequestTime = parseDateTime(requestTime, "request time");
+
+        if (loyaltyPoints == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "loyalty points"));
+        }
+        if (loyaltyPoints < 0) {
+            throw new IllegalValueException(LOYALTY_POINTS_CONSTRAINT);
+        }
+
+        if (remark == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
+        }
+        final Remark modelRemark = new Remark(remark);
+
+        final Set<Tag> modelTags = new HashSet<>(entryTags);
+
+        return new WaitlistEntry(modelPhone, numberOfPeople, modelTime, modelDuration, modelRemark, modelTags,
+                modelRequestTime, loyaltyPoints);
+    }
+
+    private static LocalDateTime parseDateTime(String dateTime, String fieldName) throws IllegalValueException {
+        if (dateTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        try {
+            return LocalDateTime.parse(dateTime);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(JsonAdaptedReservation.DATE_TIME_CONSTRAINT);
+        }
+    }
+}
@@ -31,6 +31,12 @@ public class JsonRhrhStorage implements RhrhStorage {
         return filePath;
     }
 
+    @Override
+    public void setRhrhFilePath(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
     @Override
     public Optional<ReadOnlyRhrh> readRhrh() throws DataConversionException {
         return readRhrh(filePath);
@@ -15,6 +15,7 @@ import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 
 /**
@@ -28,27 +29,37 @@ class JsonSerializableRhrh {
     public static final String MESSAGE_DUPLICATE_SUPPLIER = "Suppliers list contains duplicate supplier(s).";
     public static final String MESSAGE_RESERVATION_PHONE_DOES_NOT_EXIST =
             "Phone number of reservation does not exist in Customer database";
+    public static final String MESSAGE_WAITLIST_PHONE_DOES_NOT_EXIST =
+            "Phone number of waitlist entry does not exist in Customer database";
+    public static final String MESSAGE_DUPLICATE_WAITLIST_ENTRY =
+            "Waitlist contains a customer waiting more than once for the same date time.";
 
     private final List<JsonAdaptedCustomer> customers = new ArrayList<>();
     private final List<JsonAdaptedEmployee> employees = new ArrayList<>();
     private final List<JsonAdaptedSupplier> suppliers = new ArrayList<>();
     private final List<JsonAdaptedReservation> reservations = new ArrayList<>();
     private final List<JsonAdaptedTable> tables = new ArrayList<>();
+    private final List<JsonAdaptedWaitlistEntry> waitlist = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableRhrh} with the given persons and employees.
+     * A missing {@code waitlist}, as in data files saved before the waitlist was added, stands for an empty one.
      */
     @JsonCreator
     public JsonSerializableRhrh(@JsonProperty("customers") List<JsonAdaptedCustomer> customers,
         @JsonProperty("employees") List<JsonAdaptedEmployee> employees,
         @JsonProperty("suppliers") List<JsonAdaptedSupplier> suppliers,
         @JsonProperty("reservations") List<JsonAdaptedReservation> reservations,
-        @JsonProperty("tables") List<JsonAdaptedTable> tables) {
+        @JsonProperty("tables") List<JsonAdaptedTable> tables,
+        @JsonProperty("waitlist") List<JsonAdaptedWaitlistEntry> waitlist) {
         this.customers.addAll(customers);
         this.employees.addAll(employees);
         this.suppliers.addAll(suppliers);
         this.reservations.addAll(reservations);
         this.tables.addAll(tables);
+        if (waitlist != null) {
+            this.waitlist.addAll(waitlist);
+        }
     }
 
     /**
@@ -63,6 +74,8 @@ class JsonSerializableRhrh {
         reservations.addAll(
                 source.getReservationList().stream().map(JsonAdaptedReservation::new).collect(Collectors.toList()));
         tables.addAll(source.getTableList().stream().map(JsonAdaptedTable::new).collect(Collectors.toList()));
+        waitlist.addAll(
+                source.getWaitlist().stream().map(JsonAdaptedWaitlistEntry::new).collect(Collectors.toList()));
     }
 
     /**
@@ -105,6 +118,16 @@ class JsonSerializableRhrh {
             Table table = jsonAdaptedTable.toModelType();
             rhrh.addTable(table);
         }
+        for (JsonAdaptedWaitlistEntry jsonAdaptedWaitlistEntry : waitlist) {
+            WaitlistEntry entry = jsonAdaptedWaitlistEntry.toModelType();
+            if (!rhrh.hasCustomerWithPhone(entry.getPhone())) {
+                throw new IllegalValueException(MESSAGE_WAITLIST_PHONE_DOES_NOT_EXIST);
+            }
+            if (rhrh.isOnWaitlist(entry.getPhone(), entry.getDateTime())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_WAITLIST_ENTRY);
+            }
+            rhrh.addToWaitlist(entry);
+        }
         return rhrh;
     }
 }
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Writes a list of customers, employees, suppliers or reservations to a file, one record per line.
+ * Records are written straight to the file as they are converted, so the output is never held in memory.
+ *
+ * CSV files use the same columns as {@link CsvImporter}, so exported customers, employees and suppliers can be
+ * imported again. JSON-lines files hold one record per line in the same form as the data file.
+ */
+public class ListExporter<T> {
+
+    public static final int PROGRESS_INTERVAL = 1000;
+
+    /**
+     * The format of an exported file.
+     */
+    public enum Format {
+        Csv,
+        JsonLines
+    }
+
+    /**
+     * Receives the number of records written so far.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int exportedCount, int totalCount);
+    }
+
+    private final List<String> columns;
+    private final Function<T, List<String>> rowMapper;
+    private final Function<T, Object> jsonMapper;
+
+    private ListExporter(List<String> columns, Function<T, List<String>> rowMapper, Function<T, Object> jsonMapper) {
+        this.columns = columns;
+        this.rowMapper = rowMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Returns a {@code ListExporter} for customers.
+     */
+    public static ListExporter<Customer> forCustomers() {
+        return new ListExporter<>(Arrays.asList("name", "phone", "email", "address", "loyaltyPoints", "allergies",
+                "specialRequests", "tags"),
+            customer -> Arrays.asList(customer.getName().fullName, customer.getPhone().value,
+                    customer.getEmail().value, customer.getAddress().value, customer.getLoyaltyPoints().value,
+                    joinValues(customer.getAllergies(), allergy -> allergy.allergyName),
+                    joinValues(customer.getSpecialRequests(), specialRequest -> specialRequest.specialRequestName),
+                    joinValues(customer.getTags(), tag -> tag.tagName)),
+            JsonAdaptedCustomer::new);
+    }
+
+    /**
+     * Returns a {@code ListExporter} for employees.
+     */
+    public static ListExporter<Employee> forEmployees() {
+        return new ListExporter<>(Arrays.asList("name", "phone", "email", "address", "leaves", "salary", "jobTitle",
+                "shifts", "tags"),
+            employee -> Arrays.asList(employee.getName().fullName, employee.getPhone().value,
+                    employee.getEmail().value, employee.getAddress().value, employee.getLeaves().currentLeaves,
+                    employee.getSalary().currentSalary, employee.getJobTitle().jobTitle,
+                    joinValues(employee.getShifts(), shift -> shift.shiftString),
+                    joinValues(employee.getTags(), tag -> tag.tagName)),
+            JsonAdaptedEmployee::new);
+    }
+
+    /**
+     * Returns a {@code ListExporter} for suppliers.
+     */
+    public static ListExporter<Supplier> forSuppliers() {
+        return new ListExporter<>(Arrays.asList("name", "phone", "email", "address", "supplyType",
+                "deliveryDetails", "tags"),
+            supplier -> Arrays.asList(supplier.getName().fullName, supplier.getPhone().value,
+                    supplier.getEmail().value, supplier.getAddress().value, supplier.getSupplyType().supplyType,
+                    supplier.getDeliveryDetails().getUnformattedDeliveryDetailsString(),
+                    joinValues(supplier.getTags(), tag -> tag.tagName)),
+            JsonAdaptedSupplier::new);
+    }
+
+    /**
+     * Returns a {@code ListExporter} for reservations.
+     */
+    public static ListExporter<Reservation> forReservations() {
+        return new ListExporter<>(Arrays.asList("phone", "numberOfPeople", "time", "durationMinutes", "tableId",
+                "remark", "tags"),
+            reservation -> Arrays.asList(reservation.getPhone().value,
+                    String.valueOf(reservation.getNumberOfPeople()), reservation.getDateTime().toString(),
+                    String.valueOf(reservation.getDuration().toMinutes()), String.valueOf(reservation.getTableId()),
+                    reservation.getRemark().value,
+                    joinValues(reservation.getTags(), tag -> tag.tagName)),
+            JsonAdaptedReservation::new);
+    }
+
+    /**
+     * Writes {@code records} to {@code file} in {@code format}, overwriting the file if it exists.
+     * The file is only replaced once all records are written, so it is never left partly written.
+     * {@code listener} is told of the progress every {@link #PROGRESS_INTERVAL} records and once all records
+     * have been written.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void export(List<? extends T> records, Path file, Format format, ProgressListener listener)
+            throws IOException {
+        requireNonNull(records);
+        requireNonNull(file);
+        requireNonNull(format);
+        requireNonNull(listener);
+
+        int totalCount = records.size();
+        FileUtil.writeAtomically(file, writer -> {
+            if (format == Format.Csv) {
+                writer.write(CsvUtil.joinLine(columns));
+                writer.newLine();
+            }
+            for (int i = 0; i < totalCount; i++) {
+                T record = records.get(i);
+                writer.write(format == Format.Csv
+                        ? CsvUtil.joinLine(rowMapper.apply(record))
+                        : JsonUtil.toJsonLine(jsonMapper.apply(record)));
+                writer.newLine();
+                if ((i + 1) % PROGRESS_INTERVAL == 0 && i + 1 < totalCount) {
+                    listener.onProgress(i + 1, totalCount);
+                }
+            }
+        });
+        listener.onProgress(totalCount, totalCount);
+    }
+
+    /**
+     * Joins the values of {@code items} with {@link CsvImporter#VALUE_SEPARATOR}, sorted so that the output
+     * does not depend on the order of the set.
+     */
+    private static <U> String joinValues(Collection<U> items, Function<U, String> valueMapper) {
+        return items.stream()
+                .map(valueMapper)
+                .sorted()
+                .collect(Collectors.joining(CsvImporter.VALUE_SEPARATOR));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.employee.Payroll;
+
+/**
+ * Writes a {@code Payroll} to a CSV file, one employee per line.
+ * Each line is written straight to the file as it is formatted, so the output is never held in memory.
+ */
+public class PayrollExporter {
+
+    /**
+     * Writes {@code payroll} to {@code file}, overwriting the file if it exists.
+     * The file is only replaced once the whole payroll is written, so it is never left partly written.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void export(Payroll payroll, Path file) throws IOException {
+        requireNonNull(payroll);
+        requireNonNull(file);
+
+        FileUtil.writeAtomically(file, writer -> {
+            writer.write(CsvUtil.joinLine(Payroll.COLUMNS));
+            writer.newLine();
+            for (int i = 0; i < payroll.size(); i++) {
+                writer.write(CsvUtil.joinLine(payroll.getRow(i)));
+                writer.newLine();
+            }
+        });
+    }
+}
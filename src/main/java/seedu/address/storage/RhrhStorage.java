@@ -18,6 +18,11 @@ public interface RhrhStorage {
      */
     Path getRhrhFilePath();
 
+    /**
+     * Sets the file path of the data file, which is used by {@link #readRhrh()} and {@link #saveRhrh(ReadOnlyRhrh)}.
+     */
+    void setRhrhFilePath(Path filePath);
+
     /**
      * Returns Rhrh data as a {@link ReadOnlyRhrh}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -54,6 +54,11 @@ public class StorageManager implements Storage {
         return rhrhStorage.getRhrhFilePath();
     }
 
+    @Override
+    public void setRhrhFilePath(Path filePath) {
+        rhrhStorage.setRhrhFilePath(filePath);
+    }
+
     @Override
     public Optional<ReadOnlyRhrh> readRhrh() throws DataConversionException, IOException {
         return readRhrh(rhrhStorage.getRhrhFilePath());
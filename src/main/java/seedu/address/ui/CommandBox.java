@@ -1,12 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,9 +15,12 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String MESSAGE_BUSY = "Running %1$d command(s)... Commands entered now will run after them.";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final String defaultPromptText;
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +29,22 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> {});
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which passes the text of the command box
+     * to {@code commandTextListener} whenever it changes.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Consumer<String> commandTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        defaultPromptText = commandTextField.getPromptText();
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            commandTextListener.accept(newText);
+        });
     }
 
     /**
@@ -41,12 +57,32 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // the command box is cleared straight away, so that the next command can be entered while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            // the failed command is put back to be corrected, unless the user has started typing another one
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows that {@code pendingCommandCount} commands are queued or running, or that none are if it is 0.
+     */
+    public void setPendingCommandCount(int pendingCommandCount) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (pendingCommandCount == 0) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+            commandTextField.setPromptText(defaultPromptText);
+            return;
+        }
+
+        if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
+        commandTextField.setPromptText(String.format(MESSAGE_BUSY, pendingCommandCount));
     }
 
     /**
@@ -75,11 +111,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command to be executed and returns its result, which is completed on the JavaFX application
+         * thread. The result is completed exceptionally if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
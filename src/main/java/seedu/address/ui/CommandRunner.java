@@ -0,0 +1,265 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Runs commands one at a time on a worker thread, so that the window stays responsive while a command and the
+ * saving of its data are in progress. Commands entered while another is running are queued.
+ *
+ * The model is only used on the worker thread once the runner is created. The lists used by the window are copies
+ * of the lists of the model, which are brought up to date on the JavaFX application thread together with the result
+ * of each command, by replaying the changes the command made to the lists of the model. Both are applied through a
+ * {@code UiUpdateScheduler}, so the changes of commands that finish within the same frame are replayed together.
+ */
+public class CommandRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final UiUpdateScheduler updateScheduler;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MirroredList<Customer> customers;
+    private final MirroredList<Employee> employees;
+    private final MirroredList<Supplier> suppliers;
+    private final MirroredList<Reservation> reservations;
+    private final MirroredList<Customer> allCustomers;
+    private final MirroredList<Employee> allEmployees;
+    private final MirroredList<Supplier> allSuppliers;
+
+    // only used on the JavaFX application thread
+    private final IntegerProperty pendingCommandCount = new SimpleIntegerProperty();
+    private final ObjectProperty<Path> rhrhFilePath;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic}, and applies their results to the
+     * window with {@code updateScheduler}.
+     * Must be called on the JavaFX application thread, before any command is run.
+     */
+    public CommandRunner(Logic logic, UiUpdateScheduler updateScheduler) {
+        requireNonNull(logic);
+        requireNonNull(updateScheduler);
+        this.logic = logic;
+        this.updateScheduler = updateScheduler;
+        customers = new MirroredList<>(logic.getFilteredCustomerList());
+        employees = new MirroredList<>(logic.getFilteredEmployeeList());
+        suppliers = new MirroredList<>(logic.getFilteredSupplierList());
+        reservations = new MirroredList<>(logic.getFilteredReservations());
+        allCustomers = new MirroredList<>(logic.getRhrh().getCustomerList());
+        allEmployees = new MirroredList<>(logic.getRhrh().getEmployeeList());
+        allSuppliers = new MirroredList<>(logic.getRhrh().getSupplierList());
+        rhrhFilePath = new SimpleObjectProperty<>(logic.getRhrhFilePath());
+    }
+
+    public ObservableList<Customer> getFilteredCustomerList() {
+        return customers.getUnmodifiableView();
+    }
+
+    public ObservableList<Employee> getFilteredEmployeeList() {
+        return employees.getUnmodifiableView();
+    }
+
+    public ObservableList<Supplier> getFilteredSupplierList() {
+        return suppliers.getUnmodifiableView();
+    }
+
+    public ObservableList<Reservation> getFilteredReservations() {
+        return reservations.getUnmodifiableView();
+    }
+
+    /**
+     * Returns a copy of all customers in the model, unlike {@link #getFilteredCustomerList()} which is filtered.
+     */
+    public ObservableList<Customer> getCustomerList() {
+        return allCustomers.getUnmodifiableView();
+    }
+
+    /**
+     * Returns a copy of all employees in the model.
+     */
+    public ObservableList<Employee> getEmployeeList() {
+        return allEmployees.getUnmodifiableView();
+    }
+
+    /**
+     * Returns a copy of all suppliers in the model.
+     */
+    public ObservableList<Supplier> getSupplierList() {
+        return allSuppliers.getUnmodifiableView();
+    }
+
+    /**
+     * Returns the number of commands that have been queued or are running.
+     */
+    public ReadOnlyIntegerProperty pendingCommandCountProperty() {
+        return pendingCommandCount;
+    }
+
+    /**
+     * Returns the file the data of the current branch is saved to, which changes when another branch is chosen.
+     */
+    public ReadOnlyObjectProperty<Path> rhrhFilePathProperty() {
+        return rhrhFilePath;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands queued before it.
+     * Must be called on the JavaFX application thread. The returned result is completed on that thread at the frame
+     * the lists it gives out are updated, or completed exceptionally with the exception thrown by the command.
+     *
+     * @see seedu.address.logic.Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> run(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        pendingCommandCount.set(pendingCommandCount.get() + 1);
+        worker.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                finishCommand(() -> result.complete(commandResult));
+            } catch (CommandException | ParseException e) {
+                finishCommand(() -> result.completeExceptionally(e));
+            } catch (RuntimeException e) {
+                logger.severe(StringUtil.getDetails(e));
+                finishCommand(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Takes the changes made by the command that just ran to the lists of the model, and hands them to the JavaFX
+     * application thread to be replayed on the copies at the next frame, followed by {@code completion}. The file of
+     * the current branch is handed over too, as the command may have switched branches.
+     * Must be called on the worker thread.
+     */
+    private void finishCommand(Runnable completion) {
+        List<Runnable> listUpdates = new ArrayList<>();
+        customers.takeUpdate(listUpdates);
+        employees.takeUpdate(listUpdates);
+        suppliers.takeUpdate(listUpdates);
+        reservations.takeUpdate(listUpdates);
+        allCustomers.takeUpdate(listUpdates);
+        allEmployees.takeUpdate(listUpdates);
+        allSuppliers.takeUpdate(listUpdates);
+        Path filePath = logic.getRhrhFilePath();
+
+        Platform.runLater(() -> {
+            pendingCommandCount.set(pendingCommandCount.get() - 1);
+            rhrhFilePath.set(filePath);
+            // the changes to a list are queued after those of earlier commands that are not applied yet
+            listUpdates.forEach(Runnable::run);
+            updateScheduler.schedule(completion);
+        });
+    }
+
+    /**
+     * A list used by the window, which follows a list of the model that is changed on the worker thread.
+     * The changes to the model list are recorded as they are made, and replayed on the mirror, so that a command
+     * that changes a few items of a long list does not copy all of it.
+     */
+    private class MirroredList<T> {
+        private final ObservableList<T> mirror;
+        private final ObservableList<T> unmodifiableView;
+
+        // only used on the worker thread once the runner is created
+        private List<Consumer<ObservableList<T>>> recordedEdits = new ArrayList<>();
+        // only used on the JavaFX application thread
+        private final List<Consumer<ObservableList<T>>> pendingEdits = new ArrayList<>();
+
+        MirroredList(ObservableList<T> modelList) {
+            mirror = FXCollections.observableArrayList(modelList);
+            unmodifiableView = FXCollections.unmodifiableObservableList(mirror);
+            modelList.addListener(this::recordChange);
+        }
+
+        ObservableList<T> getUnmodifiableView() {
+            return unmodifiableView;
+        }
+
+        /**
+         * Records the edits that make the mirror go through {@code change} too.
+         * Each part of a change refers to the list as it is after the parts before it, so the edits are replayed in
+         * the same order.
+         */
+        private void recordChange(ListChangeListener.Change<? extends T> change) {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    List<T> items = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                    recordedEdits.add(list -> {
+                        for (int i = 0; i < items.size(); i++) {
+                            list.set(from + i, items.get(i));
+                        }
+                    });
+                } else {
+                    int removedSize = change.getRemovedSize();
+                    List<T> added = new ArrayList<>(change.getAddedSubList());
+                    recordedEdits.add(list -> {
+                        if (removedSize > 0) {
+                            list.remove(from, from + removedSize);
+                        }
+                        if (!added.isEmpty()) {
+                            list.addAll(from, added);
+                        }
+                    });
+                }
+            }
+        }
+
+        /**
+         * Adds to {@code listUpdates} an update that queues the edits recorded since the last update to be replayed
+         * at the next frame, if the model list changed since then.
+         */
+        void takeUpdate(List<Runnable> listUpdates) {
+            if (recordedEdits.isEmpty()) {
+                return;
+            }
+            List<Consumer<ObservableList<T>>> edits = recordedEdits;
+            recordedEdits = new ArrayList<>();
+            listUpdates.add(() -> {
+                pendingEdits.addAll(edits);
+                updateScheduler.schedule(this, this::replayPendingEdits);
+            });
+        }
+
+        private void replayPendingEdits() {
+            pendingEdits.forEach(edit -> edit.accept(mirror));
+            pendingEdits.clear();
+        }
+    }
+}
@@ -24,7 +24,8 @@ public class CustomerCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on Rhrh level 4</a>
      */
 
-    public final Customer customer;
+    private Customer customer;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -51,14 +52,41 @@ public class CustomerCard extends UiPart<Region> {
      * Creates a {@code CustomerCode} with the given {@code Customer} and index to display.
      */
     public CustomerCard(Customer customer, int displayedIndex) {
+        this();
+        setCustomer(customer, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code CustomerCard} that does not show any customer yet.
+     */
+    public CustomerCard() {
         super(FXML);
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    /**
+     * Shows {@code customer} with the index {@code displayedIndex} in place of the customer shown before,
+     * so that a list cell can reuse this card instead of loading a new one.
+     */
+    public void setCustomer(Customer customer, int displayedIndex) {
+        if (customer == this.customer && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.customer = customer;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(customer.getName().fullName);
         phone.setText("Phone: " + customer.getPhone().value);
         address.setText("Address: " + customer.getAddress().value);
         email.setText("Email: " + customer.getEmail().value);
         loyaltyPoints.setText("Points: " + customer.getLoyaltyPoints().value + " points");
+        allergies.getChildren().clear();
+        tags.getChildren().clear();
+        specialRequests.getChildren().clear();
         customer.getAllergies().stream()
                 .sorted(Comparator.comparing(allergy -> allergy.allergyName))
                 .forEach(allergy -> allergies.getChildren().add(new Label(allergy.allergyName)));
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,19 +22,39 @@ public class CustomerListPanel extends UiPart<Region> {
     @FXML
     private ListView<Customer> customerListView;
 
+    private final ObservableList<Customer> customerList;
+
     /**
      * Creates a {@code CustomerListPanel} with the given {@code ObservableList}.
      */
     public CustomerListPanel(ObservableList<Customer> customerList) {
         super(FXML);
+        this.customerList = customerList;
         customerListView.setItems(customerList);
         customerListView.setCellFactory(listView -> new CustomerListViewCell());
     }
 
+    /**
+     * Shows {@code matches} in place of the customers in the list, until {@link #clearPreview()} is called.
+     */
+    public void showPreview(List<Customer> matches) {
+        customerListView.setItems(FXCollections.observableArrayList(matches));
+    }
+
+    /**
+     * Shows the customers in the list again, in place of the preview.
+     */
+    public void clearPreview() {
+        customerListView.setItems(customerList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Customer} using a {@code CustomerCard}.
      */
     class CustomerListViewCell extends ListCell<Customer> {
+        // loaded once and reused for every customer this cell shows
+        private final CustomerCard customerCard = new CustomerCard();
+
         @Override
         protected void updateItem(Customer customer, boolean empty) {
             super.updateItem(customer, empty);
@@ -41,7 +63,8 @@ public class CustomerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CustomerCard(customer, getIndex() + 1).getRoot());
+                customerCard.setCustomer(customer, getIndex() + 1);
+                setGraphic(customerCard.getRoot());
             }
         }
     }
@@ -23,7 +23,8 @@ public class EmployeeCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on Rhrh level 4</a>
      */
 
-    public final Employee employee;
+    private Employee employee;
+    private int displayedIndex;
 
     @javafx.fxml.FXML
     private HBox cardPane;
@@ -52,8 +53,32 @@ public class EmployeeCard extends UiPart<Region> {
      * Creates a {@code EmployeeCode} with the given {@code Employee} and index to display.
      */
     public EmployeeCard(Employee employee, int displayedIndex) {
+        this();
+        setEmployee(employee, displayedIndex);
+    }
+
+    /**
+     * Creates an {@code EmployeeCard} that does not show any employee yet.
+     */
+    public EmployeeCard() {
         super(FXML);
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    /**
+     * Shows {@code employee} with the index {@code displayedIndex} in place of the employee shown before,
+     * so that a list cell can reuse this card instead of loading a new one.
+     */
+    public void setEmployee(Employee employee, int displayedIndex) {
+        if (employee == this.employee && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.employee = employee;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(employee.getName().fullName);
         phone.setText("Phone: " + employee.getPhone().value);
@@ -62,6 +87,8 @@ public class EmployeeCard extends UiPart<Region> {
         leaves.setText("Leaves: " + employee.getLeaves().currentLeaves + " days");
         salary.setText("Salary: S$" + employee.getSalary().currentSalary);
         jobTitle.setText("Job Title: " + employee.getJobTitle().jobTitle);
+        shifts.getChildren().clear();
+        tags.getChildren().clear();
         employee.getShifts().stream()
                 .sorted(Comparator.comparing(shift -> shift.shiftString))
                 .forEach(shift -> shifts.getChildren().add(new Label(shift.shiftString)));
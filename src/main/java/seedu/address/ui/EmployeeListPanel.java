@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,19 +22,39 @@ public class EmployeeListPanel extends UiPart<Region> {
     @FXML
     private ListView<Employee> employeeListView;
 
+    private final ObservableList<Employee> employeeList;
+
     /**
      * Creates a {@code EmployeeListPanel} with the given {@code ObservableList}.
      */
     public EmployeeListPanel(ObservableList<Employee> employeeList) {
         super(FXML);
+        this.employeeList = employeeList;
         employeeListView.setItems(employeeList);
         employeeListView.setCellFactory(listView -> new EmployeeListViewCell());
     }
 
+    /**
+     * Shows {@code matches} in place of the employees in the list, until {@link #clearPreview()} is called.
+     */
+    public void showPreview(List<Employee> matches) {
+        employeeListView.setItems(FXCollections.observableArrayList(matches));
+    }
+
+    /**
+     * Shows the employees in the list again, in place of the preview.
+     */
+    public void clearPreview() {
+        employeeListView.setItems(employeeList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Employee} using a {@code EmployeeCard}.
      */
     class EmployeeListViewCell extends ListCell<Employee> {
+        // loaded once and reused for every employee this cell shows
+        private final EmployeeCard employeeCard = new EmployeeCard();
+
         @Override
         protected void updateItem(Employee employee, boolean empty) {
             super.updateItem(employee, empty);
@@ -41,7 +63,8 @@ public class EmployeeListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EmployeeCard(employee, getIndex() + 1).getRoot());
+                employeeCard.setEmployee(employee, getIndex() + 1);
+                setGraphic(employeeCard.getRoot());
             }
         }
     }
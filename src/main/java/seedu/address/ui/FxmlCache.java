@@ -0,0 +1,75 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXMLLoader;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps the FXML documents of the UI in memory, so that creating a {@code UiPart} does not read its FXML file again.
+ * The documents can be preloaded on a background thread, which also loads the JavaFX classes they use.
+ */
+public class FxmlCache {
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlCache.class);
+
+    // keyed by the external form of the URL, as URL#equals may look up the host name
+    private static final Map<String, byte[]> documents = new ConcurrentHashMap<>();
+
+    private FxmlCache() {}
+
+    /**
+     * Returns the FXML document at {@code location}, which is only read the first time it is asked for.
+     *
+     * @throws IOException if the document could not be read.
+     */
+    static InputStream open(URL location) throws IOException {
+        requireNonNull(location);
+        try {
+            byte[] document = documents.computeIfAbsent(location.toExternalForm(), unused -> read(location));
+            return new ByteArrayInputStream(document);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads and loads each of {@code fxmlFileNames}, within {@link UiPart#FXML_FILE_FOLDER}, on a background thread.
+     * The files must not need a controller or root object to be loaded.
+     */
+    public static CompletableFuture<Void> preload(List<String> fxmlFileNames) {
+        requireNonNull(fxmlFileNames);
+        return CompletableFuture.runAsync(() -> {
+            for (String fxmlFileName : fxmlFileNames) {
+                URL location = UiPart.getFxmlFileUrl(fxmlFileName);
+                try (InputStream document = open(location)) {
+                    // the loaded nodes are thrown away; loading them once makes later loads faster
+                    FXMLLoader fxmlLoader = new FXMLLoader(location);
+                    fxmlLoader.load(document);
+                } catch (IOException e) {
+                    logger.warning("Could not preload " + fxmlFileName + ": " + e.getMessage());
+                }
+            }
+            logger.fine("Preloaded " + fxmlFileNames.size() + " FXML files");
+        });
+    }
+
+    private static byte[] read(URL location) {
+        try (InputStream inputStream = location.openStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
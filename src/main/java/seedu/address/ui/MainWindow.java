@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -14,8 +17,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.FindCustomerCommand;
+import seedu.address.logic.commands.FindEmployeeCommand;
+import seedu.address.logic.commands.FindSupplierCommand;
+import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.model.person.employee.EmployeeClassContainsKeywordsPredicate;
+import seedu.address.model.person.employee.EmployeeQueryFields;
+import seedu.address.model.person.supplier.SupplierClassContainsKeywordsPredicate;
+import seedu.address.model.person.supplier.SupplierQueryFields;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -23,12 +33,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading data...";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final UiUpdateScheduler updateScheduler = new UiUpdateScheduler();
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private CustomerListPanel customerListPanel;
@@ -36,6 +50,7 @@ public class MainWindow extends UiPart<Stage> {
     private SupplierListPanel supplierListPanel;
     private ReservationListPanel reservationListPanel;
     private ResultDisplay resultDisplay;
+    private PersonType personType;
     private HelpWindow helpWindow;
 
     @FXML
@@ -57,17 +72,17 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized according to {@code guiSettings}.
+     * The window shows that data is loading until {@link #setLogic(Logic)} is called.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
@@ -113,26 +128,72 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window that do not need any data, and shows that data is loading.
      */
     void fillInnerParts() {
-        customerListPanel = new CustomerListPanel(logic.getFilteredCustomerList());
-        employeeListPanel = new EmployeeListPanel(logic.getFilteredEmployeeList());
-        supplierListPanel = new SupplierListPanel(logic.getFilteredSupplierList());
-        reservationListPanel = new ReservationListPanel(logic.getFilteredReservations());
-        personListPanelPlaceholder.getChildren().add(customerListPanel.getRoot());
-
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
 
-        PersonType personType = new PersonType("Customer");
+        personType = new PersonType("Customer");
         personTypePlaceholder.getChildren().add(personType.getRoot());
+    }
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRhrhFilePath());
+    /**
+     * Fills up the rest of the placeholders with the data of {@code logic}, after which commands can be entered.
+     */
+    void setLogic(Logic logic) {
+        this.logic = logic;
+        commandRunner = new CommandRunner(logic, updateScheduler);
+        resultDisplay.setFeedbackToUser("");
+
+        customerListPanel = new CustomerListPanel(commandRunner.getFilteredCustomerList());
+        employeeListPanel = new EmployeeListPanel(commandRunner.getFilteredEmployeeList());
+        supplierListPanel = new SupplierListPanel(commandRunner.getFilteredSupplierList());
+        reservationListPanel = new ReservationListPanel(commandRunner.getFilteredReservations());
+        personListPanelPlaceholder.getChildren().add(customerListPanel.getRoot());
+
+        StatusBarFooter statusBarFooter = new StatusBarFooter(commandRunner.rhrhFilePathProperty().get());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        commandRunner.rhrhFilePathProperty().addListener((unused, oldPath, newPath) ->
+                statusBarFooter.setSaveLocation(newPath));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        SearchPreview searchPreview = createSearchPreview();
+        CommandBox commandBox = new CommandBox(this::executeCommand, searchPreview::update);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+        commandRunner.pendingCommandCountProperty().addListener((unused, oldCount, newCount) ->
+                commandBox.setPendingCommandCount(newCount.intValue()));
+    }
+
+    /**
+     * Returns a {@code SearchPreview} that shows the customers, employees or suppliers matching the find command
+     * being typed.
+     */
+    private SearchPreview createSearchPreview() {
+        SearchPreview searchPreview = new SearchPreview(() -> {
+            customerListPanel.clearPreview();
+            employeeListPanel.clearPreview();
+            supplierListPanel.clearPreview();
+        });
+        searchPreview.addTarget(FindCustomerCommand.COMMAND_WORD, commandRunner.getCustomerList(),
+                CustomerQueryFields.FIELDS, CustomerQueryFields::keyword,
+                CustomerClassContainsKeywordsPredicate::new, matches -> {
+                    handleShowCustomer();
+                    customerListPanel.showPreview(matches);
+                });
+        searchPreview.addTarget(FindEmployeeCommand.COMMAND_WORD, commandRunner.getEmployeeList(),
+                EmployeeQueryFields.FIELDS, EmployeeQueryFields::keyword,
+                EmployeeClassContainsKeywordsPredicate::new, matches -> {
+                    handleShowEmployee();
+                    employeeListPanel.showPreview(matches);
+                });
+        searchPreview.addTarget(FindSupplierCommand.COMMAND_WORD, commandRunner.getSupplierList(),
+                SupplierQueryFields.FIELDS, SupplierQueryFields::keyword,
+                SupplierClassContainsKeywordsPredicate::new, matches -> {
+                    handleShowSupplier();
+                    supplierListPanel.showPreview(matches);
+                });
+        return searchPreview;
     }
 
     /**
@@ -164,10 +225,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleShowCustomer() {
-        personListPanelPlaceholder.getChildren().clear();
-        PersonType personType = new PersonType("Customer");
-        personTypePlaceholder.getChildren().add(personType.getRoot());
-        personListPanelPlaceholder.getChildren().add(customerListPanel.getRoot());
+        if (logic == null) {
+            return;
+        }
+        showList(customerListPanel.getRoot(), "Customer");
     }
 
     /**
@@ -175,10 +236,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleShowSupplier() {
-        personListPanelPlaceholder.getChildren().clear();
-        PersonType personType = new PersonType("Supplier");
-        personTypePlaceholder.getChildren().add(personType.getRoot());
-        personListPanelPlaceholder.getChildren().add(supplierListPanel.getRoot());
+        if (logic == null) {
+            return;
+        }
+        showList(supplierListPanel.getRoot(), "Supplier");
     }
 
     /**
@@ -186,10 +247,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleShowEmployee() {
-        personListPanelPlaceholder.getChildren().clear();
-        PersonType personType = new PersonType("Employee");
-        personTypePlaceholder.getChildren().add(personType.getRoot());
-        personListPanelPlaceholder.getChildren().add(employeeListPanel.getRoot());
+        if (logic == null) {
+            return;
+        }
+        showList(employeeListPanel.getRoot(), "Employee");
     }
 
     /**
@@ -197,10 +258,24 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleShowReservation() {
-        personListPanelPlaceholder.getChildren().clear();
-        PersonType personType = new PersonType("Reservation");
-        personTypePlaceholder.getChildren().add(personType.getRoot());
-        personListPanelPlaceholder.getChildren().add(reservationListPanel.getRoot());
+        if (logic == null) {
+            return;
+        }
+        showList(reservationListPanel.getRoot(), "Reservation");
+    }
+
+    /**
+     * Shows {@code listPanel} under the title {@code listName} at the next frame, unless another list is chosen
+     * before then. The panel is only swapped in if it is not already shown.
+     */
+    private void showList(Node listPanel, String listName) {
+        // keyed by the placeholder, so that only the last list chosen within a frame is shown
+        updateScheduler.schedule(personListPanelPlaceholder, () -> {
+            personType.setPersonType(listName);
+            if (!personListPanelPlaceholder.getChildren().equals(List.of(listPanel))) {
+                personListPanelPlaceholder.getChildren().setAll(listPanel);
+            }
+        });
     }
 
     void show() {
@@ -214,7 +289,10 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // the window can be closed while the data is still loading
+        if (logic != null) {
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -224,13 +302,18 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command to be executed and returns its result, which is shown once the command has run.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandRunner#run(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandRunner.run(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -257,12 +340,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isShowReservation()) {
                 handleShowReservation();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -19,6 +19,13 @@ public class PersonType extends UiPart<Region> {
      */
     public PersonType(String personType) {
         super(FXML);
+        setPersonType(personType);
+    }
+
+    /**
+     * Shows {@code personType} in place of the person type shown before.
+     */
+    public void setPersonType(String personType) {
         this.personType.setText(personType);
     }
 }
@@ -17,6 +17,7 @@ public class ReservationCard extends UiPart<Region> {
     public static final String FXML = "ReservationListCard.fxml";
     private static final DateTimeFormatter DATE_TIME_PRINTING_FORMAT =
             DateTimeFormatter.ofPattern("d MMMM yyyy, h:mm a");
+    private static final DateTimeFormatter END_TIME_PRINTING_FORMAT = DateTimeFormatter.ofPattern("h:mm a");
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -26,7 +27,8 @@ public class ReservationCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on Rhrh level 4</a>
      */
 
-    public final Reservation reservation;
+    private Reservation reservation;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -56,17 +58,43 @@ public class ReservationCard extends UiPart<Region> {
      * Creates a {@code ReservationCard} with the given {@code Reservation} and index to display.
      */
     public ReservationCard(Reservation reservation, int displayedIndex) {
+        this();
+        setReservation(reservation, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code ReservationCard} that does not show any reservation yet.
+     */
+    public ReservationCard() {
         super(FXML);
+    }
+
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    /**
+     * Shows {@code reservation} with the index {@code displayedIndex} in place of the reservation shown before,
+     * so that a list cell can reuse this card instead of loading a new one.
+     */
+    public void setReservation(Reservation reservation, int displayedIndex) {
+        if (reservation == this.reservation && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.reservation = reservation;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         tableId.setText("Table #" + reservation.getTableId());
         phone.setText("Phone: " + reservation.getPhone().value);
         numberOfPeople.setText(String.format("Table for %d", reservation.getNumberOfPeople()));
-        dateTime.setText("On: " + reservation.getDateTime().format(DATE_TIME_PRINTING_FORMAT));
+        dateTime.setText("On: " + reservation.getDateTime().format(DATE_TIME_PRINTING_FORMAT)
+                + " to " + reservation.getEndDateTime().format(END_TIME_PRINTING_FORMAT));
         remark.setText("Remark: "
                 + (reservation.getRemark() == null || reservation.getRemark().value.isEmpty()
                     ? "none"
                     : reservation.getRemark().value));
+        tags.getChildren().clear();
         reservation.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
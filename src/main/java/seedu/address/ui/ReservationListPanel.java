@@ -34,6 +34,9 @@ public class ReservationListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Reservation} using a {@code ReservationCard}.
      */
     class ReservationListViewCell extends ListCell<Reservation> {
+        // loaded once and reused for every reservation this cell shows
+        private final ReservationCard reservationCard = new ReservationCard();
+
         @Override
         protected void updateItem(Reservation reservation, boolean empty) {
             super.updateItem(reservation, empty);
@@ -42,7 +45,8 @@ public class ReservationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReservationCard(reservation, getIndex() + 1).getRoot());
+                reservationCard.setReservation(reservation, getIndex() + 1);
+                setGraphic(reservationCard.getRoot());
             }
         }
     }
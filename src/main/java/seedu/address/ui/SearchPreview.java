@@ -0,0 +1,237 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.IncrementalFilter;
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryIndex;
+import seedu.address.model.query.QueryNode;
+
+/**
+ * Previews the result of a find command while it is being typed, by filtering the list it searches each time the
+ * command changes. Filtering waits until typing pauses, runs on a background thread, and is cancelled as soon as
+ * the command changes again, so typing is never held up.
+ * Must only be used on the JavaFX application thread.
+ */
+public class SearchPreview {
+
+    /** How long typing must pause for before the command is previewed. */
+    public static final long DEBOUNCE_DELAY_MILLIS = 150;
+
+    // number of items tested between checks of whether the filtering is cancelled
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+    private static final Pattern FIND_COMMAND_FORMAT =
+            Pattern.compile("\\s*(?<commandWord>\\S+)\\s+(?<keywords>\\S.*)");
+
+    private final ScheduledExecutorService previewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Target<?>> targets = new HashMap<>();
+    private final Runnable onPreviewCleared;
+
+    private Future<?> pendingFilter;
+    // incremented every time the command changes, so that results for an older command are not shown
+    private int commandVersion;
+    private boolean isPreviewing;
+
+    /**
+     * Creates a {@code SearchPreview} that calls {@code onPreviewCleared} when the command stops being previewed.
+     */
+    public SearchPreview(Runnable onPreviewCleared) {
+        requireNonNull(onPreviewCleared);
+        this.onPreviewCleared = onPreviewCleared;
+    }
+
+    /**
+     * Previews the commands with {@code commandWord}, by filtering {@code items} and passing the items that match to
+     * {@code onPreview}. A command using the query syntax is parsed and planned the way the find command does it,
+     * with a {@link QueryParser} of {@code fields} and {@code keywordNode}. Any other command is filtered with the
+     * predicate made from its keywords by {@code predicateFactory}.
+     */
+    public <T> void addTarget(String commandWord, ObservableList<T> items, List<QueryField<T>> fields,
+            Function<String, QueryNode<T>> keywordNode, Function<List<String>, Predicate<T>> predicateFactory,
+            Consumer<List<T>> onPreview) {
+        requireNonNull(commandWord);
+        requireNonNull(items);
+        requireNonNull(onPreview);
+        Target<T> target = new Target<>(new IncrementalFilter<>(predicateFactory),
+                new QueryParser<>(fields, keywordNode), new QueryIndex<>(fields), onPreview);
+        target.setItems(items);
+        items.addListener(target::applyChange);
+        targets.put(commandWord, target);
+    }
+
+    /**
+     * Previews {@code commandText}, the text now in the command box, if it is a find command with keywords.
+     * Otherwise, stops any preview that is shown.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        commandVersion++;
+        if (pendingFilter != null) {
+            pendingFilter.cancel(true);
+            pendingFilter = null;
+        }
+
+        Matcher matcher = FIND_COMMAND_FORMAT.matcher(commandText);
+        Target<?> target = matcher.matches() ? targets.get(matcher.group("commandWord").toLowerCase()) : null;
+        if (target == null) {
+            clearPreview();
+            return;
+        }
+
+        String keywords = matcher.group("keywords");
+        int version = commandVersion;
+        pendingFilter = previewer.schedule(() -> target.filter(keywords, version),
+                DEBOUNCE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void clearPreview() {
+        if (isPreviewing) {
+            isPreviewing = false;
+            onPreviewCleared.run();
+        }
+    }
+
+    /**
+     * A list that can be previewed, together with the filter of its items.
+     */
+    private class Target<T> {
+        // only used on the previewer thread
+        private final IncrementalFilter<T> filter;
+        private final QueryParser<T> queryParser;
+        private final QueryIndex<T> queryIndex;
+        private final Consumer<List<T>> onPreview;
+        private List<T> items = List.of();
+        // the index is only built when a query is first previewed, as most previews are of keywords
+        private boolean isIndexBuilt;
+
+        Target(IncrementalFilter<T> filter, QueryParser<T> queryParser, QueryIndex<T> queryIndex,
+                Consumer<List<T>> onPreview) {
+            this.filter = filter;
+            this.queryParser = queryParser;
+            this.queryIndex = queryIndex;
+            this.onPreview = onPreview;
+        }
+
+        /**
+         * Hands a copy of {@code items} to the filter. Must be called on the JavaFX application thread.
+         */
+        void setItems(List<T> items) {
+            List<T> copy = new ArrayList<>(items);
+            previewer.execute(() -> {
+                this.items = copy;
+                filter.setItems(copy);
+                isIndexBuilt = false;
+            });
+        }
+
+        /**
+         * Hands the items changed by {@code change} to the filter, which applies the change to its copy of the items
+         * and updates the index with just those items. Must be called on the JavaFX application thread.
+         */
+        void applyChange(ListChangeListener.Change<? extends T> change) {
+            List<Runnable> edits = new ArrayList<>();
+            while (change.next()) {
+                int from = change.getFrom();
+                // items that are moved or updated in place are replaced with themselves as they are now
+                boolean isInPlace = change.wasPermutated() || change.wasUpdated();
+                int removedCount = isInPlace ? change.getTo() - from : change.getRemovedSize();
+                List<T> added = new ArrayList<>(isInPlace
+                        ? change.getList().subList(from, change.getTo())
+                        : change.getAddedSubList());
+                edits.add(() -> replaceItems(from, removedCount, added));
+            }
+            previewer.execute(() -> {
+                edits.forEach(Runnable::run);
+                filter.setItems(items);
+            });
+        }
+
+        /**
+         * Replaces the {@code removedCount} items from index {@code from} with {@code added}. Must be called on the
+         * previewer thread.
+         */
+        private void replaceItems(int from, int removedCount, List<T> added) {
+            List<T> removed = items.subList(from, from + removedCount);
+            if (isIndexBuilt) {
+                removed.forEach(queryIndex::remove);
+                added.forEach(queryIndex::add);
+            }
+            removed.clear();
+            items.addAll(from, added);
+        }
+
+        /**
+         * Filters the items with {@code args}, the arguments of the command, and shows the items that match, unless
+         * the command has changed since version {@code version}. Must be called on the previewer thread.
+         */
+        void filter(String args, int version) {
+            Optional<List<T>> matches = queryParser.isQuery(args)
+                    ? filterByQuery(args)
+                    : filter.filter(args, Thread.currentThread()::isInterrupted);
+            matches.ifPresent(found ->
+                    Platform.runLater(() -> {
+                        if (version != commandVersion) {
+                            return;
+                        }
+                        isPreviewing = true;
+                        onPreview.accept(found);
+                    }));
+        }
+
+        /**
+         * Returns the items matching the query {@code args}, in their original order, or an empty {@code Optional}
+         * if {@code args} is not a valid query or the filtering was cancelled.
+         */
+        private Optional<List<T>> filterByQuery(String args) {
+            Query<T> query;
+            try {
+                query = queryParser.parse(args);
+            } catch (ParseException e) {
+                // the query is most likely still being typed, so the last preview is kept
+                return Optional.empty();
+            }
+            if (!isIndexBuilt) {
+                queryIndex.setAll(items);
+                isIndexBuilt = true;
+            }
+
+            Predicate<T> predicate = query.plan(queryIndex).getFilter();
+            List<T> matches = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                    return Optional.empty();
+                }
+                if (predicate.test(items.get(i))) {
+                    matches.add(items.get(i));
+                }
+            }
+            return Optional.of(matches);
+        }
+    }
+}
@@ -24,7 +24,8 @@ public class SupplierCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on Rhrh level 4</a>
      */
 
-    public final Supplier supplier;
+    private Supplier supplier;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -49,13 +50,38 @@ public class SupplierCard extends UiPart<Region> {
      * Creates a {@code SupplierCode} with the given {@code Supplier} and index to display.
      */
     public SupplierCard(Supplier supplier, int displayedIndex) {
+        this();
+        setSupplier(supplier, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code SupplierCard} that does not show any supplier yet.
+     */
+    public SupplierCard() {
         super(FXML);
+    }
+
+    public Supplier getSupplier() {
+        return supplier;
+    }
+
+    /**
+     * Shows {@code supplier} with the index {@code displayedIndex} in place of the supplier shown before,
+     * so that a list cell can reuse this card instead of loading a new one.
+     */
+    public void setSupplier(Supplier supplier, int displayedIndex) {
+        if (supplier == this.supplier && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.supplier = supplier;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(supplier.getName().fullName);
         phone.setText("Phone: " + supplier.getPhone().value);
         address.setText("Address: " + supplier.getAddress().value);
         email.setText("Email: " + supplier.getEmail().value);
+        tags.getChildren().clear();
         supplier.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,16 +22,36 @@ public class SupplierListPanel extends UiPart<Region> {
     @FXML
     private ListView<Supplier> supplierListView;
 
+    private final ObservableList<Supplier> supplierList;
+
     /**
      * Creates a {@code SupplierListPanel} with the given {@code ObservableList}.
      */
     public SupplierListPanel(ObservableList<Supplier> supplierList) {
         super(FXML);
+        this.supplierList = supplierList;
         supplierListView.setItems(supplierList);
         supplierListView.setCellFactory(listView -> new SupplierListViewCell());
     }
 
+    /**
+     * Shows {@code matches} in place of the suppliers in the list, until {@link #clearPreview()} is called.
+     */
+    public void showPreview(List<Supplier> matches) {
+        supplierListView.setItems(FXCollections.observableArrayList(matches));
+    }
+
+    /**
+     * Shows the suppliers in the list again, in place of the preview.
+     */
+    public void clearPreview() {
+        supplierListView.setItems(supplierList);
+    }
+
     class SupplierListViewCell extends ListCell<Supplier> {
+        // loaded once and reused for every supplier this cell shows
+        private final SupplierCard supplierCard = new SupplierCard();
+
         @Override
         protected void updateItem(Supplier supplier, boolean empty) {
             super.updateItem(supplier, empty);
@@ -38,7 +60,8 @@ public class SupplierListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new SupplierCard(supplier, getIndex() + 1).getRoot());
+                supplierCard.setSupplier(supplier, getIndex() + 1);
+                setGraphic(supplierCard.getRoot());
             }
         }
     }
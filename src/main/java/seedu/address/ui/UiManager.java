@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,6 +11,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -22,15 +26,42 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
-    private Logic logic;
+    /** FXML files of the parts shown in the main window, which can be loaded without a controller. */
+    private static final List<String> PRELOADED_FXML_FILES = List.of("CustomerListPanel.fxml",
+            "EmployeeListPanel.fxml", "SupplierListPanel.fxml", "ReservationListPanel.fxml",
+            "CustomerListCard.fxml", "EmployeeListCard.fxml", "SupplierListCard.fxml", "ReservationListCard.fxml",
+            "PersonType.fxml", "ResultDisplay.fxml", "StatusBarFooter.fxml");
+
+    private final GuiSettings guiSettings;
+    private final CompletableFuture<Logic> loadingLogic;
+    private final boolean isExitWhenReady;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic.getGuiSettings(), CompletableFuture.completedFuture(logic), false);
+    }
+
+    /**
+     * Creates a {@code UiManager} whose window is sized according to {@code guiSettings}, and which shows the data
+     * of {@code loadingLogic} once it has loaded. If {@code isExitWhenReady}, the application exits as soon as it is
+     * ready for commands, so that the time it takes to start can be measured.
+     */
+    public UiManager(GuiSettings guiSettings, CompletableFuture<Logic> loadingLogic, boolean isExitWhenReady) {
         super();
-        this.logic = logic;
+        this.guiSettings = guiSettings;
+        this.loadingLogic = loadingLogic;
+        this.isExitWhenReady = isExitWhenReady;
+    }
+
+    /**
+     * Starts loading the FXML files of the main window on a background thread, so that less work is left for
+     * {@link #start(Stage)}. This can be called before the UI is created, e.g. while the data file is being read.
+     */
+    public static void preloadViews() {
+        FxmlCache.preload(PRELOADED_FXML_FILES);
     }
 
     @Override
@@ -41,14 +72,35 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, guiSettings);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
         }
+
+        loadingLogic.whenComplete((logic, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                showFatalErrorDialogAndShutdown("Fatal error during initializing", error);
+                return;
+            }
+
+            try {
+                mainWindow.setLogic(logic);
+            } catch (Throwable e) {
+                logger.severe(StringUtil.getDetails(e));
+                showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+                return;
+            }
+            long timeToInteractive = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            logger.info("Ready for commands " + timeToInteractive + " ms after launch");
+            if (isExitWhenReady) {
+                Platform.exit();
+            }
+        }));
     }
 
     private Image getImage(String imagePath) {
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -60,7 +61,7 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Loads the object hierarchy from a FXML document.
+     * Loads the object hierarchy from a FXML document, which is read through {@link FxmlCache}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -69,8 +70,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlDocument = FxmlCache.open(location)) {
+            fxmlLoader.load(fxmlDocument);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
@@ -79,7 +80,7 @@ public abstract class UiPart<T> {
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
-    private static URL getFxmlFileUrl(String fxmlFileName) {
+    static URL getFxmlFileUrl(String fxmlFileName) {
         requireNonNull(fxmlFileName);
         String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
         URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
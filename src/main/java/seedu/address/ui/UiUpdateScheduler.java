@@ -0,0 +1,66 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Applies updates to the window once per frame, just before the frame is laid out, so that any number of list
+ * changes and view switches made in between cost a single layout pass.
+ * Updates scheduled with the same key replace each other, so only the latest one is applied.
+ * Must only be used on the JavaFX application thread.
+ */
+public class UiUpdateScheduler {
+
+    private final Map<Object, Runnable> pendingUpdates = new LinkedHashMap<>();
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            applyPendingUpdates();
+        }
+    };
+
+    private boolean isScheduled;
+
+    /**
+     * Schedules {@code update} to be applied at the next frame, in place of any update scheduled with {@code key}
+     * that has not been applied yet.
+     */
+    public void schedule(Object key, Runnable update) {
+        requireNonNull(key);
+        requireNonNull(update);
+        assert Platform.isFxApplicationThread();
+        pendingUpdates.put(key, update);
+        if (!isScheduled) {
+            isScheduled = true;
+            pulse.start();
+        }
+    }
+
+    /**
+     * Schedules {@code update} to be applied at the next frame, after the updates scheduled before it.
+     */
+    public void schedule(Runnable update) {
+        schedule(new Object(), update);
+    }
+
+    /**
+     * Applies the pending updates in the order they were first scheduled, including those scheduled by the updates
+     * themselves.
+     */
+    private void applyPendingUpdates() {
+        while (!pendingUpdates.isEmpty()) {
+            List<Runnable> updates = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+            updates.forEach(Runnable::run);
+        }
+        isScheduled = false;
+    }
+}
@@ -37,6 +37,13 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_exitWhenReady_success() {
+        parametersStub.namedParameters.put("exit-when-ready", "true");
+        expected.setExitWhenReady(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_validLines_success() {
+        // unquoted values
+        assertEquals(Arrays.asList("a", "b", "c"), CsvUtil.splitLine("a,b,c"));
+
+        // empty values
+        assertEquals(Arrays.asList("", "b", ""), CsvUtil.splitLine(",b,"));
+        assertEquals(Arrays.asList(""), CsvUtil.splitLine(""));
+
+        // quoted value containing a separator
+        assertEquals(Arrays.asList("a", "b,c"), CsvUtil.splitLine("a,\"b,c\""));
+
+        // quoted value containing escaped quotes
+        assertEquals(Arrays.asList("say \"hi\"", ""), CsvUtil.splitLine("\"say \"\"hi\"\"\","));
+    }
+
+    @Test
+    public void escape_values_success() {
+        assertEquals("abc", CsvUtil.escape("abc"));
+        assertEquals("\"a,b\"", CsvUtil.escape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.escape("say \"hi\""));
+        assertEquals("\"a\nb\"", CsvUtil.escape("a\nb"));
+    }
+
+    @Test
+    public void joinLine_values_splitsBackIntoSameValues() {
+        String line = CsvUtil.joinLine(Arrays.asList("a", "b,c", "say \"hi\"", ""));
+        assertEquals("a,\"b,c\",\"say \"\"hi\"\"\",", line);
+        assertEquals(Arrays.asList("a", "b,c", "say \"hi\"", ""), CsvUtil.splitLine(line));
+    }
+
+    @Test
+    public void readRecord_quotedLineBreak_splitsBackIntoSameValues() throws Exception {
+        List<String> values = Arrays.asList("a", "first line\nsecond line", "say \"hi\"");
+        BufferedReader reader = new BufferedReader(new StringReader(CsvUtil.joinLine(values) + "\nnext,row\n"));
+        assertEquals(values, CsvUtil.splitLine(CsvUtil.readRecord(reader)));
+        assertEquals("next,row", CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+}
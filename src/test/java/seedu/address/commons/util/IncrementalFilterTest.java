@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BENSON;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+
+public class IncrementalFilterTest {
+
+    private final List<Customer> testedCustomers = new ArrayList<>();
+    private final IncrementalFilter<Customer> filter = new IncrementalFilter<>(keywords -> {
+        CustomerClassContainsKeywordsPredicate predicate = new CustomerClassContainsKeywordsPredicate(keywords);
+        return customer -> {
+            testedCustomers.add(customer);
+            return predicate.test(customer);
+        };
+    });
+
+    @Test
+    public void constructor_nullPredicateFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncrementalFilter<Customer>(null));
+    }
+
+    @Test
+    public void filter_keywordsSeparatedByWhitespace_itemsMatchingAllKeywords() {
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON, CUSTOMER_CARL));
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON)), filter.filter("peanut", () -> false));
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_BENSON)), filter.filter("  Peanut   Meier ", () -> false));
+    }
+
+    @Test
+    public void filter_extendedQuery_onlyTestsPreviousMatches() {
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON, CUSTOMER_CARL));
+        filter.filter("Peanut", () -> false);
+        testedCustomers.clear();
+
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_BENSON)), filter.filter("Peanut Ben", () -> false));
+        assertEquals(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON), testedCustomers);
+    }
+
+    @Test
+    public void filter_changedQuery_testsAllItems() {
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON, CUSTOMER_CARL));
+        filter.filter("Peanut", () -> false);
+        testedCustomers.clear();
+
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_CARL)), filter.filter("Kurz", () -> false));
+        assertEquals(3, testedCustomers.size());
+    }
+
+    @Test
+    public void filter_newItems_testsAllItems() {
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE));
+        filter.filter("Ku", () -> false);
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_CARL));
+
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_CARL)), filter.filter("Kurz", () -> false));
+    }
+
+    @Test
+    public void filter_cancelled_returnsEmptyAndKeepsPreviousMatches() {
+        filter.setItems(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON, CUSTOMER_CARL));
+        filter.filter("Peanut", () -> false);
+
+        assertEquals(Optional.empty(), filter.filter("Peanut Ben", () -> true));
+        testedCustomers.clear();
+        assertEquals(Optional.of(Arrays.asList(CUSTOMER_ALICE)), filter.filter("Peanut Alice", () -> false));
+        assertEquals(2, testedCustomers.size());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -29,6 +30,7 @@ import static seedu.address.testutil.TypicalEmployees.AMY_EMPLOYEE;
 import static seedu.address.testutil.TypicalSuppliers.BOB;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +40,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCustomerCommand;
 import seedu.address.logic.commands.AddEmployeeCommand;
 import seedu.address.logic.commands.AddSupplierCommand;
+import seedu.address.logic.commands.BranchCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -85,6 +88,16 @@ public class LogicManagerTest {
         assertCommandException(deleteCustomerCommand, MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_switchBranch_savesToBranchDataFile() throws Exception {
+        model.setRhrhFilePath(temporaryFolder.resolve("rhrh.json"));
+        logic.execute(BranchCommand.COMMAND_WORD + " orchard");
+
+        Path branchFilePath = temporaryFolder.resolve("orchard.json");
+        assertEquals(branchFilePath, model.getRhrhFilePath());
+        assertTrue(Files.exists(branchFilePath));
+    }
+
     @Test
     public void executeAddCustomer_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonRhrhIoExceptionThrowingStub
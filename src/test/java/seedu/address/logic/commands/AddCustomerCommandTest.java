@@ -6,31 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyRhrh;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Rhrh;
-import seedu.address.model.person.Phone;
 import seedu.address.model.person.customer.Customer;
-import seedu.address.model.person.employee.Employee;
-import seedu.address.model.person.supplier.Supplier;
-import seedu.address.model.reservation.Reservation;
-import seedu.address.model.reservation.ReservationsManager;
-import seedu.address.model.table.Table;
-import seedu.address.model.table.TableManager;
 import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.ModelStub;
 
 public class AddCustomerCommandTest {
 
@@ -85,253 +72,6 @@ public class AddCustomerCommandTest {
         assertFalse(addAliceCommand.equals(addBobCommand));
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getRhrhFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setRhrhFilePath(Path rhrhFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addCustomer(Customer customer) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-
-        }
-
-        @Override
-        public void setRhrh(ReadOnlyRhrh newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyRhrh getRhrh() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasCustomer(Customer customer) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasCustomerWithPhone(Phone phone) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteCustomer(Customer target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setCustomer(Customer target, Customer editedCustomer) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setEmployee(Employee target, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setEmployeeComparator(Comparator<Employee> employeeComparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Employee> getSortableEmployeeList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetEmployeeListToDefaultSortState() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasReservation(Reservation reservation) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteReservation(Reservation target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addReservation(Reservation reservation) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setReservation(Reservation target, Reservation editedReservation) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetReservations() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setTableList(List<Table> tableList) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasTable(Table table) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetTableCount() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Customer> getFilteredCustomerList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Employee> getFilteredEmployeeList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Reservation> getFilteredReservationList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReservationsManager getReservationsManager() {
-            throw new AssertionError("This method should not be called.");
-
-        }
-
-        @Override
-        public TableManager getTableManager() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredCustomerList(Predicate<Customer> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setCustomerComparator(Comparator<Customer> customerComparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Customer> getSortableCustomerList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetCustomerListToDefaultSortState() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasSupplier(Supplier supplier) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteSupplier(Supplier target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addSupplier(Supplier supplier) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSupplier(Supplier target, Supplier editedSupplier) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSupplierComparator(Comparator<Supplier> supplierComparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Supplier> getFilteredSupplierList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredSupplierList(Predicate<Supplier> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Supplier> getSortableSupplierList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void resetSupplierListToDefaultSortState() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredReservationList(Predicate<Reservation> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-    }
-
     /**
      * A Model stub that contains a single customer.
      */
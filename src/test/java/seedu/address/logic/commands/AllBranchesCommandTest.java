@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BOB;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_CARL;
+import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.testutil.RhrhBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code AllBranchesCommand}.
+ */
+public class AllBranchesCommandTest {
+
+    private Model model = new ModelManager(getTypicalRhrhCustomers(), new UserPrefs(),
+        unused -> new RhrhBuilder().withCustomer(CUSTOMER_BOB).withCustomer(CUSTOMER_CARL).build());
+
+    @Test
+    public void execute_loadedBranches_listsMatchesOfEachBranch() throws Exception {
+        model.switchBranch("orchard");
+        Model expectedModel = new ModelManager(model.getRhrh(), model.getUserPrefs());
+
+        FindCustomerCommand findCommand = new FindCustomerCommand(
+                new CustomerClassContainsKeywordsPredicate(Collections.singletonList("Kurz")));
+        String expectedMessage = "[orchard] " + String.format(MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 1)
+                + "\n  " + CUSTOMER_CARL.getName().fullName
+                + "\n[" + UserPrefs.DEFAULT_BRANCH + "] " + String.format(MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 1)
+                + "\n  " + CUSTOMER_CARL.getName().fullName;
+
+        // the displayed list of the current branch is left unfiltered
+        assertCommandSuccess(new AllBranchesCommand(findCommand), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatches_listsEmptyResult() {
+        FindCustomerCommand findCommand = new FindCustomerCommand(
+                new CustomerClassContainsKeywordsPredicate(Collections.singletonList("Nobody")));
+        Model expectedModel = new ModelManager(model.getRhrh(), model.getUserPrefs());
+        String expectedMessage = "[" + UserPrefs.DEFAULT_BRANCH + "] "
+                + String.format(MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 0);
+        assertCommandSuccess(new AllBranchesCommand(findCommand), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FindCustomerCommand findAliceCommand = new FindCustomerCommand(
+                new CustomerClassContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        FindCustomerCommand findBobCommand = new FindCustomerCommand(
+                new CustomerClassContainsKeywordsPredicate(Collections.singletonList("Bob")));
+        AllBranchesCommand allBranchesCommand = new AllBranchesCommand(findAliceCommand);
+
+        // same object -> returns true
+        assertTrue(allBranchesCommand.equals(allBranchesCommand));
+
+        // same values -> returns true
+        assertTrue(allBranchesCommand.equals(new AllBranchesCommand(findAliceCommand)));
+
+        // different types -> returns false
+        assertFalse(allBranchesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(allBranchesCommand.equals(null));
+
+        // different command -> returns false
+        assertFalse(allBranchesCommand.equals(new AllBranchesCommand(findBobCommand)));
+    }
+}
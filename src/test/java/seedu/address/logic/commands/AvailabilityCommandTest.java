@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+
+public class AvailabilityCommandTest {
+    private static final LocalDate CHRISTMAS_EVE = LocalDate.parse("2021-12-24");
+    private static final LocalDate CHRISTMAS = CHRISTMAS_EVE.plusDays(1);
+    private static final Table TABLE_1 = new Table(4, 1);
+    private static final Table TABLE_2 = new Table(6, 2);
+
+    private Model model = new ModelManager(new Rhrh(), new UserPrefs());
+
+    @Test
+    public void execute_reservationsInRange_showsMatrixOfHoursInUse() {
+        model.setTableList(List.of(TABLE_1, TABLE_2));
+        model.addReservation(new Reservation(new Phone("91111111"), 4, CHRISTMAS_EVE.atTime(19, 0), TABLE_1,
+                new Remark(""), Set.of()));
+        model.addReservation(new Reservation(new Phone("92222222"), 5, CHRISTMAS_EVE.atTime(19, 0), TABLE_2,
+                new Remark(""), Set.of()));
+        model.addReservation(new Reservation(new Phone("93333333"), 2, CHRISTMAS.atTime(12, 0), TABLE_1,
+                new Remark(""), Set.of()));
+
+        CommandResult result = new AvailabilityCommand(CHRISTMAS_EVE, CHRISTMAS).execute(model);
+
+        String expectedMessage = String.format(AvailabilityCommand.MESSAGE_HEADER, 2, CHRISTMAS_EVE, CHRISTMAS)
+                + "\n" + String.format("%-12s%-9s%-9s", "", "12:00", "19:00")
+                + "\n" + String.format("%-12s%-9s%-9s", CHRISTMAS_EVE, "-", "2 (9)")
+                + "\n" + String.format("%-12s%-9s%-9s", CHRISTMAS, "1 (2)", "-").stripTrailing();
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noReservationsInRange_showsNoReservationsMessage() {
+        CommandResult result = new AvailabilityCommand(CHRISTMAS_EVE, CHRISTMAS).execute(model);
+
+        assertEquals(String.format(AvailabilityCommand.MESSAGE_NO_RESERVATIONS, CHRISTMAS_EVE, CHRISTMAS),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AvailabilityCommand(CHRISTMAS, CHRISTMAS_EVE));
+        assertThrows(IllegalArgumentException.class, () -> new AvailabilityCommand(CHRISTMAS_EVE,
+                CHRISTMAS_EVE.plusDays(AvailabilityCommand.MAX_DAYS)));
+    }
+
+    @Test
+    public void equals() {
+        AvailabilityCommand command = new AvailabilityCommand(CHRISTMAS_EVE, CHRISTMAS);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AvailabilityCommand(CHRISTMAS_EVE, CHRISTMAS)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AvailabilityCommand(CHRISTMAS_EVE, CHRISTMAS_EVE)));
+    }
+}
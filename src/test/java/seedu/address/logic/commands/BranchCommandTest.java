@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BranchCommand}.
+ */
+public class BranchCommandTest {
+
+    private Model model = new ModelManager(getTypicalRhrhCustomers(), new UserPrefs());
+
+    @Test
+    public void execute_noBranchName_listsBranches() throws Exception {
+        model.switchBranch("orchard");
+        Model expectedModel = new ModelManager(model.getRhrh(), model.getUserPrefs());
+        String expectedMessage = String.format(BranchCommand.MESSAGE_LIST_BRANCHES, "orchard",
+                UserPrefs.DEFAULT_BRANCH + ", orchard");
+        assertCommandSuccess(new BranchCommand(Optional.empty()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_newBranch_switchesToEmptyBranch() {
+        CommandResult result = null;
+        try {
+            result = new BranchCommand(Optional.of("orchard")).execute(model);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+
+        assertEquals(new CommandResult(String.format(BranchCommand.MESSAGE_SWITCHED, "orchard"),
+                false, false, true, false, false, false), result);
+        assertEquals("orchard", model.getCurrentBranch());
+        assertEquals(new Rhrh(), new Rhrh(model.getRhrh()));
+    }
+
+    @Test
+    public void execute_currentBranch_modelUnchanged() {
+        Model expectedModel = new ModelManager(model.getRhrh(), model.getUserPrefs());
+        assertCommandSuccess(new BranchCommand(Optional.of(UserPrefs.DEFAULT_BRANCH)), model,
+                String.format(BranchCommand.MESSAGE_ALREADY_ON_BRANCH, UserPrefs.DEFAULT_BRANCH), expectedModel);
+    }
+
+    @Test
+    public void execute_unreadableBranch_throwsCommandException() {
+        DataConversionException exception = new DataConversionException(new IOException("dummy exception"));
+        model = new ModelManager(getTypicalRhrhCustomers(), new UserPrefs(), filePath -> {
+            throw exception;
+        });
+        assertCommandFailure(new BranchCommand(Optional.of("orchard")), model,
+                String.format(BranchCommand.MESSAGE_INVALID_BRANCH_DATA, "orchard", exception.getMessage()));
+    }
+
+    @Test
+    public void equals() {
+        BranchCommand listCommand = new BranchCommand(Optional.empty());
+        BranchCommand switchCommand = new BranchCommand(Optional.of("orchard"));
+
+        // same object -> returns true
+        assertTrue(switchCommand.equals(switchCommand));
+
+        // same values -> returns true
+        assertTrue(switchCommand.equals(new BranchCommand(Optional.of("orchard"))));
+
+        // different types -> returns false
+        assertFalse(switchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(switchCommand.equals(null));
+
+        // different branch -> returns false
+        assertFalse(switchCommand.equals(listCommand));
+        assertFalse(switchCommand.equals(new BranchCommand(Optional.of("bugis"))));
+    }
+}
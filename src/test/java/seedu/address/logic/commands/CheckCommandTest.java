@@ -9,14 +9,17 @@ import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
 import static seedu.address.testutil.TypicalReservation.ALICE_RESERVATION;
 import static seedu.address.testutil.TypicalReservation.BENSON_RESERVATION;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.logic.parser.CheckCommandParser;
 import seedu.address.logic.parser.enums.EnumTypeOfCheck;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -24,6 +27,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.reservation.CustomerContainsReservationPredicate;
 import seedu.address.model.reservation.ListContainsReservationPredicate;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
 
 class CheckCommandTest {
     private LocalDate date1 = ALICE_RESERVATION.getDateTime().toLocalDate();
@@ -38,7 +42,8 @@ class CheckCommandTest {
     @Test
     void execute_validDateTime_success() {
         String expectedMessage =
-                String.format(Messages.MESSAGE_RESERVATIONS_LISTED_DATETIME, 1, LocalDateTime.of(date1, time));
+                String.format(Messages.MESSAGE_RESERVATIONS_LISTED_DATETIME, 1, LocalDateTime.of(date1, time))
+                + String.format(CheckCommand.MESSAGE_TABLES_FREE, 0, 0, reservation1.getNumberOfPeople());
         resultModel.addReservation(reservation1);
         resultModel.addReservation(reservation2);
         model.addReservation(reservation1);
@@ -57,7 +62,8 @@ class CheckCommandTest {
     @Test
     void execute_validDateTimeNoReservationFound_success() {
         String expectedMessage =
-                String.format(Messages.MESSAGE_RESERVATIONS_LISTED_DATETIME, 0, LocalDateTime.of(date2, time));
+                String.format(Messages.MESSAGE_RESERVATIONS_LISTED_DATETIME, 0, LocalDateTime.of(date2, time))
+                + String.format(CheckCommand.MESSAGE_TABLES_FREE, 0, 0, 0);
         resultModel.addReservation(reservation1);
         model.addReservation(reservation1);
         ListContainsReservationPredicate predicate = new ListContainsReservationPredicate(date2, time, typeOfCheck);
@@ -69,6 +75,31 @@ class CheckCommandTest {
         assertEquals(Collections.emptyList(), resultModel.getFilteredCustomerList());
     }
 
+    @Test
+    void execute_validDate_listsTablesInUseByHour() {
+        Table table = new Table(reservation1.getNumberOfPeople(), 1);
+        Reservation longReservation = new Reservation(reservation1.getPhone(), reservation1.getNumberOfPeople(),
+                reservation1.getDateTime(), Duration.ofMinutes(90), table, reservation1.getRemark(),
+                reservation1.getTags());
+        model.setTableList(List.of(table));
+        model.addReservation(longReservation);
+        resultModel.setTableList(List.of(table));
+        resultModel.addReservation(longReservation);
+        ListContainsReservationPredicate predicate =
+                new ListContainsReservationPredicate(date1, CheckCommandParser.DEFAULT_TIME, EnumTypeOfCheck.Date);
+        resultModel.updateFilteredReservationList(predicate);
+        resultModel.updateFilteredCustomerList(
+                new CustomerContainsReservationPredicate(resultModel.getFilteredReservationList()));
+
+        int hour = time.getHour();
+        String expectedMessage = String.format(Messages.MESSAGE_RESERVATIONS_LISTED_DATE_ONLY, 1,
+                LocalDateTime.of(date1, CheckCommandParser.DEFAULT_TIME))
+                + CheckCommand.MESSAGE_TABLES_USED_BY_HOUR
+                + String.format(CheckCommand.MESSAGE_HOUR_TABLES_USED, hour, 1, 1) + ", "
+                + String.format(CheckCommand.MESSAGE_HOUR_TABLES_USED, hour + 1, 1, 1);
+        assertCommandSuccess(new CheckCommand(predicate), model, expectedMessage, resultModel);
+    }
+
     @Test
     void testEquals() {
         ListContainsReservationPredicate predicate1 = new ListContainsReservationPredicate(date1, time, typeOfCheck);
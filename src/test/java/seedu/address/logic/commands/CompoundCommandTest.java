@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CustomerCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CustomerCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CUSTOMER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CUSTOMER;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.customer.Customer;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code CompoundCommand}.
+ */
+public class CompoundCommandTest {
+
+    private Model model = new ModelManager(getTypicalRhrhCustomers(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_allChangesApplied() {
+        Customer firstCustomer = model.getFilteredCustomerList().get(INDEX_FIRST_CUSTOMER.getZeroBased());
+        Customer secondCustomer = model.getFilteredCustomerList().get(INDEX_SECOND_CUSTOMER.getZeroBased());
+
+        // the second command sees the list as left by the first command
+        CompoundCommand compoundCommand = new CompoundCommand(Arrays.asList(
+                new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER), new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER)));
+
+        String expectedMessage = String.format(DeleteCustomerCommand.MESSAGE_DELETE_CUSTOMER_SUCCESS, firstCustomer)
+                + "\n" + String.format(DeleteCustomerCommand.MESSAGE_DELETE_CUSTOMER_SUCCESS, secondCustomer);
+
+        ModelManager expectedModel = new ModelManager(model.getRhrh(), new UserPrefs());
+        expectedModel.deleteCustomer(firstCustomer);
+        expectedModel.deleteCustomer(secondCustomer);
+
+        assertCommandSuccess(compoundCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_laterCommandFails_noChangesApplied() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCustomerList().size() + 1);
+        CompoundCommand compoundCommand = new CompoundCommand(Arrays.asList(
+                new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER), new DeleteCustomerCommand(outOfBoundIndex)));
+
+        String expectedMessage = String.format(CompoundCommand.MESSAGE_COMMAND_FAILED, 2, 2,
+                Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX);
+
+        assertCommandFailure(compoundCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        CompoundCommand firstCommand = new CompoundCommand(Arrays.asList(
+                new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER), new DeleteCustomerCommand(INDEX_SECOND_CUSTOMER)));
+        CompoundCommand secondCommand = new CompoundCommand(Arrays.asList(
+                new DeleteCustomerCommand(INDEX_SECOND_CUSTOMER), new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER)));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        CompoundCommand firstCommandCopy = new CompoundCommand(Arrays.asList(
+                new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER), new DeleteCustomerCommand(INDEX_SECOND_CUSTOMER)));
+        assertTrue(firstCommand.equals(firstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different order of commands -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+}
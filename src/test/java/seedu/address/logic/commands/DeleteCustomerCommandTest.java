@@ -1,22 +1,35 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CustomerCommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CustomerCommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CustomerCommandTestUtil.showCustomerAtIndex;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BENSON;
 import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CUSTOMER;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CUSTOMER;
+import static seedu.address.testutil.TypicalReservation.ALICE_RESERVATION;
+import static seedu.address.testutil.TypicalReservation.getTypicalRhrh;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.util.CommandUtil;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.customer.Customer;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
 
 
 /**
@@ -41,6 +54,26 @@ public class DeleteCustomerCommandTest {
         assertCommandSuccess(deleteCustomerCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_customerWithReservations_deletesReservationsAndSeatsWaitlist() throws Exception {
+        model = new ModelManager(getTypicalRhrh(), new UserPrefs());
+        model.setTableList(List.of(ALICE_RESERVATION.getTable()));
+        WaitlistEntry bensonEntry = new WaitlistEntry(CUSTOMER_BENSON.getPhone(), 2, ALICE_RESERVATION.getDateTime(),
+                Reservation.DEFAULT_DURATION, new Remark(""), Set.of(), LocalDateTime.parse("2021-11-01T10:00"), 0);
+        model.addToWaitlist(bensonEntry);
+
+        CommandResult result = new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER).execute(model);
+
+        Reservation bensonReservation = bensonEntry.toReservation(ALICE_RESERVATION.getTable());
+        assertEquals(String.format(DeleteCustomerCommand.MESSAGE_DELETE_CUSTOMER_SUCCESS, CUSTOMER_ALICE)
+                + String.format(DeleteCustomerCommand.MESSAGE_RESERVATIONS_DELETED, 1)
+                + CommandUtil.formatPromotedReservations(List.of(bensonReservation)),
+                result.getFeedbackToUser());
+        assertFalse(model.hasReservation(ALICE_RESERVATION));
+        assertTrue(model.hasReservation(bensonReservation));
+        assertTrue(model.getWaitlist().isEmpty());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCustomerList().size() + 1);
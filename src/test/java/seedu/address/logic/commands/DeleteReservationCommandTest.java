@@ -1,17 +1,28 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.ReservationCommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.ReservationCommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalReservation.getTypicalRhrh;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.table.Table;
 
 public class DeleteReservationCommandTest {
     private Model model = new ModelManager(getTypicalRhrh(), new UserPrefs());
@@ -40,4 +51,21 @@ public class DeleteReservationCommandTest {
 
         assertCommandFailure(command, model, Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
     }
+
+    @Test
+    public void execute_partyWaitingForFreedTable_partySeated() throws Exception {
+        Model model = new ModelManager(new Rhrh(), new UserPrefs());
+        LocalDateTime sevenPm = LocalDateTime.parse("2021-12-24T19:00");
+        Table table = new Table(4, 1);
+        model.setTableList(List.of(table));
+        model.addReservation(new Reservation(new Phone("91111111"), 4, sevenPm, table, new Remark(""), Set.of()));
+        WaitlistEntry waiting = new WaitlistEntry(new Phone("92222222"), 3, sevenPm.plusMinutes(30),
+                Duration.ofHours(1), new Remark(""), Set.of(), sevenPm.minusDays(1), 0);
+        model.addToWaitlist(waiting);
+
+        new DeleteReservationCommand(Index.fromOneBased(1)).execute(model);
+
+        assertTrue(model.getWaitlist().isEmpty());
+        assertTrue(model.hasReservation(waiting.toReservation(table)));
+    }
 }
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
+import seedu.address.testutil.SupplierBuilder;
+
+class DeliveriesCommandTest {
+    private static final LocalDate MONDAY = LocalDate.parse("2021-12-13");
+    private static final Supplier WEEKLY_CHICKEN = new SupplierBuilder().withName("Alan").withSupplyType("Chicken")
+            .withDeliveryDetails("2021-12-06 0800 weekly").build();
+    private static final Supplier ONE_OFF_FISH = new SupplierBuilder().withName("Bea").withSupplyType("Fish")
+            .withDeliveryDetails("2021-12-13 0800").build();
+    private static final Supplier LATER_FISH = new SupplierBuilder().withName("Cal").withSupplyType("Fish")
+            .withDeliveryDetails("2022-01-03 0800").build();
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_deliveriesDue_listedWithClashes() {
+        List.of(WEEKLY_CHICKEN, ONE_OFF_FISH, LATER_FISH).forEach(model::addSupplier);
+
+        CommandResult result = new DeliveriesCommand(MONDAY, MONDAY.plusDays(7), Optional.empty()).execute(model);
+
+        String expectedMessage = String.format(DeliveriesCommand.MESSAGE_SUCCESS, 3, MONDAY, MONDAY.plusDays(7), 1)
+                + String.format(DeliveriesCommand.MESSAGE_DELIVERY, "2021-12-13 0800", "Alan (Chicken), Bea (Fish)")
+                + DeliveriesCommand.MESSAGE_CLASH
+                + String.format(DeliveriesCommand.MESSAGE_DELIVERY, "2021-12-20 0800", "Alan (Chicken)");
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(List.of(WEEKLY_CHICKEN, ONE_OFF_FISH), model.getFilteredSupplierList());
+    }
+
+    @Test
+    public void execute_supplyTypeGiven_onlyThatTypeListed() {
+        List.of(WEEKLY_CHICKEN, ONE_OFF_FISH, LATER_FISH).forEach(model::addSupplier);
+
+        CommandResult result = new DeliveriesCommand(MONDAY, MONDAY, Optional.of(new SupplyType("Fish")))
+                .execute(model);
+
+        String expectedMessage = String.format(DeliveriesCommand.MESSAGE_SUCCESS, 1, MONDAY, MONDAY, 0)
+                + String.format(DeliveriesCommand.MESSAGE_DELIVERY, "2021-12-13 0800", "Bea (Fish)");
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(List.of(ONE_OFF_FISH), model.getFilteredSupplierList());
+    }
+
+    @Test
+    public void execute_noDeliveries_emptyList() {
+        model.addSupplier(LATER_FISH);
+
+        CommandResult result = new DeliveriesCommand(MONDAY, MONDAY.plusDays(6), Optional.empty()).execute(model);
+
+        assertEquals(String.format(DeliveriesCommand.MESSAGE_NO_DELIVERIES, MONDAY, MONDAY.plusDays(6)),
+                result.getFeedbackToUser());
+        assertTrue(model.getFilteredSupplierList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        DeliveriesCommand weekCommand = new DeliveriesCommand(MONDAY, MONDAY.plusDays(6), Optional.empty());
+
+        // same object -> returns true
+        assertTrue(weekCommand.equals(weekCommand));
+
+        // same values -> returns true
+        assertTrue(weekCommand.equals(new DeliveriesCommand(MONDAY, MONDAY.plusDays(6), Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(weekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(weekCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(weekCommand.equals(new DeliveriesCommand(MONDAY, MONDAY, Optional.empty())));
+
+        // different supply type -> returns false
+        assertFalse(weekCommand.equals(new DeliveriesCommand(MONDAY, MONDAY.plusDays(6),
+                Optional.of(new SupplyType("Fish")))));
+    }
+}
@@ -26,6 +26,7 @@ import seedu.address.model.person.customer.Customer;
 import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.EditCustomerDescriptorBuilder;
 import seedu.address.testutil.TypicalCustomers;
+import seedu.address.testutil.TypicalReservation;
 
 
 
@@ -71,6 +72,25 @@ public class EditCustomerCommandTest {
         assertCommandSuccess(editCustomerCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_phoneOfCustomerWithReservationEdited_movesReservation() {
+        model = new ModelManager(TypicalReservation.getTypicalRhrh(), new UserPrefs());
+        Customer editedCustomer = new CustomerBuilder(TypicalCustomers.CUSTOMER_ALICE).withPhone(VALID_PHONE_BOB)
+                .build();
+        EditCustomerDescriptor descriptor = new EditCustomerDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+        EditCustomerCommand editCustomerCommand = new EditCustomerCommand(INDEX_FIRST_CUSTOMER, descriptor);
+
+        String expectedMessage = String.format(EditCustomerCommand.MESSAGE_EDIT_CUSTOMER_SUCCESS, editedCustomer)
+                + String.format(EditCustomerCommand.MESSAGE_RESERVATIONS_MOVED, 1);
+
+        Model expectedModel = new ModelManager(new Rhrh(model.getRhrh()), new UserPrefs());
+        expectedModel.setCustomer(TypicalCustomers.CUSTOMER_ALICE, editedCustomer);
+
+        assertCommandSuccess(editCustomerCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.hasReservation(
+                TypicalReservation.ALICE_RESERVATION.withPhone(editedCustomer.getPhone())));
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditCustomerCommand editCustomerCommand = new EditCustomerCommand(INDEX_FIRST_CUSTOMER,
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvImporter;
+import seedu.address.storage.ListExporter;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalRhrhCustomers(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_exportsDisplayedRecordsOnly() throws Exception {
+        model.updateFilteredCustomerList(customer -> customer.equals(CUSTOMER_ALICE));
+        Path file = testFolder.resolve("customers.csv");
+        ExportCommand exportCommand = new ExportCommand(EnumTypeOfList.Customer, file, ListExporter.Format.Csv);
+
+        CommandResult result = exportCommand.execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "customer", file),
+                result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(CUSTOMER_ALICE),
+                CsvImporter.forCustomers().read(file, Collections.emptyList()).getImported());
+    }
+
+    @Test
+    public void execute_jsonLines_oneLinePerRecord() throws Exception {
+        Path file = testFolder.resolve("customers.jsonl");
+        new ExportCommand(EnumTypeOfList.Customer, file, ListExporter.Format.JsonLines).execute(model);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(model.getFilteredCustomerList().size(), lines.size());
+    }
+
+    @Test
+    public void execute_unwritablePath_throwsCommandException() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("reservations.csv"));
+        ExportCommand exportCommand = new ExportCommand(EnumTypeOfList.Reservation, directory,
+                ListExporter.Format.Csv);
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_EXPORT_FAILED, directory,
+                directory + " is a directory"), () -> exportCommand.execute(model));
+    }
+
+    @Test
+    public void execute_existingFile_replacedWhole() throws Exception {
+        Path file = testFolder.resolve("customers.csv");
+        Files.writeString(file, "an older export that is longer than the new one\n".repeat(1000));
+
+        new ExportCommand(EnumTypeOfList.Customer, file, ListExporter.Format.Csv).execute(model);
+
+        // nothing of the old file is left, and no temporary file is left next to it
+        assertEquals(model.getFilteredCustomerList(),
+                CsvImporter.forCustomers().read(file, Collections.emptyList()).getImported());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCustomersCommand = new ExportCommand(EnumTypeOfList.Customer, Paths.get("a.csv"),
+                ListExporter.Format.Csv);
+        ExportCommand exportEmployeesCommand = new ExportCommand(EnumTypeOfList.Employee, Paths.get("a.csv"),
+                ListExporter.Format.Csv);
+        ExportCommand exportOtherFileCommand = new ExportCommand(EnumTypeOfList.Customer, Paths.get("b.csv"),
+                ListExporter.Format.Csv);
+        ExportCommand exportJsonLinesCommand = new ExportCommand(EnumTypeOfList.Customer, Paths.get("a.csv"),
+                ListExporter.Format.JsonLines);
+
+        // same object -> returns true
+        assertTrue(exportCustomersCommand.equals(exportCustomersCommand));
+
+        // same values -> returns true
+        assertTrue(exportCustomersCommand.equals(new ExportCommand(EnumTypeOfList.Customer, Paths.get("a.csv"),
+                ListExporter.Format.Csv)));
+
+        // different types -> returns false
+        assertFalse(exportCustomersCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCustomersCommand.equals(null));
+
+        // different list -> returns false
+        assertFalse(exportCustomersCommand.equals(exportEmployeesCommand));
+
+        // different file -> returns false
+        assertFalse(exportCustomersCommand.equals(exportOtherFileCommand));
+
+        // different format -> returns false
+        assertFalse(exportCustomersCommand.equals(exportJsonLinesCommand));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CustomerCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BENSON;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_DANIEL;
 import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
 
 import java.util.Arrays;
@@ -13,11 +15,15 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.model.query.Query;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -75,6 +81,35 @@ public class FindCustomerCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredCustomerList());
     }
 
+    @Test
+    public void execute_query_matchingCustomersFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 2);
+        FindCustomerCommand command = new FindCustomerCommand(prepareQuery("n/meier AND t/friends"));
+        expectedModel.updateFilteredCustomerList(Arrays.asList(CUSTOMER_BENSON, CUSTOMER_DANIEL)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CUSTOMER_BENSON, CUSTOMER_DANIEL), model.getFilteredCustomerList());
+    }
+
+    @Test
+    public void execute_explainedQuery_showsPlan() throws Exception {
+        FindCustomerCommand command = new FindCustomerCommand(prepareQuery("EXPLAIN n/meier NOT alg/peanut"));
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 1)));
+        assertTrue(feedback.endsWith("AND: index intersection, 1 row(s)\n"
+                + "  n/meier: n-gram index, 2 row(s)\n"
+                + "  NOT: index complement, 3 row(s)\n"
+                + "    alg/peanut: hash index, 4 row(s)"));
+        assertEquals(Collections.singletonList(CUSTOMER_DANIEL), model.getFilteredCustomerList());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code Query}.
+     */
+    private Query<Customer> prepareQuery(String userInput) throws ParseException {
+        return new QueryParser<>(CustomerQueryFields.FIELDS, CustomerQueryFields::keyword).parse(userInput);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEmployees.ALICE_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.BENSON_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.CARL_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.getTypicalRhrhEmployees;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.EmployeeBuilder;
+import seedu.address.testutil.ReservationBuilder;
+
+class GenerateRosterCommandTest {
+    private static final LocalDate WEEK_START = LocalDate.parse("2021-12-11");
+    private static final Table TWELVE_TOP = new Table(12, 1);
+
+    private final Model model = new ModelManager(getTypicalRhrhEmployees(), new UserPrefs());
+
+    @Test
+    public void execute_guestsBooked_shiftsInWeekReplaced() {
+        model.setTableList(List.of(TWELVE_TOP));
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(12).withDateTime(WEEK_START.atTime(19, 0))
+                .withDuration(Duration.ofHours(2)).withTable(TWELVE_TOP).build());
+
+        CommandResult result = new GenerateRosterCommand(WEEK_START, 10).execute(model);
+
+        Employee alice = new EmployeeBuilder(ALICE_EMPLOYEE).withShifts("2021-12-10 0800", "2021-12-11 1900").build();
+        Employee benson = new EmployeeBuilder(BENSON_EMPLOYEE).withShifts("2021-12-11 1900").build();
+        assertEquals(String.format(GenerateRosterCommand.MESSAGE_SUCCESS, 2, 2, WEEK_START),
+                result.getFeedbackToUser());
+        assertEquals(List.of(alice, benson), model.getFilteredEmployeeList());
+        assertTrue(model.getRhrh().getEmployeeList().contains(new EmployeeBuilder(CARL_EMPLOYEE).withShifts().build()));
+    }
+
+    @Test
+    public void execute_noGuestsBooked_shiftsUnchanged() {
+        CommandResult result = new GenerateRosterCommand(WEEK_START, 10).execute(model);
+
+        assertEquals(String.format(GenerateRosterCommand.MESSAGE_NO_GUESTS, WEEK_START), result.getFeedbackToUser());
+        assertEquals(getTypicalRhrhEmployees().getEmployeeList(), model.getRhrh().getEmployeeList());
+    }
+
+    @Test
+    public void equals() {
+        GenerateRosterCommand command = new GenerateRosterCommand(WEEK_START, 10);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new GenerateRosterCommand(WEEK_START, 10)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different week -> returns false
+        assertFalse(command.equals(new GenerateRosterCommand(WEEK_START.plusDays(7), 10)));
+
+        // different covers per employee -> returns false
+        assertFalse(command.equals(new GenerateRosterCommand(WEEK_START, 8)));
+    }
+}
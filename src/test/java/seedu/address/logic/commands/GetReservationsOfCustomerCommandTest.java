@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ReservationCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.ReservationCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_CARL;
+import static seedu.address.testutil.TypicalReservation.ALICE_RESERVATION;
+import static seedu.address.testutil.TypicalReservation.CARL_RESERVATION;
+import static seedu.address.testutil.TypicalReservation.getTypicalRhrh;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class GetReservationsOfCustomerCommandTest {
+    private static final Index FIRST_INDEX = Index.fromOneBased(1);
+
+    private Model model = new ModelManager(getTypicalRhrh(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalRhrh(), new UserPrefs());
+
+    @Test
+    public void execute_validIndexUnfilteredList_success() {
+        String expectedMessage = String.format(GetReservationsOfCustomerCommand.MESSAGE_RESERVATIONS_LISTED, 1,
+                CUSTOMER_ALICE.getName());
+        expectedModel.updateFilteredReservationList(reservation -> reservation.equals(ALICE_RESERVATION));
+        assertCommandSuccess(new GetReservationsOfCustomerCommand(FIRST_INDEX), model, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(ALICE_RESERVATION), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_validIndexFilteredList_success() {
+        model.updateFilteredCustomerList(customer -> customer.equals(CUSTOMER_CARL));
+        expectedModel.updateFilteredCustomerList(customer -> customer.equals(CUSTOMER_CARL));
+        String expectedMessage = String.format(GetReservationsOfCustomerCommand.MESSAGE_RESERVATIONS_LISTED, 1,
+                CUSTOMER_CARL.getName());
+        expectedModel.updateFilteredReservationList(reservation -> reservation.equals(CARL_RESERVATION));
+        assertCommandSuccess(new GetReservationsOfCustomerCommand(FIRST_INDEX), model, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(CARL_RESERVATION), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCustomerList().size() + 1);
+
+        assertCommandFailure(new GetReservationsOfCustomerCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        GetReservationsOfCustomerCommand command = new GetReservationsOfCustomerCommand(FIRST_INDEX);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GetReservationsOfCustomerCommand(FIRST_INDEX)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new GetReservationsOfCustomerCommand(Index.fromOneBased(2))));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvImporter;
+import seedu.address.testutil.RhrhBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_validFile_success() {
+        ImportCommand importCommand = new ImportCommand(EnumTypeOfPerson.Customer,
+                TEST_DATA_FOLDER.resolve("validCustomers.csv"));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addCustomers(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON));
+        CommandResult expectedResult = new CommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "customer"),
+                false, false, true, false, false, false);
+
+        CustomerCommandTestUtil.assertCommandSuccess(importCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_fileWithInvalidRows_importsValidRowsAndWritesErrorFile() throws Exception {
+        Path file = testFolder.resolve("customers.csv");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidCustomers.csv"), file);
+        model = new ModelManager(new RhrhBuilder().withCustomer(CUSTOMER_BENSON).build(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(EnumTypeOfPerson.Customer, file).execute(model);
+
+        Path errorFile = testFolder.resolve("customers" + ImportCommand.ERROR_FILE_SUFFIX);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "customer") + "\n"
+                + String.format(ImportCommand.MESSAGE_ROWS_REJECTED, 2, errorFile), result.getFeedbackToUser());
+        assertEquals(3, model.getFilteredCustomerList().size());
+        assertTrue(Files.exists(errorFile));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() {
+        Path file = TEST_DATA_FOLDER.resolve("missingColumnCustomers.csv");
+        ImportCommand importCommand = new ImportCommand(EnumTypeOfPerson.Customer, file);
+        assertCommandFailure(importCommand, model, String.format(ImportCommand.MESSAGE_INVALID_FILE, file,
+                String.format(CsvImporter.MESSAGE_MISSING_COLUMN, "loyaltyPoints")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCustomersCommand = new ImportCommand(EnumTypeOfPerson.Customer, Paths.get("a.csv"));
+        ImportCommand importEmployeesCommand = new ImportCommand(EnumTypeOfPerson.Employee, Paths.get("a.csv"));
+        ImportCommand importOtherFileCommand = new ImportCommand(EnumTypeOfPerson.Customer, Paths.get("b.csv"));
+
+        // same object -> returns true
+        assertTrue(importCustomersCommand.equals(importCustomersCommand));
+
+        // same values -> returns true
+        assertTrue(importCustomersCommand.equals(new ImportCommand(EnumTypeOfPerson.Customer, Paths.get("a.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCustomersCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCustomersCommand.equals(null));
+
+        // different type of person -> returns false
+        assertFalse(importCustomersCommand.equals(importEmployeesCommand));
+
+        // different file -> returns false
+        assertFalse(importCustomersCommand.equals(importOtherFileCommand));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.WaitlistEntry;
+
+public class ListWaitlistCommandTest {
+    private static final LocalDate DATE = LocalDate.parse("2021-12-24");
+    private static final WaitlistEntry ON_DATE = new WaitlistEntry(new Phone("91111111"), 2, DATE.atTime(19, 0),
+            Duration.ofHours(1), new Remark(""), Set.of(), LocalDateTime.parse("2021-12-20T09:00"), 0);
+    private static final WaitlistEntry ON_NEXT_DATE = new WaitlistEntry(new Phone("92222222"), 2,
+            DATE.plusDays(1).atTime(19, 0), Duration.ofHours(1), new Remark(""), Set.of(),
+            LocalDateTime.parse("2021-12-20T09:00"), 0);
+
+    private Model model = new ModelManager(new Rhrh(), new UserPrefs());
+
+    @Test
+    public void execute_noDate_listsAllEntries() {
+        model.addToWaitlist(ON_NEXT_DATE);
+        model.addToWaitlist(ON_DATE);
+
+        CommandResult result = new ListWaitlistCommand(Optional.empty()).execute(model);
+
+        assertEquals(String.format(ListWaitlistCommand.MESSAGE_SUCCESS, 2) + "\n1. " + ON_DATE
+                + "\n2. " + ON_NEXT_DATE, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_date_listsEntriesOnDateWithWaitlistIndexes() {
+        model.addToWaitlist(ON_NEXT_DATE);
+        model.addToWaitlist(ON_DATE);
+
+        CommandResult result = new ListWaitlistCommand(Optional.of(DATE.plusDays(1))).execute(model);
+
+        assertEquals(String.format(ListWaitlistCommand.MESSAGE_SUCCESS_ON_DATE, 1, DATE.plusDays(1))
+                + "\n2. " + ON_NEXT_DATE, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ListWaitlistCommand listAllCommand = new ListWaitlistCommand(Optional.empty());
+
+        assertTrue(listAllCommand.equals(listAllCommand));
+        assertTrue(listAllCommand.equals(new ListWaitlistCommand(Optional.empty())));
+        assertFalse(listAllCommand.equals(null));
+        assertFalse(listAllCommand.equals(new ListWaitlistCommand(Optional.of(DATE))));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_DATETIME_PRINT_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+
+public class NextSlotCommandTest {
+    private static final LocalDateTime CHRISTMAS_EVE_DINNER = LocalDateTime.parse("2021-12-24T19:00");
+    private static final Table SMALL_TABLE = new Table(2, 1);
+    private static final Table LARGE_TABLE = new Table(6, 2);
+
+    private Model model = new ModelManager(new Rhrh(), new UserPrefs());
+
+    @Test
+    public void execute_fittingTablesInUse_listsEarliestFreeTimes() throws Exception {
+        model.setTableList(List.of(SMALL_TABLE, LARGE_TABLE));
+        model.addReservation(new Reservation(new Phone("91111111"), 5, CHRISTMAS_EVE_DINNER, Duration.ofHours(2),
+                LARGE_TABLE, new Remark(""), Set.of()));
+
+        CommandResult result = new NextSlotCommand(4, CHRISTMAS_EVE_DINNER, Duration.ofHours(1), 2).execute(model);
+
+        String expectedMessage = String.format(NextSlotCommand.MESSAGE_SUCCESS, 4,
+                String.format(MESSAGE_DATETIME_PRINT_FORMAT, CHRISTMAS_EVE_DINNER))
+                + String.format(NextSlotCommand.MESSAGE_SLOT, 1,
+                        String.format(MESSAGE_DATETIME_PRINT_FORMAT, CHRISTMAS_EVE_DINNER.plusHours(2)))
+                + String.format(NextSlotCommand.MESSAGE_SLOT, 2,
+                        String.format(MESSAGE_DATETIME_PRINT_FORMAT, CHRISTMAS_EVE_DINNER.plusHours(3)));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_partyLargerThanEveryTable_throwsCommandException() {
+        model.setTableList(List.of(SMALL_TABLE, LARGE_TABLE));
+
+        assertCommandFailure(new NextSlotCommand(7, CHRISTMAS_EVE_DINNER), model,
+                String.format(NextSlotCommand.MESSAGE_NO_TABLE_FITS, 7));
+    }
+
+    @Test
+    public void constructor_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new NextSlotCommand(2, CHRISTMAS_EVE_DINNER, Duration.ofHours(1), 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new NextSlotCommand(2, CHRISTMAS_EVE_DINNER, Duration.ofHours(1), NextSlotCommand.MAX_COUNT + 1));
+    }
+
+    @Test
+    public void equals() {
+        NextSlotCommand command = new NextSlotCommand(2, CHRISTMAS_EVE_DINNER);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new NextSlotCommand(2, CHRISTMAS_EVE_DINNER, Reservation.DEFAULT_DURATION,
+                NextSlotCommand.DEFAULT_COUNT)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new NextSlotCommand(3, CHRISTMAS_EVE_DINNER)));
+        assertFalse(command.equals(new NextSlotCommand(2, CHRISTMAS_EVE_DINNER, Duration.ofHours(2),
+                NextSlotCommand.DEFAULT_COUNT)));
+        assertFalse(command.equals(new NextSlotCommand(2, CHRISTMAS_EVE_DINNER, Reservation.DEFAULT_DURATION, 1)));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class OptimiseTablesCommandTest {
+    private static final LocalDate CHRISTMAS_EVE = LocalDate.parse("2021-12-24");
+    private static final LocalDateTime SEVEN_PM = CHRISTMAS_EVE.atTime(19, 0);
+    private static final Table TWO_TOP = new Table(2, 1);
+    private static final Table EIGHT_TOP = new Table(8, 2);
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_improvable_reservationsReassigned() {
+        model.setTableList(List.of(TWO_TOP, EIGHT_TOP));
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        Reservation family = new ReservationBuilder().withPhone("87654321").withNumberOfPeople(6).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        model.addReservation(couple);
+        model.addReservation(family);
+
+        CommandResult result = new OptimiseTablesCommand(CHRISTMAS_EVE).execute(model);
+
+        assertEquals(String.format(OptimiseTablesCommand.MESSAGE_SUCCESS, 1, CHRISTMAS_EVE, 8, 8, 10),
+                result.getFeedbackToUser());
+        assertTrue(model.hasReservation(new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(TWO_TOP).build()));
+        assertTrue(model.hasReservation(family));
+        assertFalse(model.hasReservation(couple));
+    }
+
+    @Test
+    public void execute_notImprovable_reservationsUnchanged() {
+        model.setTableList(List.of(TWO_TOP, EIGHT_TOP));
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(TWO_TOP).build();
+        Reservation otherDay = new ReservationBuilder().withPhone("87654321").withNumberOfPeople(2)
+                .withDateTime(SEVEN_PM.plusDays(1)).withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        model.addReservation(couple);
+        model.addReservation(otherDay);
+
+        CommandResult result = new OptimiseTablesCommand(CHRISTMAS_EVE).execute(model);
+
+        assertEquals(String.format(OptimiseTablesCommand.MESSAGE_NOT_IMPROVED, CHRISTMAS_EVE, 2, 2),
+                result.getFeedbackToUser());
+        assertTrue(model.hasReservation(couple));
+        assertTrue(model.hasReservation(otherDay));
+    }
+
+    @Test
+    public void execute_nextDayReservationOnSmallerTable_notMovedOnto() {
+        model.setTableList(List.of(TWO_TOP, EIGHT_TOP));
+        Reservation lateCouple = new ReservationBuilder().withNumberOfPeople(2)
+                .withDateTime(CHRISTMAS_EVE.atTime(23, 0)).withDuration(Duration.ofHours(2))
+                .withTable(EIGHT_TOP).build();
+        Reservation afterMidnight = new ReservationBuilder().withPhone("87654321").withNumberOfPeople(2)
+                .withDateTime(CHRISTMAS_EVE.plusDays(1).atTime(0, 30)).withTable(TWO_TOP).build();
+        model.addReservation(lateCouple);
+        model.addReservation(afterMidnight);
+
+        CommandResult result = new OptimiseTablesCommand(CHRISTMAS_EVE).execute(model);
+
+        assertEquals(String.format(OptimiseTablesCommand.MESSAGE_NOT_IMPROVED, CHRISTMAS_EVE, 2, 2),
+                result.getFeedbackToUser());
+        assertTrue(model.hasReservation(lateCouple));
+        assertTrue(model.hasReservation(afterMidnight));
+    }
+
+    @Test
+    public void execute_reservationLeftWithoutTable_movedToWaitlist() {
+        model.setTableList(List.of(EIGHT_TOP));
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        Reservation family = new ReservationBuilder().withPhone("87654321").withNumberOfPeople(6)
+                .withDateTime(SEVEN_PM.plusMinutes(30)).withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP)
+                .build();
+        model.addReservation(couple);
+        model.addReservation(family);
+
+        CommandResult result = new OptimiseTablesCommand(CHRISTMAS_EVE).execute(model);
+
+        assertEquals(String.format(OptimiseTablesCommand.MESSAGE_SUCCESS, 0, CHRISTMAS_EVE, 6, 8, 8)
+                + CommandUtil.formatWaitlistedReservations(List.of(couple)), result.getFeedbackToUser());
+        assertFalse(model.hasReservation(couple));
+        assertTrue(model.hasReservation(family));
+        assertTrue(model.isOnWaitlist(couple.getPhone(), SEVEN_PM));
+    }
+
+    @Test
+    public void equals() {
+        OptimiseTablesCommand command = new OptimiseTablesCommand(CHRISTMAS_EVE);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new OptimiseTablesCommand(CHRISTMAS_EVE)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different date -> returns false
+        assertFalse(command.equals(new OptimiseTablesCommand(CHRISTMAS_EVE.plusDays(1))));
+
+        // different time budget -> returns false
+        assertFalse(command.equals(new OptimiseTablesCommand(CHRISTMAS_EVE, Duration.ofSeconds(10))));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEmployees.getTypicalRhrhEmployees;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.employee.Payroll;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class PayrollCommandTest {
+    private static final YearMonth DECEMBER = YearMonth.parse("2021-12");
+    private static final Table TWELVE_TOP = new Table(12, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalRhrhEmployees(), new UserPrefs());
+
+    @Test
+    public void execute_guestsBooked_payrollWritten() throws Exception {
+        model.setTableList(List.of(TWELVE_TOP));
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(12).withDateTime("2021-12-24T19:00")
+                .withDuration(Duration.ofHours(2)).withTable(TWELVE_TOP).build());
+        Path file = testFolder.resolve("payroll.csv");
+
+        CommandResult result = new PayrollCommand(DECEMBER, file).execute(model);
+
+        // the typical employees earn $42000 in total and each have a shift in December 2021
+        Payroll payroll = Payroll.of(model.getRhrh().getEmployeeList(), DECEMBER,
+                model.getReservationsManager().getCapacityHeatmap());
+        String expectedMessage = String.format(PayrollCommand.MESSAGE_SUCCESS, DECEMBER, "42000.00", 7, 7L,
+                Payroll.formatCents(payroll.getTotalLeaveValue()), 12, 1,
+                String.format(PayrollCommand.MESSAGE_COST_PER_GUEST, "3500.00"), file);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(8, lines.size());
+        assertEquals(Payroll.COLUMNS, CsvUtil.splitLine(lines.get(0)));
+        assertEquals(payroll.getRow(0), CsvUtil.splitLine(lines.get(1)));
+    }
+
+    @Test
+    public void execute_noGuests_noCostPerGuest() throws Exception {
+        Path file = testFolder.resolve("payroll.csv");
+
+        CommandResult result = new PayrollCommand(DECEMBER, file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(PayrollCommand.MESSAGE_NO_GUESTS));
+        assertEquals(8, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_unwritablePath_throwsCommandException() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("payroll.csv"));
+
+        assertThrows(CommandException.class, String.format(PayrollCommand.MESSAGE_EXPORT_FAILED, directory,
+                directory + " is a directory"), () -> new PayrollCommand(DECEMBER, directory).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        PayrollCommand decemberCommand = new PayrollCommand(DECEMBER, Paths.get("a.csv"));
+
+        // same object -> returns true
+        assertTrue(decemberCommand.equals(decemberCommand));
+
+        // same values -> returns true
+        assertTrue(decemberCommand.equals(new PayrollCommand(DECEMBER, Paths.get("a.csv"))));
+
+        // different types -> returns false
+        assertFalse(decemberCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(decemberCommand.equals(null));
+
+        // different month -> returns false
+        assertFalse(decemberCommand.equals(new PayrollCommand(DECEMBER.plusMonths(1), Paths.get("a.csv"))));
+
+        // different file -> returns false
+        assertFalse(decemberCommand.equals(new PayrollCommand(DECEMBER, Paths.get("b.csv"))));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.table.Table;
+
+public class PromoteFromWaitlistCommandTest {
+    private static final LocalDate DATE = LocalDate.parse("2021-12-24");
+    private static final LocalDateTime SEVEN_PM = DATE.atTime(19, 0);
+    private static final Table TABLE_FOR_FOUR = new Table(4, 1);
+
+    private Model model = new ModelManager(new Rhrh(), new UserPrefs());
+
+    private static WaitlistEntry entry(String phone, int numberOfPeople, LocalDateTime requestTime) {
+        return new WaitlistEntry(new Phone(phone), numberOfPeople, SEVEN_PM, Duration.ofHours(1), new Remark(""),
+                Set.of(), requestTime, 0);
+    }
+
+    @Test
+    public void execute_tableFree_firstFittingPartySeated() {
+        WaitlistEntry tooLarge = entry("91111111", 6, SEVEN_PM.minusDays(3));
+        WaitlistEntry first = entry("92222222", 4, SEVEN_PM.minusDays(2));
+        WaitlistEntry second = entry("93333333", 2, SEVEN_PM.minusDays(1));
+        model.setTableList(List.of(TABLE_FOR_FOUR, new Table(8, 2)));
+        model.addToWaitlist(tooLarge);
+        model.addToWaitlist(first);
+        model.addToWaitlist(second);
+
+        new PromoteFromWaitlistCommand(DATE).execute(model);
+
+        // the party of 6 takes the table for 8 and the first party of 4 takes the table for 4
+        assertTrue(model.hasReservation(tooLarge.toReservation(new Table(8, 2))));
+        assertTrue(model.hasReservation(first.toReservation(TABLE_FOR_FOUR)));
+        assertEquals(List.of(second), model.getWaitlist());
+    }
+
+    @Test
+    public void execute_noTableFree_nothingSeated() {
+        model.addToWaitlist(entry("91111111", 2, SEVEN_PM.minusDays(1)));
+
+        CommandResult result = new PromoteFromWaitlistCommand(DATE).execute(model);
+
+        assertEquals(String.format(PromoteFromWaitlistCommand.MESSAGE_NONE_SEATED, DATE), result.getFeedbackToUser());
+        assertEquals(1, model.getWaitlist().size());
+    }
+
+    @Test
+    public void equals() {
+        PromoteFromWaitlistCommand command = new PromoteFromWaitlistCommand(DATE);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new PromoteFromWaitlistCommand(DATE)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new PromoteFromWaitlistCommand(DATE.plusDays(1))));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Rhrh;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.WaitlistEntry;
+
+public class RemoveFromWaitlistCommandTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final WaitlistEntry FIRST = new WaitlistEntry(new Phone("91111111"), 2, SEVEN_PM,
+            Duration.ofHours(1), new Remark(""), Set.of(), SEVEN_PM.minusDays(2), 0);
+    private static final WaitlistEntry SECOND = new WaitlistEntry(new Phone("92222222"), 2, SEVEN_PM,
+            Duration.ofHours(1), new Remark(""), Set.of(), SEVEN_PM.minusDays(1), 0);
+
+    private Model model = new ModelManager(new Rhrh(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_entryRemoved() throws Exception {
+        model.addToWaitlist(FIRST);
+        model.addToWaitlist(SECOND);
+
+        CommandResult result = new RemoveFromWaitlistCommand(Index.fromOneBased(1)).execute(model);
+
+        assertEquals(String.format(RemoveFromWaitlistCommand.MESSAGE_SUCCESS, FIRST), result.getFeedbackToUser());
+        assertEquals(List.of(SECOND), model.getWaitlist());
+        assertEquals(1, model.getWaitlistPosition(SECOND));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        model.addToWaitlist(FIRST);
+
+        assertThrows(CommandException.class, () -> new RemoveFromWaitlistCommand(Index.fromOneBased(2))
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RemoveFromWaitlistCommand removeFirstCommand = new RemoveFromWaitlistCommand(Index.fromOneBased(1));
+
+        assertTrue(removeFirstCommand.equals(removeFirstCommand));
+        assertTrue(removeFirstCommand.equals(new RemoveFromWaitlistCommand(Index.fromOneBased(1))));
+        assertFalse(removeFirstCommand.equals(null));
+        assertFalse(removeFirstCommand.equals(new RemoveFromWaitlistCommand(Index.fromOneBased(2))));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class RemoveTableCommandTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final Table TWO_TOP = new Table(2, 1);
+    private static final Table FOUR_TOP = new Table(4, 2);
+    private static final Table OTHER_FOUR_TOP = new Table(4, 3);
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_freeTableFits_reservationMoved() throws Exception {
+        model.setTableList(List.of(TWO_TOP, FOUR_TOP, OTHER_FOUR_TOP));
+        Reservation family = new ReservationBuilder().withNumberOfPeople(4).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(FOUR_TOP).build();
+        Reservation otherDay = new ReservationBuilder().withPhone("87654321").withDateTime(SEVEN_PM.plusDays(1))
+                .withDuration(Duration.ofHours(2)).withTable(TWO_TOP).build();
+        model.addReservation(family);
+        model.addReservation(otherDay);
+
+        CommandResult result = new RemoveTableCommand(FOUR_TOP.getTableId()).execute(model);
+
+        assertEquals(String.format(RemoveTableCommand.MESSAGE_SUCCESS, FOUR_TOP)
+                + CommandUtil.formatReseatedReservations(1, List.of()), result.getFeedbackToUser());
+        assertEquals(List.of(TWO_TOP, OTHER_FOUR_TOP), model.getTableManager().getUnmodifiableObservableList());
+        assertTrue(model.hasReservation(new ReservationBuilder().withNumberOfPeople(4).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(OTHER_FOUR_TOP).build()));
+        assertTrue(model.hasReservation(otherDay));
+    }
+
+    @Test
+    public void execute_noFreeTableFits_reservationWaitlisted() throws Exception {
+        model.setTableList(List.of(TWO_TOP, FOUR_TOP));
+        Reservation family = new ReservationBuilder().withNumberOfPeople(4).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(FOUR_TOP).build();
+        model.addReservation(family);
+
+        CommandResult result = new RemoveTableCommand(FOUR_TOP.getTableId()).execute(model);
+
+        assertEquals(String.format(RemoveTableCommand.MESSAGE_SUCCESS, FOUR_TOP)
+                + CommandUtil.formatReseatedReservations(0, List.of(family)), result.getFeedbackToUser());
+        assertFalse(model.hasReservation(family));
+        assertTrue(model.isOnWaitlist(family.getPhone(), SEVEN_PM));
+    }
+
+    @Test
+    public void execute_noSuchTable_throwsCommandException() {
+        model.setTableList(List.of(TWO_TOP));
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                new RemoveTableCommand(5).execute(model));
+        assertEquals(String.format(Messages.MESSAGE_INVALID_TABLE_ID, 5), exception.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        RemoveTableCommand command = new RemoveTableCommand(1);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RemoveTableCommand(1)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different table -> returns false
+        assertFalse(command.equals(new RemoveTableCommand(2)));
+    }
+}
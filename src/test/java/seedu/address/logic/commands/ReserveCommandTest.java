@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,6 +14,7 @@ import static seedu.address.logic.commands.ReservationCommandTestUtil.VALID_PHON
 import static seedu.address.logic.commands.ReservationCommandTestUtil.VALID_REMARK;
 import static seedu.address.testutil.TypicalCustomers.getTypicalRhrhCustomers;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Set;
@@ -26,6 +28,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Phone;
 import seedu.address.model.reservation.Remark;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CustomerBuilder;
@@ -82,6 +85,55 @@ class ReserveCommandTest {
         assertTrue(model.hasReservation(expectedReservation));
     }
 
+    @Test
+    public void execute_tableOccupiedByEarlierLongReservation_addedToWaitlist() throws Exception {
+        model.addCustomer(new CustomerBuilder().withPhone(DUMMY_PHONE.value).withLoyaltyPoints("250").build());
+        model.setTableList(Collections.singletonList(DUMMY_TABLE));
+        model.addReservation(new Reservation(DIFFERENT_PHONE, DUMMY_NUMBER_OF_PEOPLE, DUMMY_DATE_TIME.minusHours(1),
+                Duration.ofHours(2), DUMMY_TABLE, DUMMY_REMARK, DUMMY_TAG_LIST));
+
+        ReserveCommand command = new ReserveCommand(
+                DUMMY_PHONE, DUMMY_NUMBER_OF_PEOPLE, DUMMY_DATE_TIME, DUMMY_REMARK, DUMMY_TAG_LIST
+        );
+        command.execute(model);
+
+        assertEquals(1, model.getWaitlist().size());
+        WaitlistEntry entry = model.getWaitlist().get(0);
+        assertEquals(DUMMY_PHONE, entry.getPhone());
+        assertEquals(DUMMY_DATE_TIME, entry.getDateTime());
+        assertEquals(250, entry.getLoyaltyPoints());
+        assertTrue(model.isOnWaitlist(DUMMY_PHONE, DUMMY_DATE_TIME));
+
+        // a second request for the same date time is refused
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_partyLargerThanEveryTable_throwsCommandException() {
+        model.addCustomer(new CustomerBuilder().withPhone(DUMMY_PHONE.value).build());
+        model.setTableList(Collections.singletonList(DUMMY_TABLE));
+
+        ReserveCommand command = new ReserveCommand(DUMMY_PHONE, DUMMY_TABLE.getNumOfSeats() + 1, DUMMY_DATE_TIME,
+                DUMMY_REMARK, DUMMY_TAG_LIST);
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertTrue(model.getWaitlist().isEmpty());
+    }
+
+    @Test
+    public void execute_tableFreedBeforeReservationStarts_addSuccessful() throws Exception {
+        model.addCustomer(new CustomerBuilder().withPhone(DUMMY_PHONE.value).build());
+        model.setTableList(Collections.singletonList(DUMMY_TABLE));
+        model.addReservation(new Reservation(DIFFERENT_PHONE, DUMMY_NUMBER_OF_PEOPLE, DUMMY_DATE_TIME.minusHours(1),
+                DUMMY_TABLE, DUMMY_REMARK, DUMMY_TAG_LIST));
+
+        ReserveCommand command = new ReserveCommand(DUMMY_PHONE, DUMMY_NUMBER_OF_PEOPLE, DUMMY_DATE_TIME,
+                Duration.ofMinutes(90), DUMMY_REMARK, DUMMY_TAG_LIST);
+        command.execute(model);
+
+        assertTrue(model.hasReservation(new Reservation(DUMMY_PHONE, DUMMY_NUMBER_OF_PEOPLE, DUMMY_DATE_TIME,
+                Duration.ofMinutes(90), DUMMY_TABLE, DUMMY_REMARK, DUMMY_TAG_LIST)));
+    }
+
     @Test
     public void execute_duplicateReservation_throwsCommandException() {
         ReserveCommand reserveCommand = new ReserveCommand(
@@ -140,5 +192,15 @@ class ReserveCommandTest {
                 DUMMY_REMARK,
                 DUMMY_TAG_LIST
         )));
+
+        // different duration
+        assertFalse(reserveCommand.equals(new ReserveCommand(
+                DUMMY_PHONE,
+                DUMMY_NUMBER_OF_PEOPLE,
+                DUMMY_DATE_TIME,
+                Duration.ofHours(2),
+                DUMMY_REMARK,
+                DUMMY_TAG_LIST
+        )));
     }
 }
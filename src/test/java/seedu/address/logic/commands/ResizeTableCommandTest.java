@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.util.CommandUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class ResizeTableCommandTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final Table TWO_TOP = new Table(2, 1);
+    private static final Table SIX_TOP = new Table(6, 2);
+    private static final Table FOUR_TOP = new Table(4, 2);
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_shrunk_reservationsThatNoLongerFitReseated() throws Exception {
+        model.setTableList(List.of(TWO_TOP, SIX_TOP));
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(SIX_TOP).build();
+        Reservation family = new ReservationBuilder().withPhone("87654321").withNumberOfPeople(5)
+                .withDateTime(SEVEN_PM.plusDays(1)).withDuration(Duration.ofHours(2)).withTable(SIX_TOP).build();
+        model.addReservation(couple);
+        model.addReservation(family);
+
+        CommandResult result = new ResizeTableCommand(SIX_TOP.getTableId(), 4).execute(model);
+
+        assertEquals(String.format(ResizeTableCommand.MESSAGE_SUCCESS, FOUR_TOP)
+                + CommandUtil.formatReseatedReservations(0, List.of(family)), result.getFeedbackToUser());
+        assertEquals(List.of(TWO_TOP, FOUR_TOP), model.getTableManager().getUnmodifiableObservableList());
+        assertTrue(model.hasReservation(new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(FOUR_TOP).build()));
+        assertFalse(model.hasReservation(family));
+        assertTrue(model.isOnWaitlist(family.getPhone(), family.getDateTime()));
+    }
+
+    @Test
+    public void execute_grown_reservationsKept() throws Exception {
+        model.setTableList(List.of(TWO_TOP, FOUR_TOP));
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(TWO_TOP).build());
+
+        CommandResult result = new ResizeTableCommand(TWO_TOP.getTableId(), 3).execute(model);
+
+        Table threeTop = new Table(3, TWO_TOP.getTableId());
+        assertEquals(String.format(ResizeTableCommand.MESSAGE_SUCCESS, threeTop), result.getFeedbackToUser());
+        assertTrue(model.hasReservation(new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(threeTop).build()));
+    }
+
+    @Test
+    public void equals() {
+        ResizeTableCommand command = new ResizeTableCommand(1, 4);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ResizeTableCommand(1, 4)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different table -> returns false
+        assertFalse(command.equals(new ResizeTableCommand(2, 4)));
+
+        // different size -> returns false
+        assertFalse(command.equals(new ResizeTableCommand(1, 6)));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEmployees.ALICE_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.BENSON_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.getTypicalRhrhEmployees;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+class RosterCommandTest {
+    private static final LocalDate DATE = LocalDate.parse("2021-12-10");
+
+    private final Model model = new ModelManager(getTypicalRhrhEmployees(), new UserPrefs());
+
+    @Test
+    public void execute_employeesOnShift_rosterListed() {
+        Employee benson = new EmployeeBuilder(BENSON_EMPLOYEE)
+                .withShifts("2021-12-10 1800", "2021-12-10 0800", "2021-12-11 0800").build();
+        model.setEmployee(BENSON_EMPLOYEE, benson);
+
+        CommandResult result = new RosterCommand(DATE).execute(model);
+
+        assertEquals(String.format(RosterCommand.MESSAGE_SUCCESS, DATE, 2)
+                + String.format(RosterCommand.MESSAGE_SHIFT, "0800", "Alice Pauline, Benson Meier")
+                + String.format(RosterCommand.MESSAGE_SHIFT, "1800", "Benson Meier"),
+                result.getFeedbackToUser());
+        assertTrue(result.isShowEmployee());
+        assertEquals(List.of(ALICE_EMPLOYEE, benson), model.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void execute_noEmployeesOnShift_emptyListShown() {
+        LocalDate otherDate = DATE.minusDays(1);
+
+        CommandResult result = new RosterCommand(otherDate).execute(model);
+
+        assertEquals(String.format(RosterCommand.MESSAGE_NO_SHIFTS, otherDate), result.getFeedbackToUser());
+        assertTrue(model.getFilteredEmployeeList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        RosterCommand command = new RosterCommand(DATE);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RosterCommand(DATE)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different date -> returns false
+        assertFalse(command.equals(new RosterCommand(DATE.plusDays(1))));
+    }
+}
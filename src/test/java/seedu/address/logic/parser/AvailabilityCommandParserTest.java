@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.AvailabilityCommandParser.MESSAGE_INVALID_RANGE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DATE_FORMAT;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AvailabilityCommand;
+
+public class AvailabilityCommandParserTest {
+    private AvailabilityCommandParser parser = new AvailabilityCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAvailabilityCommand() {
+        assertParseSuccess(parser, " 2021-12-24..2021-12-31 ", new AvailabilityCommand(
+                LocalDate.parse("2021-12-24"), LocalDate.parse("2021-12-31")));
+        assertParseSuccess(parser, " 2021-12-24 .. 2021-12-24", new AvailabilityCommand(
+                LocalDate.parse("2021-12-24"), LocalDate.parse("2021-12-24")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AvailabilityCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", invalidFormat);
+        assertParseFailure(parser, " 2021-12-24", invalidFormat);
+        assertParseFailure(parser, " 2021-12-24..", invalidFormat);
+        assertParseFailure(parser, " 24-12-2021..2021-12-31", MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, " 2021-12-31..2021-12-24", MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " 2021-12-01..2022-01-01", MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BranchCommand;
+
+public class BranchCommandParserTest {
+
+    private BranchCommandParser parser = new BranchCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsListBranchesCommand() {
+        assertParseSuccess(parser, "", new BranchCommand(Optional.empty()));
+        assertParseSuccess(parser, "   ", new BranchCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_validBranchName_returnsSwitchBranchCommand() {
+        assertParseSuccess(parser, " Orchard-Road_2 ", new BranchCommand(Optional.of("orchard-road_2")));
+    }
+
+    @Test
+    public void parse_invalidBranchName_throwsParseException() {
+        assertParseFailure(parser, " orchard road", ParserUtil.MESSAGE_INVALID_BRANCH_NAME);
+        assertParseFailure(parser, " ../orchard", ParserUtil.MESSAGE_INVALID_BRANCH_NAME);
+    }
+}
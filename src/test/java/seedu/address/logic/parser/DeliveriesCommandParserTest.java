@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.DeliveriesCommandParser.MESSAGE_INVALID_PERIOD;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DeliveriesCommand;
+import seedu.address.model.person.supplier.SupplyType;
+
+class DeliveriesCommandParserTest {
+    private static final LocalDate MONDAY = LocalDate.parse("2021-12-13");
+
+    private DeliveriesCommandParser parser = new DeliveriesCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 2021-12-13..2021-12-19",
+                new DeliveriesCommand(MONDAY, MONDAY.plusDays(6), Optional.empty()));
+        assertParseSuccess(parser, " 2021-12-13..2021-12-13  Chicken Thighs ",
+                new DeliveriesCommand(MONDAY, MONDAY, Optional.of(new SupplyType("Chicken Thighs"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String message = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeliveriesCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", message);
+        assertParseFailure(parser, " 2021-12-13", message);
+        assertParseFailure(parser, " 2021-12-13..2021-12-19..2021-12-20", message);
+        assertParseFailure(parser, " 2021-12-19..2021-12-13", MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " 2021-12-13..2022-12-14", MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, " 2021-12-13..2021-12-19 Ch!cken", SupplyType.MESSAGE_CONSTRAINTS);
+    }
+}
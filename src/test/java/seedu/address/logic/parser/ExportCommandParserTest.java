@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.storage.ListExporter;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " customers data/customers.csv",
+                new ExportCommand(EnumTypeOfList.Customer, Paths.get("data/customers.csv"), ListExporter.Format.Csv));
+        assertParseSuccess(parser, " Employees  data/all employees.JSONL ",
+                new ExportCommand(EnumTypeOfList.Employee, Paths.get("data/all employees.JSONL"),
+                        ListExporter.Format.JsonLines));
+        assertParseSuccess(parser, " reservations reservations.jsonl",
+                new ExportCommand(EnumTypeOfList.Reservation, Paths.get("reservations.jsonl"),
+                        ListExporter.Format.JsonLines));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, " customers",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTypeOfList_throwsParseException() {
+        assertParseFailure(parser, " tables tables.csv", ParserUtil.MESSAGE_INVALID_TYPE_OF_LIST);
+    }
+
+    @Test
+    public void parse_unknownFileExtension_throwsParseException() {
+        assertParseFailure(parser, " suppliers suppliers.txt", ExportCommandParser.MESSAGE_INVALID_FILE_EXTENSION);
+    }
+}
@@ -10,6 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCustomerCommand;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryNode;
 
 public class FindCustomerCommandParserTest {
 
@@ -32,4 +35,17 @@ public class FindCustomerCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_query_returnsFindCustomerCommand() {
+        FindCustomerCommand expectedFindCommand = new FindCustomerCommand(new Query<>(QueryNode.and(Arrays.asList(
+                QueryNode.match(CustomerQueryFields.NAME, "tan"),
+                QueryNode.between(CustomerQueryFields.LOYALTY_POINTS, 1001, Long.MAX_VALUE))), true));
+        assertParseSuccess(parser, " EXPLAIN n/tan lp>1000", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " n/tan OR", String.format(QueryParser.MESSAGE_MISSING_TERM, "OR"));
+    }
+
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.GenerateRosterCommandParser.MESSAGE_INVALID_COVERS_PER_EMPLOYEE;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GenerateRosterCommand;
+import seedu.address.model.person.employee.RosterGenerator;
+
+class GenerateRosterCommandParserTest {
+    private static final LocalDate WEEK_START = LocalDate.parse("2021-12-06");
+
+    private GenerateRosterCommandParser parser = new GenerateRosterCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 2021-12-06",
+                new GenerateRosterCommand(WEEK_START, RosterGenerator.DEFAULT_COVERS_PER_EMPLOYEE));
+        assertParseSuccess(parser, " 2021-12-06   8 ", new GenerateRosterCommand(WEEK_START, 8));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String message = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateRosterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", message);
+        assertParseFailure(parser, " 2021-12-06 8 2", message);
+        assertParseFailure(parser, " 2021-12-06 0", MESSAGE_INVALID_COVERS_PER_EMPLOYEE);
+        assertParseFailure(parser, " 2021-12-06 eight", MESSAGE_INVALID_COVERS_PER_EMPLOYEE);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " customers data/customers.csv",
+                new ImportCommand(EnumTypeOfPerson.Customer, Paths.get("data/customers.csv")));
+        assertParseSuccess(parser, " Employees  data/new employees.csv ",
+                new ImportCommand(EnumTypeOfPerson.Employee, Paths.get("data/new employees.csv")));
+        assertParseSuccess(parser, " suppliers suppliers.csv",
+                new ImportCommand(EnumTypeOfPerson.Supplier, Paths.get("suppliers.csv")));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, " customers",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTypeOfPerson_throwsParseException() {
+        assertParseFailure(parser, " tables tables.csv", ParserUtil.MESSAGE_INVALID_TYPE_OF_PERSON);
+    }
+}
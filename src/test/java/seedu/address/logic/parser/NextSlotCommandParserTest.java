@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_RESERVATION_MINUTES;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.NextSlotCommandParser.MESSAGE_INVALID_COUNT;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.NextSlotCommand;
+
+public class NextSlotCommandParserTest {
+    private static final LocalDateTime CHRISTMAS_EVE_DINNER = LocalDateTime.parse("2021-12-24T19:00");
+
+    private NextSlotCommandParser parser = new NextSlotCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsNextSlotCommand() {
+        assertParseSuccess(parser, " 4 at/2021-12-24 1900", new NextSlotCommand(4, CHRISTMAS_EVE_DINNER));
+        assertParseSuccess(parser, " 4 at/2021-12-24 1900 dur/90 c/5",
+                new NextSlotCommand(4, CHRISTMAS_EVE_DINNER, Duration.ofMinutes(90), 5));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextSlotCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 4", invalidFormat);
+        assertParseFailure(parser, " at/2021-12-24 1900", invalidFormat);
+        assertParseFailure(parser, " 4 at/2021-12-24 1930", MESSAGE_INVALID_RESERVATION_MINUTES);
+        assertParseFailure(parser, " 4 at/2021-12-24 1900 c/0", MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 4 at/2021-12-24 1900 c/11", MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 4 at/2021-12-24 1900 c/many", MESSAGE_INVALID_COUNT);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DATE_FORMAT;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OptimiseTablesCommand;
+
+public class OptimiseTablesCommandParserTest {
+    private OptimiseTablesCommandParser parser = new OptimiseTablesCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsOptimiseTablesCommand() {
+        assertParseSuccess(parser, " 2021-12-24 ", new OptimiseTablesCommand(LocalDate.parse("2021-12-24")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseTablesCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "24-12-2021 1900", MESSAGE_INVALID_DATE_FORMAT);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_NUMBER_OF_PE
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import seedu.address.model.person.employee.SortByEmployee;
 import seedu.address.model.person.supplier.DeliveryDetails;
 import seedu.address.model.person.supplier.SortBySupplier;
 import seedu.address.model.person.supplier.SupplyType;
+import seedu.address.model.reservation.Reservation;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -118,6 +120,33 @@ public class ParserUtilTest {
             -> ParserUtil.parseDateTime("11/11/2021 2000"));
     }
 
+    @Test
+    public void parseDuration_validMinutes_success() throws Exception {
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseDuration("  90  "));
+        assertEquals(Duration.ofMinutes(15), ParserUtil.parseDuration("15"));
+        assertEquals(Reservation.MAX_DURATION, ParserUtil.parseDuration("720"));
+    }
+
+    @Test
+    public void parseDuration_invalidMinutes_failure() {
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration("1h"));
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration("100"));
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration("735"));
+    }
+
+    @Test
+    public void parseDuration_minutesOverflowingDuration_failure() {
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration(String.valueOf(Long.MAX_VALUE)));
+        assertThrows(ParseException.class, Reservation.MESSAGE_DURATION_CONSTRAINTS, ()
+            -> ParserUtil.parseDuration(String.valueOf(Long.MIN_VALUE)));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
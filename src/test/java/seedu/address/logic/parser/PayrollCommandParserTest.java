@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.PayrollCommandParser.MESSAGE_INVALID_FILE_EXTENSION;
+import static seedu.address.logic.parser.PayrollCommandParser.MESSAGE_INVALID_MONTH;
+
+import java.nio.file.Paths;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PayrollCommand;
+
+class PayrollCommandParserTest {
+
+    private PayrollCommandParser parser = new PayrollCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 2021-12   data/payroll.csv ",
+                new PayrollCommand(YearMonth.parse("2021-12"), Paths.get("data/payroll.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " 2021-12",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 2021-13 data/payroll.csv", MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " 2021-12-01 data/payroll.csv", MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " 2021-12 data/payroll.jsonl", MESSAGE_INVALID_FILE_EXTENSION);
+    }
+}
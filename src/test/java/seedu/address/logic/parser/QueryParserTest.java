@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_EMPTY_VALUE;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_INVALID_NUMBER;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_INVALID_OPERATOR;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_MISSING_TERM;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNCLOSED_BRACKET;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNEXPECTED_TOKEN;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryNode;
+
+class QueryParserTest {
+    private static final QueryNode<Customer> NAME_TAN = QueryNode.match(CustomerQueryFields.NAME, "tan");
+    private static final QueryNode<Customer> VIP = QueryNode.match(CustomerQueryFields.TAGS, "vip");
+    private static final QueryNode<Customer> PEANUT = QueryNode.match(CustomerQueryFields.ALLERGIES, "peanut");
+
+    private final QueryParser<Customer> parser =
+            new QueryParser<>(CustomerQueryFields.FIELDS, CustomerQueryFields::keyword);
+
+    @Test
+    public void isQuery() {
+        assertFalse(parser.isQuery("alice 97381281"));
+        // unknown fields are keywords
+        assertFalse(parser.isQuery("x/alice"));
+
+        assertTrue(parser.isQuery("n/alice"));
+        assertTrue(parser.isQuery("alice OR bob"));
+        assertTrue(parser.isQuery("(alice)"));
+        assertTrue(parser.isQuery("EXPLAIN alice"));
+    }
+
+    @Test
+    public void parse_fields_joinedByAnd() throws Exception {
+        assertEquals(new Query<>(QueryNode.and(Arrays.asList(NAME_TAN,
+                QueryNode.between(CustomerQueryFields.LOYALTY_POINTS, 1001, Long.MAX_VALUE), VIP, PEANUT)), false),
+                parser.parse("n/tan lp>1000 t/vip alg/peanut"));
+        assertEquals(new Query<>(QueryNode.and(Arrays.asList(NAME_TAN, CustomerQueryFields.keyword("x/vip"))),
+                false), parser.parse("n/tan AND x/vip"));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() throws Exception {
+        // NOT before AND before OR
+        assertEquals(new Query<>(QueryNode.or(Arrays.asList(NAME_TAN,
+                QueryNode.and(Arrays.asList(QueryNode.not(VIP), PEANUT)))), false),
+                parser.parse("n/tan OR NOT t/vip alg/peanut"));
+
+        // brackets group terms
+        assertEquals(new Query<>(QueryNode.and(Arrays.asList(
+                QueryNode.or(Arrays.asList(NAME_TAN, VIP)), QueryNode.not(PEANUT))), false),
+                parser.parse("(n/tan OR t/vip) NOT alg/peanut"));
+    }
+
+    @Test
+    public void parse_numbers_returnsRanges() throws Exception {
+        assertEquals(rangeQuery(100, 500), parser.parse("lp/100..500"));
+        assertEquals(rangeQuery(Long.MIN_VALUE, 500), parser.parse("lp/..500"));
+        assertEquals(rangeQuery(100, Long.MAX_VALUE), parser.parse("lp>=100"));
+        assertEquals(rangeQuery(Long.MIN_VALUE, 99), parser.parse("lp<100"));
+        assertEquals(rangeQuery(Long.MIN_VALUE, 100), parser.parse("lp<=100"));
+        assertEquals(rangeQuery(5, 5), parser.parse("lp=5"));
+        assertEquals(rangeQuery(5, 5), parser.parse("lp/5"));
+    }
+
+    @Test
+    public void parse_explain_setsFlag() throws Exception {
+        assertEquals(new Query<>(NAME_TAN, true), parser.parse("EXPLAIN n/tan"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_EMPTY_VALUE, "n/"), () -> parser.parse("n/"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_OPERATOR, "t"), () -> parser.parse("t>5"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_NUMBER, "lp"), () -> parser.parse("lp>ab"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_NUMBER, "lp"), () ->
+                parser.parse("lp>9223372036854775807"));
+        assertThrows(ParseException.class, MESSAGE_UNCLOSED_BRACKET, () -> parser.parse("(n/tan"));
+        assertThrows(ParseException.class, String.format(MESSAGE_MISSING_TERM, "OR"), () ->
+                parser.parse("n/tan OR"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                parser.parse("n/tan )"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNEXPECTED_TOKEN, "OR"), () ->
+                parser.parse("OR n/tan"));
+        assertThrows(ParseException.class, String.format(MESSAGE_MISSING_TERM, "EXPLAIN"), () ->
+                parser.parse("EXPLAIN"));
+    }
+
+    private static Query<Customer> rangeQuery(long min, long max) {
+        return new Query<>(QueryNode.between(CustomerQueryFields.LOYALTY_POINTS, min, max), false);
+    }
+}
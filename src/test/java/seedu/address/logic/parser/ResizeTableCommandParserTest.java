@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ResizeTableCommand;
+
+class ResizeTableCommandParserTest {
+    private ResizeTableCommandParser parser = new ResizeTableCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 3 6", new ResizeTableCommand(3, 6));
+        assertParseSuccess(parser, "  3 \n  6  ", new ResizeTableCommand(3, 6));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " 0 6", ParserUtil.MESSAGE_INVALID_TABLE_ID);
+        assertParseFailure(parser, " 3 -1", ParserUtil.MESSAGE_INVALID_TABLE_SIZE);
+        assertParseFailure(parser, " 3 six", ParserUtil.MESSAGE_INVALID_TABLE_SIZE);
+    }
+
+    @Test
+    public void parse_wrongNumberOfArgs_failure() {
+        String message = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ResizeTableCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", message);
+        assertParseFailure(parser, " 3", message);
+        assertParseFailure(parser, " 3 6 2", message);
+    }
+}
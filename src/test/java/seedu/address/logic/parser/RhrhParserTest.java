@@ -9,11 +9,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CUSTOMER;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SUPPLIER;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -21,8 +23,11 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddCustomerCommand;
 import seedu.address.logic.commands.AddEmployeeCommand;
 import seedu.address.logic.commands.AddSupplierCommand;
+import seedu.address.logic.commands.AllBranchesCommand;
+import seedu.address.logic.commands.BranchCommand;
 import seedu.address.logic.commands.CheckCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CompoundCommand;
 import seedu.address.logic.commands.DeleteCustomerCommand;
 import seedu.address.logic.commands.DeleteEmployeeCommand;
 import seedu.address.logic.commands.DeleteSupplierCommand;
@@ -33,16 +38,20 @@ import seedu.address.logic.commands.EditEmployeeCommand.EditEmployeeDescriptor;
 import seedu.address.logic.commands.EditSupplierCommand;
 import seedu.address.logic.commands.EditSupplierCommand.EditSupplierDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCustomerCommand;
 import seedu.address.logic.commands.FindEmployeeCommand;
 import seedu.address.logic.commands.FindSupplierCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCustomerCommand;
 import seedu.address.logic.commands.ListEmployeeCommand;
 import seedu.address.logic.commands.ListReservationCommand;
 import seedu.address.logic.commands.ListSupplierCommand;
 import seedu.address.logic.commands.ReserveCommand;
 import seedu.address.logic.parser.enums.EnumTypeOfCheck;
+import seedu.address.logic.parser.enums.EnumTypeOfList;
+import seedu.address.logic.parser.enums.EnumTypeOfPerson;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
@@ -51,6 +60,7 @@ import seedu.address.model.person.employee.EmployeeClassContainsKeywordsPredicat
 import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.person.supplier.SupplierClassContainsKeywordsPredicate;
 import seedu.address.model.reservation.ListContainsReservationPredicate;
+import seedu.address.storage.ListExporter;
 import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.CustomerUtil;
 import seedu.address.testutil.EditCustomerDescriptorBuilder;
@@ -153,6 +163,96 @@ public class RhrhParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_compound() throws Exception {
+        CompoundCommand command = (CompoundCommand) parser.parseCommand(CompoundCommand.COMMAND_WORD + " "
+                + DeleteCustomerCommand.COMMAND_WORD + " " + INDEX_FIRST_CUSTOMER.getOneBased()
+                + CompoundCommand.COMMAND_SEPARATOR + " "
+                + DeleteSupplierCommand.COMMAND_WORD + " " + INDEX_FIRST_SUPPLIER.getOneBased());
+        assertEquals(new CompoundCommand(Arrays.asList(new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER),
+                new DeleteSupplierCommand(INDEX_FIRST_SUPPLIER))), command);
+    }
+
+    @Test
+    public void parseCommand_separatorWithoutCompoundCommandWord_parsesSingleCommand() throws Exception {
+        Customer customer = new CustomerBuilder().withAddress("Blk 1; #01-01").build();
+        assertEquals(new AddCustomerCommand(customer),
+                parser.parseCommand(CustomerUtil.getAddCustomerCommand(customer)));
+    }
+
+    @Test
+    public void parseCommand_compoundWithEmptyCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                CompoundCommand.MESSAGE_USAGE), () -> parser.parseCommand(CompoundCommand.COMMAND_WORD + " "
+                + ListCustomerCommand.COMMAND_WORD + CompoundCommand.COMMAND_SEPARATOR));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                CompoundCommand.MESSAGE_USAGE), () -> parser.parseCommand(CompoundCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_compoundWithBranch_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CompoundCommand.MESSAGE_NOT_ALLOWED,
+                BranchCommand.COMMAND_WORD), () -> parser.parseCommand(CompoundCommand.COMMAND_WORD + " "
+                + ListCustomerCommand.COMMAND_WORD + CompoundCommand.COMMAND_SEPARATOR + BranchCommand.COMMAND_WORD
+                + " orchard"));
+    }
+
+    @Test
+    public void parseCommand_compoundWithExport_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CompoundCommand.MESSAGE_NOT_ALLOWED,
+                ExportCommand.COMMAND_WORD), () -> parser.parseCommand(CompoundCommand.COMMAND_WORD + " "
+                + ListCustomerCommand.COMMAND_WORD + CompoundCommand.COMMAND_SEPARATOR + ExportCommand.COMMAND_WORD
+                + " customers data/customers.csv"));
+    }
+
+    @Test
+    public void parseCommand_compoundWithImport_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CompoundCommand.MESSAGE_NOT_ALLOWED,
+                ImportCommand.COMMAND_WORD), () -> parser.parseCommand(CompoundCommand.COMMAND_WORD + " "
+                + ListCustomerCommand.COMMAND_WORD + CompoundCommand.COMMAND_SEPARATOR + ImportCommand.COMMAND_WORD
+                + " customers data/customers.csv"));
+    }
+
+    @Test
+    public void parseCommand_branch() throws Exception {
+        assertEquals(new BranchCommand(Optional.empty()), parser.parseCommand(BranchCommand.COMMAND_WORD));
+        assertEquals(new BranchCommand(Optional.of("orchard")),
+                parser.parseCommand(BranchCommand.COMMAND_WORD + " orchard"));
+    }
+
+    @Test
+    public void parseCommand_allBranches() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar");
+        AllBranchesCommand command = (AllBranchesCommand) parser.parseCommand(AllBranchesCommand.COMMAND_WORD + " "
+                + FindCustomerCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new AllBranchesCommand(new FindCustomerCommand(
+                new CustomerClassContainsKeywordsPredicate(keywords))), command);
+    }
+
+    @Test
+    public void parseCommand_allBranchesWithUnsupportedCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AllBranchesCommand.MESSAGE_USAGE), () -> parser.parseCommand(AllBranchesCommand.COMMAND_WORD + " "
+                + ClearCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AllBranchesCommand.MESSAGE_USAGE), () -> parser.parseCommand(AllBranchesCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(
+                ImportCommand.COMMAND_WORD + " customers data/customers.csv");
+        assertEquals(new ImportCommand(EnumTypeOfPerson.Customer, Paths.get("data/customers.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " reservations data/reservations.jsonl");
+        assertEquals(new ExportCommand(EnumTypeOfList.Reservation, Paths.get("data/reservations.jsonl"),
+                ListExporter.Format.JsonLines), command);
+    }
+
     @Test
     public void parseCommand_findCustomer() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
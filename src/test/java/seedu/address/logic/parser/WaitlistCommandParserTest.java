@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DATE_FORMAT;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ListWaitlistCommand;
+import seedu.address.logic.commands.PromoteFromWaitlistCommand;
+import seedu.address.logic.commands.RemoveFromWaitlistCommand;
+
+public class WaitlistCommandParserTest {
+    private WaitlistCommandParser parser = new WaitlistCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListWaitlistCommand() {
+        assertParseSuccess(parser, "  ", new ListWaitlistCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_date_returnsListWaitlistCommand() {
+        assertParseSuccess(parser, " 2021-12-24 ",
+                new ListWaitlistCommand(Optional.of(LocalDate.parse("2021-12-24"))));
+    }
+
+    @Test
+    public void parse_remove_returnsRemoveFromWaitlistCommand() {
+        assertParseSuccess(parser, " remove 2", new RemoveFromWaitlistCommand(Index.fromOneBased(2)));
+        assertParseFailure(parser, " remove",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveFromWaitlistCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " remove -1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemoveFromWaitlistCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_promote_returnsPromoteFromWaitlistCommand() {
+        assertParseSuccess(parser, " PROMOTE 2021-12-24",
+                new PromoteFromWaitlistCommand(LocalDate.parse("2021-12-24")));
+        assertParseFailure(parser, " promote",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PromoteFromWaitlistCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " promote 24-12-2021", MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownSubcommand_throwsParseException() {
+        assertParseFailure(parser, " clear",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListWaitlistCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class BranchCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BranchCache(0));
+    }
+
+    @Test
+    public void put_overCapacity_leastRecentlyUsedDropped() {
+        BranchCache branchCache = new BranchCache(2);
+        branchCache.put("a", new Rhrh());
+        branchCache.put("b", new Rhrh());
+        branchCache.put("c", new Rhrh());
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(branchCache.asMap().keySet()));
+    }
+
+    @Test
+    public void put_existingBranch_becomesMostRecentlyUsed() {
+        BranchCache branchCache = new BranchCache(2);
+        branchCache.put("a", new Rhrh());
+        branchCache.put("b", new Rhrh());
+        branchCache.put("a", new Rhrh());
+        branchCache.put("c", new Rhrh());
+        assertEquals(Arrays.asList("a", "c"), new ArrayList<>(branchCache.asMap().keySet()));
+    }
+
+    @Test
+    public void remove_keptBranch_returnsDataAndForgetsBranch() {
+        BranchCache branchCache = new BranchCache();
+        Rhrh rhrh = new Rhrh();
+        branchCache.put("a", rhrh);
+        assertEquals(rhrh, branchCache.remove("a"));
+        assertNull(branchCache.remove("a"));
+    }
+}
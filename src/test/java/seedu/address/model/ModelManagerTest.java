@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EMPLOYEES;
@@ -16,16 +17,33 @@ import static seedu.address.testutil.TypicalReservation.BENSON_RESERVATION;
 import static seedu.address.testutil.TypicalSuppliers.AMY;
 import static seedu.address.testutil.TypicalSuppliers.BOB;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.customer.Customer;
 import seedu.address.model.person.customer.CustomerClassContainsKeywordsPredicate;
+import seedu.address.model.person.employee.Employee;
 import seedu.address.model.person.employee.EmployeeClassContainsKeywordsPredicate;
+import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.person.supplier.SupplierClassContainsKeywordsPredicate;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.RhrhBuilder;
 
 public class ModelManagerTest {
@@ -39,6 +57,36 @@ public class ModelManagerTest {
         assertEquals(new Rhrh(), new Rhrh(modelManager.getRhrh()));
     }
 
+    @Test
+    public void constructor_sharedRhrh_copiesRhrh() {
+        Rhrh rhrh = new RhrhBuilder().withCustomer(CUSTOMER_ALICE).build();
+        modelManager = new ModelManager(rhrh, new UserPrefs());
+
+        rhrh.addCustomer(CUSTOMER_BOB);
+        assertFalse(modelManager.hasCustomer(CUSTOMER_BOB));
+    }
+
+    @Test
+    public void ofLoadedData_loadedRhrh_usesRhrhWithoutCopying() {
+        Rhrh loadedData = new RhrhBuilder().withCustomer(CUSTOMER_ALICE).build();
+        modelManager = ModelManager.ofLoadedData(loadedData, new UserPrefs(), unused -> new Rhrh());
+
+        assertSame(loadedData, modelManager.getRhrh());
+        assertEquals(Arrays.asList(CUSTOMER_ALICE), modelManager.getFilteredCustomerList());
+        assertEquals(new ModelManager(loadedData, new UserPrefs()), modelManager);
+    }
+
+    @Test
+    public void viewOf_filteredView_sharesDataButNotFilters() {
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        ModelManager view = ModelManager.viewOf(modelManager.getRhrh(), new UserPrefs());
+        view.updateFilteredCustomerList(customer -> false);
+
+        assertSame(modelManager.getRhrh(), view.getRhrh());
+        assertEquals(Arrays.asList(CUSTOMER_ALICE), modelManager.getFilteredCustomerList());
+        assertTrue(view.getFilteredCustomerList().isEmpty());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -145,6 +193,76 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasSupplier(AMY));
     }
 
+    @Test
+    public void deleteCustomer_customerWithReservations_deletesReservationsAndWaitlistEntries() {
+        WaitlistEntry entry = new WaitlistEntry(CUSTOMER_ALICE.getPhone(), 2, LocalDateTime.parse("2021-12-24T19:00"),
+                Reservation.DEFAULT_DURATION, new Remark(""), Set.of(), LocalDateTime.parse("2021-12-01T10:00"), 0);
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        modelManager.addReservation(ALICE_RESERVATION);
+        modelManager.addReservation(BENSON_RESERVATION);
+        modelManager.addToWaitlist(entry);
+
+        modelManager.deleteCustomer(CUSTOMER_ALICE);
+
+        assertTrue(modelManager.getReservationsOf(CUSTOMER_ALICE.getPhone()).isEmpty());
+        assertEquals(List.of(BENSON_RESERVATION), modelManager.getFilteredReservationList());
+        assertTrue(modelManager.getWaitlist().isEmpty());
+    }
+
+    @Test
+    public void deleteCustomer_otherCustomerWithSamePhone_keepsReservations() {
+        Customer aliceTwin = new CustomerBuilder(CUSTOMER_BOB).withPhone(CUSTOMER_ALICE.getPhone().value).build();
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        modelManager.addCustomer(aliceTwin);
+        modelManager.addReservation(ALICE_RESERVATION);
+
+        modelManager.deleteCustomer(CUSTOMER_ALICE);
+
+        assertEquals(List.of(ALICE_RESERVATION), modelManager.getReservationsOf(CUSTOMER_ALICE.getPhone()));
+    }
+
+    @Test
+    public void setCustomer_phoneChanged_movesReservationsToNewPhone() {
+        Customer editedAlice = new CustomerBuilder(CUSTOMER_ALICE).withPhone("99999999").build();
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        modelManager.addReservation(ALICE_RESERVATION);
+        modelManager.addReservation(BENSON_RESERVATION);
+
+        modelManager.setCustomer(CUSTOMER_ALICE, editedAlice);
+
+        assertTrue(modelManager.getReservationsOf(CUSTOMER_ALICE.getPhone()).isEmpty());
+        assertEquals(List.of(ALICE_RESERVATION.withPhone(editedAlice.getPhone())),
+                modelManager.getReservationsOf(editedAlice.getPhone()));
+        assertEquals(List.of(BENSON_RESERVATION), modelManager.getReservationsOf(BENSON_RESERVATION.getPhone()));
+    }
+
+    @Test
+    public void removeTable_tableWithReservations_reservationsMovedToFreeTable() {
+        Table aliceTable = ALICE_RESERVATION.getTable();
+        Table bensonTable = BENSON_RESERVATION.getTable();
+        modelManager.setTableList(List.of(aliceTable, bensonTable));
+        modelManager.addReservation(ALICE_RESERVATION);
+        modelManager.addReservation(BENSON_RESERVATION);
+
+        assertTrue(modelManager.removeTable(aliceTable).isEmpty());
+        assertEquals(List.of(bensonTable), modelManager.getTableManager().getUnmodifiableObservableList());
+        assertTrue(modelManager.hasReservation(ALICE_RESERVATION.withTable(bensonTable)));
+        assertTrue(modelManager.hasReservation(BENSON_RESERVATION));
+    }
+
+    @Test
+    public void setTable_shrunkBelowReservation_unseatableReservationsDeleted() {
+        Table bensonTable = BENSON_RESERVATION.getTable();
+        Table shrunkTable = new Table(2, bensonTable.getTableId());
+        modelManager.setTableList(List.of(ALICE_RESERVATION.getTable(), bensonTable));
+        modelManager.addReservation(BENSON_RESERVATION);
+
+        assertEquals(List.of(BENSON_RESERVATION), modelManager.setTable(bensonTable, shrunkTable));
+        assertEquals(List.of(ALICE_RESERVATION.getTable(), shrunkTable),
+                modelManager.getTableManager().getUnmodifiableObservableList());
+        assertFalse(modelManager.hasReservation(BENSON_RESERVATION));
+    }
+
     @Test
     public void getFilteredCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager
@@ -169,6 +287,178 @@ public class ModelManagerTest {
                 .getFilteredSupplierList().remove(0));
     }
 
+    @Test
+    public void copy_modifyCopy_originalUnchanged() {
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        Model copy = modelManager.copy();
+        assertEquals(modelManager, copy);
+
+        copy.addCustomer(CUSTOMER_BOB);
+        assertFalse(modelManager.hasCustomer(CUSTOMER_BOB));
+        assertTrue(copy.hasCustomer(CUSTOMER_BOB));
+    }
+
+    @Test
+    public void apply_stagedCopy_replacesDataAndFilters() {
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        Model copy = modelManager.copy();
+        copy.addCustomer(CUSTOMER_BOB);
+        copy.updateFilteredCustomerList(customer -> customer.equals(CUSTOMER_BOB));
+
+        modelManager.apply(copy);
+        assertEquals(copy, modelManager);
+        assertEquals(Arrays.asList(CUSTOMER_BOB), modelManager.getFilteredCustomerList());
+    }
+
+    @Test
+    public void switchBranch_newBranch_readsBranchData() throws Exception {
+        Rhrh branchData = new RhrhBuilder().withCustomer(CUSTOMER_BOB).build();
+        List<Path> readFilePaths = new ArrayList<>();
+        modelManager = new ModelManager(new RhrhBuilder().withCustomer(CUSTOMER_ALICE).build(), new UserPrefs(),
+            filePath -> {
+                readFilePaths.add(filePath);
+                return branchData;
+            });
+        modelManager.updateFilteredCustomerList(unused -> false);
+
+        modelManager.switchBranch("orchard");
+        assertEquals("orchard", modelManager.getCurrentBranch());
+        assertEquals(Arrays.asList(modelManager.getRhrhFilePath()), readFilePaths);
+        assertEquals(Arrays.asList(CUSTOMER_BOB), modelManager.getFilteredCustomerList());
+        assertEquals(new TreeSet<>(Arrays.asList(UserPrefs.DEFAULT_BRANCH, "orchard")),
+                modelManager.getBranchNames());
+    }
+
+    @Test
+    public void switchBranch_backToLoadedBranch_doesNotReadAgain() throws Exception {
+        List<Path> readFilePaths = new ArrayList<>();
+        modelManager = new ModelManager(new Rhrh(), new UserPrefs(), filePath -> {
+            readFilePaths.add(filePath);
+            return new Rhrh();
+        });
+        modelManager.addCustomer(CUSTOMER_ALICE);
+
+        modelManager.switchBranch("orchard");
+        modelManager.switchBranch(UserPrefs.DEFAULT_BRANCH);
+        assertEquals(1, readFilePaths.size());
+        assertTrue(modelManager.hasCustomer(CUSTOMER_ALICE));
+    }
+
+    @Test
+    public void switchBranch_unreadableData_modelUnchanged() {
+        modelManager = new ModelManager(new RhrhBuilder().withCustomer(CUSTOMER_ALICE).build(), new UserPrefs(),
+            filePath -> {
+                throw new DataConversionException(new IOException("dummy exception"));
+            });
+        ModelManager expectedModel = new ModelManager(modelManager.getRhrh(), modelManager.getUserPrefs());
+
+        assertThrows(DataConversionException.class, () -> modelManager.switchBranch("orchard"));
+        assertEquals(expectedModel, modelManager);
+        assertEquals(UserPrefs.DEFAULT_BRANCH, modelManager.getCurrentBranch());
+    }
+
+    @Test
+    public void getLoadedBranches_afterSwitching_currentBranchFirst() throws Exception {
+        modelManager.switchBranch("orchard");
+        modelManager.addCustomer(CUSTOMER_BOB);
+
+        Map<String, ReadOnlyRhrh> loadedBranches = modelManager.getLoadedBranches();
+        assertEquals(Arrays.asList("orchard", UserPrefs.DEFAULT_BRANCH), new ArrayList<>(loadedBranches.keySet()));
+        assertTrue(loadedBranches.get("orchard").getCustomerList().contains(CUSTOMER_BOB));
+        assertFalse(loadedBranches.get(UserPrefs.DEFAULT_BRANCH).getCustomerList().contains(CUSTOMER_BOB));
+    }
+
+    @Test
+    public void addChangeListener_addEditDelete_changesPublishedInOrder() {
+        List<ModelChange<?>> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        modelManager.setCustomer(CUSTOMER_ALICE, CUSTOMER_BOB);
+        modelManager.deleteCustomer(CUSTOMER_BOB);
+
+        assertEquals(Arrays.asList(
+                new ModelChange<>(1, ModelChange.Type.Added, Customer.class, List.of(), List.of(CUSTOMER_ALICE)),
+                new ModelChange<>(2, ModelChange.Type.Updated, Customer.class, List.of(CUSTOMER_ALICE),
+                        List.of(CUSTOMER_BOB)),
+                new ModelChange<>(3, ModelChange.Type.Removed, Customer.class, List.of(CUSTOMER_BOB), List.of())),
+                changes);
+        assertEquals(3, modelManager.getLastChangeSequenceNumber());
+    }
+
+    @Test
+    public void addChangeListener_sortAndFilter_noChangePublished() {
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        List<ModelChange<?>> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.setCustomerComparator(Comparator.comparing(customer -> customer.getName().fullName));
+        modelManager.updateFilteredCustomerList(unused -> false);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void addChangeListener_setTableList_tableSetReplaced() {
+        List<Table> tables = List.of(new Table(2, 1), new Table(4, 2));
+        List<ModelChange<?>> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.setTableList(tables);
+        ModelChange<Table> change = changes.get(0).asChangeOf(Table.class).get();
+        assertEquals(ModelChange.Type.Replaced, change.getType());
+        assertEquals(List.of(), change.getOldValues());
+        assertEquals(tables, change.getNewValues());
+        assertFalse(changes.get(0).asChangeOf(Customer.class).isPresent());
+    }
+
+    @Test
+    public void addChangeListener_applyStagedCopy_stagedChangesPublished() {
+        List<ModelChange<?>> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+        modelManager.addCustomer(CUSTOMER_ALICE);
+
+        Model copy = modelManager.copy();
+        copy.addEmployee(ALICE_EMPLOYEE);
+        copy.addSupplier(AMY);
+        assertEquals(1, changes.size());
+
+        modelManager.apply(copy);
+        assertEquals(Arrays.asList(
+                new ModelChange<>(2, ModelChange.Type.Added, Employee.class, List.of(), List.of(ALICE_EMPLOYEE)),
+                new ModelChange<>(3, ModelChange.Type.Added, Supplier.class, List.of(), List.of(AMY))),
+                changes.subList(1, changes.size()));
+    }
+
+    @Test
+    public void addChangeListener_switchBranch_dataReplaced() throws Exception {
+        modelManager = new ModelManager(new RhrhBuilder().withCustomer(CUSTOMER_ALICE).build(), new UserPrefs(),
+            unused -> new RhrhBuilder().withCustomer(CUSTOMER_BOB).build());
+        List<ModelChange<?>> changes = new ArrayList<>();
+        modelManager.addChangeListener(changes::add);
+
+        modelManager.switchBranch("orchard");
+        ModelChange<Customer> change = changes.get(0).asChangeOf(Customer.class).get();
+        assertEquals(ModelChange.Type.Replaced, change.getType());
+        assertEquals(List.of(CUSTOMER_ALICE), change.getOldValues());
+        assertEquals(List.of(CUSTOMER_BOB), change.getNewValues());
+    }
+
+    @Test
+    public void removeChangeListener_listenerRemoved_noChangePublished() {
+        List<ModelChange<?>> changes = new ArrayList<>();
+        ModelChangeListener listener = changes::add;
+        modelManager.addChangeListener(listener);
+        modelManager.removeChangeListener(listener);
+
+        modelManager.addCustomer(CUSTOMER_ALICE);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void apply_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.apply(null));
+    }
+
     @Test
     public void equals() {
         Rhrh rhrh =
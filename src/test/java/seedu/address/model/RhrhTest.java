@@ -31,6 +31,7 @@ import seedu.address.model.person.exceptions.DuplicateEmployeeException;
 import seedu.address.model.person.exceptions.DuplicateSupplierException;
 import seedu.address.model.person.supplier.Supplier;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.WaitlistEntry;
 import seedu.address.model.table.Table;
 import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.EmployeeBuilder;
@@ -266,6 +267,11 @@ public class RhrhTest {
         public ObservableList<Reservation> getReservationList() {
             return null;
         }
+
+        @Override
+        public ObservableList<WaitlistEntry> getWaitlist() {
+            return null;
+        }
     }
 
 }
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,37 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setRhrhFilePath(null));
     }
 
+    @Test
+    public void switchBranch_newBranch_dataFileNextToCurrentDataFile() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRhrhFilePath(Paths.get("data", "rhrh.json"));
+
+        userPrefs.switchBranch("orchard");
+        assertEquals("orchard", userPrefs.getCurrentBranch());
+        assertEquals(Paths.get("data", "orchard.json"), userPrefs.getRhrhFilePath());
+        assertEquals(Map.of(UserPrefs.DEFAULT_BRANCH, Paths.get("data", "rhrh.json"),
+                "orchard", Paths.get("data", "orchard.json")), userPrefs.getBranchFilePaths());
+    }
+
+    @Test
+    public void switchBranch_existingBranch_usesItsDataFile() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRhrhFilePath(Paths.get("rhrh.json"));
+        userPrefs.switchBranch("orchard");
+        userPrefs.setRhrhFilePath(Paths.get("elsewhere", "orchard.json"));
+
+        userPrefs.switchBranch(UserPrefs.DEFAULT_BRANCH);
+        assertEquals(Paths.get("rhrh.json"), userPrefs.getRhrhFilePath());
+
+        userPrefs.switchBranch("orchard");
+        assertEquals(Paths.get("elsewhere", "orchard.json"), userPrefs.getRhrhFilePath());
+    }
+
+    @Test
+    public void resetData_withBranches_copiesBranches() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.switchBranch("orchard");
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
 }
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +50,34 @@ public class UniqueCustomerListTest {
         assertTrue(uniqueCustomerList.contains(editedAlice));
     }
 
+    @Test
+    public void containsCustomerWithPhone_customersSharingPhone_trueUntilLastRemoved() {
+        Customer bobWithAlicePhone = new CustomerBuilder(CUSTOMER_BOB).withPhone(CUSTOMER_ALICE.getPhone().value)
+                .build();
+        uniqueCustomerList.add(CUSTOMER_ALICE);
+        uniqueCustomerList.add(bobWithAlicePhone);
+
+        uniqueCustomerList.remove(CUSTOMER_ALICE);
+        assertTrue(uniqueCustomerList.containsCustomerWithPhone(CUSTOMER_ALICE.getPhone()));
+
+        uniqueCustomerList.setCustomer(bobWithAlicePhone, CUSTOMER_BOB);
+        assertFalse(uniqueCustomerList.containsCustomerWithPhone(CUSTOMER_ALICE.getPhone()));
+        assertTrue(uniqueCustomerList.containsCustomerWithPhone(CUSTOMER_BOB.getPhone()));
+
+        uniqueCustomerList.setCustomers(List.of(CUSTOMER_ALICE));
+        assertFalse(uniqueCustomerList.containsCustomerWithPhone(CUSTOMER_BOB.getPhone()));
+    }
+
+    @Test
+    public void getCustomerWithPhone_customerEdited_followsEdit() {
+        uniqueCustomerList.add(CUSTOMER_ALICE);
+        assertEquals(Optional.of(CUSTOMER_ALICE), uniqueCustomerList.getCustomerWithPhone(CUSTOMER_ALICE.getPhone()));
+
+        uniqueCustomerList.setCustomer(CUSTOMER_ALICE, CUSTOMER_BOB);
+        assertEquals(Optional.empty(), uniqueCustomerList.getCustomerWithPhone(CUSTOMER_ALICE.getPhone()));
+        assertEquals(Optional.of(CUSTOMER_BOB), uniqueCustomerList.getCustomerWithPhone(CUSTOMER_BOB.getPhone()));
+    }
+
     @Test
     public void add_nullCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.add(null));
@@ -60,6 +89,34 @@ public class UniqueCustomerListTest {
         assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.add(CUSTOMER_ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueCustomerList.addAll(null));
+    }
+
+    @Test
+    public void addAll_customers_addsAllCustomers() {
+        uniqueCustomerList.add(CUSTOMER_BOB);
+        uniqueCustomerList.addAll(Arrays.asList(CUSTOMER_ALICE));
+        UniqueCustomerList expectedUniqueCustomerList = new UniqueCustomerList();
+        expectedUniqueCustomerList.add(CUSTOMER_BOB);
+        expectedUniqueCustomerList.add(CUSTOMER_ALICE);
+        assertEquals(expectedUniqueCustomerList, uniqueCustomerList);
+    }
+
+    @Test
+    public void addAll_existingCustomer_throwsDuplicateCustomerException() {
+        uniqueCustomerList.add(CUSTOMER_ALICE);
+        assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList
+                .addAll(Arrays.asList(CUSTOMER_BOB, CUSTOMER_ALICE)));
+    }
+
+    @Test
+    public void addAll_duplicateCustomers_throwsDuplicateCustomerException() {
+        assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList
+                .addAll(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_ALICE)));
+    }
+
     @Test
     public void setCustomer_nullTargetCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList
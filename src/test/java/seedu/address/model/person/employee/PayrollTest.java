@@ -0,0 +1,107 @@
+package seedu.address.model.person.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEmployees.ALICE_EMPLOYEE;
+import static seedu.address.testutil.TypicalEmployees.BENSON_EMPLOYEE;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.reservation.CapacityHeatmap;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.EmployeeBuilder;
+import seedu.address.testutil.ReservationBuilder;
+
+class PayrollTest {
+    private static final YearMonth DECEMBER = YearMonth.parse("2021-12");
+    private static final Table EIGHT_TOP = new Table(8, 1);
+
+    private final Model model = new ModelManager();
+
+    private CapacityHeatmap heatmapOf(Reservation... reservations) {
+        model.setTableList(List.of(EIGHT_TOP));
+        for (Reservation reservation : reservations) {
+            model.addReservation(reservation);
+        }
+        return model.getReservationsManager().getCapacityHeatmap();
+    }
+
+    @Test
+    public void of_employees_costsWorkedOut() {
+        Employee carol = new EmployeeBuilder().withName("Carol").withSalary("2000").withLeaves("0")
+                .withJobTitle("Waiter").withShifts("2021-11-30 1800", "2021-12-01 1800", "2021-12-31 1800",
+                        "2022-01-01 1800", "2021-12-02 1800").build();
+
+        ReservationBuilder reservation = new ReservationBuilder().withTable(EIGHT_TOP);
+
+        Payroll payroll = Payroll.of(List.of(ALICE_EMPLOYEE, BENSON_EMPLOYEE, carol), DECEMBER,
+                heatmapOf(reservation.withNumberOfPeople(4).withDateTime("2021-12-24T19:00").build(),
+                        reservation.withNumberOfPeople(2).withDateTime("2021-12-31T23:00").build(),
+                        reservation.withNumberOfPeople(6).withDateTime("2022-01-01T12:00").build()));
+
+        assertEquals(3, payroll.size());
+        assertEquals(List.of("Alice Pauline", "Team lead", "3000", "1", "3000.00", "14", "1909.09"),
+                payroll.getRow(0));
+        // only the shifts starting in the month count
+        assertEquals(List.of("Carol", "Waiter", "2000", "3", "666.67", "0", "0.00"), payroll.getRow(2));
+
+        assertEquals(900000, payroll.getTotalCost());
+        assertEquals(5, payroll.getTotalShiftCount());
+        assertEquals(190909 + 236364, payroll.getTotalLeaveValue());
+        assertEquals(2, payroll.getReservationCount());
+        assertEquals(6, payroll.getGuestCount());
+        assertEquals(OptionalLong.of(150000), payroll.getCostPerGuest());
+    }
+
+    @Test
+    public void of_noShiftsOrGuests_costPerShiftAndGuestLeftOut() {
+        Employee carol = new EmployeeBuilder().withName("Carol").withSalary("2000").withLeaves("0")
+                .withJobTitle("Waiter").withShifts().build();
+
+        Payroll payroll = Payroll.of(List.of(carol), DECEMBER, new CapacityHeatmap());
+
+        assertEquals("", payroll.getRow(0).get(Payroll.COLUMNS.indexOf("costPerShift")));
+        assertTrue(payroll.getCostPerGuest().isEmpty());
+    }
+
+    @Test
+    public void of_manyEmployees_sameTotalsAsOneByOne() {
+        int employeeCount = Payroll.PARALLEL_THRESHOLD + 1;
+        List<Employee> employees = IntStream.range(0, employeeCount)
+                .mapToObj(i -> new EmployeeBuilder().withName("Employee " + i).withSalary(String.valueOf(100 + i))
+                        .withLeaves(String.valueOf(i % 22)).withShifts("2021-12-01 0800").build())
+                .collect(Collectors.toList());
+
+        Payroll payroll = Payroll.of(employees, DECEMBER, new CapacityHeatmap());
+
+        long expectedCost = 0;
+        long expectedLeaveValue = 0;
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < employeeCount; i++) {
+            expectedCost += (100L + i) * 100;
+            expectedLeaveValue += ((100L + i) * 100 * (i % 22) + 11) / 22;
+            rows.add(payroll.getRow(i));
+        }
+        assertEquals(expectedCost, payroll.getTotalCost());
+        assertEquals(employeeCount, payroll.getTotalShiftCount());
+        assertEquals(expectedLeaveValue, payroll.getTotalLeaveValue());
+        assertEquals("Employee 42", rows.get(42).get(0));
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Payroll.formatCents(0));
+        assertEquals("0.05", Payroll.formatCents(5));
+        assertEquals("1234.50", Payroll.formatCents(123450));
+    }
+}
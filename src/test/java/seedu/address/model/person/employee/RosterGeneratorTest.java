@@ -0,0 +1,102 @@
+package seedu.address.model.person.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.table.Table;
+import seedu.address.testutil.EmployeeBuilder;
+import seedu.address.testutil.ReservationBuilder;
+
+class RosterGeneratorTest {
+    private static final LocalDate DATE = LocalDate.parse("2021-12-06");
+    private static final Table TWELVE_TOP = new Table(12, 1);
+    private static final Table FOUR_TOP = new Table(4, 2);
+
+    // long enough that the search always finishes, so the tests do not depend on the speed of the machine
+    private static final Duration UNLIMITED_TIME_BUDGET = Duration.ofMinutes(10);
+
+    private final RosterGenerator generator = new RosterGenerator(10, UNLIMITED_TIME_BUDGET);
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(new EmployeeBuilder().withName("Employee " + i).withShifts().build());
+        }
+        return employees;
+    }
+
+    @Test
+    public void findSlots_guestsBooked_slotsCoverBusiestHours() {
+        Model model = new ModelManager();
+        model.setTableList(List.of(TWELVE_TOP, FOUR_TOP));
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(3).withDateTime(DATE.atTime(12, 0))
+                .withTable(FOUR_TOP).build());
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(12).withDateTime(DATE.atTime(19, 0))
+                .withDuration(Duration.ofHours(2)).withTable(TWELVE_TOP).build());
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(4).withDateTime(DATE.atTime(20, 0))
+                .withTable(FOUR_TOP).build());
+        model.addReservation(new ReservationBuilder().withNumberOfPeople(4).withDateTime(DATE.atTime(23, 0))
+                .withTable(FOUR_TOP).build());
+
+        List<RosterGenerator.Slot> slots =
+                generator.findSlots(model.getReservationsManager().getCapacityHeatmap(), DATE, 7);
+
+        assertEquals(List.of(new RosterGenerator.Slot(DATE.atTime(12, 0), 1),
+                new RosterGenerator.Slot(DATE.atTime(19, 0), 2),
+                new RosterGenerator.Slot(DATE.atTime(23, 0), 1)), slots);
+    }
+
+    @Test
+    public void generate_tooFewEmployees_shortfallReported() {
+        List<Employee> employees = employees(2);
+        RosterGenerator.Slot lunch = new RosterGenerator.Slot(DATE.atTime(12, 0), 1);
+        RosterGenerator.Slot dinner = new RosterGenerator.Slot(DATE.atTime(19, 0), 2);
+
+        RosterGenerator.Roster roster = generator.generate(employees, List.of(lunch, dinner));
+
+        assertEquals(Map.of(employees.get(0), List.of(lunch.getStart()), employees.get(1), List.of(dinner.getStart())),
+                roster.getShifts());
+        assertEquals(Map.of(dinner, 1), roster.getShortfalls());
+        assertTrue(roster.isComplete());
+    }
+
+    @Test
+    public void generate_threeHundredEmployeesFourWeeks_shiftsSpreadEvenly() {
+        List<Employee> employees = employees(300);
+        List<RosterGenerator.Slot> slots = new ArrayList<>();
+        for (int day = 0; day < 28; day++) {
+            slots.add(new RosterGenerator.Slot(DATE.plusDays(day).atTime(10, 0), 20 + day % 5));
+            slots.add(new RosterGenerator.Slot(DATE.plusDays(day).atTime(14, 0), 20));
+            slots.add(new RosterGenerator.Slot(DATE.plusDays(day).atTime(18, 0), 40 + 3 * (day % 7)));
+        }
+        int neededCount = slots.stream().mapToInt(RosterGenerator.Slot::getHeadcount).sum();
+
+        RosterGenerator.Roster roster = generator.generate(employees, slots);
+
+        assertTrue(roster.isComplete());
+        assertTrue(roster.getShortfalls().isEmpty());
+        assertEquals(neededCount, roster.getShiftCount());
+        IntSummaryStatistics shiftCounts = employees.stream()
+                .mapToInt(employee -> roster.getShifts().getOrDefault(employee, List.of()).size())
+                .summaryStatistics();
+        assertTrue(shiftCounts.getMax() - shiftCounts.getMin() <= 1);
+        for (List<LocalDateTime> shifts : roster.getShifts().values()) {
+            Set<LocalDate> dates = new HashSet<>();
+            shifts.forEach(start -> assertTrue(dates.add(start.toLocalDate())));
+        }
+    }
+}
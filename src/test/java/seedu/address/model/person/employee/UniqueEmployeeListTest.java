@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEmployees.ALICE_EMPLOYEE;
 import static seedu.address.testutil.TypicalEmployees.BOB_EMPLOYEE;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -168,6 +170,27 @@ public class UniqueEmployeeListTest {
                 uniqueEmployeeList.setEmployees(listWithDuplicateEmployees));
     }
 
+    @Test
+    public void getShiftsBetween_employeesChanged_returnsShiftsInRange() {
+        LocalDateTime morning = LocalDateTime.parse("2021-12-10T08:00");
+        LocalDateTime evening = LocalDateTime.parse("2021-12-10T18:00");
+        Employee bob = new EmployeeBuilder(BOB_EMPLOYEE).withShifts("2021-12-10 0800", "2021-12-10 1800").build();
+        uniqueEmployeeList.setEmployees(List.of(ALICE_EMPLOYEE, bob));
+
+        assertEquals(Map.of(morning, List.of(ALICE_EMPLOYEE, bob), evening, List.of(bob)),
+                uniqueEmployeeList.getShiftsBetween(morning, evening.plusHours(1)));
+        assertEquals(Map.of(morning, List.of(ALICE_EMPLOYEE, bob)),
+                uniqueEmployeeList.getShiftsBetween(morning, evening));
+
+        Employee editedBob = new EmployeeBuilder(bob).withShifts("2021-12-10 1800").build();
+        uniqueEmployeeList.setEmployee(bob, editedBob);
+        uniqueEmployeeList.remove(ALICE_EMPLOYEE);
+
+        assertEquals(Map.of(evening, List.of(editedBob)),
+                uniqueEmployeeList.getShiftsBetween(morning, evening.plusHours(1)));
+        assertTrue(uniqueEmployeeList.getShiftsBetween(evening, morning).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
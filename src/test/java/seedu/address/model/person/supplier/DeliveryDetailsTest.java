@@ -1,13 +1,20 @@
 package seedu.address.model.person.supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.SupplierCommandTestUtil.VALID_DELIVERY_DETAIL_AMY;
 import static seedu.address.logic.commands.SupplierCommandTestUtil.VALID_DELIVERY_DETAIL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.supplier.DeliveryDetails.Recurrence;
+
 public class DeliveryDetailsTest {
 
     @Test
@@ -72,6 +79,65 @@ public class DeliveryDetailsTest {
         assertTrue(DeliveryDetails.isValidDeliveryDetail("2021-12-25 12:00"));
         // dd-MM-yyyy date format followed by valid 24 hr clock format with colon
         assertTrue(DeliveryDetails.isValidDeliveryDetail("26-12-2021 13:00"));
+
+        // repeating delivery details
+        assertTrue(DeliveryDetails.isValidDeliveryDetail("2021-12-06 0800 weekly"));
+        assertTrue(DeliveryDetails.isValidDeliveryDetail("0800 2021-12-06 Daily"));
+        assertTrue(DeliveryDetails.isValidDeliveryDetail("2021-12-06 08:00 fortnightly"));
+        assertFalse(DeliveryDetails.isValidDeliveryDetail("weekly")); // no date time
+        assertFalse(DeliveryDetails.isValidDeliveryDetail("2021-12-06 0800 monthly")); // unknown recurrence
+        assertFalse(DeliveryDetails.isValidDeliveryDetail("weekly 2021-12-06 0800")); // recurrence first
+    }
+
+    @Test
+    public void constructor_repeatingDelivery_recurrenceParsed() {
+        DeliveryDetails deliveryDetails = new DeliveryDetails("2021-12-06 0800 Weekly");
+
+        assertEquals(LocalDateTime.parse("2021-12-06T08:00"), deliveryDetails.deliveryDetails);
+        assertEquals(Recurrence.WEEKLY, deliveryDetails.recurrence);
+        assertEquals("6 December 2021, 8:00 AM, weekly", deliveryDetails.toString());
+        assertEquals("2021-12-06 0800 weekly", deliveryDetails.getUnformattedDeliveryDetailsString());
+        assertEquals(Recurrence.ONCE, new DeliveryDetails("2021-12-06 0800").recurrence);
+    }
+
+    @Test
+    public void getUnformattedDeliveryDetailsString_differentFormats_keepsOwnFormat() {
+        DeliveryDetails dateFirst = new DeliveryDetails("2021-12-06 0800");
+        DeliveryDetails timeFirst = new DeliveryDetails("08:00 06-12-2021");
+
+        // the format of one delivery detail does not leak into another parsed after it
+        assertEquals("2021-12-06 0800", dateFirst.getUnformattedDeliveryDetailsString());
+        assertEquals("08:00 06-12-2021", timeFirst.getUnformattedDeliveryDetailsString());
+        assertEquals(dateFirst, timeFirst);
+    }
+
+    @Test
+    public void getDeliveriesBetween() {
+        LocalDateTime from = LocalDateTime.parse("2021-12-13T08:00");
+        LocalDateTime until = LocalDateTime.parse("2021-12-27T08:00");
+
+        // a delivery that does not repeat is only found in a period it falls in
+        DeliveryDetails once = new DeliveryDetails("2021-12-06 0800");
+        assertEquals(List.of(), once.getDeliveriesBetween(from, until).collect(Collectors.toList()));
+        assertEquals(List.of(once.deliveryDetails),
+                once.getDeliveriesBetween(once.deliveryDetails, until).collect(Collectors.toList()));
+
+        // the deliveries before the period are skipped, and the end of the period is left out
+        DeliveryDetails weekly = new DeliveryDetails("2021-12-06 0800 weekly");
+        assertEquals(List.of(from, from.plusWeeks(1)),
+                weekly.getDeliveriesBetween(from, until).collect(Collectors.toList()));
+        assertEquals(List.of(from.plusWeeks(1), from.plusWeeks(2)),
+                weekly.getDeliveriesBetween(from.plusSeconds(1), until.plusSeconds(1)).collect(Collectors.toList()));
+
+        // no deliveries before the first one
+        DeliveryDetails daily = new DeliveryDetails("2021-12-26 0800 daily");
+        assertEquals(List.of(LocalDateTime.parse("2021-12-26T08:00")),
+                daily.getDeliveriesBetween(from, until).collect(Collectors.toList()));
+
+        // deliveries that repeat for ever are only worked out as they are read
+        DeliveryDetails fortnightly = new DeliveryDetails("2021-12-06 0800 fortnightly");
+        assertEquals(LocalDateTime.parse("2021-12-20T08:00"),
+                fortnightly.getDeliveriesBetween(from, LocalDateTime.MAX).findFirst().get());
     }
 
     @Test
@@ -95,5 +161,8 @@ public class DeliveryDetailsTest {
         DeliveryDetails different = new DeliveryDetails(VALID_DELIVERY_DETAIL_BOB);
         assertFalse(deliveryDetails.equals(different));
 
+        // same date time that repeats -> returns false
+        assertFalse(deliveryDetails.equals(new DeliveryDetails(VALID_DELIVERY_DETAIL_AMY + " weekly")));
+
     }
 }
@@ -9,9 +9,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSuppliers.AMY;
 import static seedu.address.testutil.TypicalSuppliers.BOB;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -163,6 +166,55 @@ public class UniqueSupplierListTest {
                 uniqueSupplierList.setSuppliers(listWithDuplicateSuppliers));
     }
 
+    @Test
+    public void getDeliveriesBetween_suppliersChanged_returnsDeliveriesInRange() {
+        LocalDateTime morning = LocalDateTime.parse("2021-12-13T08:00");
+        LocalDateTime evening = LocalDateTime.parse("2021-12-13T18:00");
+        LocalDateTime nextDay = LocalDateTime.parse("2021-12-14T00:00");
+        Supplier weeklyChicken = new SupplierBuilder().withName("Alan").withSupplyType("Chicken")
+                .withDeliveryDetails("2021-12-06 0800 weekly").build();
+        Supplier oneOffFish = new SupplierBuilder().withName("Bea").withSupplyType("Fish")
+                .withDeliveryDetails("2021-12-13 0800").build();
+        Supplier dailyBread = new SupplierBuilder().withName("Cal").withSupplyType("Bread")
+                .withDeliveryDetails("2021-12-01 1800 daily").build();
+        uniqueSupplierList.setSuppliers(List.of(dailyBread, oneOffFish, weeklyChicken));
+
+        assertEquals(Map.of(morning, List.of(weeklyChicken, oneOffFish), evening, List.of(dailyBread)),
+                uniqueSupplierList.getDeliveriesBetween(morning.minusHours(8), nextDay, Optional.empty()));
+        assertEquals(Map.of(morning, List.of(weeklyChicken)),
+                uniqueSupplierList.getDeliveriesBetween(morning.minusHours(8), nextDay,
+                        Optional.of(new SupplyType("Chicken"))));
+        // a period longer than a week finds every delivery in it
+        assertEquals(8, uniqueSupplierList.getDeliveriesBetween(morning.minusWeeks(1), morning, Optional.empty())
+                .values().stream().mapToInt(List::size).sum());
+
+        Supplier fortnightlyChicken = new SupplierBuilder(weeklyChicken)
+                .withDeliveryDetails("2021-12-06 0800 fortnightly").build();
+        uniqueSupplierList.setSupplier(weeklyChicken, fortnightlyChicken);
+        uniqueSupplierList.remove(dailyBread);
+
+        assertEquals(Map.of(morning, List.of(oneOffFish)),
+                uniqueSupplierList.getDeliveriesBetween(morning.minusHours(8), nextDay, Optional.empty()));
+        assertTrue(uniqueSupplierList.getDeliveriesBetween(morning.minusHours(8), nextDay,
+                Optional.of(new SupplyType("Bread"))).isEmpty());
+        assertTrue(uniqueSupplierList.getDeliveriesBetween(nextDay, morning, Optional.empty()).isEmpty());
+    }
+
+    @Test
+    public void getDeliveriesBetween_periodRunsIntoNextCycle_returnsDeliveriesInRange() {
+        // the weekly cycles are counted from a Thursday, so this period runs from one cycle into the next
+        LocalDateTime wednesdayNight = LocalDateTime.parse("2021-12-15T20:00");
+        Supplier earlyThursday = new SupplierBuilder().withDeliveryDetails("2021-12-09 0100 weekly").build();
+        Supplier lateWednesday = new SupplierBuilder().withName("Zed")
+                .withDeliveryDetails("2021-12-08 2200 weekly").build();
+        uniqueSupplierList.setSuppliers(List.of(earlyThursday, lateWednesday));
+
+        assertEquals(Map.of(wednesdayNight.plusHours(2), List.of(lateWednesday),
+                wednesdayNight.plusHours(5), List.of(earlyThursday)),
+                uniqueSupplierList.getDeliveriesBetween(wednesdayNight, wednesdayNight.plusHours(6),
+                        Optional.empty()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -0,0 +1,91 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.testutil.CustomerBuilder;
+
+public class QueryIndexTest {
+    static final Customer ALICE_TAN = new CustomerBuilder().withName("Alice Tan").withPhone("91111111")
+            .withLoyaltyPoints("500").withAllergies("Peanut butter").withTags("vip").build();
+    static final Customer BOB_TAN = new CustomerBuilder().withName("Bob Tan").withPhone("92222222")
+            .withLoyaltyPoints("1500").withAllergies("Shellfish").withTags("vip").build();
+    static final Customer CARL_LIM = new CustomerBuilder().withName("Carl Lim").withPhone("93333333")
+            .withLoyaltyPoints("2000").withAllergies("walnuts").withTags("friends").build();
+    static final Customer DANA_TANAKA = new CustomerBuilder().withName("Dana Tanaka").withPhone("94444444")
+            .withLoyaltyPoints("100").withAllergies("Shellfish").withTags().build();
+
+    private final QueryIndex<Customer> index = new QueryIndex<>(CustomerQueryFields.FIELDS);
+
+    @BeforeEach
+    public void setUp() {
+        index.setAll(Arrays.asList(ALICE_TAN, BOB_TAN, CARL_LIM, DANA_TANAKA));
+    }
+
+    @Test
+    public void lookUpText_indexedField_returnsItemsContainingText() {
+        assertEquals(Optional.of(setOf(ALICE_TAN, BOB_TAN, DANA_TANAKA)),
+                index.lookUpText(CustomerQueryFields.NAME, "TAN"));
+        assertEquals(Optional.of(setOf(DANA_TANAKA)), index.lookUpText(CustomerQueryFields.NAME, "tanaka"));
+
+        // every n-gram of the text is in the name, but not the text itself
+        assertEquals(Optional.of(setOf()), index.lookUpText(CustomerQueryFields.NAME, "tanatan"));
+    }
+
+    @Test
+    public void lookUpText_shortTextOrUnindexedField_returnsEmpty() {
+        assertFalse(index.lookUpText(CustomerQueryFields.NAME, "ta").isPresent());
+        assertFalse(index.lookUpText(CustomerQueryFields.PHONE, "9111").isPresent());
+    }
+
+    @Test
+    public void lookUpWord_keywordField_returnsItemsWithWord() {
+        assertEquals(Optional.of(setOf(ALICE_TAN)), index.lookUpWord(CustomerQueryFields.ALLERGIES, "PEANUT"));
+        assertEquals(Optional.of(setOf(BOB_TAN, DANA_TANAKA)),
+                index.lookUpWord(CustomerQueryFields.ALLERGIES, "shellfish"));
+        assertEquals(Optional.of(setOf()), index.lookUpWord(CustomerQueryFields.ALLERGIES, "pea"));
+        assertEquals(Optional.of(setOf(ALICE_TAN, BOB_TAN)), index.lookUpWord(CustomerQueryFields.TAGS, "vip"));
+    }
+
+    @Test
+    public void lookUpRange_numberField_returnsItemsInRange() {
+        assertEquals(Optional.of(setOf(BOB_TAN, CARL_LIM)),
+                index.lookUpRange(CustomerQueryFields.LOYALTY_POINTS, 1000, 2000));
+        assertEquals(Optional.of(setOf(DANA_TANAKA)),
+                index.lookUpRange(CustomerQueryFields.LOYALTY_POINTS, Long.MIN_VALUE, 100));
+        assertEquals(Optional.of(setOf()), index.lookUpRange(CustomerQueryFields.LOYALTY_POINTS, 2000, 1000));
+    }
+
+    @Test
+    public void remove_item_notFoundAnymore() {
+        index.remove(BOB_TAN);
+        assertEquals(3, index.size());
+        assertEquals(Optional.of(setOf(ALICE_TAN, DANA_TANAKA)), index.lookUpText(CustomerQueryFields.NAME, "tan"));
+        assertEquals(Optional.of(setOf(ALICE_TAN)), index.lookUpWord(CustomerQueryFields.TAGS, "vip"));
+        assertEquals(Optional.of(setOf(CARL_LIM)),
+                index.lookUpRange(CustomerQueryFields.LOYALTY_POINTS, 1000, 2000));
+    }
+
+    @Test
+    public void setAll_replacesItems() {
+        index.setAll(Collections.singletonList(CARL_LIM));
+        assertEquals(setOf(CARL_LIM), index.getAll());
+        assertEquals(Optional.of(setOf()), index.lookUpText(CustomerQueryFields.NAME, "tan"));
+    }
+
+    @SafeVarargs
+    static <T> Set<T> setOf(T... items) {
+        return new HashSet<>(Arrays.asList(items));
+    }
+}
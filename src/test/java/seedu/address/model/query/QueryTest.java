@@ -0,0 +1,145 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.query.QueryIndexTest.ALICE_TAN;
+import static seedu.address.model.query.QueryIndexTest.BOB_TAN;
+import static seedu.address.model.query.QueryIndexTest.CARL_LIM;
+import static seedu.address.model.query.QueryIndexTest.DANA_TANAKA;
+import static seedu.address.model.query.QueryIndexTest.setOf;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.customer.CustomerQueryFields;
+import seedu.address.model.query.QueryPlan.Step;
+
+public class QueryTest {
+    private static final List<Customer> CUSTOMERS = Arrays.asList(ALICE_TAN, BOB_TAN, CARL_LIM, DANA_TANAKA);
+
+    private static final QueryNode<Customer> NAME_TAN = QueryNode.match(CustomerQueryFields.NAME, "tan");
+    private static final QueryNode<Customer> VIP = QueryNode.match(CustomerQueryFields.TAGS, "vip");
+    private static final QueryNode<Customer> PEANUT = QueryNode.match(CustomerQueryFields.ALLERGIES, "peanut");
+    private static final QueryNode<Customer> AT_LEAST_1000_POINTS =
+            QueryNode.between(CustomerQueryFields.LOYALTY_POINTS, 1000, Long.MAX_VALUE);
+    private static final QueryNode<Customer> KEYWORD_LIM = CustomerQueryFields.keyword("lim");
+
+    private final QueryIndex<Customer> index = new QueryIndex<>(CustomerQueryFields.FIELDS);
+
+    QueryTest() {
+        index.setAll(CUSTOMERS);
+    }
+
+    @Test
+    public void plan_andOfIndexedTerms_intersectsFromMostSelective() {
+        QueryPlan<Customer> plan = planOf(QueryNode.and(Arrays.asList(NAME_TAN, VIP, PEANUT)));
+
+        Step<Customer> root = plan.getRoot();
+        assertTrue(root.isIndexed());
+        assertEquals("index intersection", root.getAccess());
+        assertEquals(Arrays.asList("alg/peanut", "t/vip", "n/tan"), descriptionsOf(root.getChildren()));
+        assertEquals(setOf(ALICE_TAN), root.getRows());
+        assertEquals(setOf(ALICE_TAN), filter(plan));
+    }
+
+    @Test
+    public void plan_andWithScan_filtersRowsOfIndexedTerm() {
+        QueryPlan<Customer> plan = planOf(QueryNode.and(Arrays.asList(KEYWORD_LIM, AT_LEAST_1000_POINTS)));
+
+        Step<Customer> root = plan.getRoot();
+        assertTrue(root.isIndexed());
+        assertEquals("filter the rows of lp>=1000", root.getAccess());
+        assertEquals(setOf(CARL_LIM), filter(plan));
+    }
+
+    @Test
+    public void plan_orWithScan_scans() {
+        QueryPlan<Customer> plan = planOf(QueryNode.or(Arrays.asList(KEYWORD_LIM, PEANUT)));
+
+        assertFalse(plan.getRoot().isIndexed());
+        assertEquals(setOf(ALICE_TAN, CARL_LIM), filter(plan));
+    }
+
+    @Test
+    public void plan_orOfIndexedTerms_joinsRows() {
+        QueryPlan<Customer> plan = planOf(QueryNode.or(Arrays.asList(PEANUT, AT_LEAST_1000_POINTS)));
+
+        assertEquals("index union", plan.getRoot().getAccess());
+        assertEquals(setOf(ALICE_TAN, BOB_TAN, CARL_LIM), filter(plan));
+    }
+
+    @Test
+    public void plan_notOfIndexedTerm_takesComplement() {
+        QueryPlan<Customer> plan = planOf(QueryNode.not(VIP));
+
+        assertEquals("index complement", plan.getRoot().getAccess());
+        assertEquals(setOf(CARL_LIM, DANA_TANAKA), filter(plan));
+    }
+
+    @Test
+    public void plan_shortText_scans() {
+        QueryPlan<Customer> plan = planOf(QueryNode.match(CustomerQueryFields.NAME, "ta"));
+
+        assertEquals("scan", plan.getRoot().getAccess());
+        assertEquals(setOf(ALICE_TAN, BOB_TAN, DANA_TANAKA), filter(plan));
+    }
+
+    @Test
+    public void plan_anyQuery_matchesSameItemsAsTree() {
+        List<QueryNode<Customer>> roots = Arrays.asList(
+                QueryNode.and(Arrays.asList(NAME_TAN, QueryNode.not(KEYWORD_LIM))),
+                QueryNode.or(Arrays.asList(QueryNode.and(Arrays.asList(VIP, AT_LEAST_1000_POINTS)), PEANUT)),
+                QueryNode.not(QueryNode.or(Arrays.asList(NAME_TAN, KEYWORD_LIM))),
+                QueryNode.and(Arrays.asList(QueryNode.not(VIP), QueryNode.match(CustomerQueryFields.PHONE, "944"))));
+        for (QueryNode<Customer> root : roots) {
+            Set<Customer> expected = CUSTOMERS.stream().filter(root).collect(Collectors.toSet());
+            assertEquals(expected, filter(planOf(root)), root.toString());
+        }
+    }
+
+    @Test
+    public void describe_showsStepsIndented() {
+        QueryPlan<Customer> plan = planOf(QueryNode.and(Arrays.asList(VIP, QueryNode.not(KEYWORD_LIM))));
+
+        assertEquals("AND: filter the rows of t/vip, 2 row(s)\n"
+                + "  t/vip: hash index, 2 row(s)\n"
+                + "  NOT: scan, about 4 row(s)\n"
+                + "    lim: scan, about 0 row(s)", plan.describe());
+    }
+
+    @Test
+    public void equals() {
+        Query<Customer> query = new Query<>(QueryNode.and(Arrays.asList(NAME_TAN, VIP)), false);
+
+        // same values -> returns true
+        assertTrue(query.equals(new Query<>(QueryNode.and(Arrays.asList(
+                QueryNode.match(CustomerQueryFields.NAME, "TAN"), VIP)), false)));
+
+        // different explain flag -> returns false
+        assertFalse(query.equals(new Query<>(QueryNode.and(Arrays.asList(NAME_TAN, VIP)), true)));
+
+        // different node -> returns false
+        assertFalse(query.equals(new Query<>(QueryNode.or(Arrays.asList(NAME_TAN, VIP)), false)));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+    }
+
+    private QueryPlan<Customer> planOf(QueryNode<Customer> root) {
+        return new Query<>(root, false).plan(index);
+    }
+
+    private Set<Customer> filter(QueryPlan<Customer> plan) {
+        return CUSTOMERS.stream().filter(plan.getFilter()).collect(Collectors.toSet());
+    }
+
+    private static List<String> descriptionsOf(List<Step<Customer>> steps) {
+        return steps.stream().map(Step::getDescription).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class CapacityHeatmapTest {
+    private static final LocalDate CHRISTMAS_EVE = LocalDate.parse("2021-12-24");
+    private static final LocalDate CHRISTMAS = CHRISTMAS_EVE.plusDays(1);
+
+    private final CapacityHeatmap heatmap = new CapacityHeatmap();
+
+    @Test
+    public void add_reservations_countedInEveryHourOccupied() {
+        heatmap.add(new ReservationBuilder().withNumberOfPeople(4).withDateTime(CHRISTMAS_EVE.atTime(19, 0))
+                .withDuration(Duration.ofMinutes(90)).withTable(new Table(4, 1)).build());
+        heatmap.add(new ReservationBuilder().withNumberOfPeople(2).withDateTime(CHRISTMAS_EVE.atTime(20, 0))
+                .withTable(new Table(2, 2)).build());
+
+        assertEquals(2, heatmap.getReservationCount(CHRISTMAS_EVE));
+        assertEquals(6, heatmap.getGuestCount(CHRISTMAS_EVE));
+        assertEquals(0, heatmap.getTablesUsed(CHRISTMAS_EVE, 18));
+        assertEquals(1, heatmap.getTablesUsed(CHRISTMAS_EVE, 19));
+        assertEquals(4, heatmap.getCovers(CHRISTMAS_EVE, 19));
+        assertEquals(2, heatmap.getTablesUsed(CHRISTMAS_EVE, 20));
+        assertEquals(6, heatmap.getCovers(CHRISTMAS_EVE, 20));
+        assertEquals(0, heatmap.getTablesUsed(CHRISTMAS_EVE, 21));
+    }
+
+    @Test
+    public void add_reservationPastMidnight_countedOnBothDates() {
+        heatmap.add(new ReservationBuilder().withNumberOfPeople(3).withDateTime(CHRISTMAS_EVE.atTime(23, 0))
+                .withDuration(Duration.ofHours(2)).withTable(new Table(3, 1)).build());
+
+        assertEquals(1, heatmap.getReservationCount(CHRISTMAS_EVE));
+        assertEquals(0, heatmap.getReservationCount(CHRISTMAS));
+        assertEquals(0, heatmap.getGuestCount(CHRISTMAS));
+        assertEquals(3, heatmap.getCovers(CHRISTMAS_EVE, 23));
+        assertEquals(3, heatmap.getCovers(CHRISTMAS, 0));
+        assertEquals(0, heatmap.getCovers(CHRISTMAS, 1));
+    }
+
+    @Test
+    public void remove_reservation_countersRestored() {
+        Reservation dinner = new ReservationBuilder().withNumberOfPeople(4).withDateTime(CHRISTMAS_EVE.atTime(23, 0))
+                .withDuration(Duration.ofHours(2)).withTable(new Table(4, 1)).build();
+        heatmap.add(new ReservationBuilder().withNumberOfPeople(2).withDateTime(CHRISTMAS_EVE.atTime(23, 0))
+                .withTable(new Table(2, 2)).build());
+        heatmap.add(dinner);
+
+        heatmap.remove(dinner);
+
+        assertEquals(1, heatmap.getReservationCount(CHRISTMAS_EVE));
+        assertEquals(2, heatmap.getGuestCount(CHRISTMAS_EVE));
+        assertEquals(1, heatmap.getTablesUsed(CHRISTMAS_EVE, 23));
+        assertEquals(2, heatmap.getCovers(CHRISTMAS_EVE, 23));
+        assertEquals(0, heatmap.getTablesUsed(CHRISTMAS, 0));
+    }
+
+    @Test
+    public void setAll_reservations_replacesCounters() {
+        heatmap.add(new ReservationBuilder().withNumberOfPeople(4).withDateTime(CHRISTMAS_EVE.atTime(19, 0))
+                .withTable(new Table(4, 1)).build());
+
+        heatmap.setAll(List.of(new ReservationBuilder().withNumberOfPeople(2).withDateTime(CHRISTMAS.atTime(12, 0))
+                .withTable(new Table(2, 1)).build()));
+
+        assertEquals(0, heatmap.getReservationCount(CHRISTMAS_EVE));
+        assertEquals(0, heatmap.getTablesUsed(CHRISTMAS_EVE, 19));
+        assertEquals(1, heatmap.getTablesUsed(CHRISTMAS, 12));
+    }
+}
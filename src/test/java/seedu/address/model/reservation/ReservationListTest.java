@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalReservation.ALICE_RESERVATION;
 import static seedu.address.testutil.TypicalReservation.BENSON_RESERVATION;
+import static seedu.address.testutil.TypicalReservation.CARL_RESERVATION;
 
 import java.util.Collections;
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.reservation.exception.ReservationNotFoundException;
+import seedu.address.testutil.ReservationBuilder;
 
 class ReservationListTest {
     private ReservationList reservationList = new ReservationList();
@@ -74,6 +76,41 @@ class ReservationListTest {
         assertEquals(expected, reservationList);
     }
 
+    @Test
+    public void add_reservationsOutOfOrder_latestFirst() {
+        reservationList.add(BENSON_RESERVATION);
+        reservationList.add(CARL_RESERVATION);
+        reservationList.add(ALICE_RESERVATION);
+        assertEquals(List.of(ALICE_RESERVATION, BENSON_RESERVATION, CARL_RESERVATION),
+                reservationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_reservationsAtSameDateTime_keptInOrderAdded() {
+        Reservation sameTimeAsBenson = new ReservationBuilder(BENSON_RESERVATION).withPhone("98765432").build();
+        reservationList.add(BENSON_RESERVATION);
+        reservationList.add(sameTimeAsBenson);
+        assertEquals(List.of(BENSON_RESERVATION, sameTimeAsBenson), reservationList.asUnmodifiableObservableList());
+        assertTrue(reservationList.contains(sameTimeAsBenson));
+
+        reservationList.remove(BENSON_RESERVATION);
+        assertEquals(List.of(sameTimeAsBenson), reservationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setReservation_dateTimeChanged_movedToItsPlace() {
+        reservationList.add(ALICE_RESERVATION);
+        reservationList.add(BENSON_RESERVATION);
+        reservationList.add(CARL_RESERVATION);
+        Reservation movedEarlier = new ReservationBuilder(ALICE_RESERVATION)
+                .withDateTime(CARL_RESERVATION.getDateTime().minusHours(1)).build();
+
+        reservationList.setReservation(ALICE_RESERVATION, movedEarlier);
+
+        assertEquals(List.of(BENSON_RESERVATION, CARL_RESERVATION, movedEarlier),
+                reservationList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullReservation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -0,0 +1,96 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class ReservationScheduleTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final Table TABLE_1 = new Table(4, 1);
+    private static final Table TABLE_2 = new Table(4, 2);
+
+    private static final Reservation DINNER_AT_TABLE_1 = new ReservationBuilder().withDateTime(SEVEN_PM)
+            .withDuration(Duration.ofHours(2)).withTable(TABLE_1).build();
+    private static final Reservation SHORT_DINNER_AT_TABLE_2 = new ReservationBuilder().withDateTime(SEVEN_PM)
+            .withDuration(Duration.ofMinutes(45)).withTable(TABLE_2).build();
+
+    private final ReservationSchedule schedule = new ReservationSchedule();
+
+    @Test
+    public void findOverlapping_periodWithinLongReservation_returnsReservation() {
+        schedule.add(DINNER_AT_TABLE_1);
+
+        assertEquals(Optional.of(DINNER_AT_TABLE_1),
+                schedule.findOverlapping(1, SEVEN_PM.plusHours(1), SEVEN_PM.plusHours(2)));
+        assertEquals(Optional.of(DINNER_AT_TABLE_1),
+                schedule.findOverlapping(1, SEVEN_PM.minusMinutes(15), SEVEN_PM.plusMinutes(15)));
+    }
+
+    @Test
+    public void findOverlapping_adjacentPeriods_returnsEmpty() {
+        schedule.add(DINNER_AT_TABLE_1);
+
+        assertEquals(Optional.empty(), schedule.findOverlapping(1, SEVEN_PM.plusHours(2), SEVEN_PM.plusHours(3)));
+        assertEquals(Optional.empty(), schedule.findOverlapping(1, SEVEN_PM.minusHours(1), SEVEN_PM));
+        assertEquals(Optional.empty(), schedule.findOverlapping(2, SEVEN_PM, SEVEN_PM.plusHours(1)));
+    }
+
+    @Test
+    public void findOverlapping_laterShortReservationEndsFirst_findsEarlierLongReservation() {
+        Reservation shortReservation = new ReservationBuilder().withDateTime(SEVEN_PM.plusMinutes(15))
+                .withDuration(Duration.ofMinutes(15)).withTable(TABLE_1).build();
+        schedule.add(DINNER_AT_TABLE_1);
+        schedule.add(shortReservation);
+
+        assertEquals(Optional.of(DINNER_AT_TABLE_1),
+                schedule.findOverlapping(1, SEVEN_PM.plusMinutes(90), SEVEN_PM.plusHours(3)));
+    }
+
+    @Test
+    public void findOverlapping_allTables_returnsOneReservationPerOccupiedTable() {
+        schedule.add(DINNER_AT_TABLE_1);
+        schedule.add(SHORT_DINNER_AT_TABLE_2);
+
+        assertEquals(List.of(DINNER_AT_TABLE_1),
+                schedule.findOverlapping(SEVEN_PM.plusHours(1), SEVEN_PM.plusHours(2)));
+        assertEquals(2, schedule.findOverlapping(SEVEN_PM, SEVEN_PM.plusHours(1)).size());
+    }
+
+    @Test
+    public void remove_reservation_tableFreeAgain() {
+        schedule.add(DINNER_AT_TABLE_1);
+        schedule.remove(DINNER_AT_TABLE_1);
+
+        assertTrue(schedule.findOverlapping(SEVEN_PM, SEVEN_PM.plusHours(1)).isEmpty());
+    }
+
+    @Test
+    public void remove_oneOfTwoLongReservations_otherStillFound() {
+        Reservation laterDinner = new ReservationBuilder(DINNER_AT_TABLE_1).withDateTime(SEVEN_PM.plusHours(3))
+                .build();
+        schedule.add(DINNER_AT_TABLE_1);
+        schedule.add(laterDinner);
+        schedule.remove(DINNER_AT_TABLE_1);
+
+        // the later dinner started before the period, so it is only found if its duration is still known
+        assertEquals(Optional.of(laterDinner),
+                schedule.findOverlapping(1, SEVEN_PM.plusHours(4), SEVEN_PM.plusHours(5)));
+    }
+
+    @Test
+    public void setAll_replacesReservations() {
+        schedule.add(DINNER_AT_TABLE_1);
+        schedule.setAll(List.of(SHORT_DINNER_AT_TABLE_2));
+
+        assertEquals(List.of(SHORT_DINNER_AT_TABLE_2), schedule.findOverlapping(SEVEN_PM, SEVEN_PM.plusHours(1)));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.reservation;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -85,6 +86,17 @@ class ReservationTest {
                 DUMMY_TAGS
         )));
 
+        // different duration -> returns false
+        assertFalse(reservation.equals(new Reservation(
+                new Phone(DUMMY_PHONE_NUMBER),
+                DUMMY_NUMBER_OF_PEOPLE,
+                DUMMY_DATE_TIME,
+                Duration.ofMinutes(90),
+                DUMMY_TABLE,
+                DUMMY_REMARK,
+                DUMMY_TAGS
+        )));
+
         // different table -> returns false
         assertFalse(reservation.equals(new Reservation(
                 new Phone(DUMMY_PHONE_NUMBER),
@@ -0,0 +1,106 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.table.Table;
+import seedu.address.testutil.ReservationBuilder;
+
+class TableOccupancyTest {
+    private static final LocalDateTime CHRISTMAS_EVE_DINNER = LocalDateTime.parse("2021-12-24T19:00");
+    private static final LocalDateTime FAR_AHEAD = CHRISTMAS_EVE_DINNER.plusDays(31);
+
+    private final ReservationSchedule schedule = new ReservationSchedule();
+    private final TableOccupancy occupancy = new TableOccupancy(schedule);
+
+    private static BitSet tables(int... tableIds) {
+        BitSet bitSet = new BitSet();
+        for (int tableId : tableIds) {
+            bitSet.set(tableId);
+        }
+        return bitSet;
+    }
+
+    private void add(Reservation reservation) {
+        schedule.add(reservation);
+        occupancy.add(reservation);
+    }
+
+    private void remove(Reservation reservation) {
+        schedule.remove(reservation);
+        occupancy.remove(reservation);
+    }
+
+    @Test
+    public void findFreeSlots_noReservations_returnsEveryHour() {
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER, CHRISTMAS_EVE_DINNER.plusHours(1)), occupancy.findFreeSlots(
+                tables(1), CHRISTMAS_EVE_DINNER, Duration.ofHours(1), FAR_AHEAD, 2));
+    }
+
+    @Test
+    public void findFreeSlots_tablesInUse_skipsHoursWithNoFreeTable() {
+        add(new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER).withDuration(Duration.ofMinutes(90)).build());
+        add(new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER).withDuration(Duration.ofHours(3))
+                .withTable(new Table(4, 2)).build());
+
+        // table 1 is still in use at 20:00, so it is only free from 21:00
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER.plusHours(2)), occupancy.findFreeSlots(
+                tables(1, 2), CHRISTMAS_EVE_DINNER, Duration.ofHours(1), FAR_AHEAD, 1));
+        // table 3 is not in use at all
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER), occupancy.findFreeSlots(
+                tables(1, 3), CHRISTMAS_EVE_DINNER, Duration.ofHours(1), FAR_AHEAD, 1));
+    }
+
+    @Test
+    public void findFreeSlots_longDuration_needsTableFreeForWholeDuration() {
+        add(new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER.plusHours(2)).build());
+
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER.minusHours(1), CHRISTMAS_EVE_DINNER.plusHours(3)),
+                occupancy.findFreeSlots(tables(1), CHRISTMAS_EVE_DINNER.minusHours(1), Duration.ofMinutes(150),
+                        FAR_AHEAD, 2));
+    }
+
+    @Test
+    public void findFreeSlots_untilReached_returnsSlotsFoundBefore() {
+        add(new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER).build());
+
+        assertEquals(List.of(), occupancy.findFreeSlots(tables(1), CHRISTMAS_EVE_DINNER, Duration.ofHours(1),
+                CHRISTMAS_EVE_DINNER.plusHours(1), 3));
+        assertEquals(List.of(), occupancy.findFreeSlots(new BitSet(), CHRISTMAS_EVE_DINNER, Duration.ofHours(1),
+                FAR_AHEAD, 3));
+    }
+
+    @Test
+    public void remove_overlappingReservationOfSameTable_tableStaysInUse() {
+        Reservation early = new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER)
+                .withDuration(Duration.ofHours(2)).build();
+        Reservation late = new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER.plusHours(1)).build();
+        add(early);
+        add(late);
+
+        remove(early);
+
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER, CHRISTMAS_EVE_DINNER.plusHours(2)), occupancy.findFreeSlots(
+                tables(1), CHRISTMAS_EVE_DINNER, Duration.ofHours(1), FAR_AHEAD, 2));
+    }
+
+    @Test
+    public void setAll_reservations_replacesOccupancy() {
+        add(new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER).build());
+        Reservation lunch = new ReservationBuilder().withDateTime(CHRISTMAS_EVE_DINNER.minusHours(7)).build();
+        schedule.setAll(List.of(lunch));
+
+        occupancy.setAll(List.of(lunch));
+
+        assertEquals(List.of(CHRISTMAS_EVE_DINNER), occupancy.findFreeSlots(
+                tables(1), CHRISTMAS_EVE_DINNER, Duration.ofHours(1), FAR_AHEAD, 1));
+        assertEquals(List.of(lunch.getEndDateTime()), occupancy.findFreeSlots(
+                tables(1), lunch.getDateTime(), Duration.ofHours(1), FAR_AHEAD, 1));
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Phone;
+
+class WaitlistTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final LocalDateTime MORNING = LocalDateTime.parse("2021-12-20T09:00");
+
+    private final Waitlist waitlist = new Waitlist();
+
+    private static WaitlistEntry entry(String phone, int numberOfPeople, LocalDateTime dateTime,
+            LocalDateTime requestTime, int loyaltyPoints) {
+        return new WaitlistEntry(new Phone(phone), numberOfPeople, dateTime, Duration.ofHours(1), new Remark(""),
+                Set.of(), requestTime, loyaltyPoints);
+    }
+
+    @Test
+    public void add_entriesForSameDateTime_orderedByRequestWindowThenLoyaltyPointsThenPartySize() {
+        WaitlistEntry late = entry("91111111", 8, SEVEN_PM, MORNING.plusHours(1), 500);
+        WaitlistEntry smallParty = entry("92222222", 2, SEVEN_PM, MORNING, 100);
+        WaitlistEntry largeParty = entry("93333333", 4, SEVEN_PM, MORNING, 100);
+        WaitlistEntry loyal = entry("94444444", 2, SEVEN_PM, MORNING, 300);
+        waitlist.add(late);
+        waitlist.add(smallParty);
+        waitlist.add(largeParty);
+        waitlist.add(loyal);
+
+        assertEquals(List.of(loyal, largeParty, smallParty, late), waitlist.asUnmodifiableObservableList());
+        assertEquals(1, waitlist.getPosition(loyal));
+        assertEquals(4, waitlist.getPosition(late));
+    }
+
+    @Test
+    public void add_entriesAskedInSameWindow_orderedByLoyaltyPointsBeforeRequestTime() {
+        WaitlistEntry first = entry("91111111", 2, SEVEN_PM, MORNING, 0);
+        WaitlistEntry loyal = entry("92222222", 2, SEVEN_PM, MORNING.plusMinutes(10), 300);
+        WaitlistEntry nextWindow = entry("93333333", 2, SEVEN_PM, MORNING.plus(WaitlistEntry.REQUEST_WINDOW), 900);
+        waitlist.add(nextWindow);
+        waitlist.add(first);
+        waitlist.add(loyal);
+
+        assertEquals(List.of(loyal, first, nextWindow), waitlist.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPosition_entriesForDifferentDateTimes_countedWithinDateTime() {
+        WaitlistEntry earlierSlot = entry("91111111", 2, SEVEN_PM.minusHours(1), MORNING.plusHours(1), 0);
+        WaitlistEntry laterSlot = entry("92222222", 2, SEVEN_PM, MORNING, 0);
+        waitlist.add(laterSlot);
+        waitlist.add(earlierSlot);
+
+        assertEquals(List.of(earlierSlot, laterSlot), waitlist.asUnmodifiableObservableList());
+        assertEquals(1, waitlist.getPosition(laterSlot));
+    }
+
+    @Test
+    public void pollFirstSeatable_headCannotBeSeated_returnsNextFittingEntry() {
+        WaitlistEntry largeParty = entry("91111111", 8, SEVEN_PM, MORNING, 0);
+        WaitlistEntry smallParty = entry("92222222", 2, SEVEN_PM, MORNING.plusHours(1), 0);
+        waitlist.add(largeParty);
+        waitlist.add(smallParty);
+
+        Optional<WaitlistEntry> seated = waitlist.pollFirstSeatable(SEVEN_PM, SEVEN_PM.plusHours(1),
+                entry -> entry.getNumberOfPeople() <= 4);
+
+        assertEquals(Optional.of(smallParty), seated);
+        assertEquals(List.of(largeParty), waitlist.asUnmodifiableObservableList());
+        assertEquals(Optional.of(largeParty),
+                waitlist.pollFirstSeatable(SEVEN_PM, SEVEN_PM.plusHours(1), entry -> true));
+        assertTrue(waitlist.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void pollFirstSeatable_entriesOutsidePeriod_returnsEmpty() {
+        waitlist.add(entry("91111111", 2, SEVEN_PM, MORNING, 0));
+
+        assertEquals(Optional.empty(), waitlist.pollFirstSeatable(SEVEN_PM.plusHours(1), SEVEN_PM.plusHours(2),
+                entry -> true));
+        assertEquals(Optional.empty(), waitlist.pollFirstSeatable(SEVEN_PM.minusHours(1), SEVEN_PM,
+                entry -> true));
+        assertEquals(1, waitlist.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void add_entriesOfSamePriority_bothKept() {
+        WaitlistEntry first = entry("91111111", 2, SEVEN_PM, MORNING, 0);
+        WaitlistEntry second = entry("92222222", 2, SEVEN_PM, MORNING, 0);
+        waitlist.add(second);
+        waitlist.add(first);
+
+        assertEquals(List.of(first, second), waitlist.asUnmodifiableObservableList());
+        assertEquals(2, waitlist.getPosition(second));
+
+        waitlist.remove(first);
+        assertEquals(1, waitlist.getPosition(second));
+        assertFalse(waitlist.isWaiting(new Phone("91111111"), SEVEN_PM));
+        assertTrue(waitlist.isWaiting(new Phone("92222222"), SEVEN_PM));
+    }
+
+    @Test
+    public void pollFirstSeatable_entrySeated_noLongerWaiting() {
+        waitlist.add(entry("91111111", 2, SEVEN_PM, MORNING, 0));
+
+        waitlist.pollFirstSeatable(SEVEN_PM, SEVEN_PM.plusHours(1), entry -> true);
+
+        assertFalse(waitlist.isWaiting(new Phone("91111111"), SEVEN_PM));
+    }
+
+    @Test
+    public void getEntriesOf_entriesOfSeveralCustomers_onlyThatCustomersInListOrder() {
+        WaitlistEntry later = entry("91111111", 2, SEVEN_PM, MORNING, 0);
+        WaitlistEntry earlier = entry("91111111", 2, SEVEN_PM.minusHours(2), MORNING, 0);
+        waitlist.add(later);
+        waitlist.add(entry("92222222", 2, SEVEN_PM, MORNING, 0));
+        waitlist.add(earlier);
+
+        assertEquals(List.of(earlier, later), waitlist.getEntriesOf(new Phone("91111111")));
+        assertTrue(waitlist.getEntriesOf(new Phone("93333333")).isEmpty());
+    }
+
+    @Test
+    public void remove_entry_noLongerWaiting() {
+        WaitlistEntry waiting = entry("91111111", 2, SEVEN_PM, MORNING, 0);
+        waitlist.add(waiting);
+        assertTrue(waitlist.isWaiting(new Phone("91111111"), SEVEN_PM));
+
+        waitlist.remove(waiting);
+
+        assertFalse(waitlist.isWaiting(new Phone("91111111"), SEVEN_PM));
+        assertTrue(waitlist.asUnmodifiableObservableList().isEmpty());
+        assertEquals(Optional.empty(), waitlist.pollFirstSeatable(SEVEN_PM, SEVEN_PM.plusHours(1),
+                entry -> true));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.reservation.Reservation;
+import seedu.address.testutil.ReservationBuilder;
+
+class TableAssignmentOptimiserTest {
+    private static final LocalDateTime SEVEN_PM = LocalDateTime.parse("2021-12-24T19:00");
+    private static final Table TWO_TOP = new Table(2, 1);
+    private static final Table EIGHT_TOP = new Table(8, 2);
+
+    private final TableAssignmentOptimiser optimiser =
+            new TableAssignmentOptimiser(List.of(EIGHT_TOP, TWO_TOP), TableAssignmentOptimiser.DEFAULT_TIME_BUDGET);
+
+    @Test
+    public void optimise_smallPartyHoldingLargeTable_largePartySeatedToo() {
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        Reservation family = new ReservationBuilder().withNumberOfPeople(6).withDateTime(SEVEN_PM.plusHours(1))
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        List<Reservation> reservations = List.of(couple, family);
+
+        TableAssignmentOptimiser.Assignment current = optimiser.evaluate(reservations, List.of());
+        TableAssignmentOptimiser.Assignment optimised = optimiser.optimise(reservations, List.of());
+
+        assertEquals(2, current.getSeatedCovers());
+        assertEquals(8, optimised.getSeatedCovers());
+        assertEquals(Optional.of(TWO_TOP), optimised.getTable(couple));
+        assertEquals(Optional.of(EIGHT_TOP), optimised.getTable(family));
+        assertTrue(optimised.isComplete());
+        assertTrue(optimised.isBetterThan(current));
+    }
+
+    @Test
+    public void optimise_sameCovers_prefersSmallerTables() {
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        List<Reservation> reservations = List.of(couple);
+
+        TableAssignmentOptimiser.Assignment optimised = optimiser.optimise(reservations, List.of());
+
+        assertEquals(Optional.of(TWO_TOP), optimised.getTable(couple));
+        assertTrue(optimised.isBetterThan(optimiser.evaluate(reservations, List.of())));
+    }
+
+    @Test
+    public void optimise_alreadyBest_notBetter() {
+        Reservation couple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(TWO_TOP).build();
+        Reservation family = new ReservationBuilder().withNumberOfPeople(6).withDateTime(SEVEN_PM)
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+        List<Reservation> reservations = List.of(couple, family);
+
+        assertFalse(optimiser.optimise(reservations, List.of())
+                .isBetterThan(optimiser.evaluate(reservations, List.of())));
+    }
+
+    @Test
+    public void optimise_fixedReservation_tableNotGivenOut() {
+        Reservation lateCouple = new ReservationBuilder().withNumberOfPeople(2)
+                .withDateTime(SEVEN_PM.minusDays(1).plusHours(4)).withDuration(Duration.ofHours(2))
+                .withTable(TWO_TOP).build();
+        Reservation earlyCouple = new ReservationBuilder().withNumberOfPeople(2).withDateTime(SEVEN_PM.minusHours(19))
+                .withDuration(Duration.ofHours(2)).withTable(EIGHT_TOP).build();
+
+        TableAssignmentOptimiser.Assignment optimised =
+                optimiser.optimise(List.of(earlyCouple), List.of(lateCouple));
+
+        assertEquals(Optional.of(EIGHT_TOP), optimised.getTable(earlyCouple));
+    }
+
+    @Test
+    public void optimise_noTimeBudget_returnsIncompleteAssignment() {
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            reservations.add(new ReservationBuilder().withNumberOfPeople(1 + i % 2)
+                    .withDateTime(SEVEN_PM.plusMinutes(15 * (i % 8))).withDuration(Duration.ofHours(2))
+                    .withTable(TWO_TOP).build());
+        }
+
+        TableAssignmentOptimiser.Assignment optimised =
+                new TableAssignmentOptimiser(List.of(EIGHT_TOP, TWO_TOP), Duration.ZERO)
+                        .optimise(reservations, List.of());
+
+        assertFalse(optimised.isComplete());
+    }
+}
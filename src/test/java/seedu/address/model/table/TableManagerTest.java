@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalTables.DUMMY_LIST_OF_TABLES;
 import static seedu.address.testutil.TypicalTables.DUMMY_TABLE_1;
 import static seedu.address.testutil.TypicalTables.DUMMY_TABLE_3;
 
+import java.util.BitSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,53 @@ class TableManagerTest {
         assertThrows(ReservationException.class, () -> tableManager.getAvailableTable(1, List.of()));
     }
 
+    @Test
+    public void getTablesThatCanFit_tablesChanged_returnsIdsOfTablesLargeEnough() {
+        TableManager tableManager = new TableManager();
+        tableManager.setTables(List.of(new Table(2, 1), new Table(4, 2), new Table(6, 3)));
+
+        assertEquals(BitSet.valueOf(new long[] {0b1100}), tableManager.getTablesThatCanFit(3));
+
+        tableManager.removeTable(new Table(6, 3));
+        tableManager.addTable(new Table(8, 4));
+        tableManager.setTable(new Table(2, 1), new Table(5, 1));
+
+        assertEquals(BitSet.valueOf(new long[] {0b10110}), tableManager.getTablesThatCanFit(3));
+        assertEquals(BitSet.valueOf(new long[] {0b10000}), tableManager.getTablesThatCanFit(8));
+        assertTrue(tableManager.getTablesThatCanFit(9).isEmpty());
+        assertTrue(tableManager.getTablesThatCanFit(0).isEmpty());
+    }
+
+    @Test
+    public void getNextTableId_tablesChanged_returnsSmallestFreeId() {
+        TableManager tableManager = new TableManager();
+        assertEquals(1, tableManager.getNextTableId());
+
+        tableManager.setTables(List.of(new Table(2, 1), new Table(4, 2), new Table(6, 4)));
+        assertEquals(3, tableManager.getNextTableId());
+
+        tableManager.addTable(new Table(8, 3));
+        assertEquals(5, tableManager.getNextTableId());
+
+        tableManager.removeTable(new Table(4, 2));
+        assertEquals(2, tableManager.getNextTableId());
+        assertTrue(tableManager.getTable(2).isEmpty());
+        assertEquals(new Table(6, 4), tableManager.getTable(4).get());
+    }
+
+    @Test
+    public void getNextTableId_severalManagers_idsIndependent() {
+        TableList tableList = new TableList();
+        tableList.setTables(List.of(new Table(2, 1), new Table(4, 2)));
+        TableManager loadedManager = new TableManager(tableList);
+        TableManager emptyManager = new TableManager();
+
+        emptyManager.addTable(new Table(2, emptyManager.getNextTableId()));
+
+        assertEquals(3, loadedManager.getNextTableId());
+        assertEquals(2, emptyManager.getNextTableId());
+    }
+
     @Test
     public void equals() {
         TableList tableList = new TableList();
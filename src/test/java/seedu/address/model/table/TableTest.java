@@ -12,12 +12,6 @@ import org.junit.jupiter.api.Test;
 
 class TableTest {
 
-    @Test
-    public void constructor_invalidTableSize_throwsIllegalArgumentException() {
-        assertThrows(IllegalArgumentException.class, () -> new Table(0));
-        assertThrows(IllegalArgumentException.class, () -> new Table(-1));
-    }
-
     @Test
     public void constructor_invalidTableSizeValidTableId_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new Table(0, 1));
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.supplier.Supplier;
+
+public class CsvImporterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvImporter.forCustomers()
+                .read(null, Collections.emptyList()));
+    }
+
+    @Test
+    public void read_emptyFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvImporter.MESSAGE_EMPTY_FILE, () -> CsvImporter.forCustomers()
+                .read(TEST_DATA_FOLDER.resolve("empty.csv"), Collections.emptyList()));
+    }
+
+    @Test
+    public void read_missingColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvImporter.MESSAGE_MISSING_COLUMN, "loyaltyPoints"),
+            () -> CsvImporter.forCustomers().read(TEST_DATA_FOLDER.resolve("missingColumnCustomers.csv"),
+                    Collections.emptyList()));
+    }
+
+    @Test
+    public void read_validCustomers_success() throws Exception {
+        CsvImportResult<Customer> result = CsvImporter.forCustomers()
+                .read(TEST_DATA_FOLDER.resolve("validCustomers.csv"), Collections.emptyList());
+        assertEquals(Arrays.asList(CUSTOMER_ALICE, CUSTOMER_BENSON), result.getImported());
+        assertEquals(0, result.getRejectedRows().size());
+    }
+
+    @Test
+    public void read_validEmployees_success() throws Exception {
+        CsvImportResult<Employee> result = CsvImporter.forEmployees()
+                .read(TEST_DATA_FOLDER.resolve("validEmployees.csv"), Collections.emptyList());
+        assertEquals(1, result.getImported().size());
+        assertEquals(2, result.getImported().get(0).getShifts().size());
+        assertEquals(0, result.getRejectedRows().size());
+    }
+
+    @Test
+    public void read_validSuppliers_success() throws Exception {
+        CsvImportResult<Supplier> result = CsvImporter.forSuppliers()
+                .read(TEST_DATA_FOLDER.resolve("validSuppliers.csv"), Collections.emptyList());
+        assertEquals(1, result.getImported().size());
+        assertEquals(0, result.getRejectedRows().size());
+    }
+
+    @Test
+    public void read_invalidAndValidCustomers_rejectsInvalidRows() throws Exception {
+        CsvImportResult<Customer> result = CsvImporter.forCustomers()
+                .read(TEST_DATA_FOLDER.resolve("invalidAndValidCustomers.csv"), Collections.emptyList());
+
+        // columns may be in any order and blank lines are skipped
+        assertEquals(2, result.getImported().size());
+        List<CsvImportResult.RejectedRow> rejectedRows = result.getRejectedRows();
+        assertEquals(2, rejectedRows.size());
+        assertEquals(3, rejectedRows.get(0).getLineNumber());
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, rejectedRows.get(0).getReason());
+        assertEquals(5, rejectedRows.get(1).getLineNumber());
+        assertEquals(String.format(CsvImporter.MESSAGE_DUPLICATE_NAME, CUSTOMER_ALICE.getName()),
+                rejectedRows.get(1).getReason());
+    }
+
+    @Test
+    public void read_existingName_rejectsRow() throws Exception {
+        CsvImportResult<Customer> result = CsvImporter.forCustomers()
+                .read(TEST_DATA_FOLDER.resolve("validCustomers.csv"), Arrays.asList(CUSTOMER_ALICE));
+        assertEquals(Arrays.asList(CUSTOMER_BENSON), result.getImported());
+        assertEquals(2, result.getRejectedRows().get(0).getLineNumber());
+    }
+
+    @Test
+    public void read_moreRowsThanChunkSize_success() throws Exception {
+        Path file = testFolder.resolve("manyCustomers.csv");
+        StringBuilder content = new StringBuilder("name,phone,email,address,loyaltyPoints\n");
+        int numberOfRows = CsvImporter.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < numberOfRows; i++) {
+            content.append("Customer ").append(i).append(",9000").append(i).append(",c@example.com,street,0\n");
+        }
+        // an invalid row at the end of the last chunk
+        content.append("Customer a,phone,c@example.com,street,0\n");
+        Files.writeString(file, content.toString());
+
+        CsvImportResult<Customer> result = CsvImporter.forCustomers().read(file, Collections.emptyList());
+        assertEquals(numberOfRows, result.getImported().size());
+        assertEquals("Customer 0", result.getImported().get(0).getName().fullName);
+        assertEquals(numberOfRows + 2, result.getRejectedRows().get(0).getLineNumber());
+    }
+
+    @Test
+    public void read_lineBreakInQuotedValue_readsWholeRow() throws Exception {
+        Path file = testFolder.resolve("lineBreakCustomers.csv");
+        Files.writeString(file, "name,phone,email,address,loyaltyPoints\n"
+                + CsvUtil.joinLine(Arrays.asList("Customer a", "90001", "c@example.com", "Blk 1\n#01-01", "0")) + "\n"
+                + "Customer b,90002,c@example.com,street,0\n");
+
+        // an address cannot span lines, so only the row holding the line break is rejected
+        CsvImportResult<Customer> result = CsvImporter.forCustomers().read(file, Collections.emptyList());
+        assertEquals(1, result.getImportedRows().size());
+        assertEquals(4, result.getImportedRows().get(0).getLineNumber());
+        assertEquals(1, result.getRejectedRows().size());
+        assertEquals(2, result.getRejectedRows().get(0).getLineNumber());
+
+        // the rejected row is written as it was read, and is read back as a single row
+        Path errorFile = testFolder.resolve("lineBreakErrors.csv");
+        result.writeRejectedRows(errorFile);
+        CsvImportResult<Customer> reimported = CsvImporter.forCustomers().read(errorFile, Collections.emptyList());
+        assertEquals(0, reimported.getImportedRows().size());
+        assertEquals(1, reimported.getRejectedRows().size());
+    }
+
+    @Test
+    public void writeRejectedRows_rejectedRows_writesReimportableFile() throws Exception {
+        CsvImportResult<Customer> result = CsvImporter.forCustomers()
+                .read(TEST_DATA_FOLDER.resolve("invalidAndValidCustomers.csv"), Collections.emptyList());
+        Path errorFile = testFolder.resolve("errors.csv");
+        result.writeRejectedRows(errorFile);
+
+        List<String> lines = Files.readAllLines(errorFile);
+        assertEquals(3, lines.size());
+        assertEquals(CsvImportResult.ERROR_COLUMN + ",phone,name,email,address,loyaltyPoints", lines.get(0));
+
+        // the error column is ignored when the file is imported again
+        CsvImportResult<Customer> reimported = CsvImporter.forCustomers().read(errorFile, Collections.emptyList());
+        assertEquals(1, reimported.getImported().size());
+        assertEquals(1, reimported.getRejectedRows().size());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedReservation.DATE_TIME_CONSTRAINT;
+import static seedu.address.storage.JsonAdaptedWaitlistEntry.LOYALTY_POINTS_CONSTRAINT;
+import static seedu.address.storage.JsonAdaptedWaitlistEntry.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.tag.Tag;
+
+class JsonAdaptedWaitlistEntryTest {
+    private static final String VALID_PHONE = "98765432";
+    private static final int VALID_NUMBER_OF_PEOPLE = 5;
+    private static final String VALID_DATE_TIME = "2021-11-11T17:00";
+    private static final int VALID_DURATION_MINUTES = 90;
+    private static final String VALID_REQUEST_TIME = "2021-11-01T10:15:30";
+    private static final String REMARK_NONE = "";
+    private static final List<JsonAdaptedTag> TAGS_EMPTY = List.of();
+
+    private static final WaitlistEntry ENTRY = new WaitlistEntry(new Phone(VALID_PHONE), VALID_NUMBER_OF_PEOPLE,
+            LocalDateTime.parse(VALID_DATE_TIME), Duration.ofMinutes(VALID_DURATION_MINUTES),
+            new Remark("window seat"), Set.of(new Tag("birthday")), LocalDateTime.parse(VALID_REQUEST_TIME), 120);
+
+    @Test
+    public void toModelType_validEntryDetails_returnsEntry() throws Exception {
+        assertEquals(ENTRY, new JsonAdaptedWaitlistEntry(ENTRY).toModelType());
+    }
+
+    @Test
+    public void toModelType_nullPhone_throwsIllegalValueException() {
+        JsonAdaptedWaitlistEntry entry = new JsonAdaptedWaitlistEntry(null, VALID_NUMBER_OF_PEOPLE,
+                VALID_DATE_TIME, VALID_DURATION_MINUTES, VALID_REQUEST_TIME, 0, REMARK_NONE, TAGS_EMPTY);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, entry::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidRequestTime_throwsIllegalValueException() {
+        JsonAdaptedWaitlistEntry entry = new JsonAdaptedWaitlistEntry(VALID_PHONE, VALID_NUMBER_OF_PEOPLE,
+                VALID_DATE_TIME, VALID_DURATION_MINUTES, "yesterday", 0, REMARK_NONE, TAGS_EMPTY);
+        assertThrows(IllegalValueException.class, DATE_TIME_CONSTRAINT, entry::toModelType);
+    }
+
+    @Test
+    public void toModelType_negativeLoyaltyPoints_throwsIllegalValueException() {
+        JsonAdaptedWaitlistEntry entry = new JsonAdaptedWaitlistEntry(VALID_PHONE, VALID_NUMBER_OF_PEOPLE,
+                VALID_DATE_TIME, VALID_DURATION_MINUTES, VALID_REQUEST_TIME, -1, REMARK_NONE, TAGS_EMPTY);
+        assertThrows(IllegalValueException.class, LOYALTY_POINTS_CONSTRAINT, entry::toModelType);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.CUSTOMER_ALICE;
+import static seedu.address.testutil.TypicalCustomers.getTypicalCustomers;
+import static seedu.address.testutil.TypicalEmployees.getTypicalEmployees;
+import static seedu.address.testutil.TypicalReservation.getTypicalReservations;
+import static seedu.address.testutil.TypicalSuppliers.getTypicalSuppliers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.reservation.Reservation;
+
+public class ListExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ListExporter.forCustomers()
+                .export(getTypicalCustomers(), null, ListExporter.Format.Csv, (exported, total) -> {}));
+    }
+
+    @Test
+    public void export_customersToCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("customers.csv");
+        ListExporter.forCustomers().export(getTypicalCustomers(), file, ListExporter.Format.Csv,
+            (exported, total) -> {});
+        assertEquals(getTypicalCustomers(), CsvImporter.forCustomers().read(file, Collections.emptyList())
+                .getImported());
+    }
+
+    @Test
+    public void export_employeesToCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("employees.csv");
+        ListExporter.forEmployees().export(getTypicalEmployees(), file, ListExporter.Format.Csv,
+            (exported, total) -> {});
+        assertEquals(getTypicalEmployees(), CsvImporter.forEmployees().read(file, Collections.emptyList())
+                .getImported());
+    }
+
+    @Test
+    public void export_suppliersToCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("suppliers.csv");
+        ListExporter.forSuppliers().export(getTypicalSuppliers(), file, ListExporter.Format.Csv,
+            (exported, total) -> {});
+        assertEquals(getTypicalSuppliers(), CsvImporter.forSuppliers().read(file, Collections.emptyList())
+                .getImported());
+    }
+
+    @Test
+    public void export_reservationsToCsv_oneLinePerReservation() throws Exception {
+        Path file = testFolder.resolve("reservations.csv");
+        ListExporter.forReservations().export(getTypicalReservations(), file, ListExporter.Format.Csv,
+            (exported, total) -> {});
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("phone,numberOfPeople,time,durationMinutes,tableId,remark,tags", lines.get(0));
+        assertEquals(getTypicalReservations().size() + 1, lines.size());
+    }
+
+    @Test
+    public void export_customersToJsonLines_oneRecordPerLine() throws Exception {
+        Path file = testFolder.resolve("customers.jsonl");
+        ListExporter.forCustomers().export(getTypicalCustomers(), file, ListExporter.Format.JsonLines,
+            (exported, total) -> {});
+
+        List<Customer> customers = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            customers.add(JsonUtil.fromJsonString(line, JsonAdaptedCustomer.class).toModelType());
+        }
+        assertEquals(getTypicalCustomers(), customers);
+    }
+
+    @Test
+    public void export_reservationsToJsonLines_oneRecordPerLine() throws Exception {
+        Path file = testFolder.resolve("reservations.jsonl");
+        ListExporter.forReservations().export(getTypicalReservations(), file, ListExporter.Format.JsonLines,
+            (exported, total) -> {});
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            reservations.add(JsonUtil.fromJsonString(line, JsonAdaptedReservation.class).toModelType());
+        }
+        assertEquals(getTypicalReservations(), reservations);
+    }
+
+    @Test
+    public void export_manyRecords_reportsProgress() throws Exception {
+        int totalCount = 2 * ListExporter.PROGRESS_INTERVAL + 1;
+        List<Integer> progress = new ArrayList<>();
+        ListExporter.forCustomers().export(Collections.nCopies(totalCount, CUSTOMER_ALICE),
+                testFolder.resolve("customers.jsonl"), ListExporter.Format.JsonLines, (exported, total) -> {
+                    assertEquals(totalCount, total);
+                    progress.add(exported);
+                });
+        assertEquals(Arrays.asList(ListExporter.PROGRESS_INTERVAL, 2 * ListExporter.PROGRESS_INTERVAL, totalCount),
+                progress);
+    }
+}
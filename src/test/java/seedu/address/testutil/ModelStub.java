@@ -0,0 +1,415 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
+import seedu.address.model.ReadOnlyRhrh;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.customer.Customer;
+import seedu.address.model.person.employee.Employee;
+import seedu.address.model.person.supplier.Supplier;
+import seedu.address.model.person.supplier.SupplyType;
+import seedu.address.model.query.QueryIndex;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationsManager;
+import seedu.address.model.reservation.WaitlistEntry;
+import seedu.address.model.table.Table;
+import seedu.address.model.table.TableManager;
+
+/**
+ * A default model stub that have all of the methods failing, for tests to override the methods they use.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getRhrhFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setRhrhFilePath(Path rhrhFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryIndex<Supplier> getSupplierQueryIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryIndex<Employee> getEmployeeQueryIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryIndex<Customer> getCustomerQueryIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public NavigableMap<LocalDateTime, List<Supplier>> getDeliveriesBetween(LocalDateTime from, LocalDateTime until,
+            Optional<SupplyType> supplyType) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public NavigableMap<LocalDateTime, List<Employee>> getShiftsBetween(LocalDateTime from, LocalDateTime until) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addTable(Table table) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Reservation> removeTable(Table target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Reservation> setTable(Table target, Table editedTable) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Reservation> getReservationsOf(Phone phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<WaitlistEntry> getWaitlist() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isOnWaitlist(Phone phone, LocalDateTime dateTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addToWaitlist(WaitlistEntry entry) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeFromWaitlist(WaitlistEntry entry) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getWaitlistPosition(WaitlistEntry entry) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void moveToWaitlist(Reservation reservation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Reservation> promoteFromWaitlist(LocalDateTime start, LocalDateTime end) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addChangeListener(ModelChangeListener listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeChangeListener(ModelChangeListener listener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getLastChangeSequenceNumber() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public String getCurrentBranch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<String> getBranchNames() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void switchBranch(String branchName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<String, ReadOnlyRhrh> getLoadedBranches() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addCustomers(List<Customer> customers) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEmployees(List<Employee> employees) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addSuppliers(List<Supplier> suppliers) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Model copy() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void apply(Model stagedModel) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addCustomer(Customer customer) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEmployee(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setRhrh(ReadOnlyRhrh newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyRhrh getRhrh() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasCustomer(Customer customer) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasCustomerWithPhone(Phone phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getLoyaltyPoints(Phone phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasEmployee(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteCustomer(Customer target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteEmployee(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setCustomer(Customer target, Customer editedCustomer) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setEmployee(Employee target, Employee editedEmployee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setEmployeeComparator(Comparator<Employee> employeeComparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Employee> getSortableEmployeeList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void resetEmployeeListToDefaultSortState() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasReservation(Reservation reservation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteReservation(Reservation target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addReservation(Reservation reservation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setReservation(Reservation target, Reservation editedReservation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void resetReservations() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTableList(List<Table> tableList) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasTable(Table table) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Customer> getFilteredCustomerList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Employee> getFilteredEmployeeList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Reservation> getFilteredReservationList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReservationsManager getReservationsManager() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public TableManager getTableManager() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredCustomerList(Predicate<Customer> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setCustomerComparator(Comparator<Customer> customerComparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Customer> getSortableCustomerList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void resetCustomerListToDefaultSortState() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasSupplier(Supplier supplier) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteSupplier(Supplier target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addSupplier(Supplier supplier) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSupplier(Supplier target, Supplier editedSupplier) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSupplierComparator(Comparator<Supplier> supplierComparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Supplier> getFilteredSupplierList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredSupplierList(Predicate<Supplier> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Supplier> getSortableSupplierList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void resetSupplierListToDefaultSortState() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredReservationList(Predicate<Reservation> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+}
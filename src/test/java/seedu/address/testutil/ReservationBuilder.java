@@ -0,0 +1,129 @@
+package seedu.address.testutil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.table.Table;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * A utility class to help with building Reservation objects.
+ */
+public class ReservationBuilder {
+
+    public static final String DEFAULT_PHONE = "98765432";
+    public static final int DEFAULT_NUMBER_OF_PEOPLE = 2;
+    public static final String DEFAULT_DATE_TIME = "2021-12-24T19:00";
+    public static final int DEFAULT_TABLE_SIZE = 4;
+    public static final int DEFAULT_TABLE_ID = 1;
+    public static final String DEFAULT_REMARK = "";
+
+    private Phone phone;
+    private int numberOfPeople;
+    private LocalDateTime dateTime;
+    private Duration duration;
+    private Table table;
+    private Remark remark;
+    private Set<Tag> tags;
+
+    /**
+     * Creates a {@code ReservationBuilder} with the default details.
+     */
+    public ReservationBuilder() {
+        phone = new Phone(DEFAULT_PHONE);
+        numberOfPeople = DEFAULT_NUMBER_OF_PEOPLE;
+        dateTime = LocalDateTime.parse(DEFAULT_DATE_TIME);
+        duration = Reservation.DEFAULT_DURATION;
+        table = new Table(DEFAULT_TABLE_SIZE, DEFAULT_TABLE_ID);
+        remark = new Remark(DEFAULT_REMARK);
+        tags = new HashSet<>();
+    }
+
+    /**
+     * Initializes the ReservationBuilder with the data of {@code reservationToCopy}.
+     */
+    public ReservationBuilder(Reservation reservationToCopy) {
+        phone = reservationToCopy.getPhone();
+        numberOfPeople = reservationToCopy.getNumberOfPeople();
+        dateTime = reservationToCopy.getDateTime();
+        duration = reservationToCopy.getDuration();
+        table = reservationToCopy.getTable();
+        remark = reservationToCopy.getRemark();
+        tags = new HashSet<>(reservationToCopy.getTags());
+    }
+
+    /**
+     * Sets the {@code Phone} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withPhone(String phone) {
+        this.phone = new Phone(phone);
+        return this;
+    }
+
+    /**
+     * Sets the number of people of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withNumberOfPeople(int numberOfPeople) {
+        this.numberOfPeople = numberOfPeople;
+        return this;
+    }
+
+    /**
+     * Sets the date time of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withDateTime(LocalDateTime dateTime) {
+        this.dateTime = dateTime;
+        return this;
+    }
+
+    /**
+     * Parses {@code dateTime} and sets it as the date time of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withDateTime(String dateTime) {
+        this.dateTime = LocalDateTime.parse(dateTime);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Duration} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withDuration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Table} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withTable(Table table) {
+        this.table = table;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Remark} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withRemark(String remark) {
+        this.remark = new Remark(remark);
+        return this;
+    }
+
+    /**
+     * Parses the {@code tags} into a {@code Set<Tag>} and set it to the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withTags(String ... tags) {
+        this.tags = SampleDataUtil.getTagSet(tags);
+        return this;
+    }
+
+    public Reservation build() {
+        return new Reservation(phone, numberOfPeople, dateTime, duration, table, remark, tags);
+    }
+
+}